@@ -14,6 +14,7 @@ import jakarta.validation.constraints.Size;
  * <ul>
  *   <li>email: 필수, 이메일 형식, 최대 255자</li>
  *   <li>password: 필수, 8~50자</li>
+ *   <li>timezone: 선택, IANA 시간대 ID, 최대 64자 (생략 시 Asia/Seoul)</li>
  * </ul>
  * 
  * @see com.wombat.screenlock.unwind_be.api.auth.controller.AuthController
@@ -34,7 +35,21 @@ public record SignUpRequest(
      */
     @NotBlank(message = "비밀번호는 필수입니다")
     @Size(min = 8, max = 50, message = "비밀번호는 8~50자여야 합니다")
-    String password
-) {}
+    String password,
+
+    /**
+     * 시간대 (IANA ID, 예: Asia/Seoul)
+     * <p>통계 날짜의 기준이 되며, 생략 시 Asia/Seoul</p>
+     */
+    @Size(max = 64, message = "시간대는 64자를 초과할 수 없습니다")
+    String timezone
+) {
+    /**
+     * 시간대를 생략한 회원가입 요청 (Asia/Seoul)
+     */
+    public SignUpRequest(String email, String password) {
+        this(email, password, null);
+    }
+}
 
 
@@ -2,8 +2,10 @@ package com.wombat.screenlock.unwind_be.api.schedule.controller;
 
 import com.wombat.screenlock.unwind_be.api.schedule.dto.CreateScheduleRequest;
 import com.wombat.screenlock.unwind_be.api.schedule.dto.ScheduleResponse;
+import com.wombat.screenlock.unwind_be.api.schedule.dto.ScheduleStatsResponse;
 import com.wombat.screenlock.unwind_be.api.schedule.dto.UpdateScheduleRequest;
 import com.wombat.screenlock.unwind_be.application.schedule.ScheduleService;
+import com.wombat.screenlock.unwind_be.application.stats.ScheduleStatsService;
 import com.wombat.screenlock.unwind_be.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -37,6 +40,7 @@ import org.springframework.web.bind.annotation.RestController;
  *   <li>POST /api/schedules - 스케줄 생성</li>
  *   <li>PUT /api/schedules/{id} - 스케줄 수정</li>
  *   <li>DELETE /api/schedules/{id} - 스케줄 삭제 (Soft Delete)</li>
+ *   <li>GET /api/schedules/{id}/stats - 스케줄별 통계 (계획 대비 실제)</li>
  * </ul>
  * 
  * <h3>보안</h3>
@@ -55,6 +59,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleStatsService scheduleStatsService;
 
     /**
      * 스케줄 생성 API
@@ -205,4 +210,55 @@ public class ScheduleController {
         
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 스케줄별 통계 조회 API
+     * 
+     * @param id 스케줄 ID
+     * @param userId 인증된 사용자 ID
+     * @return 200 OK + ScheduleStatsResponse
+     */
+    @Operation(
+        summary = "스케줄별 통계 조회",
+        description = "스케줄의 시도/완료/강제 종료 횟수와 계획(duration) 대비 실제 집중 시간을 조회합니다. "
+            + "본인 소유의 스케줄만 조회 가능합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ScheduleStatsResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "권한 없음 (타인의 스케줄)",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "스케줄을 찾을 수 없음",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ApiResponse<ScheduleStatsResponse>> getScheduleStats(
+            @Parameter(description = "스케줄 ID", required = true)
+            @PathVariable Long id,
+            @AuthenticationPrincipal Long userId) {
+        
+        log.info("스케줄 통계 조회 요청 - scheduleId: {}, userId: {}", id, userId);
+        
+        ScheduleStatsResponse response = scheduleStatsService.getScheduleStats(id, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
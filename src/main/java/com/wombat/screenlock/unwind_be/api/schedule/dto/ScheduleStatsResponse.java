@@ -0,0 +1,90 @@
+package com.wombat.screenlock.unwind_be.api.schedule.dto;
+
+import com.wombat.screenlock.unwind_be.domain.stats.repository.ScheduleStatsView;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 스케줄별 통계 응답 DTO
+ * 
+ * <p>스케줄의 계획 집중 시간(duration)과 실제 기록을 비교합니다.</p>
+ * 
+ * <h3>계산</h3>
+ * <ul>
+ *   <li>completionRate = completions / attempts</li>
+ *   <li>plannedFocusTime = duration(분) × 60 × attempts</li>
+ *   <li>focusTimeRatio = totalFocusTime / plannedFocusTime</li>
+ * </ul>
+ * <p>기록이 없으면 비율은 0입니다.</p>
+ * 
+ * @param scheduleId 스케줄 ID
+ * @param clientId 스케줄 clientId
+ * @param name 스케줄 이름
+ * @param plannedDuration 계획 집중 시간 (분)
+ * @param attempts 시도 횟수
+ * @param completions 완료 횟수
+ * @param forceQuitCount 강제 종료 횟수
+ * @param completionRate 완료율 (0.0 ~ 1.0)
+ * @param totalFocusTime 실제 총 집중 시간 (초)
+ * @param averageFocusTime 시도당 평균 집중 시간 (초)
+ * @param plannedFocusTime 시도 횟수 기준 계획 총 집중 시간 (초)
+ * @param focusTimeRatio 계획 대비 실제 집중 시간 비율
+ */
+@Schema(description = "스케줄별 통계 (계획 대비 실제)")
+public record ScheduleStatsResponse(
+    @Schema(description = "스케줄 ID", example = "1")
+    Long scheduleId,
+
+    @Schema(description = "스케줄 clientId", example = "550e8400-e29b-41d4-a716-446655440000")
+    String clientId,
+
+    @Schema(description = "스케줄 이름", example = "아침 공부")
+    String name,
+
+    @Schema(description = "계획 집중 시간 (분)", example = "60")
+    int plannedDuration,
+
+    @Schema(description = "시도 횟수", example = "10")
+    int attempts,
+
+    @Schema(description = "완료 횟수", example = "7")
+    int completions,
+
+    @Schema(description = "강제 종료 횟수", example = "2")
+    int forceQuitCount,
+
+    @Schema(description = "완료율 (0.0 ~ 1.0)", example = "0.7")
+    double completionRate,
+
+    @Schema(description = "실제 총 집중 시간 (초)", example = "30600")
+    long totalFocusTime,
+
+    @Schema(description = "시도당 평균 집중 시간 (초)", example = "3060")
+    long averageFocusTime,
+
+    @Schema(description = "계획 총 집중 시간 (초)", example = "36000")
+    long plannedFocusTime,
+
+    @Schema(description = "계획 대비 실제 집중 시간 비율", example = "0.85")
+    double focusTimeRatio
+) {
+    /**
+     * Projection을 응답으로 변환
+     */
+    public static ScheduleStatsResponse from(ScheduleStatsView view) {
+        int attempts = view.attempts();
+        long plannedFocusTime = (long) view.duration() * 60 * attempts;
+        return new ScheduleStatsResponse(
+                view.scheduleId(),
+                view.clientId(),
+                view.name(),
+                view.duration(),
+                attempts,
+                view.completions(),
+                view.forceQuitCount(),
+                attempts == 0 ? 0.0 : (double) view.completions() / attempts,
+                view.totalFocusTime(),
+                attempts == 0 ? 0L : view.totalFocusTime() / attempts,
+                plannedFocusTime,
+                plannedFocusTime == 0 ? 0.0 : (double) view.totalFocusTime() / plannedFocusTime);
+    }
+}
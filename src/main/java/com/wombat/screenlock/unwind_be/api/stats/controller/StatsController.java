@@ -1,9 +1,17 @@
 package com.wombat.screenlock.unwind_be.api.stats.controller;
 
 import com.wombat.screenlock.unwind_be.api.stats.dto.*;
+import com.wombat.screenlock.unwind_be.application.stats.CalendarMonthService;
+import com.wombat.screenlock.unwind_be.application.stats.HeatmapService;
+import com.wombat.screenlock.unwind_be.application.stats.HourlyFocusService;
+import com.wombat.screenlock.unwind_be.application.stats.LeaderboardService;
+import com.wombat.screenlock.unwind_be.application.stats.StatsExportService;
+import com.wombat.screenlock.unwind_be.application.stats.StatsRollupService;
 import com.wombat.screenlock.unwind_be.application.stats.StatsService;
+import com.wombat.screenlock.unwind_be.application.stats.SuccessCalendarService;
 import com.wombat.screenlock.unwind_be.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -12,9 +20,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 /**
  * 통계 API Controller
@@ -25,7 +41,17 @@ import org.springframework.web.bind.annotation.*;
  * <ul>
  *   <li>POST /api/stats/completion - 완료 통계 기록</li>
  *   <li>POST /api/stats/force-quit - 강제 종료 기록</li>
+ *   <li>POST /api/stats/revocation - 권한 해제 사유 기록 (해당 일자 FAILURE)</li>
+ *   <li>POST /api/stats/events:batch - 완료/강제 종료 이벤트 일괄 기록</li>
  *   <li>GET /api/stats/summary - 통계 요약 조회</li>
+ *   <li>GET /api/stats/range - 임의 기간 통계 합계 조회</li>
+ *   <li>GET /api/stats/success-calendar - 연간 성공 캘린더 조회</li>
+ *   <li>GET /api/stats/heatmap - 연간 일별 상태 히트맵 조회</li>
+ *   <li>GET /api/stats/calendar - 월간 일별 통계 + 월 합계 조회 (지난 달 immutable 캐시)</li>
+ *   <li>GET /api/stats/hourly - 시간대별(0~23시) 집중 분포 조회</li>
+ *   <li>GET /api/stats/leaderboard - 리더보드 상위 순위 조회</li>
+ *   <li>GET /api/stats/leaderboard/me - 내 리더보드 순위 조회</li>
+ *   <li>GET /api/stats/export - 일별 통계 내보내기 (NDJSON/CSV 스트리밍)</li>
  * </ul>
  * 
  * <h3>보안</h3>
@@ -43,7 +69,17 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class StatsController {
 
+    /** 지난 달 캘린더의 클라이언트 캐시 기간 (늦은 동기화 반영 상한) */
+    private static final Duration CLOSED_MONTH_MAX_AGE = Duration.ofDays(1);
+
     private final StatsService statsService;
+    private final StatsRollupService statsRollupService;
+    private final SuccessCalendarService successCalendarService;
+    private final HeatmapService heatmapService;
+    private final CalendarMonthService calendarMonthService;
+    private final HourlyFocusService hourlyFocusService;
+    private final LeaderboardService leaderboardService;
+    private final StatsExportService statsExportService;
 
     /**
      * 완료 통계 기록 API
@@ -139,6 +175,100 @@ public class StatsController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 권한 해제 기록 API
+     * 
+     * <p>집중 세션 중 Screen Time 권한이 해제된 뒤 앱 재진입 시 입력한 사유를 기록합니다.
+     * revokedAt에서 날짜를 추출하여 해당 일자를 FAILURE로 표시합니다.</p>
+     * 
+     * @param request 권한 해제 요청 DTO
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return 200 OK + RevocationResponse
+     */
+    @Operation(
+        summary = "권한 해제 기록",
+        description = "집중 세션 중 권한 해제 사유를 기록하고, revokedAt 기준 해당 일자를 FAILURE로 표시합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "기록 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RevocationResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "유효성 검증 실패",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping("/revocation")
+    public ResponseEntity<ApiResponse<RevocationResponse>> recordRevocation(
+            @Valid @RequestBody RevocationRequest request,
+            @AuthenticationPrincipal Long userId) {
+        
+        log.info("권한 해제 기록 요청 - userId: {}, revokedAt: {}", userId, request.revokedAt());
+        
+        RevocationResponse response = statsService.recordRevocation(request, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 통계 이벤트 일괄 기록 API
+     * 
+     * <p>오프라인 동안 쌓인 완료/강제 종료 이벤트를 한 번에 기록합니다.
+     * 날짜별로 합산하여 단일 트랜잭션에서 반영합니다.</p>
+     * 
+     * @param request 일괄 전송 요청 DTO
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return 200 OK + StatsEventBatchResponse
+     */
+    @Operation(
+        summary = "통계 이벤트 일괄 기록",
+        description = "오프라인 큐에 쌓인 완료/강제 종료 이벤트를 한 번에 기록합니다. 날짜별로 합산하여 단일 트랜잭션에서 반영합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "일괄 기록 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = StatsEventBatchResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "유효성 검증 실패",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping("/events:batch")
+    public ResponseEntity<ApiResponse<StatsEventBatchResponse>> recordEvents(
+            @Valid @RequestBody StatsEventBatchRequest request,
+            @AuthenticationPrincipal Long userId) {
+        
+        log.info("통계 이벤트 일괄 기록 요청 - userId: {}, eventCount: {}", userId, request.events().size());
+        
+        StatsEventBatchResponse response = statsService.recordEvents(request, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 통계 요약 조회 API
      * 
@@ -177,4 +307,406 @@ public class StatsController {
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * 임의 기간 통계 조회 API
+     * 
+     * <p>"최근 90일", "이번 분기"처럼 임의 기간의 합계를 조회합니다.
+     * 기간 길이와 관계없이 누적 합계 두 행의 차이로 계산합니다.</p>
+     * 
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return 200 OK + RangeStatsResponse
+     */
+    @Operation(
+        summary = "임의 기간 통계 조회",
+        description = "[from, to] 기간의 스케줄 수, 완료 수, 집중 시간, 강제 종료 횟수, SUCCESS 일수 합계를 반환합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RangeStatsResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 기간",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/range")
+    public ResponseEntity<ApiResponse<RangeStatsResponse>> getRange(
+            @Parameter(description = "시작일 (yyyy-MM-dd)", example = "2026-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)", example = "2026-03-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal Long userId) {
+        
+        log.info("기간 통계 조회 요청 - userId: {}, from: {}, to: {}", userId, from, to);
+        
+        RangeStatsResponse response = statsRollupService.getRange(userId, from, to);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 연간 성공 캘린더 조회 API
+     * 
+     * <p>연도의 일별 SUCCESS 여부를 하루 1비트 비트맵(Base64)으로 반환합니다.
+     * 잔디(heatmap) 형태의 연간 기록 화면에 사용합니다.</p>
+     * 
+     * @param year 조회 연도 (미입력 시 올해)
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return 200 OK + SuccessCalendarResponse
+     */
+    @Operation(
+        summary = "연간 성공 캘린더 조회",
+        description = "연도의 일별 SUCCESS 여부를 하루 1비트 비트맵(Base64)으로 반환합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SuccessCalendarResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "지원하지 않는 연도",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/success-calendar")
+    public ResponseEntity<ApiResponse<SuccessCalendarResponse>> getSuccessCalendar(
+            @Parameter(description = "조회 연도 (미입력 시 올해)", example = "2026")
+            @RequestParam(required = false) Integer year,
+            @AuthenticationPrincipal Long userId) {
+        
+        log.info("성공 캘린더 조회 요청 - userId: {}, year: {}", userId, year);
+        
+        SuccessCalendarResponse response = successCalendarService.getYear(userId, year);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 연간 히트맵 조회 API
+     * 
+     * <p>연도의 일별 상태를 하루 2비트(Base64)로 패킹하여 반환합니다.
+     * RecentDayDto 365개 대신 약 92바이트로 잔디 화면 전체를 그릴 수 있습니다.</p>
+     * 
+     * @param year 조회 연도 (미입력 시 올해)
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return 200 OK + HeatmapResponse
+     */
+    @Operation(
+        summary = "연간 히트맵 조회",
+        description = "연도의 일별 상태를 하루 2비트(0=없음, 1=SUCCESS, 2=WARNING, 3=FAILURE) Base64로 반환합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = HeatmapResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "지원하지 않는 연도",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/heatmap")
+    public ResponseEntity<ApiResponse<HeatmapResponse>> getHeatmap(
+            @Parameter(description = "조회 연도 (미입력 시 올해)", example = "2026")
+            @RequestParam(required = false) Integer year,
+            @AuthenticationPrincipal Long userId) {
+        
+        log.info("히트맵 조회 요청 - userId: {}, year: {}", userId, year);
+        
+        HeatmapResponse response = heatmapService.getYear(userId, year);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 월간 캘린더 조회 API
+     * 
+     * <p>달의 일별 통계와 월 합계를 반환합니다. 응답 필드 값의 해시를 강한 ETag로 내려주므로
+     * If-None-Match가 일치하면 304를 반환합니다.</p>
+     * 
+     * <ul>
+     *   <li>확정된 달(closed): Cache-Control private, max-age=1일, immutable (서버도 캐시에서 응답)</li>
+     *   <li>이번 달 / 하루 마감 확정 전 지난 달: Cache-Control private, no-cache (매번 ETag로 재검증)</li>
+     * </ul>
+     * 
+     * @param month 조회 월 (yyyy-MM, 미입력 시 이번 달)
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return 200 OK + CalendarMonthResponse (또는 304 Not Modified)
+     */
+    @Operation(
+        summary = "월간 캘린더 조회",
+        description = "달의 일별 통계와 월 합계를 반환합니다. 확정된 달(closed=true)은 immutable로 캐시할 수 있습니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CalendarMonthResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "ETag 일치 (변경 없음)"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "지원하지 않는 월",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<CalendarMonthResponse>> getCalendar(
+            @Parameter(description = "조회 월 (yyyy-MM, 미입력 시 이번 달)", example = "2026-09")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @AuthenticationPrincipal Long userId) {
+        
+        log.info("월간 캘린더 조회 요청 - userId: {}, month: {}", userId, month);
+        
+        CalendarMonthResponse response = calendarMonthService.getMonth(userId, month);
+        CacheControl cacheControl = response.closed()
+                ? CacheControl.maxAge(CLOSED_MONTH_MAX_AGE).cachePrivate().immutable()
+                : CacheControl.noCache().cachePrivate();
+        
+        // ETag가 If-None-Match와 일치하면 Spring이 본문 없이 304로 응답
+        return ResponseEntity.ok()
+                .eTag(CalendarMonthService.eTag(response))
+                .cacheControl(cacheControl)
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 시간대별 집중 분포 조회 API
+     * 
+     * <p>사용자 시간대 기준 0~23시 칸별 집중 시간(초)을 최근 30일과 전체 기간으로 반환합니다.
+     * 세션 기록 시 누적한 카운터를 읽으므로 세션 수와 관계없이 일정한 비용으로 조회합니다.</p>
+     * 
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return 200 OK + HourlyFocusResponse
+     */
+    @Operation(
+        summary = "시간대별 집중 분포 조회",
+        description = "0~23시 칸별 집중 시간(초)을 최근 30일과 전체 기간으로 반환합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = HourlyFocusResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/hourly")
+    public ResponseEntity<ApiResponse<HourlyFocusResponse>> getHourly(
+            @AuthenticationPrincipal Long userId) {
+        
+        log.info("시간대별 집중 분포 조회 요청 - userId: {}", userId);
+        
+        HourlyFocusResponse response = hourlyFocusService.getHourly(userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 리더보드 상위 순위 조회 API
+     * 
+     * <p>window=all은 현재 스트릭, window=week는 이번 주 집중 시간 기준 순위입니다.</p>
+     * 
+     * @param window 기간 구분 (all, week)
+     * @param limit 조회 개수 (1 ~ 100)
+     * @return 200 OK + LeaderboardResponse
+     */
+    @Operation(
+        summary = "리더보드 조회",
+        description = "window=all은 현재 스트릭, window=week는 이번 주(월~일, KST) 집중 시간 기준 상위 순위를 반환합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = LeaderboardResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 window 또는 limit",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/leaderboard")
+    public ResponseEntity<ApiResponse<LeaderboardResponse>> getLeaderboard(
+            @Parameter(description = "기간 구분 (all, week)", example = "week")
+            @RequestParam(defaultValue = "week") String window,
+            @Parameter(description = "조회 개수 (1 ~ 100)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        
+        log.info("리더보드 조회 요청 - window: {}, limit: {}", window, limit);
+        
+        LeaderboardResponse response = leaderboardService.getLeaderboard(LeaderboardWindow.from(window), limit);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 내 리더보드 순위 조회 API
+     * 
+     * @param window 기간 구분 (all, week)
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return 200 OK + LeaderboardRankResponse
+     */
+    @Operation(
+        summary = "내 리더보드 순위 조회",
+        description = "요청한 기간의 내 순위와 점수를 반환합니다. 기록이 없으면 rank는 null입니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = LeaderboardRankResponse.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 window",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/leaderboard/me")
+    public ResponseEntity<ApiResponse<LeaderboardRankResponse>> getMyLeaderboardRank(
+            @Parameter(description = "기간 구분 (all, week)", example = "week")
+            @RequestParam(defaultValue = "week") String window,
+            @AuthenticationPrincipal Long userId) {
+        
+        log.info("내 리더보드 순위 조회 요청 - userId: {}, window: {}", userId, window);
+        
+        LeaderboardRankResponse response = leaderboardService.getMyRank(LeaderboardWindow.from(window), userId);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 일별 통계 내보내기 API
+     * 
+     * <p>기간의 일별 통계를 날짜 오름차순으로 스트리밍합니다.
+     * ApiResponse로 감싸지 않고 파일(attachment)로 내려줍니다.</p>
+     * 
+     * @param format 내보내기 형식 (ndjson, csv)
+     * @param from 시작일 (미입력 시 전체)
+     * @param to 종료일 (미입력 시 오늘)
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return 200 OK + NDJSON/CSV 스트림
+     */
+    @Operation(
+        summary = "일별 통계 내보내기",
+        description = "전체(또는 기간) 일별 통계를 NDJSON 또는 CSV 파일로 스트리밍합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "내보내기 성공",
+            content = {
+                @Content(mediaType = "application/x-ndjson"),
+                @Content(mediaType = "text/csv")
+            }
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 format 또는 기간",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증 실패",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStats(
+            @Parameter(description = "내보내기 형식 (ndjson, csv)", example = "csv")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "시작일 (yyyy-MM-dd)", example = "2026-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)", example = "2026-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal Long userId) {
+        
+        log.info("통계 내보내기 요청 - userId: {}, format: {}, from: {}, to: {}", userId, format, from, to);
+        
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = statsExportService.export(userId, exportFormat, from, to);
+        
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + exportFormat.fileName() + "\"")
+                .body(body);
+    }
 }
@@ -0,0 +1,51 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 월간 캘린더 응답 DTO
+ *
+ * <p>달력 한 달의 일별 통계와 월 합계입니다. 기록이 있는 날짜만 날짜 오름차순으로 담습니다.</p>
+ *
+ * @param month 조회 월 (yyyy-MM)
+ * @param closed 확정된 달 여부 (사용자 시간대 기준 하루 마감 lookback이 지나고 IN_PROGRESS 날짜 없음, true면 장기 캐시)
+ * @param days 일별 통계 (날짜 오름차순)
+ * @param totalSchedules 전체 스케줄 수
+ * @param completedSchedules 완료된 스케줄 수
+ * @param completionRate 완료율 (0.0 ~ 1.0)
+ * @param totalFocusTime 총 집중 시간 (초)
+ * @param forceQuitCount 강제 종료 횟수
+ * @param successDays SUCCESS 일수
+ */
+@Schema(description = "월간 캘린더 통계")
+public record CalendarMonthResponse(
+    @Schema(description = "조회 월", example = "2026-09")
+    String month,
+
+    @Schema(description = "확정된 달 여부 (true면 immutable로 캐시 가능)", example = "true")
+    boolean closed,
+
+    @Schema(description = "일별 통계 (기록이 있는 날짜만, 날짜 오름차순)")
+    List<DailyStatsDto> days,
+
+    @Schema(description = "전체 스케줄 수", example = "40")
+    int totalSchedules,
+
+    @Schema(description = "완료된 스케줄 수", example = "32")
+    int completedSchedules,
+
+    @Schema(description = "완료율 (0.0 ~ 1.0)", example = "0.8")
+    double completionRate,
+
+    @Schema(description = "총 집중 시간 (초)", example = "72000")
+    long totalFocusTime,
+
+    @Schema(description = "강제 종료 횟수", example = "1")
+    int forceQuitCount,
+
+    @Schema(description = "SUCCESS 일수", example = "20")
+    int successDays
+) {
+}
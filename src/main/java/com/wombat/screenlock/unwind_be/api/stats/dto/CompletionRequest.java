@@ -1,10 +1,14 @@
 package com.wombat.screenlock.unwind_be.api.stats.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 /**
@@ -18,11 +22,15 @@ import java.time.LocalDate;
  * @param focusTime 실제 집중 시간 (초 단위)
  * @param allInMode 올인 모드 사용 여부
  * @param date 통계 날짜
+ * @param eventId 재전송 중복 제거용 클라이언트 이벤트 ID (선택, 재시도 시 같은 값)
+ * @param startedAt 세션 시작 시각 (선택, 세션 로그용)
+ * @param endedAt 세션 종료 시각 (선택, 세션 로그용)
  */
 @Schema(description = "완료 통계 기록 요청")
 public record CompletionRequest(
     @Schema(description = "스케줄 clientId (UUID 형식)", example = "123e4567-e89b-12d3-a456-426614174000")
     @NotBlank(message = "scheduleId는 필수입니다")
+    @Size(max = 64, message = "scheduleId는 64자 이하여야 합니다")
     String scheduleId,
 
     @Schema(description = "완료 여부", example = "true")
@@ -39,8 +47,35 @@ public record CompletionRequest(
 
     @Schema(description = "통계 날짜 (yyyy-MM-dd)", example = "2026-02-12")
     @NotNull(message = "date는 필수입니다")
-    LocalDate date
+    LocalDate date,
+
+    @Schema(description = "클라이언트 이벤트 ID (재시도 시 같은 값, 중복 제거용)", example = "9b2f6c1e-4a5d-4e8b-9c3a-1f2e3d4c5b6a")
+    @Size(max = 64, message = "eventId는 64자 이하여야 합니다")
+    String eventId,
+
+    @Schema(description = "세션 시작 시각 (ISO 8601)", example = "2026-02-12T05:00:00Z")
+    Instant startedAt,
+
+    @Schema(description = "세션 종료 시각 (ISO 8601)", example = "2026-02-12T05:30:00Z")
+    Instant endedAt
 ) {
+    /**
+     * 이벤트 ID/세션 시각 없는 요청 (구버전 앱)
+     */
+    public CompletionRequest(String scheduleId, Boolean completed, Integer focusTime, Boolean allInMode, LocalDate date) {
+        this(scheduleId, completed, focusTime, allInMode, date, null, null, null);
+    }
+
+    /**
+     * 세션 시각 검증 (둘 다 있으면 종료가 시작 이후)
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "endedAt은 startedAt 이후여야 합니다")
+    public boolean isSessionRangeValid() {
+        return startedAt == null || endedAt == null || !endedAt.isBefore(startedAt);
+    }
+
     /**
      * allInMode가 null인 경우 기본값 false 반환
      */
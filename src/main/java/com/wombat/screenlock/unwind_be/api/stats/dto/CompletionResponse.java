@@ -5,15 +5,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 /**
  * 완료 통계 기록 응답 DTO
  * 
- * @param recorded 기록 성공 여부
- * @param dailyStats 해당 날짜의 누적 통계
+ * @param recorded 기록 여부 (false: 이미 처리된 재전송 이벤트)
+ * @param dailyStats 해당 날짜의 누적 통계 (비동기 집계 모드에서는 null)
  */
 @Schema(description = "완료 통계 기록 응답")
 public record CompletionResponse(
     @Schema(description = "기록 성공 여부", example = "true")
     boolean recorded,
 
-    @Schema(description = "해당 날짜의 누적 통계")
+    @Schema(description = "해당 날짜의 누적 통계 (비동기 집계 모드에서는 null)")
     DailyStatsDto dailyStats
 ) {
     /**
@@ -22,4 +22,18 @@ public record CompletionResponse(
     public static CompletionResponse success(DailyStatsDto dailyStats) {
         return new CompletionResponse(true, dailyStats);
     }
+
+    /**
+     * 집계 대기 응답 생성 (세션만 기록, daily_statistics는 집계기가 반영)
+     */
+    public static CompletionResponse accepted() {
+        return new CompletionResponse(true, null);
+    }
+
+    /**
+     * 중복 이벤트 응답 생성 (현재 누적 통계만 반환, 아직 반영 중이면 null)
+     */
+    public static CompletionResponse duplicate(DailyStatsDto dailyStats) {
+        return new CompletionResponse(false, dailyStats);
+    }
 }
@@ -2,6 +2,7 @@ package com.wombat.screenlock.unwind_be.api.stats.dto;
 
 import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatistics;
 import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -51,4 +52,18 @@ public record DailyStatsDto(
             entity.getStatus()
         );
     }
+
+    /**
+     * DailyStatisticsView Projection에서 DTO로 변환
+     */
+    public static DailyStatsDto from(DailyStatisticsView view) {
+        return new DailyStatsDto(
+            view.date(),
+            view.totalSchedules(),
+            view.completedSchedules(),
+            view.totalFocusTime(),
+            view.completionRate(),
+            view.status()
+        );
+    }
 }
@@ -0,0 +1,53 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import org.springframework.http.MediaType;
+
+/**
+ * 통계 내보내기 형식
+ * 
+ * <ul>
+ *   <li>NDJSON: 한 줄에 일별 통계 JSON 객체 1개 (application/x-ndjson)</li>
+ *   <li>CSV: 헤더 1줄 + 일별 통계 1줄씩 (text/csv)</li>
+ * </ul>
+ */
+public enum ExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 다운로드 파일명
+     * 
+     * @return 형식: "unwind-stats.{확장자}"
+     */
+    public String fileName() {
+        return "unwind-stats." + extension;
+    }
+
+    /**
+     * 쿼리 파라미터 값으로 변환 (대소문자 무시)
+     * 
+     * @throws BusinessException INVALID_INPUT - 알 수 없는 값
+     */
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT);
+    }
+}
@@ -2,6 +2,7 @@ package com.wombat.screenlock.unwind_be.api.stats.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import java.time.Instant;
 
@@ -12,10 +13,34 @@ import java.time.Instant;
  * timestamp에서 날짜를 추출하여 해당 일자의 forceQuitCount를 증가시킵니다.</p>
  * 
  * @param timestamp 강제 종료 발생 시각 (ISO 8601 형식)
+ * @param eventId 재전송 중복 제거용 클라이언트 이벤트 ID (선택, 재시도 시 같은 값)
+ * @param scheduleId 진행 중이던 스케줄의 clientId (선택, 스케줄별 통계용)
  */
 @Schema(description = "강제 종료 기록 요청")
 public record ForceQuitRequest(
     @Schema(description = "강제 종료 발생 시각 (ISO 8601)", example = "2026-02-12T14:30:00Z")
     @NotNull(message = "timestamp는 필수입니다")
-    Instant timestamp
-) {}
+    Instant timestamp,
+
+    @Schema(description = "클라이언트 이벤트 ID (재시도 시 같은 값, 중복 제거용)", example = "9b2f6c1e-4a5d-4e8b-9c3a-1f2e3d4c5b6a")
+    @Size(max = 64, message = "eventId는 64자 이하여야 합니다")
+    String eventId,
+
+    @Schema(description = "진행 중이던 스케줄 clientId (선택)", example = "123e4567-e89b-12d3-a456-426614174000")
+    @Size(max = 64, message = "scheduleId는 64자 이하여야 합니다")
+    String scheduleId
+) {
+    /**
+     * 이벤트 ID 없는 요청 (구버전 앱)
+     */
+    public ForceQuitRequest(Instant timestamp) {
+        this(timestamp, null, null);
+    }
+
+    /**
+     * 스케줄 정보 없는 요청
+     */
+    public ForceQuitRequest(Instant timestamp, String eventId) {
+        this(timestamp, eventId, null);
+    }
+}
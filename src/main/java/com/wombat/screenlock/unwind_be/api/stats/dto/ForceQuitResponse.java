@@ -5,7 +5,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 /**
  * 강제 종료 기록 응답 DTO
  * 
- * @param recorded 기록 성공 여부
+ * @param recorded 기록 여부 (false: 이미 처리된 재전송 이벤트)
  * @param forceQuitCount 해당 날짜의 누적 강제 종료 횟수
  */
 @Schema(description = "강제 종료 기록 응답")
@@ -22,4 +22,11 @@ public record ForceQuitResponse(
     public static ForceQuitResponse success(int forceQuitCount) {
         return new ForceQuitResponse(true, forceQuitCount);
     }
+
+    /**
+     * 중복 이벤트 응답 생성 (현재 누적 횟수만 반환)
+     */
+    public static ForceQuitResponse duplicate(int forceQuitCount) {
+        return new ForceQuitResponse(false, forceQuitCount);
+    }
 }
@@ -0,0 +1,35 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 연간 히트맵 응답 DTO
+ *
+ * <p>하루 2비트로 일별 상태를 패킹하여 Base64로 인코딩합니다.
+ * i번째 날(1월 1일 = 0)은 (i / 4)번째 바이트의 상위 비트부터 2비트씩 차지합니다.
+ * 366일 기준 92바이트(Base64 124자)로, RecentDayDto 365개보다 훨씬 작습니다.</p>
+ *
+ * <h3>상태 코드</h3>
+ * <ul>
+ *   <li>0: 기록 없음 (NO_PLAN, IN_PROGRESS 포함)</li>
+ *   <li>1: SUCCESS</li>
+ *   <li>2: WARNING</li>
+ *   <li>3: FAILURE</li>
+ * </ul>
+ *
+ * @param year 연도
+ * @param days 연 일수 (365 또는 366)
+ * @param statuses Base64 인코딩된 2비트 상태 배열 (ceil(연 일수 / 4) 바이트)
+ */
+@Schema(description = "연간 히트맵")
+public record HeatmapResponse(
+    @Schema(description = "연도", example = "2026")
+    int year,
+
+    @Schema(description = "연 일수", example = "365")
+    int days,
+
+    @Schema(description = "Base64 2비트 상태 배열 (day i = byte i/4, 상위 비트부터 / 0=없음, 1=SUCCESS, 2=WARNING, 3=FAILURE)")
+    String statuses
+) {
+}
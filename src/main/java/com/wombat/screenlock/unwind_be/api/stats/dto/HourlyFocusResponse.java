@@ -0,0 +1,28 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 시간대별 집중 분포 응답 DTO
+ *
+ * <p>하루를 사용자 시간대 기준 0~23시 24칸으로 나누어 칸마다 집중 시간(초)을 담습니다.
+ * 세션이 여러 시간에 걸치면 겹친 길이에 비례해 나누어 담습니다.</p>
+ *
+ * @param recentDays 최근 구간 일수 (오늘 포함)
+ * @param recent 최근 구간 0~23시 집중 시간 (초, 24개)
+ * @param allTime 전체 기간 0~23시 집중 시간 (초, 24개)
+ */
+@Schema(description = "시간대별 집중 분포")
+public record HourlyFocusResponse(
+    @Schema(description = "최근 구간 일수 (오늘 포함)", example = "30")
+    int recentDays,
+
+    @Schema(description = "최근 구간 0~23시 집중 시간 (초, index = 시)")
+    List<Long> recent,
+
+    @Schema(description = "전체 기간 0~23시 집중 시간 (초, index = 시)")
+    List<Long> allTime
+) {
+}
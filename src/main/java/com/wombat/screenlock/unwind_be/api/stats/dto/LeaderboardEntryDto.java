@@ -0,0 +1,23 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 리더보드 항목 DTO
+ * 
+ * @param rank 순위 (1부터)
+ * @param userId 사용자 ID
+ * @param score 점수 (ALL: 현재 스트릭 일수, WEEK: 집중 시간 초)
+ */
+@Schema(description = "리더보드 항목")
+public record LeaderboardEntryDto(
+    @Schema(description = "순위 (1부터)", example = "1")
+    long rank,
+
+    @Schema(description = "사용자 ID", example = "42")
+    Long userId,
+
+    @Schema(description = "점수 (all: 현재 스트릭 일수, week: 집중 시간 초)", example = "14")
+    long score
+) {
+}
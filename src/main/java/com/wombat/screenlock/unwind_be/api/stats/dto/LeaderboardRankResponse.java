@@ -0,0 +1,29 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 내 리더보드 순위 응답 DTO
+ * 
+ * @param window 기간 구분 (all, week)
+ * @param rank 순위 (1부터, 순위 없음이면 null)
+ * @param score 점수 (순위 없음이면 0)
+ */
+@Schema(description = "내 리더보드 순위")
+public record LeaderboardRankResponse(
+    @Schema(description = "기간 구분", example = "week")
+    String window,
+
+    @Schema(description = "순위 (1부터, 기록이 없으면 null)", example = "128", nullable = true)
+    Long rank,
+
+    @Schema(description = "점수 (all: 현재 스트릭 일수, week: 집중 시간 초)", example = "5400")
+    long score
+) {
+    /**
+     * 순위 없음 응답
+     */
+    public static LeaderboardRankResponse unranked(LeaderboardWindow window) {
+        return new LeaderboardRankResponse(window.name().toLowerCase(), null, 0);
+    }
+}
@@ -0,0 +1,21 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 리더보드 조회 응답 DTO
+ * 
+ * @param window 기간 구분 (all, week)
+ * @param entries 상위 순위 목록
+ */
+@Schema(description = "리더보드")
+public record LeaderboardResponse(
+    @Schema(description = "기간 구분", example = "week")
+    String window,
+
+    @Schema(description = "상위 순위 목록")
+    List<LeaderboardEntryDto> entries
+) {
+}
@@ -0,0 +1,31 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+
+/**
+ * 리더보드 기간 구분
+ * 
+ * <ul>
+ *   <li>ALL: 전체 사용자 현재 스트릭 순위</li>
+ *   <li>WEEK: 이번 주(월~일, KST) 총 집중 시간 순위</li>
+ * </ul>
+ */
+public enum LeaderboardWindow {
+    ALL,
+    WEEK;
+
+    /**
+     * 쿼리 파라미터 값으로 변환 (대소문자 무시)
+     * 
+     * @throws BusinessException INVALID_INPUT - 알 수 없는 값
+     */
+    public static LeaderboardWindow from(String value) {
+        for (LeaderboardWindow window : values()) {
+            if (window.name().equalsIgnoreCase(value)) {
+                return window;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT);
+    }
+}
@@ -0,0 +1,80 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.CumulativeStatistics;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+/**
+ * 임의 기간 통계 응답 DTO
+ * 
+ * <p>[from, to] 기간의 합계이며, 누적 합계 두 행의 차이로 계산합니다
+ * (to까지의 누적 - from 전날까지의 누적).</p>
+ * 
+ * <p>V13 마이그레이션 이전 이력은 StatsRebuildJob(rebuild 프로필)을 실행해야 누적 행에 들어가며,
+ * 실행 전에는 그 이력이 합계에서 빠집니다.</p>
+ * 
+ * @param from 시작일 (포함)
+ * @param to 종료일 (포함)
+ * @param totalSchedules 전체 스케줄 수
+ * @param completedSchedules 완료된 스케줄 수
+ * @param completionRate 완료율 (0.0 ~ 1.0)
+ * @param totalFocusTime 총 집중 시간 (초)
+ * @param forceQuitCount 강제 종료 횟수
+ * @param successDays SUCCESS 일수
+ */
+@Schema(description = "임의 기간 통계")
+public record RangeStatsResponse(
+    @Schema(description = "시작일", example = "2026-01-01")
+    LocalDate from,
+
+    @Schema(description = "종료일", example = "2026-03-31")
+    LocalDate to,
+
+    @Schema(description = "전체 스케줄 수", example = "120")
+    int totalSchedules,
+
+    @Schema(description = "완료된 스케줄 수", example = "96")
+    int completedSchedules,
+
+    @Schema(description = "완료율 (0.0 ~ 1.0)", example = "0.8")
+    double completionRate,
+
+    @Schema(description = "총 집중 시간 (초)", example = "216000")
+    long totalFocusTime,
+
+    @Schema(description = "강제 종료 횟수", example = "3")
+    int forceQuitCount,
+
+    @Schema(description = "SUCCESS 일수", example = "61")
+    int successDays
+) {
+    /**
+     * 기간 전에도 기간 안에도 기록이 없는 경우
+     */
+    public static RangeStatsResponse empty(LocalDate from, LocalDate to) {
+        return new RangeStatsResponse(from, to, 0, 0, 0.0, 0L, 0, 0);
+    }
+
+    /**
+     * 두 누적 행의 차이
+     * 
+     * @param end to까지의 누적
+     * @param beforeStart from 전날까지의 누적 (없으면 null)
+     */
+    public static RangeStatsResponse between(LocalDate from, LocalDate to,
+                                             CumulativeStatistics end, CumulativeStatistics beforeStart) {
+        int totalSchedules = end.getTotalSchedules() - (beforeStart != null ? beforeStart.getTotalSchedules() : 0);
+        int completedSchedules = end.getCompletedSchedules()
+                - (beforeStart != null ? beforeStart.getCompletedSchedules() : 0);
+        return new RangeStatsResponse(
+                from,
+                to,
+                totalSchedules,
+                completedSchedules,
+                totalSchedules == 0 ? 0.0 : (double) completedSchedules / totalSchedules,
+                end.getTotalFocusTime() - (beforeStart != null ? beforeStart.getTotalFocusTime() : 0L),
+                end.getForceQuitCount() - (beforeStart != null ? beforeStart.getForceQuitCount() : 0),
+                end.getSuccessDays() - (beforeStart != null ? beforeStart.getSuccessDays() : 0));
+    }
+}
@@ -1,7 +1,7 @@
 package com.wombat.screenlock.unwind_be.api.stats.dto;
 
 import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatistics;
-import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -44,5 +44,17 @@ public record RecentDayDto(
             entity.getTotalFocusTime()
         );
     }
-}
 
+    /**
+     * DailyStatisticsView Projection에서 DTO로 변환
+     */
+    public static RecentDayDto from(DailyStatisticsView view) {
+        return new RecentDayDto(
+            view.date(),
+            view.status().name().toLowerCase(),
+            view.completedSchedules(),
+            view.totalSchedules(),
+            view.totalFocusTime()
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+/**
+ * 권한 해제 기록 요청 DTO
+ * 
+ * <p>집중 세션 중 Screen Time 권한이 해제된 뒤 앱 재진입 시 사용자가 입력한 사유를 전송합니다.
+ * revokedAt에서 날짜를 추출하여 해당 일자를 FAILURE로 표시합니다.</p>
+ * 
+ * @param reason 사용자가 입력한 권한 해제 사유
+ * @param revokedAt 권한 해제 감지 시각 (ISO 8601 형식)
+ * @param eventId 재전송 중복 제거용 클라이언트 이벤트 ID (선택, 재시도 시 같은 값)
+ */
+@Schema(description = "권한 해제 기록 요청")
+public record RevocationRequest(
+    @Schema(description = "권한 해제 사유", example = "급한 업무 연락을 확인해야 했습니다")
+    @NotBlank(message = "reason은 필수입니다")
+    @Size(max = 500, message = "reason은 500자 이하여야 합니다")
+    String reason,
+
+    @Schema(description = "권한 해제 감지 시각 (ISO 8601)", example = "2026-02-12T14:30:00Z")
+    @NotNull(message = "revokedAt은 필수입니다")
+    Instant revokedAt,
+
+    @Schema(description = "클라이언트 이벤트 ID (재시도 시 같은 값, 중복 제거용)", example = "9b2f6c1e-4a5d-4e8b-9c3a-1f2e3d4c5b6a")
+    @Size(max = 64, message = "eventId는 64자 이하여야 합니다")
+    String eventId
+) {}
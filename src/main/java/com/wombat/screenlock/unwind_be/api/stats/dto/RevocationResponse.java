@@ -0,0 +1,32 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 권한 해제 기록 응답 DTO
+ * 
+ * @param recorded 기록 여부 (false: 이미 처리된 재전송 이벤트)
+ * @param dailyStats 해당 날짜의 누적 통계
+ */
+@Schema(description = "권한 해제 기록 응답")
+public record RevocationResponse(
+    @Schema(description = "기록 여부", example = "true")
+    boolean recorded,
+
+    @Schema(description = "해당 날짜의 누적 통계 (status = FAILURE)")
+    DailyStatsDto dailyStats
+) {
+    /**
+     * 성공 응답 생성
+     */
+    public static RevocationResponse success(DailyStatsDto dailyStats) {
+        return new RevocationResponse(true, dailyStats);
+    }
+
+    /**
+     * 중복 이벤트 응답 생성 (현재 누적 통계만 반환, 아직 반영 중이면 null)
+     */
+    public static RevocationResponse duplicate(DailyStatsDto dailyStats) {
+        return new RevocationResponse(false, dailyStats);
+    }
+}
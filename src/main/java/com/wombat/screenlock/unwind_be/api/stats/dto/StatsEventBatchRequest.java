@@ -0,0 +1,24 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 통계 이벤트 일괄 전송 요청 DTO
+ * 
+ * <p>iOS 앱이 오프라인 동안 쌓아둔 완료/강제 종료 이벤트를
+ * 네트워크 복구 시 한 번의 요청으로 전송합니다 (SRS C.4).</p>
+ * 
+ * @param events 완료/강제 종료 이벤트 목록 (최대 500건)
+ */
+@Schema(description = "통계 이벤트 일괄 전송 요청")
+public record StatsEventBatchRequest(
+    @Schema(description = "완료/강제 종료 이벤트 목록 (최대 500건)")
+    @NotEmpty(message = "events는 비어 있을 수 없습니다")
+    @Size(max = 500, message = "events는 최대 500건까지 전송할 수 있습니다")
+    List<@Valid StatsEventRequest> events
+) {}
@@ -0,0 +1,24 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 통계 이벤트 일괄 전송 응답 DTO
+ * 
+ * @param accepted 반영된 이벤트 수
+ * @param duplicates 이미 처리되어 무시한 이벤트 수 (같은 eventId 재전송)
+ * @param dailyStats 영향받은 날짜별 누적 통계 (날짜 오름차순)
+ */
+@Schema(description = "통계 이벤트 일괄 전송 응답")
+public record StatsEventBatchResponse(
+    @Schema(description = "반영된 이벤트 수", example = "12")
+    int accepted,
+
+    @Schema(description = "이미 처리되어 무시한 이벤트 수", example = "0")
+    int duplicates,
+
+    @Schema(description = "영향받은 날짜별 누적 통계 (날짜 오름차순)")
+    List<DailyStatsDto> dailyStats
+) {}
@@ -0,0 +1,103 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 통계 이벤트 요청 DTO (일괄 전송용)
+ * 
+ * <p>오프라인 큐에 쌓인 완료/강제 종료 이벤트 한 건을 나타냅니다.
+ * type에 따라 필요한 필드가 달라집니다.</p>
+ * 
+ * <ul>
+ *   <li>COMPLETION: scheduleId, completed, focusTime, date 필수 (allInMode, startedAt/endedAt 선택)</li>
+ *   <li>FORCE_QUIT: timestamp 필수 (scheduleId 선택)</li>
+ * </ul>
+ * 
+ * @param type 이벤트 유형
+ * @param scheduleId 스케줄 clientId (COMPLETION 필수, FORCE_QUIT 선택)
+ * @param completed 완료 여부 (COMPLETION)
+ * @param focusTime 실제 집중 시간 (초 단위, COMPLETION)
+ * @param allInMode 올인 모드 사용 여부 (COMPLETION)
+ * @param date 통계 날짜 (COMPLETION)
+ * @param timestamp 강제 종료 발생 시각 (FORCE_QUIT)
+ * @param eventId 재전송 중복 제거용 클라이언트 이벤트 ID (선택)
+ * @param startedAt 세션 시작 시각 (선택, COMPLETION)
+ * @param endedAt 세션 종료 시각 (선택, COMPLETION)
+ */
+@Schema(description = "통계 이벤트 (일괄 전송용)")
+public record StatsEventRequest(
+    @Schema(description = "이벤트 유형", example = "COMPLETION")
+    @NotNull(message = "type은 필수입니다")
+    StatsEventType type,
+
+    @Schema(description = "스케줄 clientId (COMPLETION 필수, FORCE_QUIT 선택)", example = "123e4567-e89b-12d3-a456-426614174000")
+    @Size(max = 64, message = "scheduleId는 64자 이하여야 합니다")
+    String scheduleId,
+
+    @Schema(description = "완료 여부 (COMPLETION)", example = "true")
+    Boolean completed,
+
+    @Schema(description = "집중 시간 (초 단위, COMPLETION)", example = "1800", minimum = "0")
+    @Min(value = 0, message = "focusTime은 0 이상이어야 합니다")
+    Integer focusTime,
+
+    @Schema(description = "올인 모드 사용 여부 (COMPLETION)", example = "false")
+    Boolean allInMode,
+
+    @Schema(description = "통계 날짜 (yyyy-MM-dd, COMPLETION)", example = "2026-02-12")
+    LocalDate date,
+
+    @Schema(description = "강제 종료 발생 시각 (ISO 8601, FORCE_QUIT)", example = "2026-02-12T14:30:00Z")
+    Instant timestamp,
+
+    @Schema(description = "클라이언트 이벤트 ID (재전송 시 같은 값, 중복 제거용)", example = "9b2f6c1e-4a5d-4e8b-9c3a-1f2e3d4c5b6a")
+    @Size(max = 64, message = "eventId는 64자 이하여야 합니다")
+    String eventId,
+
+    @Schema(description = "세션 시작 시각 (ISO 8601, COMPLETION)", example = "2026-02-12T05:00:00Z")
+    Instant startedAt,
+
+    @Schema(description = "세션 종료 시각 (ISO 8601, COMPLETION)", example = "2026-02-12T05:30:00Z")
+    Instant endedAt
+) {
+    /**
+     * 이벤트 ID/세션 시각 없는 요청 (구버전 앱)
+     */
+    public StatsEventRequest(StatsEventType type, String scheduleId, Boolean completed, Integer focusTime,
+                             Boolean allInMode, LocalDate date, Instant timestamp) {
+        this(type, scheduleId, completed, focusTime, allInMode, date, timestamp, null, null, null);
+    }
+
+    /**
+     * type별 필수 필드 검증
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "type에 필요한 필드가 누락되었습니다")
+    public boolean isPayloadValid() {
+        if (type == null) {
+            return true; // @NotNull에서 처리
+        }
+        return switch (type) {
+            case COMPLETION -> scheduleId != null && !scheduleId.isBlank()
+                    && completed != null && focusTime != null && date != null
+                    && (startedAt == null || endedAt == null || !endedAt.isBefore(startedAt));
+            case FORCE_QUIT -> timestamp != null;
+        };
+    }
+
+    /**
+     * allInMode가 null인 경우 기본값 false 반환
+     */
+    public boolean isAllInMode() {
+        return allInMode != null && allInMode;
+    }
+}
@@ -0,0 +1,18 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+/**
+ * 통계 이벤트 유형 Enum
+ *
+ * <p>일괄 전송(POST /api/stats/events:batch)에서 각 이벤트의 종류를 나타냅니다.</p>
+ */
+public enum StatsEventType {
+    /**
+     * 스케줄 완료 (POST /api/stats/completion과 동일)
+     */
+    COMPLETION,
+
+    /**
+     * 강제 종료 (POST /api/stats/force-quit과 동일)
+     */
+    FORCE_QUIT
+}
@@ -16,6 +16,8 @@ import java.util.List;
  * @param totalFocusTimeThisWeek 이번 주 총 집중 시간 (초)
  * @param totalFocusTimeThisMonth 이번 달 총 집중 시간 (초)
  * @param recentDays 최근 일별 통계 목록
+ * @param weeklyFocusPercentile 이번 주 집중 시간이 더 적은 사용자 비율 (스냅샷 없으면 null)
+ * @param weeklyCompletionPercentile 이번 주 완료율이 더 낮은 사용자 비율 (스냅샷/스케줄 기록 없으면 null)
  */
 @Schema(description = "사용자 통계 요약")
 public record StatsSummaryResponse(
@@ -38,7 +40,13 @@ public record StatsSummaryResponse(
     int totalFocusTimeThisMonth,
 
     @Schema(description = "최근 일별 통계")
-    List<RecentDayDto> recentDays
+    List<RecentDayDto> recentDays,
+
+    @Schema(description = "이번 주 집중 시간이 더 적은 사용자 비율 (0.0 ~ 1.0, 집계 전이면 null)", example = "0.78")
+    Double weeklyFocusPercentile,
+
+    @Schema(description = "이번 주 완료율이 더 낮은 사용자 비율 (0.0 ~ 1.0, 집계 전이면 null)", example = "0.64")
+    Double weeklyCompletionPercentile
 ) {
     /**
      * Builder 패턴 지원을 위한 정적 빌더 클래스
@@ -55,6 +63,8 @@ public record StatsSummaryResponse(
         private int totalFocusTimeThisWeek;
         private int totalFocusTimeThisMonth;
         private List<RecentDayDto> recentDays;
+        private Double weeklyFocusPercentile;
+        private Double weeklyCompletionPercentile;
 
         public Builder currentStreak(int currentStreak) {
             this.currentStreak = currentStreak;
@@ -91,6 +101,16 @@ public record StatsSummaryResponse(
             return this;
         }
 
+        public Builder weeklyFocusPercentile(Double weeklyFocusPercentile) {
+            this.weeklyFocusPercentile = weeklyFocusPercentile;
+            return this;
+        }
+
+        public Builder weeklyCompletionPercentile(Double weeklyCompletionPercentile) {
+            this.weeklyCompletionPercentile = weeklyCompletionPercentile;
+            return this;
+        }
+
         public StatsSummaryResponse build() {
             return new StatsSummaryResponse(
                 currentStreak,
@@ -99,7 +119,9 @@ public record StatsSummaryResponse(
                 monthlyCompletionRate,
                 totalFocusTimeThisWeek,
                 totalFocusTimeThisMonth,
-                recentDays
+                recentDays,
+                weeklyFocusPercentile,
+                weeklyCompletionPercentile
             );
         }
     }
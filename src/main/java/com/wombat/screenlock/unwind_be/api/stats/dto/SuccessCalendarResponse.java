@@ -0,0 +1,26 @@
+package com.wombat.screenlock.unwind_be.api.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 연간 성공 캘린더 응답 DTO
+ * 
+ * <p>하루 1비트 비트맵을 Base64로 인코딩하여 반환합니다.
+ * i번째 비트(바이트 내 MSB부터)가 1월 1일 + i일의 SUCCESS 여부입니다.</p>
+ * 
+ * @param year 연도
+ * @param successDays 성공 일수
+ * @param bitmap Base64 인코딩된 비트맵 (ceil(연 일수 / 8) 바이트)
+ */
+@Schema(description = "연간 성공 캘린더")
+public record SuccessCalendarResponse(
+    @Schema(description = "연도", example = "2026")
+    int year,
+
+    @Schema(description = "성공 일수", example = "42")
+    int successDays,
+
+    @Schema(description = "Base64 비트맵 (bit i = 1월 1일 + i일, MSB 우선)")
+    String bitmap
+) {
+}
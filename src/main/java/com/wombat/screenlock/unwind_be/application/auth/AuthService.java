@@ -4,6 +4,7 @@ import com.wombat.screenlock.unwind_be.api.auth.dto.LoginRequest;
 import com.wombat.screenlock.unwind_be.api.auth.dto.RefreshRequest;
 import com.wombat.screenlock.unwind_be.api.auth.dto.SignUpRequest;
 import com.wombat.screenlock.unwind_be.api.auth.dto.TokenResponse;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
 import com.wombat.screenlock.unwind_be.domain.user.entity.User;
 import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
 import com.wombat.screenlock.unwind_be.global.exception.AuthException;
@@ -47,7 +48,7 @@ public class AuthService {
      * 
      * <h3>로직 순서</h3>
      * <ol>
-     *   <li>이메일 중복 체크</li>
+     *   <li>이메일 중복 체크 / 시간대 검증</li>
      *   <li>비밀번호 BCrypt 해시</li>
      *   <li>User 엔티티 저장</li>
      *   <li>Access/Refresh Token 발급</li>
@@ -57,11 +58,12 @@ public class AuthService {
      * <h3>예외</h3>
      * <ul>
      *   <li>A002: EMAIL_ALREADY_EXISTS (이메일 중복)</li>
+     *   <li>C001: INVALID_INPUT (알 수 없는 시간대)</li>
      * </ul>
      * 
      * @param request 회원가입 요청 DTO
      * @return TokenResponse (accessToken, refreshToken, expiresIn)
-     * @throws AuthException EMAIL_ALREADY_EXISTS (A002)
+     * @throws AuthException EMAIL_ALREADY_EXISTS (A002), INVALID_INPUT (C001)
      */
     @Transactional
     public TokenResponse signup(SignUpRequest request) {
@@ -69,6 +71,9 @@ public class AuthService {
         if (userRepository.existsByEmail(request.email())) {
             throw new AuthException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
+        if (request.timezone() != null && !UserZoneResolver.isValid(request.timezone())) {
+            throw new AuthException(ErrorCode.INVALID_INPUT);
+        }
 
         // 2. 비밀번호 BCrypt 해시
         String hashedPassword = passwordEncoder.encode(request.password());
@@ -77,13 +82,14 @@ public class AuthService {
         User user = User.builder()
                 .email(request.email())
                 .passwordHash(hashedPassword)
+                .timezone(request.timezone())
                 .build();
         User savedUser = userRepository.save(user);
         
         log.info("회원가입 완료: userId={}, email={}", savedUser.getId(), savedUser.getEmail());
 
         // 4-5. Token 발급 및 저장
-        return generateAndSaveTokens(savedUser.getId());
+        return generateAndSaveTokens(savedUser.getId(), savedUser.getTimezone());
     }
 
     /**
@@ -120,7 +126,7 @@ public class AuthService {
         log.info("로그인 성공: userId={}, email={}", user.getId(), user.getEmail());
 
         // 3-4. Token 발급 및 저장
-        return generateAndSaveTokens(user.getId());
+        return generateAndSaveTokens(user.getId(), user.getTimezone());
     }
 
     /**
@@ -131,13 +137,14 @@ public class AuthService {
      *   <li>Refresh Token 유효성 검증</li>
      *   <li>Token에서 UserId 추출</li>
      *   <li>Redis 저장 토큰과 비교</li>
+     *   <li>사용자 시간대 조회 (변경된 시간대를 새 Access Token에 반영)</li>
      *   <li>새 Access/Refresh Token 발급</li>
      *   <li>새 Refresh Token Redis 저장</li>
      * </ol>
      * 
      * <h3>예외</h3>
      * <ul>
-     *   <li>A003: INVALID_REFRESH_TOKEN (토큰 무효, 만료, 또는 Redis 불일치)</li>
+     *   <li>A003: INVALID_REFRESH_TOKEN (토큰 무효, 만료, Redis 불일치, 또는 탈퇴한 사용자)</li>
      * </ul>
      * 
      * @param request 토큰 갱신 요청 DTO
@@ -162,10 +169,14 @@ public class AuthService {
             throw new AuthException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
+        // 4. 사용자 시간대 조회
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new AuthException(ErrorCode.INVALID_REFRESH_TOKEN));
+
         log.info("토큰 갱신: userId={}", userId);
 
-        // 4-5. 새 Token 발급 및 저장
-        return generateAndSaveTokens(userId);
+        // 5-6. 새 Token 발급 및 저장
+        return generateAndSaveTokens(userId, user.getTimezone());
     }
 
     /**
@@ -175,10 +186,11 @@ public class AuthService {
      * Refresh Token을 Redis에 저장합니다.</p>
      * 
      * @param userId 사용자 고유 ID
+     * @param timezone 사용자 시간대 (Access Token tz 클레임)
      * @return TokenResponse
      */
-    private TokenResponse generateAndSaveTokens(Long userId) {
-        String accessToken = jwtProvider.generateAccessToken(userId);
+    private TokenResponse generateAndSaveTokens(Long userId, String timezone) {
+        String accessToken = jwtProvider.generateAccessToken(userId, timezone);
         String refreshToken = jwtProvider.generateRefreshToken(userId);
 
         // Redis에 Refresh Token 저장 (TTL: 7일)
@@ -3,6 +3,7 @@ package com.wombat.screenlock.unwind_be.application.schedule;
 import com.wombat.screenlock.unwind_be.api.schedule.dto.CreateScheduleRequest;
 import com.wombat.screenlock.unwind_be.api.schedule.dto.ScheduleResponse;
 import com.wombat.screenlock.unwind_be.api.schedule.dto.UpdateScheduleRequest;
+import com.wombat.screenlock.unwind_be.application.user.UserLookupService;
 import com.wombat.screenlock.unwind_be.domain.schedule.entity.Schedule;
 import com.wombat.screenlock.unwind_be.domain.schedule.repository.ScheduleRepository;
 import com.wombat.screenlock.unwind_be.domain.user.entity.User;
@@ -44,6 +45,7 @@ public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
 
     /**
      * 스케줄 생성
@@ -51,7 +53,7 @@ public class ScheduleService {
      * <h3>비즈니스 로직 순서</h3>
      * <ol>
      *   <li>clientId 중복 체크 (Idempotency)</li>
-     *   <li>userId로 User 엔티티 조회</li>
+     *   <li>userId로 사용자 존재 확인 (캐시) 후 User 프록시 참조 (SELECT 없음)</li>
      *   <li>Schedule 엔티티 생성 및 저장</li>
      *   <li>ScheduleResponse DTO 반환</li>
      * </ol>
@@ -75,12 +77,13 @@ public class ScheduleService {
             return ScheduleResponse.from(existing.get());
         }
 
-        // 2. userId로 User 엔티티 조회
-        User user = userRepository.findById(userId)
+        // 2. 사용자 존재 확인 (2단계 캐시) 후 User 프록시 참조
+        userLookupService.findById(userId)
                 .orElseThrow(() -> {
                     log.warn("스케줄 생성 실패: 사용자를 찾을 수 없음 - userId={}", userId);
                     return new BusinessException(ErrorCode.USER_NOT_FOUND);
                 });
+        User user = userRepository.getReferenceById(userId);
 
         // 3. Schedule 엔티티 생성
         Schedule schedule = Schedule.builder()
@@ -0,0 +1,218 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.CalendarMonthResponse;
+import com.wombat.screenlock.unwind_be.api.stats.dto.DailyStatsDto;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCache;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCacheManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 월간 캘린더 서비스
+ *
+ * <p>달력 화면의 한 달 일별 통계와 월 합계를 제공합니다.
+ * daily_statistics를 idx_daily_statistics_user_date_desc 범위로 한 번만 읽습니다.</p>
+ *
+ * <h3>캐시</h3>
+ * <ul>
+ *   <li>확정된 달: 2단계 캐시에 만료 없이 보관, 응답은 closed=true (Cache-Control immutable)</li>
+ *   <li>이번 달 / 확정 전 지난 달: 캐시하지 않고 매번 계산 (ETag 재검증만 지원)</li>
+ *   <li>지난 달 날짜로 기록이 커밋되면 해당 월 캐시만 삭제 (늦게 동기화된 이벤트 대비)</li>
+ * </ul>
+ *
+ * <p>지난 달이라도 하루 마감 Job(DailyStatisticsCloseJob)이 말일을 lookback-days 동안 다시 확인하므로,
+ * 말일 + lookback-days가 지나고 IN_PROGRESS 날짜가 남지 않아야 확정된 달로 봅니다.
+ * 그 전에는 클라이언트가 IN_PROGRESS나 바뀔 값을 max-age 동안 들고 있지 않도록 closed=false로 응답합니다.</p>
+ *
+ * <p>ETag는 응답 필드 값의 해시이므로 늦은 기록으로 내용이 바뀌면 ETag도 바뀝니다.</p>
+ *
+ * @see CalendarMonthResponse
+ * @see HeatmapService
+ */
+@Service
+@Slf4j
+public class CalendarMonthService {
+
+    /** 캐시 이름 (Redis Key 접두사) */
+    static final String CACHE_NAME = "stats_calendar";
+
+    /** 조회 가능한 최소 월 */
+    private static final YearMonth MIN_MONTH = YearMonth.of(2000, 1);
+
+    private final TwoLevelCache<CalendarMonthResponse> cache;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final UserZoneResolver userZoneResolver;
+
+    /** 하루 마감 Job이 지난 날짜를 다시 확인하는 일수 */
+    private final int closeLookbackDays;
+
+    public CalendarMonthService(
+            TwoLevelCacheManager cacheManager,
+            DailyStatisticsRepository dailyStatisticsRepository,
+            UserZoneResolver userZoneResolver,
+            @Value("${stats.calendar.local-ttl-seconds:3600}") long localTtlSeconds,
+            @Value("${stats.calendar.local-max-size:10000}") int localMaxSize,
+            @Value("${stats.day-close.lookback-days:7}") int closeLookbackDays) {
+        this(cacheManager.create(CACHE_NAME, CalendarMonthResponse.class,
+                        localMaxSize, Duration.ofSeconds(localTtlSeconds)),
+                dailyStatisticsRepository, userZoneResolver, closeLookbackDays);
+    }
+
+    CalendarMonthService(
+            TwoLevelCache<CalendarMonthResponse> cache,
+            DailyStatisticsRepository dailyStatisticsRepository,
+            UserZoneResolver userZoneResolver,
+            int closeLookbackDays) {
+        this.cache = cache;
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.userZoneResolver = userZoneResolver;
+        this.closeLookbackDays = closeLookbackDays;
+    }
+
+    /**
+     * 월간 캘린더 조회
+     *
+     * @param userId 사용자 ID
+     * @param month 조회 월 (null이면 사용자 시간대 기준 이번 달)
+     * @return CalendarMonthResponse 일별 통계 + 월 합계
+     * @throws BusinessException INVALID_INPUT - 지원하지 않는 월
+     */
+    public CalendarMonthResponse getMonth(Long userId, YearMonth month) {
+        LocalDate today = userZoneResolver.today(userId);
+        YearMonth currentMonth = YearMonth.from(today);
+        YearMonth targetMonth = (month != null) ? month : currentMonth;
+        if (targetMonth.isBefore(MIN_MONTH) || targetMonth.isAfter(currentMonth.plusMonths(1))) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        // 말일이 하루 마감 Job의 lookback 범위를 벗어나기 전에는 캐시하지 않음
+        if (!today.isAfter(targetMonth.atEndOfMonth().plusDays(closeLookbackDays + 1L))) {
+            return build(userId, targetMonth, false);
+        }
+
+        Optional<CalendarMonthResponse> cached = cache.get(key(userId, targetMonth));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        CalendarMonthResponse response = build(userId, targetMonth, true);
+        if (response.closed()) {
+            cache.put(key(userId, targetMonth), response);
+        }
+        return response;
+    }
+
+    /**
+     * 응답 필드 값의 강한 ETag
+     *
+     * @param response 월간 캘린더 응답
+     * @return 따옴표로 감싼 MD5 해시
+     */
+    public static String eTag(CalendarMonthResponse response) {
+        StringBuilder content = new StringBuilder()
+                .append(response.month()).append('|')
+                .append(response.closed()).append('|')
+                .append(response.totalSchedules()).append('|')
+                .append(response.completedSchedules()).append('|')
+                .append(response.totalFocusTime()).append('|')
+                .append(response.forceQuitCount()).append('|')
+                .append(response.successDays());
+        for (DailyStatsDto day : response.days()) {
+            content.append('|').append(day.date())
+                    .append(',').append(day.totalSchedules())
+                    .append(',').append(day.completedSchedules())
+                    .append(',').append(day.totalFocusTime())
+                    .append(',').append(day.status());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 지난 달 날짜로 기록이 커밋되면 해당 월 캐시 삭제
+     *
+     * @param event 통계 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatsUpdated(StatsUpdatedEvent event) {
+        if (event.dailyStatuses().isEmpty()) {
+            return;
+        }
+        YearMonth currentMonth = YearMonth.from(userZoneResolver.today(event.userId()));
+        event.dailyStatuses().keySet().stream()
+                .map(YearMonth::from)
+                .filter(month -> month.isBefore(currentMonth))
+                .distinct()
+                .forEach(month -> cache.evict(key(event.userId(), month)));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 월의 일별 통계와 합계 계산
+     *
+     * @param settled 하루 마감 lookback이 지난 달인지 (IN_PROGRESS 날짜가 없어야 확정)
+     */
+    private CalendarMonthResponse build(Long userId, YearMonth month, boolean settled) {
+        List<DailyStatisticsView> views = dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                userId, month.atDay(1), month.atEndOfMonth());
+
+        List<DailyStatsDto> days = new ArrayList<>(views.size());
+        int totalSchedules = 0;
+        int completedSchedules = 0;
+        long totalFocusTime = 0L;
+        int forceQuitCount = 0;
+        int successDays = 0;
+        boolean closed = settled;
+        for (int i = views.size() - 1; i >= 0; i--) {
+            DailyStatisticsView view = views.get(i);
+            days.add(DailyStatsDto.from(view));
+            if (view.status() == DailyStatus.IN_PROGRESS) {
+                closed = false;
+            }
+            totalSchedules += view.totalSchedules();
+            completedSchedules += view.completedSchedules();
+            totalFocusTime += view.totalFocusTime();
+            forceQuitCount += view.forceQuitCount();
+            if (view.status() == DailyStatus.SUCCESS) {
+                successDays++;
+            }
+        }
+        log.debug("월간 캘린더 계산 - userId={}, month={}, records={}", userId, month, views.size());
+        return new CalendarMonthResponse(
+                month.toString(),
+                closed,
+                days,
+                totalSchedules,
+                completedSchedules,
+                totalSchedules == 0 ? 0.0 : (double) completedSchedules / totalSchedules,
+                totalFocusTime,
+                forceQuitCount,
+                successDays);
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @return 형식: "{userId}:{yyyy-MM}"
+     */
+    private String key(Long userId, YearMonth month) {
+        return userId + ":" + month;
+    }
+}
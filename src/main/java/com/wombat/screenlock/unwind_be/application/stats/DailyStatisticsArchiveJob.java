@@ -0,0 +1,130 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRow;
+import com.wombat.screenlock.unwind_be.infrastructure.archive.DailyStatisticsArchive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * daily_statistics 콜드 아카이브 이관 Job
+ *
+ * <p>horizon-months보다 오래된 달을 한 달씩 DailyStatisticsArchive 파일로 옮기고
+ * 해당 달의 MySQL 행을 삭제합니다. 기동 시 1회, 이후 stats.archive.cron 주기로 실행됩니다.</p>
+ *
+ * <h3>순서 (달마다)</h3>
+ * <ol>
+ *   <li>아카이브 파일이 없으면 (userId, date) 순으로 스트리밍하여 파일 기록</li>
+ *   <li>파일이 있으면 MySQL 행을 delete-batch-size 단위로 삭제 (배치마다 커밋)</li>
+ * </ol>
+ *
+ * <p>파일 기록 후 삭제 전에 중단되더라도 조회는 archivedUntil 기준으로 파일을 읽으므로
+ * 중복되지 않으며, 다음 실행에서 남은 행을 삭제합니다.
+ * p_history처럼 여러 달에 걸친 파티션이 있어 파티션 DROP 대신 배치 DELETE를 사용합니다.</p>
+ *
+ * <p>파일은 생성 후 수정하지 않으므로 여러 노드가 동시에 실행하지 않도록 한 노드에서만 활성화합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "stats.archive", name = "enabled", havingValue = "true")
+@Slf4j
+public class DailyStatisticsArchiveJob implements ApplicationRunner {
+
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final DailyStatisticsArchive dailyStatisticsArchive;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int deleteBatchSize;
+
+    public DailyStatisticsArchiveJob(
+            DailyStatisticsRepository dailyStatisticsRepository,
+            DailyStatisticsArchive dailyStatisticsArchive,
+            PlatformTransactionManager transactionManager,
+            @Value("${stats.archive.delete-batch-size:5000}") int deleteBatchSize) {
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.dailyStatisticsArchive = dailyStatisticsArchive;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        archiveSafely();
+    }
+
+    /**
+     * 주기 실행 (기본 매일 04:30 KST, 파티션 유지보수 이후)
+     */
+    @Scheduled(cron = "${stats.archive.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void archiveSafely() {
+        try {
+            archive();
+        } catch (DataAccessException | UncheckedIOException e) {
+            log.warn("daily_statistics 아카이브 이관 실패 - reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * horizon 이전 달을 오래된 순으로 이관
+     *
+     * @return 이관(또는 남은 행 삭제)한 달 수
+     */
+    public int archive() {
+        Optional<LocalDate> minDate = dailyStatisticsRepository.findMinDate();
+        if (minDate.isEmpty()) {
+            return 0;
+        }
+
+        YearMonth horizon = YearMonth.from(dailyStatisticsArchive.horizonStart());
+        int processed = 0;
+        for (YearMonth month = YearMonth.from(minDate.get()); month.isBefore(horizon); month = month.plusMonths(1)) {
+            if (!dailyStatisticsArchive.contains(month)) {
+                writeMonth(month);
+            }
+            deleteMonth(month);
+            processed++;
+        }
+        return processed;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void writeMonth(YearMonth month) {
+        Integer rowCount = readTransaction.execute(status -> {
+            try (Stream<DailyStatisticsRow> rows = dailyStatisticsRepository
+                    .streamRowsByDateBetweenOrderByUserIdAscDateAsc(month.atDay(1), month.atEndOfMonth())) {
+                return dailyStatisticsArchive.write(month, rows.iterator());
+            }
+        });
+        log.info("daily_statistics 아카이브 파일 기록 - month={}, rowCount={}", month, rowCount);
+    }
+
+    private void deleteMonth(YearMonth month) {
+        long deleted = 0;
+        int batch;
+        do {
+            batch = writeTransaction.execute(status -> dailyStatisticsRepository.deleteBatchByDateBetween(
+                    month.atDay(1), month.atEndOfMonth(), deleteBatchSize));
+            deleted += batch;
+        } while (batch >= deleteBatchSize);
+
+        if (deleted > 0) {
+            log.info("daily_statistics 아카이브 이관 행 삭제 - month={}, deleted={}", month, deleted);
+        }
+    }
+}
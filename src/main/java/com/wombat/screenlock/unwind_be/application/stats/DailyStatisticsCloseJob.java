@@ -0,0 +1,265 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DayCloseCheckpoint;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRow;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DayCloseCheckpointRepository;
+import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 하루 마감 Job (시간대별)
+ *
+ * <p>사용자가 다음 기록을 보내지 않으면 지난 날짜의 daily_statistics 행이 IN_PROGRESS로 남습니다.
+ * 이 Job은 시간대마다 자정이 지나면 전날까지의 IN_PROGRESS 행을 최종 상태로 확정합니다.</p>
+ *
+ * <h3>확정 규칙 (카운터 기준)</h3>
+ * <ul>
+ *   <li>스케줄 기록 있음 (완료 0건, 강제 종료 없음): FAILURE - 놓친 날</li>
+ *   <li>스케줄 기록 없음: NO_PLAN - 기록 없이 지난 날</li>
+ * </ul>
+ *
+ * <h3>처리 (cron 주기, 기본 15분 - 모든 UTC 오프셋의 자정을 포함)</h3>
+ * <ol>
+ *   <li>사용자가 있는 시간대마다 해당 시간대의 어제 날짜를 계산, 체크포인트가 이미 마감했으면 건너뜀</li>
+ *   <li>시간대 사용자를 ID Keyset으로 chunk-size명씩 순회하며
+ *       [어제 - lookback-days, 어제] 범위의 IN_PROGRESS 행을 JDBC 배치 UPDATE</li>
+ *   <li>청크마다 짧은 트랜잭션에서 UPDATE와 체크포인트 저장을 함께 커밋하고 pause-ms만큼 쉼</li>
+ * </ol>
+ *
+ * <p>UPDATE는 status = 'IN_PROGRESS' 조건을 두므로 그 사이 기록이 들어온 행은 건드리지 않고,
+ * 확정 후 늦게 도착한 완료 기록은 UPSERT가 다시 상태를 계산합니다.
+ * lookback 범위가 있어 Job이 며칠 멈췄거나 지난 날짜 기록이 늦게 들어와도 다음 마감에서 확정됩니다.
+ * 여러 노드에서 실행되어도 같은 행을 두 번 바꾸지 않습니다.</p>
+ *
+ * <p>IN_PROGRESS와 확정 상태는 모두 스트릭에서 성공이 아니므로 스트릭은 갱신하지 않고,
+ * 확정한 날짜로 StatsUpdatedEvent를 발행해 요약/히트맵 캐시를 무효화합니다.</p>
+ *
+ * @see DayCloseCheckpoint
+ */
+@Component
+@ConditionalOnProperty(prefix = "stats.day-close", name = "enabled", havingValue = "true")
+@Slf4j
+public class DailyStatisticsCloseJob {
+
+    static final String CLOSE_SQL = """
+            UPDATE daily_statistics
+            SET status = ?, updated_at = CURRENT_TIMESTAMP
+            WHERE user_id = ? AND date = ? AND status = 'IN_PROGRESS'
+            """;
+
+    private final UserRepository userRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final DayCloseCheckpointRepository dayCloseCheckpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int lookbackDays;
+    private final long pauseMillis;
+    private final Clock clock;
+
+    public DailyStatisticsCloseJob(
+            UserRepository userRepository,
+            DailyStatisticsRepository dailyStatisticsRepository,
+            DayCloseCheckpointRepository dayCloseCheckpointRepository,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${stats.day-close.chunk-size:500}") int chunkSize,
+            @Value("${stats.day-close.lookback-days:7}") int lookbackDays,
+            @Value("${stats.day-close.pause-ms:50}") long pauseMillis) {
+        this(userRepository, dailyStatisticsRepository, dayCloseCheckpointRepository, jdbcTemplate, eventPublisher,
+                new TransactionTemplate(transactionManager), chunkSize, lookbackDays, pauseMillis, Clock.systemUTC());
+    }
+
+    DailyStatisticsCloseJob(
+            UserRepository userRepository,
+            DailyStatisticsRepository dailyStatisticsRepository,
+            DayCloseCheckpointRepository dayCloseCheckpointRepository,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            int chunkSize,
+            int lookbackDays,
+            long pauseMillis,
+            Clock clock) {
+        this.userRepository = userRepository;
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.dayCloseCheckpointRepository = dayCloseCheckpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.lookbackDays = lookbackDays;
+        this.pauseMillis = pauseMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 주기 실행 (기본 15분마다)
+     */
+    @Scheduled(cron = "${stats.day-close.cron:0 */15 * * * *}", zone = "UTC")
+    public void closeSafely() {
+        try {
+            closeAll();
+        } catch (DataAccessException e) {
+            log.warn("하루 마감 실패 - reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 자정이 지난 모든 시간대 마감
+     *
+     * @return 확정한 행 수
+     */
+    public int closeAll() {
+        int closed = 0;
+        for (String timezone : userRepository.findDistinctTimezones()) {
+            ZoneId zone;
+            try {
+                zone = ZoneId.of(timezone);
+            } catch (DateTimeException e) {
+                log.warn("하루 마감 생략: 잘못된 시간대 - timezone={}", timezone);
+                continue;
+            }
+            closed += closeZone(timezone, LocalDate.now(clock.withZone(zone)).minusDays(1));
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * 한 시간대의 closingDate까지 마감 (체크포인트부터 재개)
+     *
+     * @param timezone 시간대 IANA ID
+     * @param closingDate 해당 시간대의 어제 날짜
+     * @return 확정한 행 수
+     */
+    int closeZone(String timezone, LocalDate closingDate) {
+        DayCloseCheckpoint checkpoint = dayCloseCheckpointRepository.findById(timezone)
+                .orElseGet(() -> DayCloseCheckpoint.start(timezone, closingDate));
+        if (checkpoint.isClosedThrough(closingDate)) {
+            return 0;
+        }
+        checkpoint.restart(closingDate);
+        if (checkpoint.getLastUserId() > 0) {
+            log.info("하루 마감 재개 - timezone={}, closingDate={}, lastUserId={}",
+                    timezone, closingDate, checkpoint.getLastUserId());
+        }
+
+        int closed = 0;
+        while (!checkpoint.getClosed()) {
+            DayCloseCheckpoint current = checkpoint;
+            ChunkResult result = transactionTemplate.execute(status -> closeChunk(current));
+            checkpoint = result.checkpoint();
+            closed += result.closed();
+            if (!checkpoint.getClosed() && !pause()) {
+                return closed;
+            }
+        }
+
+        log.info("하루 마감 완료 - timezone={}, closingDate={}, closedRows={}", timezone, closingDate, closed);
+        return closed;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 사용자 한 청크의 IN_PROGRESS 행 확정 및 체크포인트 저장 (단일 트랜잭션)
+     */
+    private ChunkResult closeChunk(DayCloseCheckpoint checkpoint) {
+        List<Long> userIds = userRepository.findIdsByTimezoneAfter(
+                checkpoint.getTimezone(), checkpoint.getLastUserId(), PageRequest.of(0, chunkSize));
+
+        int closed = 0;
+        if (!userIds.isEmpty()) {
+            LocalDate endDate = checkpoint.getClosingDate();
+            List<DailyStatisticsRow> rows = dailyStatisticsRepository.findInProgressRows(
+                    userIds, endDate.minusDays(lookbackDays), endDate);
+            closed = closeRows(rows);
+        }
+
+        Long lastUserId = userIds.isEmpty() ? checkpoint.getLastUserId() : userIds.get(userIds.size() - 1);
+        checkpoint.advance(lastUserId, userIds.size() < chunkSize);
+        return new ChunkResult(dayCloseCheckpointRepository.save(checkpoint), closed);
+    }
+
+    /**
+     * JDBC 배치 UPDATE 후 실제로 바뀐 행만 사용자별 변경 이벤트로 발행
+     */
+    private int closeRows(List<DailyStatisticsRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(CLOSE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, closedStatus(row).name());
+            ps.setLong(2, row.userId());
+            ps.setDate(3, Date.valueOf(row.date()));
+        });
+
+        Map<Long, Map<LocalDate, DailyStatus>> closedByUser = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            // 드라이버가 건수를 주지 않으면(SUCCESS_NO_INFO = -2) 바뀐 것으로 간주
+            if (counts[0][i] == 0) {
+                continue;
+            }
+            DailyStatisticsRow row = rows.get(i);
+            closedByUser.computeIfAbsent(row.userId(), id -> new TreeMap<>()).put(row.date(), closedStatus(row));
+        }
+        closedByUser.forEach((userId, statuses) -> eventPublisher.publishEvent(new StatsUpdatedEvent(userId, statuses)));
+        return closedByUser.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * 지난 날짜 IN_PROGRESS 행의 최종 상태
+     */
+    static DailyStatus closedStatus(DailyStatisticsRow row) {
+        return row.totalSchedules() > 0 ? DailyStatus.FAILURE : DailyStatus.NO_PLAN;
+    }
+
+    /**
+     * 청크 사이 대기 (DB 부하 완화)
+     *
+     * @return false면 인터럽트되어 중단 (체크포인트에서 재개)
+     */
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("하루 마감 중단, 다음 실행에서 재개");
+            return false;
+        }
+    }
+
+    private record ChunkResult(DayCloseCheckpoint checkpoint, int closed) {
+    }
+}
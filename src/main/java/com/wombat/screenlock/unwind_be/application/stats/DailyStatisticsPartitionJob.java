@@ -0,0 +1,224 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * daily_statistics 파티션 유지보수 Job
+ *
+ * <p>V8에서 월 단위 RANGE 파티션으로 바꾼 daily_statistics의 파티션을 관리합니다.
+ * 기동 시 1회, 이후 stats.partition.cron 주기로 실행됩니다.</p>
+ *
+ * <h3>작업</h3>
+ * <ul>
+ *   <li>미리 생성: 이번 달 ~ months-ahead개월 뒤까지 없는 월 파티션을 p_future를 분할(REORGANIZE)해 추가</li>
+ *   <li>분리: retention-months 이전 달에 끝나는 파티션을 같은 이름의 단독 테이블로 EXCHANGE 후 DROP
+ *       (archive=false이면 EXCHANGE 없이 DROP) - 대량 DELETE 대신 메타데이터 작업으로 끝남</li>
+ * </ul>
+ *
+ * <p>p_future가 비어 있는 동안 REORGANIZE는 행을 옮기지 않습니다.
+ * 여러 노드에서 동시에 실행되더라도 매번 information_schema를 다시 읽고
+ * DDL 실패는 로그만 남기므로, 다음 주기에 정상 상태로 수렴합니다.</p>
+ *
+ * <p>retention-months=0(기본)이면 분리하지 않습니다. 스트릭/롤업은 별도 테이블에 유지되지만
+ * 히트맵, 내보내기, 재계산은 daily_statistics 이력을 읽으므로 보존 기간은 신중히 정합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "stats.partition", name = "maintenance-enabled", havingValue = "true")
+@Slf4j
+public class DailyStatisticsPartitionJob implements ApplicationRunner {
+
+    /** 파티션 대상 테이블 */
+    static final String TABLE_NAME = "daily_statistics";
+
+    /** MAXVALUE 파티션 이름 */
+    static final String FUTURE_PARTITION = "p_future";
+
+    /** 파티션 기준 시간대 (기본 사용자 시간대) */
+    private static final ZoneId PARTITION_ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("p_history|p\\d{6}");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean archive;
+
+    public DailyStatisticsPartitionJob(
+            JdbcTemplate jdbcTemplate,
+            @Value("${stats.partition.months-ahead:3}") int monthsAhead,
+            @Value("${stats.partition.retention-months:0}") int retentionMonths,
+            @Value("${stats.partition.archive:true}") boolean archive) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archive = archive;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        maintainSafely();
+    }
+
+    /**
+     * 주기 실행 (기본 매일 04:10 KST)
+     */
+    @Scheduled(cron = "${stats.partition.cron:0 10 4 * * *}", zone = "Asia/Seoul")
+    public void maintainSafely() {
+        try {
+            maintain(LocalDate.now(PARTITION_ZONE));
+        } catch (DataAccessException e) {
+            log.warn("daily_statistics 파티션 유지보수 실패 - reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 파티션 미리 생성 및 보존 기간 지난 파티션 분리
+     *
+     * @param today 기준일
+     */
+    public void maintain(LocalDate today) {
+        List<PartitionInfo> partitions = findPartitions();
+        if (partitions.isEmpty()) {
+            log.warn("daily_statistics가 파티션 테이블이 아닙니다 - 유지보수 건너뜀");
+            return;
+        }
+
+        createAhead(partitions, YearMonth.from(today));
+        if (retentionMonths > 0) {
+            detachExpired(partitions, YearMonth.from(today).minusMonths(retentionMonths).atDay(1));
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 이번 달 ~ months-ahead개월 뒤 월 파티션 중 없는 것을 p_future 분할로 생성
+     */
+    private void createAhead(List<PartitionInfo> partitions, YearMonth current) {
+        if (partitions.stream().noneMatch(p -> FUTURE_PARTITION.equals(p.name()))) {
+            log.warn("p_future 파티션이 없어 월 파티션을 생성할 수 없습니다");
+            return;
+        }
+
+        LocalDate highestBound = partitions.stream()
+                .map(PartitionInfo::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDate::compareTo)
+                .orElse(LocalDate.MIN);
+
+        List<String> definitions = new ArrayList<>();
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            LocalDate bound = month.plusMonths(1).atDay(1);
+            if (!bound.isAfter(highestBound)) {
+                continue;
+            }
+            String name = month.format(NAME_FORMAT);
+            definitions.add("PARTITION " + name + " VALUES LESS THAN ('" + bound + "')");
+            created.add(name);
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("daily_statistics 파티션 생성 - partitions={}", created);
+    }
+
+    /**
+     * 상한이 cutoff 이하인(모든 행이 cutoff 이전인) 파티션 분리
+     *
+     * <p>RANGE 파티션의 첫 파티션은 하한이 없으므로, 앞쪽부터 순서대로 분리해야
+     * 남은 첫 파티션이 더 오래된 날짜를 받지 않습니다.</p>
+     */
+    private void detachExpired(List<PartitionInfo> partitions, LocalDate cutoff) {
+        for (PartitionInfo partition : partitions) {
+            if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                break;
+            }
+            if (!PARTITION_NAME.matcher(partition.name()).matches()) {
+                log.warn("알 수 없는 파티션 이름, 분리 중단 - partition={}", partition.name());
+                return;
+            }
+
+            if (archive) {
+                String archiveTable = TABLE_NAME + "_" + partition.name();
+                if (tableExists(archiveTable)) {
+                    // 이전 실행이 EXCHANGE 후 중단된 경우 - 다시 EXCHANGE하면 보관본이 되돌아오므로 수동 확인
+                    log.warn("보관 테이블이 이미 존재, 분리 중단 - table={}", archiveTable);
+                    return;
+                }
+                jdbcTemplate.execute("CREATE TABLE " + archiveTable + " LIKE " + TABLE_NAME);
+                jdbcTemplate.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+                jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " EXCHANGE PARTITION " + partition.name()
+                        + " WITH TABLE " + archiveTable);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + partition.name());
+            log.info("daily_statistics 파티션 분리 - partition={}, upperBound={}, archived={}",
+                    partition.name(), partition.upperBound(), archive);
+        }
+    }
+
+    /**
+     * 현재 파티션 목록 (순서대로)
+     */
+    private List<PartitionInfo> findPartitions() {
+        return jdbcTemplate.query("""
+                SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE()
+                AND TABLE_NAME = ?
+                AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """,
+                (rs, rowNum) -> new PartitionInfo(
+                        rs.getString("PARTITION_NAME"),
+                        parseBound(rs.getString("PARTITION_DESCRIPTION"))),
+                TABLE_NAME);
+    }
+
+    private boolean tableExists(String tableName) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA = DATABASE()
+                AND TABLE_NAME = ?
+                """, Integer.class, tableName);
+        return count != null && count > 0;
+    }
+
+    /**
+     * RANGE COLUMNS 상한 파싱 ('2026-02-01' → 2026-02-01, MAXVALUE → null)
+     */
+    static LocalDate parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").trim());
+    }
+
+    /**
+     * 파티션 이름과 상한 (MAXVALUE면 null)
+     */
+    record PartitionInfo(String name, LocalDate upperBound) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+/**
+ * 일별 통계 증분값
+ *
+ * <p>하나 이상의 통계 이벤트(완료/강제 종료/권한 해제)를 userId + date 단위로 합산한 값입니다.
+ * DailyStatisticsRepository.upsertIncrement()에 한 번에 반영됩니다.</p>
+ *
+ * @param totalSchedules 전체 스케줄 수 증분
+ * @param completedSchedules 완료된 스케줄 수 증분
+ * @param focusTime 집중 시간 증분 (초)
+ * @param forceQuitCount 강제 종료 횟수 증분
+ * @param allInMode 올인 모드 사용 여부
+ */
+public record DailyStatsDelta(
+    int totalSchedules,
+    int completedSchedules,
+    int focusTime,
+    int forceQuitCount,
+    boolean allInMode
+) {
+    /**
+     * 스케줄 완료 1건에 해당하는 증분값
+     */
+    public static DailyStatsDelta completion(boolean completed, int focusTime, boolean allInMode) {
+        return new DailyStatsDelta(1, completed ? 1 : 0, focusTime, 0, allInMode);
+    }
+
+    /**
+     * 강제 종료 1건에 해당하는 증분값
+     */
+    public static DailyStatsDelta forceQuit() {
+        return new DailyStatsDelta(0, 0, 0, 1, false);
+    }
+
+    /**
+     * 권한 해제 1건에 해당하는 증분값
+     *
+     * <p>일별 상태는 카운터만으로 결정되므로(스트릭/롤업이 이 규칙에 의존),
+     * 권한 해제도 강제 종료와 같은 패널티로 force_quit_count에 집계하여 FAILURE로 만듭니다.
+     * 두 사건의 구분은 revocation_logs에 남습니다.</p>
+     */
+    public static DailyStatsDelta revocation() {
+        return forceQuit();
+    }
+
+    /**
+     * 두 증분값 합산
+     */
+    public DailyStatsDelta merge(DailyStatsDelta other) {
+        return new DailyStatsDelta(
+            totalSchedules + other.totalSchedules,
+            completedSchedules + other.completedSchedules,
+            focusTime + other.focusTime,
+            forceQuitCount + other.forceQuitCount,
+            allInMode || other.allInMode
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.UserStreakState;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * daily_statistics 이력에서 다시 계산한 파생 통계
+ *
+ * <p>스트릭 상태와 주간/월간/누적 롤업을 이력 한 번 순회로 계산합니다.
+ * StatsRebuildJob이 저장값과의 차이 비교와 덮어쓰기에 사용합니다.</p>
+ *
+ * @param streak 스트릭 상태 (저장되지 않은 상태)
+ * @param weekly 주 시작일(월요일) → 주간 합계
+ * @param monthly 월 1일 → 월간 합계
+ * @param cumulative 기록이 있는 날짜 → 그 날짜까지의 누적 합계
+ */
+public record DerivedStatistics(
+    UserStreakState streak,
+    Map<LocalDate, StatsRollupDelta> weekly,
+    Map<LocalDate, StatsRollupDelta> monthly,
+    Map<LocalDate, StatsRollupDelta> cumulative
+) {
+    /**
+     * 전체 이력에서 파생 통계 계산
+     *
+     * @param userId 사용자 ID
+     * @param history 날짜 오름차순 일별 통계
+     */
+    public static DerivedStatistics compute(Long userId, List<DailyStatisticsView> history) {
+        Map<LocalDate, StatsRollupDelta> weekly = new TreeMap<>();
+        Map<LocalDate, StatsRollupDelta> monthly = new TreeMap<>();
+        Map<LocalDate, StatsRollupDelta> cumulative = new TreeMap<>();
+        StatsRollupDelta running = new StatsRollupDelta(0, 0, 0, 0, 0);
+        for (DailyStatisticsView day : history) {
+            StatsRollupDelta rollup = StatsRollupDelta.of(day);
+            weekly.merge(weekStart(day.date()), rollup, StatsRollupDelta::merge);
+            monthly.merge(monthStart(day.date()), rollup, StatsRollupDelta::merge);
+            running = running.merge(rollup);
+            cumulative.put(day.date(), running);
+        }
+        return new DerivedStatistics(UserStreakState.fromHistory(userId, history), weekly, monthly, cumulative);
+    }
+
+    /**
+     * 날짜가 속한 주의 시작일 (월요일)
+     */
+    public static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * 날짜가 속한 달의 1일
+     */
+    public static LocalDate monthStart(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+}
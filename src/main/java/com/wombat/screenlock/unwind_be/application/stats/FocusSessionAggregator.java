@@ -0,0 +1,151 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.FocusSession;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.FocusSessionRepository;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 집중 세션 비동기 집계기
+ *
+ * <p>stats.focus-session.async-aggregation=true일 때 요청 경로는 focus_sessions INSERT만 하고,
+ * 이 집계기가 집계 대기 세션을 배치로 daily_statistics에 반영합니다.</p>
+ *
+ * <h3>처리 (aggregation-interval-ms 주기)</h3>
+ * <ol>
+ *   <li>집계 대기 세션을 id 순으로 batch-size만큼 조회</li>
+ *   <li>사용자별로 날짜별/스케줄별 DailyStatsDelta 합산</li>
+ *   <li>사용자마다 한 트랜잭션에서 세션을 집계 완료로 표시하고
+ *       StatsService.applyDeltas / ScheduleStatsService.apply로 반영</li>
+ * </ol>
+ *
+ * <p>표시와 반영이 같은 트랜잭션이므로 세션은 정확히 한 번 집계됩니다.
+ * 여러 노드가 같은 세션을 잡으면 표시 건수가 모자란 쪽이 롤백합니다.
+ * 사용자 삭제/콜드 날짜처럼 재시도해도 실패하는 세션은 집계 제외로 표시하고 로그를 남깁니다.</p>
+ *
+ * @see FocusSessionService
+ */
+@Component
+@ConditionalOnProperty(prefix = "stats.focus-session", name = "async-aggregation", havingValue = "true")
+@Slf4j
+public class FocusSessionAggregator {
+
+    private final FocusSessionRepository focusSessionRepository;
+    private final StatsService statsService;
+    private final ScheduleStatsService scheduleStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Clock clock;
+
+    public FocusSessionAggregator(
+            FocusSessionRepository focusSessionRepository,
+            StatsService statsService,
+            ScheduleStatsService scheduleStatsService,
+            PlatformTransactionManager transactionManager,
+            @Value("${stats.focus-session.batch-size:1000}") int batchSize) {
+        this(focusSessionRepository, statsService, scheduleStatsService, new TransactionTemplate(transactionManager),
+                batchSize, Clock.systemDefaultZone());
+    }
+
+    FocusSessionAggregator(
+            FocusSessionRepository focusSessionRepository,
+            StatsService statsService,
+            ScheduleStatsService scheduleStatsService,
+            TransactionTemplate transactionTemplate,
+            int batchSize,
+            Clock clock) {
+        this.focusSessionRepository = focusSessionRepository;
+        this.statsService = statsService;
+        this.scheduleStatsService = scheduleStatsService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 주기 실행 (기본 1초, 대기 세션이 batch-size 이상이면 연속 처리)
+     */
+    @Scheduled(fixedDelayString = "${stats.focus-session.aggregation-interval-ms:1000}")
+    public void aggregateSafely() {
+        try {
+            while (aggregate() >= batchSize) {
+                // 밀린 세션을 모두 처리할 때까지 반복
+            }
+        } catch (DataAccessException e) {
+            log.warn("집중 세션 집계 실패 - reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 집계 대기 세션 한 배치 처리
+     *
+     * @return 조회한 세션 수
+     */
+    public int aggregate() {
+        List<FocusSession> pending = focusSessionRepository.findByAggregatedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<FocusSession>> sessionsByUser = new LinkedHashMap<>();
+        for (FocusSession session : pending) {
+            sessionsByUser.computeIfAbsent(session.getUserId(), id -> new ArrayList<>()).add(session);
+        }
+        sessionsByUser.forEach(this::aggregateUser);
+
+        log.debug("집중 세션 집계 - sessionCount={}, userCount={}", pending.size(), sessionsByUser.size());
+        return pending.size();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 사용자 한 명의 세션 반영 (단일 트랜잭션)
+     */
+    private void aggregateUser(Long userId, List<FocusSession> sessions) {
+        List<Long> ids = sessions.stream().map(FocusSession::getId).toList();
+        Map<LocalDate, DailyStatsDelta> deltasByDate = new TreeMap<>();
+        Map<String, DailyStatsDelta> deltasBySchedule = new TreeMap<>();
+        for (FocusSession session : sessions) {
+            DailyStatsDelta delta = DailyStatsDelta.completion(
+                    session.getCompleted(), session.getFocusTime(), session.getAllInMode());
+            deltasByDate.merge(session.getDate(), delta, DailyStatsDelta::merge);
+            deltasBySchedule.merge(session.getScheduleId(), delta, DailyStatsDelta::merge);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int marked = focusSessionRepository.markAggregated(ids, LocalDateTime.now(clock));
+                if (marked != ids.size()) {
+                    // 다른 노드가 먼저 집계
+                    status.setRollbackOnly();
+                    return;
+                }
+                statsService.applyDeltas(userId, deltasByDate);
+                scheduleStatsService.apply(userId, deltasBySchedule);
+            });
+        } catch (BusinessException e) {
+            log.error("집중 세션 집계 불가, 집계 제외 처리 - userId={}, sessionIds={}, errorCode={}",
+                    userId, ids, e.getErrorCode());
+            transactionTemplate.executeWithoutResult(status ->
+                    focusSessionRepository.markAggregated(ids, LocalDateTime.now(clock)));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.CompletionRequest;
+import com.wombat.screenlock.unwind_be.api.stats.dto.StatsEventRequest;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.FocusSession;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.FocusSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 집중 세션 로그 서비스
+ *
+ * <p>완료 통계 요청을 focus_sessions에 원본 그대로 남깁니다.
+ * StatsService의 기록 트랜잭션 안에서 호출됩니다.</p>
+ *
+ * <h3>집계 모드 (stats.focus-session.async-aggregation)</h3>
+ * <ul>
+ *   <li>false(기본): 세션을 집계 완료로 기록하고, 호출자가 같은 트랜잭션에서 daily_statistics에 바로 반영</li>
+ *   <li>true: 세션만 집계 대기로 기록하고 반환 (요청 경로는 INSERT 1회),
+ *       FocusSessionAggregator가 배치로 daily_statistics에 반영</li>
+ * </ul>
+ *
+ * <p>기록한 세션은 FocusSessionsRecordedEvent로 발행하여 커밋 이후 시간대별 분포에 반영합니다.</p>
+ *
+ * @see FocusSessionAggregator
+ * @see HourlyFocusService
+ */
+@Service
+@Transactional(readOnly = true)
+public class FocusSessionService {
+
+    private final FocusSessionRepository focusSessionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean asyncAggregation;
+    private final Clock clock;
+
+    public FocusSessionService(
+            FocusSessionRepository focusSessionRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${stats.focus-session.async-aggregation:false}") boolean asyncAggregation) {
+        this(focusSessionRepository, eventPublisher, asyncAggregation, Clock.systemDefaultZone());
+    }
+
+    FocusSessionService(
+            FocusSessionRepository focusSessionRepository,
+            ApplicationEventPublisher eventPublisher,
+            boolean asyncAggregation,
+            Clock clock) {
+        this.focusSessionRepository = focusSessionRepository;
+        this.eventPublisher = eventPublisher;
+        this.asyncAggregation = asyncAggregation;
+        this.clock = clock;
+    }
+
+    /**
+     * 완료 요청 한 건을 세션으로 기록
+     *
+     * @param userId 사용자 ID
+     * @param request 완료 통계 요청
+     * @return true: 집계를 집계기에 맡김 (호출자는 daily_statistics를 갱신하지 않음)
+     */
+    @Transactional
+    public boolean append(Long userId, CompletionRequest request) {
+        FocusSession session = focusSessionRepository.save(FocusSession.builder()
+                .userId(userId)
+                .scheduleId(request.scheduleId())
+                .date(request.date())
+                .startedAt(request.startedAt())
+                .endedAt(request.endedAt())
+                .focusTime(request.focusTime())
+                .completed(request.completed())
+                .allInMode(request.isAllInMode())
+                .aggregatedAt(aggregatedAt())
+                .build());
+        eventPublisher.publishEvent(new FocusSessionsRecordedEvent(userId, List.of(session)));
+        return asyncAggregation;
+    }
+
+    /**
+     * 일괄 전송의 COMPLETION 이벤트를 세션으로 기록
+     *
+     * @param userId 사용자 ID
+     * @param completions COMPLETION 이벤트 목록
+     * @return true: 집계를 집계기에 맡김 (호출자는 COMPLETION 증분을 반영하지 않음)
+     */
+    @Transactional
+    public boolean appendAll(Long userId, List<StatsEventRequest> completions) {
+        if (completions.isEmpty()) {
+            return asyncAggregation;
+        }
+        LocalDateTime aggregatedAt = aggregatedAt();
+        List<FocusSession> sessions = focusSessionRepository.saveAll(completions.stream()
+                .map(event -> FocusSession.builder()
+                        .userId(userId)
+                        .scheduleId(event.scheduleId())
+                        .date(event.date())
+                        .startedAt(event.startedAt())
+                        .endedAt(event.endedAt())
+                        .focusTime(event.focusTime())
+                        .completed(event.completed())
+                        .allInMode(event.isAllInMode())
+                        .aggregatedAt(aggregatedAt)
+                        .build())
+                .toList());
+        eventPublisher.publishEvent(new FocusSessionsRecordedEvent(userId, sessions));
+        return asyncAggregation;
+    }
+
+    /**
+     * 동기 모드면 기록 시각을 집계 시각으로, 비동기 모드면 null (집계 대기)
+     */
+    private LocalDateTime aggregatedAt() {
+        return asyncAggregation ? null : LocalDateTime.now(clock);
+    }
+}
@@ -0,0 +1,19 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.FocusSession;
+
+import java.util.List;
+
+/**
+ * 집중 세션 기록 이벤트
+ * 
+ * <p>FocusSessionService가 세션을 기록한 트랜잭션에서 발행되며,
+ * 커밋 이후 세션 단위 파생 통계(시간대별 분포) 갱신에 사용됩니다.
+ * 집계 모드와 관계없이 기록 시점에 한 번 발행됩니다.</p>
+ * 
+ * @param userId 사용자 ID
+ * @param sessions 이번 트랜잭션에서 기록한 세션 목록
+ * @see HourlyFocusService
+ */
+public record FocusSessionsRecordedEvent(Long userId, List<FocusSession> sessions) {
+}
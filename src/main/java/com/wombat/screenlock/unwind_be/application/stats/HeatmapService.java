@@ -0,0 +1,166 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.HeatmapResponse;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCache;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCacheManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 연간 히트맵 서비스
+ *
+ * <p>연도의 일별 상태를 하루 2비트로 패킹하여 제공합니다 (잔디 화면용).
+ * daily_statistics를 idx_daily_statistics_user_date_desc 범위로 한 번만 읽습니다.</p>
+ *
+ * <h3>캐시</h3>
+ * <ul>
+ *   <li>지난 연도(사용자 시간대 기준): 2단계 캐시에 만료 없이 보관</li>
+ *   <li>올해: 매일 바뀌므로 캐시하지 않고 매번 계산</li>
+ *   <li>지난 날짜로 기록이 커밋되면 해당 연도 캐시를 삭제 (늦게 동기화된 이벤트 대비)</li>
+ * </ul>
+ *
+ * @see HeatmapResponse
+ */
+@Service
+@Slf4j
+public class HeatmapService {
+
+    /** 캐시 이름 (Redis Key 접두사) */
+    static final String CACHE_NAME = "stats_heatmap";
+
+    /** 조회 가능한 최소 연도 */
+    private static final int MIN_YEAR = 2000;
+
+    /** 하루당 비트 수 */
+    private static final int BITS_PER_DAY = 2;
+
+    /** 바이트당 일수 */
+    private static final int DAYS_PER_BYTE = 8 / BITS_PER_DAY;
+
+    private final TwoLevelCache<HeatmapResponse> cache;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final UserZoneResolver userZoneResolver;
+
+    public HeatmapService(
+            TwoLevelCacheManager cacheManager,
+            DailyStatisticsRepository dailyStatisticsRepository,
+            UserZoneResolver userZoneResolver,
+            @Value("${stats.heatmap.local-ttl-seconds:3600}") long localTtlSeconds,
+            @Value("${stats.heatmap.local-max-size:10000}") int localMaxSize) {
+        this(cacheManager.create(CACHE_NAME, HeatmapResponse.class,
+                        localMaxSize, Duration.ofSeconds(localTtlSeconds)),
+                dailyStatisticsRepository, userZoneResolver);
+    }
+
+    HeatmapService(
+            TwoLevelCache<HeatmapResponse> cache,
+            DailyStatisticsRepository dailyStatisticsRepository,
+            UserZoneResolver userZoneResolver) {
+        this.cache = cache;
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.userZoneResolver = userZoneResolver;
+    }
+
+    /**
+     * 연간 히트맵 조회
+     *
+     * @param userId 사용자 ID
+     * @param year 연도 (null이면 사용자 시간대 기준 올해)
+     * @return HeatmapResponse 2비트 상태 배열
+     * @throws BusinessException INVALID_INPUT - 지원하지 않는 연도
+     */
+    public HeatmapResponse getYear(Long userId, Integer year) {
+        int currentYear = userZoneResolver.today(userId).getYear();
+        int targetYear = (year != null) ? year : currentYear;
+        if (targetYear < MIN_YEAR || targetYear > currentYear + 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        if (targetYear >= currentYear) {
+            return build(userId, targetYear);
+        }
+
+        Optional<HeatmapResponse> cached = cache.get(key(userId, targetYear));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        HeatmapResponse response = build(userId, targetYear);
+        cache.put(key(userId, targetYear), response);
+        return response;
+    }
+
+    /**
+     * 지난 연도 날짜로 기록이 커밋되면 해당 연도 캐시 삭제
+     *
+     * @param event 통계 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatsUpdated(StatsUpdatedEvent event) {
+        if (event.dailyStatuses().isEmpty()) {
+            return;
+        }
+        int currentYear = userZoneResolver.today(event.userId()).getYear();
+        event.dailyStatuses().keySet().stream()
+                .mapToInt(LocalDate::getYear)
+                .filter(year -> year < currentYear)
+                .distinct()
+                .forEach(year -> cache.evict(key(event.userId(), year)));
+    }
+
+    /**
+     * 상태의 2비트 코드 (0=기록 없음, 1=SUCCESS, 2=WARNING, 3=FAILURE)
+     */
+    static int code(DailyStatus status) {
+        return switch (status) {
+            case SUCCESS -> 1;
+            case WARNING -> 2;
+            case FAILURE -> 3;
+            case NO_PLAN, IN_PROGRESS -> 0;
+        };
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 연도의 일별 통계로 2비트 상태 배열 생성
+     */
+    private HeatmapResponse build(Long userId, int year) {
+        int days = Year.of(year).length();
+        List<DailyStatisticsView> views = dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                userId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+
+        byte[] packed = new byte[(days + DAYS_PER_BYTE - 1) / DAYS_PER_BYTE];
+        for (DailyStatisticsView view : views) {
+            int day = view.date().getDayOfYear() - 1;
+            int shift = 8 - BITS_PER_DAY * (day % DAYS_PER_BYTE + 1);
+            packed[day / DAYS_PER_BYTE] |= (byte) (code(view.status()) << shift);
+        }
+        log.debug("히트맵 계산 - userId={}, year={}, records={}", userId, year, views.size());
+        return new HeatmapResponse(year, days, Base64.getEncoder().encodeToString(packed));
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @return 형식: "{userId}:{year}"
+     */
+    private String key(Long userId, int year) {
+        return userId + ":" + year;
+    }
+}
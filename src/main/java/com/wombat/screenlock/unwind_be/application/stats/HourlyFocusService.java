@@ -0,0 +1,168 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.HourlyFocusResponse;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.FocusSession;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.HourlyFocusCounters;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.HourlyFocusRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시간대별 집중 분포 서비스
+ *
+ * <p>집중 시간을 사용자 시간대 기준 0~23시 24칸으로 누적합니다 (최근 N일 / 전체).
+ * 통계 화면을 열 때마다 세션 행을 훑지 않도록, 세션 기록이 커밋되면 Redis 고정 폭 카운터에
+ * 증분만 더하고 조회는 MGET 한 번으로 끝냅니다.</p>
+ *
+ * <h3>시간 배분</h3>
+ * <ul>
+ *   <li>세션 구간 [startedAt, endedAt]과 겹친 길이에 비례해 focusTime을 시간 칸으로 나눔
+ *       (누적 비율로 나누어 합계가 focusTime과 같음)</li>
+ *   <li>한쪽 시각만 있으면 focusTime으로 다른 쪽을 계산</li>
+ *   <li>시각이 모두 없는 세션은 배분할 수 없으므로 제외, 하루보다 긴 구간은 마지막 24시간만 사용</li>
+ *   <li>날짜 칸은 각 시간의 사용자 시간대 날짜 (자정을 넘는 세션은 두 날짜로 나뉨)</li>
+ * </ul>
+ *
+ * <p>Redis 갱신 실패는 세션 기록을 되돌리지 않고 로그만 남깁니다.</p>
+ *
+ * @see HourlyFocusRepository
+ * @see FocusSessionsRecordedEvent
+ */
+@Service
+@Slf4j
+public class HourlyFocusService {
+
+    private static final int HOURS = HourlyFocusRepository.HOURS;
+
+    /** 배분할 최대 구간 */
+    private static final Duration MAX_SPAN = Duration.ofDays(1);
+
+    private final HourlyFocusRepository hourlyFocusRepository;
+    private final UserZoneResolver userZoneResolver;
+    private final int recentDays;
+    private final Duration dayTtl;
+
+    public HourlyFocusService(
+            HourlyFocusRepository hourlyFocusRepository,
+            UserZoneResolver userZoneResolver,
+            @Value("${stats.hourly.recent-days:30}") int recentDays) {
+        this.hourlyFocusRepository = hourlyFocusRepository;
+        this.userZoneResolver = userZoneResolver;
+        this.recentDays = recentDays;
+        // 시간대 차이와 늦게 도착한 세션을 감안해 조회 구간보다 이틀 더 보관
+        this.dayTtl = Duration.ofDays(recentDays + 2L);
+    }
+
+    /**
+     * 시간대별 집중 분포 조회 (최근 recent-days일 + 전체)
+     *
+     * @param userId 사용자 ID
+     * @return HourlyFocusResponse
+     */
+    public HourlyFocusResponse getHourly(Long userId) {
+        LocalDate today = userZoneResolver.today(userId);
+        List<LocalDate> dates = new ArrayList<>(recentDays);
+        for (int i = recentDays - 1; i >= 0; i--) {
+            dates.add(today.minusDays(i));
+        }
+        HourlyFocusCounters counters = hourlyFocusRepository.find(userId, dates);
+        return new HourlyFocusResponse(recentDays, toList(counters.recent()), toList(counters.allTime()));
+    }
+
+    /**
+     * 세션 기록이 커밋되면 시간대 카운터에 반영
+     *
+     * @param event 집중 세션 기록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionsRecorded(FocusSessionsRecordedEvent event) {
+        ZoneId zone = userZoneResolver.zoneOf(event.userId());
+        Map<LocalDate, long[]> secondsByDate = new TreeMap<>();
+        for (FocusSession session : event.sessions()) {
+            distribute(session, zone, secondsByDate);
+        }
+        if (secondsByDate.isEmpty()) {
+            return;
+        }
+        try {
+            hourlyFocusRepository.increment(event.userId(), secondsByDate, dayTtl);
+        } catch (DataAccessException e) {
+            log.warn("시간대별 집중 분포 갱신 실패 - userId={}, reason={}", event.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 세션 집중 시간을 겹친 길이에 비례해 날짜별 시간 칸에 배분
+     */
+    static void distribute(FocusSession session, ZoneId zone, Map<LocalDate, long[]> secondsByDate) {
+        long focusTime = session.getFocusTime();
+        if (focusTime <= 0 || (session.getStartedAt() == null && session.getEndedAt() == null)) {
+            return;
+        }
+        Instant end = session.getEndedAt() != null
+                ? session.getEndedAt() : session.getStartedAt().plusSeconds(focusTime);
+        Instant start = session.getStartedAt() != null
+                ? session.getStartedAt() : end.minusSeconds(focusTime);
+        if (start.isAfter(end)) {
+            return;
+        }
+        if (Duration.between(start, end).compareTo(MAX_SPAN) > 0) {
+            start = end.minus(MAX_SPAN);
+        }
+
+        long spanMillis = Duration.between(start, end).toMillis();
+        if (spanMillis == 0) {
+            ZonedDateTime at = start.atZone(zone);
+            secondsByDate.computeIfAbsent(at.toLocalDate(), date -> new long[HOURS])[at.getHour()] += focusTime;
+            return;
+        }
+
+        long elapsedMillis = 0;
+        long assigned = 0;
+        ZonedDateTime hourStart = start.atZone(zone).truncatedTo(ChronoUnit.HOURS);
+        while (hourStart.toInstant().isBefore(end)) {
+            ZonedDateTime hourEnd = hourStart.plusHours(1);
+            Instant from = max(start, hourStart.toInstant());
+            Instant to = min(end, hourEnd.toInstant());
+            elapsedMillis += Duration.between(from, to).toMillis();
+            long cumulative = focusTime * elapsedMillis / spanMillis;
+            if (cumulative > assigned) {
+                secondsByDate.computeIfAbsent(hourStart.toLocalDate(), date -> new long[HOURS])
+                        [hourStart.getHour()] += cumulative - assigned;
+                assigned = cumulative;
+            }
+            hourStart = hourEnd;
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static List<Long> toList(long[] counters) {
+        return Arrays.stream(counters).boxed().toList();
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,300 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.LeaderboardEntryDto;
+import com.wombat.screenlock.unwind_be.api.stats.dto.LeaderboardRankResponse;
+import com.wombat.screenlock.unwind_be.api.stats.dto.LeaderboardResponse;
+import com.wombat.screenlock.unwind_be.api.stats.dto.LeaderboardWindow;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.UserStreakState;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.WeeklyStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.LeaderboardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 리더보드 서비스
+ * 
+ * <p>Redis Sorted Set으로 전체 스트릭 순위와 주간 집중 시간 순위를 유지합니다.
+ * daily_statistics 전체를 GROUP BY 하지 않고 O(log n)으로 순위를 조회합니다.</p>
+ * 
+ * <h3>갱신</h3>
+ * <ul>
+ *   <li>통계 기록 커밋 후 StatsUpdatedEvent로 갱신 (롤백된 기록은 반영되지 않음)</li>
+ *   <li>점수는 증분이 아니라 DB 값(user_streak_state, weekly_statistics)으로 덮어쓰므로 재시도/누락에 강함</li>
+ *   <li>주간 키: 이번 주/지난 주만 갱신, 주 종료 7일 후 만료</li>
+ * </ul>
+ * 
+ * <h3>끊긴 스트릭</h3>
+ * <p>기록 없이 하루가 지나면 스트릭이 끊기지만 ZSET 점수는 남아 있습니다.
+ * 상위 목록 조회 시 마지막 성공일이 어제 이전인 회원을 제거하고,
+ * 내 순위 조회 시에도 내 위의 끊긴 회원을 먼저 제거하여 두 API의 순위가 같도록 합니다.
+ * 마지막 성공일은 사용자 시간대 날짜이므로 "어제"도 회원마다 UserZoneResolver로 판단합니다.</p>
+ * 
+ * <h3>주간 키 시간대</h3>
+ * <p>주간 리더보드는 모든 회원이 한 ZSET을 공유하므로 키는 한 시간대로 정해야 합니다.
+ * 회원의 점수는 자기 시간대의 월~일 합계이고, 어느 주가 "이번 주"인지와 키 만료는
+ * 기본 시간대(Asia/Seoul) 기준으로 정합니다.</p>
+ * 
+ * @see LeaderboardRepository
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardService {
+
+    /** 조회 가능한 최대 순위 수 */
+    static final int MAX_LIMIT = 100;
+
+    /** 주간 키 기준 시간대 (모든 회원 공유) */
+    private static final ZoneId WEEKLY_ZONE = UserZoneResolver.DEFAULT_ZONE;
+
+    /** 주 종료 후 주간 리더보드 보관 일수 */
+    private static final int WEEKLY_RETENTION_DAYS = 7;
+
+    /** 내 순위 위의 끊긴 스트릭을 정리할 때 한 번에 읽는 회원 수 */
+    private static final int STALE_SCAN_BATCH = MAX_LIMIT * 2;
+
+    private final LeaderboardRepository leaderboardRepository;
+    private final StreakService streakService;
+    private final WeeklyStatisticsRepository weeklyStatisticsRepository;
+    private final UserZoneResolver userZoneResolver;
+
+    /**
+     * 커밋된 통계 변경을 리더보드에 반영
+     * 
+     * @param event 통계 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatsUpdated(StatsUpdatedEvent event) {
+        Long userId = event.userId();
+        LocalDate today = LocalDate.now(WEEKLY_ZONE);
+        try {
+            updateStreak(userId);
+
+            Set<LocalDate> weekStarts = new TreeSet<>();
+            event.dailyStatuses().keySet().forEach(date -> weekStarts.add(weekStart(date)));
+            for (LocalDate weekStart : weekStarts) {
+                updateWeeklyFocus(userId, weekStart, today);
+            }
+        } catch (DataAccessException e) {
+            log.warn("리더보드 갱신 실패 - userId={}, reason={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 상위 순위 조회
+     * 
+     * @param window 기간 구분
+     * @param limit 조회 개수 (1 ~ 100)
+     * @return LeaderboardResponse 상위 순위 목록
+     * @throws BusinessException INVALID_INPUT - limit 범위 초과
+     */
+    public LeaderboardResponse getLeaderboard(LeaderboardWindow window, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        List<LeaderboardEntryDto> entries = switch (window) {
+            case ALL -> topStreaks(limit);
+            case WEEK -> toEntries(leaderboardRepository.findWeeklyFocusRange(
+                    weekKey(weekStart(LocalDate.now(WEEKLY_ZONE))), 0, limit - 1L));
+        };
+        return new LeaderboardResponse(window.name().toLowerCase(), entries);
+    }
+
+    /**
+     * 내 순위 조회
+     * 
+     * @param window 기간 구분
+     * @param userId 인증된 사용자 ID
+     * @return LeaderboardRankResponse 순위 (기록이 없으면 rank = null)
+     */
+    public LeaderboardRankResponse getMyRank(LeaderboardWindow window, Long userId) {
+        Optional<Long> rank;
+        Optional<Double> score;
+        switch (window) {
+            case ALL -> {
+                String member = String.valueOf(userId);
+                Long lastSuccessDay = leaderboardRepository.findLastSuccessDays(List.of(member)).get(0);
+                if (!isLive(userId, lastSuccessDay)) {
+                    return LeaderboardRankResponse.unranked(window);
+                }
+                // 상위 목록과 같은 순위가 되도록 내 위의 끊긴 스트릭을 먼저 제거
+                rank = leaderboardRepository.findStreakRank(userId)
+                        .map(found -> found - removeStaleStreaksAbove(found));
+                score = leaderboardRepository.findStreakScore(userId);
+            }
+            case WEEK -> {
+                String weekKey = weekKey(weekStart(LocalDate.now(WEEKLY_ZONE)));
+                rank = leaderboardRepository.findWeeklyFocusRank(weekKey, userId);
+                score = leaderboardRepository.findWeeklyFocusScore(weekKey, userId);
+            }
+            default -> throw new IllegalStateException("Unexpected window: " + window);
+        }
+
+        if (rank.isEmpty()) {
+            return LeaderboardRankResponse.unranked(window);
+        }
+        return new LeaderboardRankResponse(window.name().toLowerCase(),
+                rank.get() + 1, score.map(Double::longValue).orElse(0L));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 스트릭 점수 갱신 (끊긴 스트릭은 제거)
+     */
+    private void updateStreak(Long userId) {
+        UserStreakState state = streakService.getStreakState(userId);
+        LocalDate lastSuccessDate = state.getLastSuccessDate();
+        if (lastSuccessDate == null || !isLive(userId, lastSuccessDate.toEpochDay())) {
+            leaderboardRepository.saveStreak(userId, 0, 0L);
+            return;
+        }
+        leaderboardRepository.saveStreak(userId, state.getCurrentStreak(), lastSuccessDate.toEpochDay());
+    }
+
+    /**
+     * 주간 집중 시간 갱신 (보관 기간이 지난 주는 건너뜀)
+     * 
+     * <p>기록 트랜잭션에서 함께 갱신된 weekly_statistics 행 하나를 읽습니다.</p>
+     */
+    private void updateWeeklyFocus(Long userId, LocalDate weekStart, LocalDate today) {
+        LocalDate expireDate = weekStart.plusDays(7 + WEEKLY_RETENTION_DAYS);
+        if (!expireDate.isAfter(today)) {
+            return;
+        }
+        long focusTime = weeklyStatisticsRepository.findByUserIdAndWeekStart(userId, weekStart)
+                .map(WeeklyStatistics::getTotalFocusTime)
+                .orElse(0);
+        Instant expireAt = expireDate.atStartOfDay(WEEKLY_ZONE).toInstant();
+        leaderboardRepository.saveWeeklyFocus(weekKey(weekStart), userId, focusTime, expireAt);
+    }
+
+    /**
+     * 끊긴 스트릭을 정리하며 상위 스트릭 조회
+     */
+    private List<LeaderboardEntryDto> topStreaks(int limit) {
+        List<LeaderboardEntryDto> entries = new ArrayList<>(limit);
+        long start = 0;
+        int batchSize = limit * 2;
+        while (entries.size() < limit) {
+            List<TypedTuple<String>> tuples = leaderboardRepository.findStreakRange(start, start + batchSize - 1);
+            if (tuples.isEmpty()) {
+                break;
+            }
+
+            List<String> stale = removeStale(tuples);
+            for (TypedTuple<String> tuple : tuples) {
+                if (entries.size() < limit && !stale.contains(tuple.getValue())) {
+                    entries.add(toEntry(entries.size() + 1, tuple));
+                }
+            }
+
+            if (tuples.size() < batchSize) {
+                break;
+            }
+            // 제거된 회원만큼 뒤 순위가 앞당겨짐
+            start += tuples.size() - stale.size();
+        }
+        return entries;
+    }
+
+    /**
+     * 순위 rank(0부터) 위의 끊긴 스트릭 제거
+     * 
+     * @return 제거한 회원 수 (그만큼 순위가 앞당겨짐)
+     */
+    private long removeStaleStreaksAbove(long rank) {
+        long removed = 0;
+        long start = 0;
+        while (start < rank - removed) {
+            long end = Math.min(start + STALE_SCAN_BATCH, rank - removed) - 1;
+            List<TypedTuple<String>> tuples = leaderboardRepository.findStreakRange(start, end);
+            if (tuples.isEmpty()) {
+                break;
+            }
+            List<String> stale = removeStale(tuples);
+            removed += stale.size();
+            // 제거된 회원만큼 뒤 순위가 앞당겨짐
+            start += tuples.size() - stale.size();
+        }
+        return removed;
+    }
+
+    /**
+     * 조회한 구간에서 끊긴 스트릭 회원을 찾아 제거
+     * 
+     * @return 제거한 회원 목록
+     */
+    private List<String> removeStale(List<TypedTuple<String>> tuples) {
+        List<String> members = tuples.stream().map(TypedTuple::getValue).toList();
+        List<Long> lastSuccessDays = leaderboardRepository.findLastSuccessDays(members);
+        List<String> stale = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            if (!isLive(Long.valueOf(members.get(i)), lastSuccessDays.get(i))) {
+                stale.add(members.get(i));
+            }
+        }
+        if (!stale.isEmpty()) {
+            leaderboardRepository.removeStreaks(stale);
+            log.debug("끊긴 스트릭 리더보드 제거 - count={}", stale.size());
+        }
+        return stale;
+    }
+
+    private List<LeaderboardEntryDto> toEntries(List<TypedTuple<String>> tuples) {
+        List<LeaderboardEntryDto> entries = new ArrayList<>(tuples.size());
+        for (TypedTuple<String> tuple : tuples) {
+            entries.add(toEntry(entries.size() + 1, tuple));
+        }
+        return entries;
+    }
+
+    private LeaderboardEntryDto toEntry(long rank, TypedTuple<String> tuple) {
+        long score = tuple.getScore() != null ? tuple.getScore().longValue() : 0L;
+        return new LeaderboardEntryDto(rank, Long.valueOf(tuple.getValue()), score);
+    }
+
+    /**
+     * 마지막 성공일이 회원 시간대 기준 어제 이후면 스트릭 유지 중
+     */
+    private boolean isLive(Long userId, Long lastSuccessEpochDay) {
+        return lastSuccessEpochDay != null
+                && lastSuccessEpochDay >= userZoneResolver.today(userId).minusDays(1).toEpochDay();
+    }
+
+    private LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * ISO 주 식별자
+     * 
+     * @return 형식: "2026-W07"
+     */
+    private String weekKey(LocalDate weekStart) {
+        return String.format("%d-W%02d",
+                weekStart.get(IsoFields.WEEK_BASED_YEAR), weekStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+}
@@ -0,0 +1,161 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.WeeklyStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.PercentileSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주간 백분위 서비스
+ *
+ * <p>"이번 주 78%의 사용자보다 많이 집중했어요"를 위한 분포 스냅샷을 노드 메모리에 보관합니다.
+ * 조회 시 daily_statistics를 COUNT하지 않고, 사용자 주간 롤업 1행과 스냅샷 배열로 O(1)에 계산합니다.</p>
+ *
+ * <h3>스냅샷 전파</h3>
+ * <ul>
+ *   <li>PercentileSnapshotJob이 한 노드에서 재생성 → {@link #publish}로 Redis 저장 + pub/sub 전파</li>
+ *   <li>다른 노드는 채널 메시지로 교체 (더 오래된 스냅샷은 무시)</li>
+ *   <li>새로 뜬 노드는 기동 완료 시 Redis에 저장된 최신 스냅샷을 적재</li>
+ * </ul>
+ *
+ * <h3>주 경계</h3>
+ * <p>weekly_statistics는 사용자 시간대의 주로 나뉘므로 스냅샷도 주 시작일별로 보관하고,
+ * 사용자 시간대의 이번 주 스냅샷으로 조회합니다. 주 경계 부근에는 Job이 지난 주와 이번 주를 함께 만들고,
+ * 노드는 가장 최근 두 주의 스냅샷을 유지하여 아직 지난 주인 시간대의 사용자도 백분위를 받습니다.</p>
+ *
+ * <p>사용자 주의 스냅샷이 없으면(새 노드가 첫 전파를 받기 전 등) 백분위를 제공하지 않습니다.
+ * 그 주 기록이 없는 사용자는 분포에 포함되지 않지만, 조회 시 집중 시간 0으로 계산합니다.
+ * cache.invalidation.enabled=false이면 구독하지 않습니다 (단일 노드/테스트).</p>
+ *
+ * @see PercentileSnapshot
+ * @see PercentileSnapshotJob
+ */
+@Service
+@Slf4j
+public class PercentileService implements MessageListener {
+
+    /** Redis 스냅샷 보관 기간 (주가 바뀌면 쓸모없음) */
+    private static final Duration SNAPSHOT_TTL = Duration.ofDays(8);
+
+    /** 노드에 보관하는 주 수 (이번 주 + 아직 진행 중인 지난 주) */
+    private static final int RETAINED_WEEKS = 2;
+
+    private final PercentileSnapshotRepository percentileSnapshotRepository;
+    private final WeeklyStatisticsRepository weeklyStatisticsRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<LocalDate, PercentileSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public PercentileService(
+            PercentileSnapshotRepository percentileSnapshotRepository,
+            WeeklyStatisticsRepository weeklyStatisticsRepository,
+            ObjectMapper objectMapper,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainer) {
+        this.percentileSnapshotRepository = percentileSnapshotRepository;
+        this.weeklyStatisticsRepository = weeklyStatisticsRepository;
+        this.objectMapper = objectMapper;
+        listenerContainer.ifAvailable(container ->
+                container.addMessageListener(this, new ChannelTopic(PercentileSnapshotRepository.CHANNEL)));
+    }
+
+    /**
+     * 사용자의 이번 주 백분위 조회
+     *
+     * @param userId 사용자 ID
+     * @param today 사용자 시간대 기준 오늘
+     * @return 백분위 (사용자 주의 스냅샷이 없으면 empty)
+     */
+    public Optional<UserPercentiles> lookup(Long userId, LocalDate today) {
+        LocalDate weekStart = PercentileSnapshot.weekStartOf(today);
+        PercentileSnapshot current = snapshots.get(weekStart);
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        Optional<WeeklyStatistics> week = weeklyStatisticsRepository.findByUserIdAndWeekStart(userId, weekStart);
+        long focusTime = week.map(WeeklyStatistics::getTotalFocusTime).orElse(0);
+        Double completionRate = week
+                .filter(w -> w.getTotalSchedules() > 0)
+                .map(w -> current.completionPercentile(w.getCompletionRate()))
+                .orElse(null);
+        return Optional.of(new UserPercentiles(current.focusPercentile(focusTime), completionRate));
+    }
+
+    /**
+     * 새 스냅샷을 로컬에 적용하고 모든 노드에 전파
+     *
+     * @param built 재생성한 스냅샷
+     */
+    public void publish(PercentileSnapshot built) {
+        apply(built);
+        try {
+            percentileSnapshotRepository.saveAndPublish(
+                    built.weekStart(), objectMapper.writeValueAsString(built), SNAPSHOT_TTL);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("백분위 스냅샷 전파 실패 - weekStart={}, reason={}", built.weekStart(), e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 완료 시 Redis에서 진행 중인 주의 최신 스냅샷 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLatest() {
+        try {
+            percentileSnapshotRepository.findAll(PercentileSnapshot.liveWeekStarts(Instant.now()))
+                    .forEach(this::applyJson);
+        } catch (DataAccessException e) {
+            log.warn("백분위 스냅샷 적재 실패, 다음 전파까지 백분위 미제공 - reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 전파한 스냅샷 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        applyJson(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void applyJson(String json) {
+        try {
+            apply(objectMapper.readValue(json, PercentileSnapshot.class));
+        } catch (JsonProcessingException e) {
+            log.warn("백분위 스냅샷 역직렬화 실패 - reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 주의 현재 스냅샷보다 새 스냅샷일 때만 교체하고, 최근 RETAINED_WEEKS주만 유지
+     */
+    private void apply(PercentileSnapshot received) {
+        PercentileSnapshot applied = snapshots.merge(received.weekStart(), received, (current, next) ->
+                next.builtAt().isAfter(current.builtAt()) ? next : current);
+        if (applied == received) {
+            log.debug("백분위 스냅샷 교체 - weekStart={}, builtAt={}", received.weekStart(), received.builtAt());
+        }
+        LocalDate oldestRetained = Collections.max(snapshots.keySet()).minusWeeks(RETAINED_WEEKS - 1L);
+        snapshots.keySet().removeIf(weekStart -> weekStart.isBefore(oldestRetained));
+    }
+}
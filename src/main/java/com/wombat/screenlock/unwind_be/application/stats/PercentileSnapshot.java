@@ -0,0 +1,160 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * 주간 집중 시간 / 완료율 분포 스냅샷
+ *
+ * <p>한 주의 전체 사용자 분포를 고정 버킷 히스토그램으로 요약한 불변 값이며,
+ * 버킷별 누적 사용자 수(below)만 보관하므로 백분위 조회는 버킷 계산 + 배열 접근 O(1)입니다.</p>
+ *
+ * <h3>버킷</h3>
+ * <ul>
+ *   <li>집중 시간: 0초, 1분 미만, 이후 1분부터 2배마다 8칸 로그 스케일 (주 최대 168시간까지 약 110칸)</li>
+ *   <li>완료율: 1%p 단위 101칸, 스케줄 기록이 있는 사용자만</li>
+ * </ul>
+ *
+ * <p>백분위는 자신보다 낮은 버킷에 속한 사용자 비율("상위 N%보다 많이 집중")이며,
+ * 같은 버킷 사용자는 세지 않으므로 실제 값보다 최대 한 버킷만큼 낮게 나옵니다.</p>
+ *
+ * <p>분포는 그 주 weekly_statistics 행이 있는 사용자만 담습니다.
+ * 그 주에 기록이 전혀 없는 사용자는 분포에서 빠지며, 조회 시에는 집중 시간 0으로 봅니다.</p>
+ *
+ * @param weekStart 주 시작일 (월요일)
+ * @param builtAt 생성 시각
+ * @param focusBelow 집중 시간 버킷 i 미만 사용자 수 (길이 FOCUS_BUCKETS + 1, 마지막 = 전체)
+ * @param rateBelow 완료율 버킷 i 미만 사용자 수 (길이 RATE_BUCKETS + 1, 마지막 = 전체)
+ * @see PercentileService
+ */
+public record PercentileSnapshot(
+    LocalDate weekStart,
+    Instant builtAt,
+    long[] focusBelow,
+    long[] rateBelow
+) {
+    /** 집중 시간 버킷 수 */
+    static final int FOCUS_BUCKETS = 128;
+
+    /** 완료율 버킷 수 (0% ~ 100%) */
+    static final int RATE_BUCKETS = 101;
+
+    /** 로그 스케일 시작 값 (초) */
+    private static final double FOCUS_BASE_SECONDS = 60.0;
+
+    /** 2배 구간당 칸 수 */
+    private static final int SUB_BUCKETS = 8;
+
+    /**
+     * 지금 어느 시간대에서든 "이번 주"인 주 시작일 (UTC-18:00 ~ UTC+18:00)
+     *
+     * <p>weekly_statistics는 사용자 시간대의 주로 나뉘므로, 주 경계 부근에는
+     * 지난 주와 이번 주가 동시에 진행 중입니다.</p>
+     *
+     * @param now 현재 시각
+     * @return 주 시작일 (오름차순, 1~2개)
+     */
+    static List<LocalDate> liveWeekStarts(Instant now) {
+        LocalDate earliest = weekStartOf(LocalDate.ofInstant(now, ZoneOffset.MIN));
+        LocalDate latest = weekStartOf(LocalDate.ofInstant(now, ZoneOffset.MAX));
+        return earliest.equals(latest) ? List.of(latest) : List.of(earliest, latest);
+    }
+
+    /**
+     * 날짜가 속한 주의 시작일 (ISO 주, 월요일)
+     */
+    static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * 집중 시간 백분위
+     *
+     * @param focusTime 주간 집중 시간 (초)
+     * @return 더 적게 집중한 사용자 비율 (0.0 ~ 1.0, 분포가 비었으면 null)
+     */
+    public Double focusPercentile(long focusTime) {
+        return percentile(focusBelow, focusBucket(focusTime));
+    }
+
+    /**
+     * 완료율 백분위
+     *
+     * @param completionRate 주간 완료율 (0.0 ~ 1.0)
+     * @return 완료율이 더 낮은 사용자 비율 (0.0 ~ 1.0, 분포가 비었으면 null)
+     */
+    public Double completionPercentile(double completionRate) {
+        return percentile(rateBelow, rateBucket(completionRate));
+    }
+
+    /**
+     * 집중 시간 버킷 (0: 0초, 1: 1분 미만, 2~: 1분부터 2^(1/8)배 간격)
+     */
+    static int focusBucket(long focusTime) {
+        if (focusTime <= 0) {
+            return 0;
+        }
+        if (focusTime < FOCUS_BASE_SECONDS) {
+            return 1;
+        }
+        double log2 = Math.log(focusTime / FOCUS_BASE_SECONDS) / Math.log(2);
+        return (int) Math.min(FOCUS_BUCKETS - 1L, 2 + (long) (log2 * SUB_BUCKETS));
+    }
+
+    /**
+     * 완료율 버킷 (1%p 단위, 내림)
+     */
+    static int rateBucket(double completionRate) {
+        int bucket = (int) Math.floor(completionRate * 100 + 1e-9);
+        return Math.max(0, Math.min(RATE_BUCKETS - 1, bucket));
+    }
+
+    private static Double percentile(long[] below, int bucket) {
+        long total = below[below.length - 1];
+        if (total == 0) {
+            return null;
+        }
+        return (double) below[bucket] / total;
+    }
+
+    /**
+     * 사용자별 값을 모아 스냅샷 생성
+     */
+    static final class Builder {
+
+        private final LocalDate weekStart;
+        private final long[] focusCounts = new long[FOCUS_BUCKETS];
+        private final long[] rateCounts = new long[RATE_BUCKETS];
+
+        Builder(LocalDate weekStart) {
+            this.weekStart = weekStart;
+        }
+
+        /**
+         * 사용자 한 명의 주간 합계 추가
+         */
+        Builder add(int totalSchedules, int completedSchedules, long focusTime) {
+            focusCounts[focusBucket(focusTime)]++;
+            if (totalSchedules > 0) {
+                rateCounts[rateBucket((double) completedSchedules / totalSchedules)]++;
+            }
+            return this;
+        }
+
+        PercentileSnapshot build(Instant builtAt) {
+            return new PercentileSnapshot(weekStart, builtAt, cumulative(focusCounts), cumulative(rateCounts));
+        }
+
+        private static long[] cumulative(long[] counts) {
+            long[] below = new long[counts.length + 1];
+            for (int i = 0; i < counts.length; i++) {
+                below[i + 1] = below[i] + counts[i];
+            }
+            return below;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyTotalsRow;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.PercentileSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주간 백분위 스냅샷 재생성 Job
+ *
+ * <p>진행 중인 주의 weekly_statistics 전체를 id Keyset으로 순회하여
+ * 집중 시간 / 완료율 히스토그램을 만들고 PercentileService로 모든 노드에 전파합니다.</p>
+ *
+ * <p>weekly_statistics는 사용자 시간대의 주(월요일 시작)로 나뉘므로, 어느 시간대에서든
+ * 아직 진행 중인 주를 모두 만듭니다. 주 경계 부근(가장 이른 시간대가 월요일이 된 뒤부터
+ * 가장 늦은 시간대가 월요일이 될 때까지)에는 지난 주와 이번 주 두 개입니다.
+ * 그 주 행이 없는 사용자(기록 없음)는 분포에 포함되지 않습니다.</p>
+ *
+ * <p>모든 노드에서 주기 실행되지만 Redis SET NX 권한을 얻은 한 노드만 재생성합니다.
+ * 권한은 주기만큼 유지되므로 재생성 노드가 죽어도 다음 주기에 다른 노드가 이어받습니다.</p>
+ *
+ * @see PercentileService
+ * @see PercentileSnapshot
+ */
+@Component
+@ConditionalOnProperty(prefix = "stats.percentile", name = "enabled", havingValue = "true")
+@Slf4j
+public class PercentileSnapshotJob {
+
+    private final WeeklyStatisticsRepository weeklyStatisticsRepository;
+    private final PercentileSnapshotRepository percentileSnapshotRepository;
+    private final PercentileService percentileService;
+    private final int pageSize;
+    private final Duration rebuildInterval;
+    private final Clock clock;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public PercentileSnapshotJob(
+            WeeklyStatisticsRepository weeklyStatisticsRepository,
+            PercentileSnapshotRepository percentileSnapshotRepository,
+            PercentileService percentileService,
+            @Value("${stats.percentile.page-size:5000}") int pageSize,
+            @Value("${stats.percentile.rebuild-interval-ms:600000}") long rebuildIntervalMillis) {
+        this(weeklyStatisticsRepository, percentileSnapshotRepository, percentileService, pageSize,
+                Duration.ofMillis(rebuildIntervalMillis), Clock.system(UserZoneResolver.DEFAULT_ZONE));
+    }
+
+    PercentileSnapshotJob(
+            WeeklyStatisticsRepository weeklyStatisticsRepository,
+            PercentileSnapshotRepository percentileSnapshotRepository,
+            PercentileService percentileService,
+            int pageSize,
+            Duration rebuildInterval,
+            Clock clock) {
+        this.weeklyStatisticsRepository = weeklyStatisticsRepository;
+        this.percentileSnapshotRepository = percentileSnapshotRepository;
+        this.percentileService = percentileService;
+        this.pageSize = pageSize;
+        this.rebuildInterval = rebuildInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * 주기 실행 (기본 10분)
+     */
+    @Scheduled(initialDelayString = "${stats.percentile.initial-delay-ms:60000}",
+            fixedDelayString = "${stats.percentile.rebuild-interval-ms:600000}")
+    public void rebuildSafely() {
+        try {
+            if (percentileSnapshotRepository.tryAcquireRebuild(nodeId, rebuildInterval)) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.warn("백분위 스냅샷 재생성 실패 - reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중인 주의 스냅샷 재생성 후 전파
+     *
+     * @return 생성한 스냅샷 (주 시작일 오름차순)
+     */
+    public List<PercentileSnapshot> rebuild() {
+        List<PercentileSnapshot> snapshots = new ArrayList<>();
+        for (LocalDate weekStart : PercentileSnapshot.liveWeekStarts(clock.instant())) {
+            snapshots.add(rebuild(weekStart));
+        }
+        return snapshots;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 한 주의 스냅샷 재생성 후 전파
+     */
+    private PercentileSnapshot rebuild(LocalDate weekStart) {
+        PercentileSnapshot.Builder builder = new PercentileSnapshot.Builder(weekStart);
+
+        int users = 0;
+        long lastId = 0L;
+        List<WeeklyTotalsRow> rows;
+        do {
+            rows = weeklyStatisticsRepository.findWeekTotalsAfter(weekStart, lastId, PageRequest.of(0, pageSize));
+            for (WeeklyTotalsRow row : rows) {
+                builder.add(row.totalSchedules(), row.completedSchedules(), row.totalFocusTime());
+            }
+            users += rows.size();
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        } while (rows.size() == pageSize);
+
+        PercentileSnapshot snapshot = builder.build(clock.instant());
+        percentileService.publish(snapshot);
+        log.info("백분위 스냅샷 재생성 - weekStart={}, userCount={}", weekStart, users);
+        return snapshot;
+    }
+}
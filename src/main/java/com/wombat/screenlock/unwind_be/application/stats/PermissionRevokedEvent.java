@@ -0,0 +1,19 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 권한 해제 기록 이벤트
+ * 
+ * <p>권한 해제 패널티를 반영한 트랜잭션에서 발행되며,
+ * 커밋 이후 RevocationLogWriter가 사유 로그 큐에 추가합니다.</p>
+ * 
+ * @param userId 사용자 ID
+ * @param date 패널티가 적용된 통계 날짜
+ * @param reason 사용자가 입력한 권한 해제 사유
+ * @param revokedAt 권한 해제 감지 시각
+ * @see RevocationLogWriter
+ */
+public record PermissionRevokedEvent(Long userId, LocalDate date, String reason, Instant revokedAt) {
+}
@@ -0,0 +1,149 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 권한 해제 사유 로그 배치 기록기
+ *
+ * <p>권한 해제 기록이 커밋되면 사유 로그를 메모리 큐에 넣고,
+ * 주기적으로 모아서 JDBC 배치 INSERT 한 번으로 revocation_logs에 기록합니다.
+ * 재연결한 클라이언트가 한꺼번에 몰려도 요청마다 동기 INSERT가 발생하지 않습니다.</p>
+ *
+ * <h3>정책</h3>
+ * <ul>
+ *   <li>큐: 크기 제한(stats.revocation-log.queue-capacity), 가득 차면 요청 스레드에서 바로 INSERT (유실 대신 역압)</li>
+ *   <li>배치: flush-interval-ms마다 batch-size 단위로 비울 때까지 INSERT</li>
+ *   <li>INSERT 실패: 큐에 다시 넣고 다음 주기에 재시도 (넣지 못한 건수는 로그로 남김)</li>
+ *   <li>종료 시 남은 로그를 모두 기록</li>
+ * </ul>
+ *
+ * <p>로그는 패널티 반영 트랜잭션이 커밋된 뒤에만 큐에 들어가므로
+ * 롤백된 요청의 사유는 남지 않습니다. 프로세스가 비정상 종료되면
+ * 큐에 남은 로그(최대 flush-interval 분량)는 유실될 수 있습니다.</p>
+ *
+ * @see PermissionRevokedEvent
+ * @see com.wombat.screenlock.unwind_be.domain.stats.entity.RevocationLog
+ */
+@Component
+@Slf4j
+public class RevocationLogWriter {
+
+    static final String INSERT_SQL = """
+            INSERT INTO revocation_logs (user_id, date, reason, revoked_at, created_at)
+            VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PermissionRevokedEvent> queue;
+    private final int batchSize;
+
+    public RevocationLogWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${stats.revocation-log.queue-capacity:10000}") int queueCapacity,
+            @Value("${stats.revocation-log.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 커밋 이후 사유 로그를 큐에 추가
+     *
+     * @param event 권한 해제 기록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPermissionRevoked(PermissionRevokedEvent event) {
+        if (queue.offer(event)) {
+            return;
+        }
+        log.warn("권한 해제 로그 큐 가득 참, 즉시 기록 - userId={}", event.userId());
+        try {
+            insert(List.of(event));
+        } catch (DataAccessException e) {
+            log.error("권한 해제 로그 기록 실패 - userId={}, date={}, reason={}",
+                    event.userId(), event.date(), e.getMessage());
+        }
+    }
+
+    /**
+     * 큐에 쌓인 로그를 배치 INSERT (기본 500ms 주기)
+     *
+     * @return 기록한 로그 수
+     */
+    @Scheduled(fixedDelayString = "${stats.revocation-log.flush-interval-ms:500}")
+    public int flush() {
+        int written = 0;
+        while (!queue.isEmpty()) {
+            List<PermissionRevokedEvent> batch = new ArrayList<>(batchSize);
+            if (queue.drainTo(batch, batchSize) == 0) {
+                break;
+            }
+            try {
+                insert(batch);
+            } catch (DataAccessException e) {
+                requeue(batch, e);
+                break;
+            }
+            written += batch.size();
+        }
+        if (written > 0) {
+            log.debug("권한 해제 로그 배치 기록 - count={}", written);
+        }
+        return written;
+    }
+
+    /**
+     * 종료 시 남은 로그 기록
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!queue.isEmpty()) {
+            log.error("종료 시 기록하지 못한 권한 해제 로그 - count={}", queue.size());
+        }
+    }
+
+    /**
+     * 큐에 남은 로그 수
+     */
+    int pending() {
+        return queue.size();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void insert(List<PermissionRevokedEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.userId());
+            ps.setDate(2, Date.valueOf(event.date()));
+            ps.setString(3, event.reason());
+            ps.setTimestamp(4, Timestamp.from(event.revokedAt()));
+        });
+    }
+
+    private void requeue(List<PermissionRevokedEvent> batch, DataAccessException cause) {
+        int dropped = 0;
+        for (PermissionRevokedEvent event : batch) {
+            if (!queue.offer(event)) {
+                dropped++;
+            }
+        }
+        log.warn("권한 해제 로그 배치 기록 실패, 재시도 대기 - count={}, dropped={}, reason={}",
+                batch.size(), dropped, cause.getMessage());
+    }
+}
@@ -0,0 +1,80 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.schedule.dto.ScheduleStatsResponse;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.ScheduleStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.ScheduleStatsView;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 스케줄별 통계 서비스
+ * 
+ * <p>완료/강제 종료 기록을 스케줄 clientId 단위로 schedule_statistics에 누적하고,
+ * Schedule.duration과 비교한 계획 대비 실제 통계를 제공합니다.</p>
+ * 
+ * <h3>기록</h3>
+ * <p>StatsService(동기 집계)와 FocusSessionAggregator(비동기 집계)가 daily_statistics 반영과
+ * 같은 트랜잭션에서 호출합니다. DailyStatsDelta를 그대로 사용하며
+ * totalSchedules는 시도 횟수, completedSchedules는 완료 횟수로 누적합니다.</p>
+ * 
+ * <h3>조회</h3>
+ * <p>스케줄 PK와 통계 UK를 조인한 단건 조회로, 원본 세션을 집계하지 않습니다.</p>
+ * 
+ * @see ScheduleStatisticsRepository
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ScheduleStatsService {
+
+    private final ScheduleStatisticsRepository scheduleStatisticsRepository;
+
+    /**
+     * 스케줄별 증분값 반영
+     * 
+     * <p>clientId 오름차순으로 UPSERT하여 동시 요청 간 행 잠금 순서를 고정합니다.</p>
+     * 
+     * @param userId 사용자 ID
+     * @param deltasBySchedule 스케줄 clientId별 증분값
+     */
+    @Transactional
+    public void apply(Long userId, Map<String, DailyStatsDelta> deltasBySchedule) {
+        new TreeMap<>(deltasBySchedule).forEach((scheduleClientId, delta) ->
+                scheduleStatisticsRepository.upsertIncrement(userId, scheduleClientId,
+                        delta.totalSchedules(), delta.completedSchedules(), delta.focusTime(),
+                        delta.forceQuitCount()));
+    }
+
+    /**
+     * 스케줄별 통계 조회 (계획 대비 실제)
+     * 
+     * @param scheduleId 스케줄 ID
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return ScheduleStatsResponse 스케줄별 통계
+     * @throws BusinessException SCHEDULE_NOT_FOUND - 스케줄을 찾을 수 없음
+     * @throws BusinessException SCHEDULE_ACCESS_DENIED - 본인 스케줄이 아님
+     */
+    public ScheduleStatsResponse getScheduleStats(Long scheduleId, Long userId) {
+        ScheduleStatsView view = scheduleStatisticsRepository.findViewByScheduleId(scheduleId)
+                .orElseThrow(() -> {
+                    log.warn("스케줄 통계 조회 실패: 스케줄을 찾을 수 없음 - scheduleId={}", scheduleId);
+                    return new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND);
+                });
+
+        if (!view.ownerId().equals(userId)) {
+            log.warn("스케줄 통계 조회 실패: 권한 없음 - scheduleId={}, ownerId={}, requesterId={}",
+                    scheduleId, view.ownerId(), userId);
+            throw new BusinessException(ErrorCode.SCHEDULE_ACCESS_DENIED);
+        }
+
+        return ScheduleStatsResponse.from(view);
+    }
+}
@@ -0,0 +1,152 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.infrastructure.cache.RotatingBloomFilter;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.ProcessedEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 통계 이벤트 중복 제거기 (재전송 멱등 처리)
+ *
+ * <p>클라이언트는 재시도(최대 3회, 지수 백오프)와 오프라인 큐 재전송 시 같은 eventId를 보냅니다.
+ * 처음 도착한 이벤트만 선점에 성공하고, 이후 도착분은 DB에 닿기 전에 거부됩니다.</p>
+ *
+ * <h3>정책</h3>
+ * <ul>
+ *   <li>원본: Redis SET NX (stats_event:{userId}:{eventId}, TTL stats.dedup.window-hours) - 모든 노드 공유</li>
+ *   <li>로컬 Bloom 필터: 선점한 키를 함께 기록하고, Redis 장애 시에만 판정에 사용
+ *       (거짓 양성률만큼 정상 이벤트를 중복으로 볼 수 있으나 과다 집계보다 안전)</li>
+ *   <li>반영 트랜잭션이 롤백되면 Redis 선점을 해제하여 재전송을 다시 받음</li>
+ *   <li>eventId가 없는 요청(구버전 앱)은 중복 제거 없이 반영</li>
+ *   <li>메트릭: stats.event.dedup{result=accepted|duplicate|untracked},
+ *       stats.event.dedup.fallback (Redis 장애로 로컬 판정)</li>
+ * </ul>
+ *
+ * @see ProcessedEventRepository
+ * @see RotatingBloomFilter
+ */
+@Component
+@Slf4j
+public class StatsEventDeduplicator {
+
+    /** 중복 제거 결과 메트릭 이름 */
+    static final String METRIC_NAME = "stats.event.dedup";
+
+    /** Redis 장애 시 로컬 판정 메트릭 이름 */
+    static final String FALLBACK_METRIC_NAME = "stats.event.dedup.fallback";
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final RotatingBloomFilter localFilter;
+    private final Duration window;
+    private final Counter acceptedCounter;
+    private final Counter duplicateCounter;
+    private final Counter untrackedCounter;
+    private final Counter fallbackCounter;
+
+    public StatsEventDeduplicator(
+            ProcessedEventRepository processedEventRepository,
+            MeterRegistry meterRegistry,
+            @Value("${stats.dedup.window-hours:72}") long windowHours,
+            @Value("${stats.dedup.local-expected-events:1000000}") long localExpectedEvents,
+            @Value("${stats.dedup.local-false-positive-rate:0.001}") double localFalsePositiveRate) {
+        this(processedEventRepository, meterRegistry, Duration.ofHours(windowHours),
+                new RotatingBloomFilter(localExpectedEvents, localFalsePositiveRate,
+                        Duration.ofHours(windowHours), Clock.systemUTC()));
+    }
+
+    StatsEventDeduplicator(
+            ProcessedEventRepository processedEventRepository,
+            MeterRegistry meterRegistry,
+            Duration window,
+            RotatingBloomFilter localFilter) {
+        this.processedEventRepository = processedEventRepository;
+        this.window = window;
+        this.localFilter = localFilter;
+        this.acceptedCounter = resultCounter(meterRegistry, "accepted");
+        this.duplicateCounter = resultCounter(meterRegistry, "duplicate");
+        this.untrackedCounter = resultCounter(meterRegistry, "untracked");
+        this.fallbackCounter = Counter.builder(FALLBACK_METRIC_NAME)
+                .description("Redis 장애로 로컬 Bloom 필터가 판정한 통계 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 선점
+     *
+     * <p>트랜잭션 안에서 호출하면 롤백 시 선점을 자동으로 해제합니다.</p>
+     *
+     * @param userId 사용자 ID
+     * @param eventId 클라이언트 이벤트 ID (null/공백이면 중복 제거 안 함)
+     * @return true: 반영 대상, false: 이미 처리된 이벤트
+     */
+    public boolean tryClaim(Long userId, String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            untrackedCounter.increment();
+            return true;
+        }
+
+        String localKey = userId + ":" + eventId;
+        boolean claimed;
+        try {
+            claimed = processedEventRepository.claim(userId, eventId, window);
+            if (claimed) {
+                localFilter.put(localKey);
+                releaseOnRollback(userId, eventId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("이벤트 중복 확인 Redis 실패, 로컬 필터로 판정 - userId={}, reason={}", userId, e.getMessage());
+            fallbackCounter.increment();
+            claimed = localFilter.put(localKey);
+        }
+
+        if (!claimed) {
+            log.info("중복 통계 이벤트 무시 - userId={}, eventId={}", userId, eventId);
+            duplicateCounter.increment();
+            return false;
+        }
+        acceptedCounter.increment();
+        return true;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 반영 트랜잭션 롤백 시 Redis 선점 해제
+     */
+    private void releaseOnRollback(Long userId, String eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    processedEventRepository.release(userId, eventId);
+                } catch (DataAccessException e) {
+                    // 해제 실패 시 재전송은 윈도우 동안 중복으로 처리됨
+                    log.warn("이벤트 선점 해제 실패 - userId={}, eventId={}, reason={}",
+                            userId, eventId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("통계 이벤트 중복 제거 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,191 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.ExportFormat;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRow;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import com.wombat.screenlock.unwind_be.infrastructure.archive.DailyStatisticsArchive;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 통계 내보내기 서비스
+ * 
+ * <p>사용자의 전체 일별 통계를 NDJSON 또는 CSV로 스트리밍합니다.
+ * 행 수와 관계없이 메모리 사용량이 일정하도록 다음을 지킵니다.</p>
+ * 
+ * <ul>
+ *   <li>DB: Stream + JDBC fetch size로 커서 단위 조회 (List 적재 없음)</li>
+ *   <li>영속성 컨텍스트: 읽기 전용 조회 + 행마다 detach (1차 캐시 누적 없음)</li>
+ *   <li>응답: 고정 크기 버퍼로 직렬화하여 바로 출력 (전체 본문 적재 없음)</li>
+ * </ul>
+ * 
+ * <p>콜드 아카이브로 옮겨진 달은 아카이브 파일에서 월 단위로 읽어 먼저 출력하고,
+ * 아카이브 경계 이후만 DB에서 스트리밍합니다.</p>
+ * 
+ * <h3>트랜잭션</h3>
+ * <p>StreamingResponseBody는 컨트롤러 반환 후 별도 스레드에서 실행되므로,
+ * 본문을 쓰는 동안만 읽기 전용 트랜잭션을 열어 커넥션을 유지합니다 (OSIV 비활성화).</p>
+ */
+@Service
+@Slf4j
+public class StatsExportService {
+
+    /** from 미입력 시 시작일 */
+    static final LocalDate MIN_DATE = LocalDate.of(2000, 1, 1);
+
+    /** 응답 쓰기 버퍼 크기 (문자) */
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final String CSV_HEADER =
+            "date,total_schedules,completed_schedules,total_focus_time,force_quit_count,all_in_mode_used,status\n";
+
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final UserZoneResolver userZoneResolver;
+    private final DailyStatisticsArchive dailyStatisticsArchive;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public StatsExportService(
+            DailyStatisticsRepository dailyStatisticsRepository,
+            UserZoneResolver userZoneResolver,
+            DailyStatisticsArchive dailyStatisticsArchive,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.userZoneResolver = userZoneResolver;
+        this.dailyStatisticsArchive = dailyStatisticsArchive;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 통계 내보내기 본문 생성
+     * 
+     * <p>기간 검증은 즉시 수행하여 잘못된 요청은 스트리밍 시작 전에 에러 응답으로 처리됩니다.</p>
+     * 
+     * @param userId 인증된 사용자 ID
+     * @param format 내보내기 형식
+     * @param from 시작일 (null이면 2000-01-01)
+     * @param to 종료일 (null이면 사용자 시간대 기준 오늘)
+     * @return 응답 본문 (날짜 오름차순)
+     * @throws BusinessException INVALID_INPUT - from이 to보다 늦음
+     */
+    public StreamingResponseBody export(Long userId, ExportFormat format, LocalDate from, LocalDate to) {
+        LocalDate startDate = (from != null) ? from : MIN_DATE;
+        LocalDate endDate = (to != null) ? to : userZoneResolver.today(userId);
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        return out -> transactionTemplate.executeWithoutResult(status ->
+                write(userId, format, startDate, endDate, out));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 트랜잭션 안에서 스트림을 소비하며 출력
+     */
+    private void write(Long userId, ExportFormat format, LocalDate startDate, LocalDate endDate, OutputStream out) {
+        long rowCount = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+            }
+
+            // 1. 아카이브 구간 (경계 이전)
+            Optional<LocalDate> archivedUntil = dailyStatisticsArchive.archivedUntil().filter(startDate::isBefore);
+            LocalDate dbStartDate = startDate;
+            if (archivedUntil.isPresent()) {
+                LocalDate archiveEnd = archivedUntil.get().minusDays(1);
+                for (DailyStatisticsRow row : dailyStatisticsArchive.find(userId, startDate,
+                        archiveEnd.isBefore(endDate) ? archiveEnd : endDate)) {
+                    writer.write(toLine(format, row));
+                    rowCount++;
+                }
+                dbStartDate = archivedUntil.get();
+            }
+
+            // 2. DB 구간
+            if (!dbStartDate.isAfter(endDate)) {
+                rowCount += writeFromDatabase(userId, format, dbStartDate, endDate, writer);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등
+            throw new UncheckedIOException(e);
+        }
+        log.info("통계 내보내기 완료 - userId={}, format={}, rowCount={}", userId, format, rowCount);
+    }
+
+    /**
+     * DB 스트림을 소비하며 출력 (행마다 detach)
+     */
+    private long writeFromDatabase(Long userId, ExportFormat format, LocalDate startDate, LocalDate endDate,
+                                   Writer writer) throws IOException {
+        long rowCount = 0;
+        try (Stream<DailyStatistics> rows = dailyStatisticsRepository
+                .streamByUserIdAndDateBetweenOrderByDateAsc(userId, startDate, endDate)) {
+            Iterator<DailyStatistics> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                DailyStatistics row = iterator.next();
+                writer.write(toLine(format, DailyStatisticsRow.of(userId, row)));
+                entityManager.detach(row);
+                rowCount++;
+            }
+        }
+        return rowCount;
+    }
+
+    private String toLine(ExportFormat format, DailyStatisticsRow row) {
+        return (format == ExportFormat.CSV) ? toCsvLine(row) : toJsonLine(row);
+    }
+
+    /**
+     * NDJSON 한 줄 (숫자/불리언/enum 값만 있어 이스케이프 불필요)
+     */
+    private String toJsonLine(DailyStatisticsRow row) {
+        return "{\"date\":\"" + row.date()
+                + "\",\"totalSchedules\":" + row.totalSchedules()
+                + ",\"completedSchedules\":" + row.completedSchedules()
+                + ",\"totalFocusTime\":" + row.totalFocusTime()
+                + ",\"forceQuitCount\":" + row.forceQuitCount()
+                + ",\"allInModeUsed\":" + row.allInModeUsed()
+                + ",\"status\":\"" + row.status() + "\"}\n";
+    }
+
+    /**
+     * CSV 한 줄
+     */
+    private String toCsvLine(DailyStatisticsRow row) {
+        return row.date()
+                + "," + row.totalSchedules()
+                + "," + row.completedSchedules()
+                + "," + row.totalFocusTime()
+                + "," + row.forceQuitCount()
+                + "," + row.allInModeUsed()
+                + "," + row.status() + "\n";
+    }
+}
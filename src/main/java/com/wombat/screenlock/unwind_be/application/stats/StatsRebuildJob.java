@@ -0,0 +1,545 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.StatsRebuildCheckpoint;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.UserStreakState;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.StatsRebuildCheckpointRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.UserStreakStateRepository;
+import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파생 통계 재계산 도구
+ *
+ * <p>daily_statistics 이력(아카이브 포함)으로 전체 사용자의 스트릭 상태와
+ * weekly/monthly/cumulative_statistics를 다시 계산하고, 저장값과 다른 사용자만 덮어씁니다.
+ * 덮어쓴 사용자는 StatsUpdatedEvent로 리더보드, 성공 캘린더, 요약/히트맵/캘린더 캐시를 갱신합니다.</p>
+ *
+ * <p>stats.rebuild.enabled=true일 때 기동 시 1회 실행되며,
+ * 보통 rebuild 프로필로 웹 서버 없이 실행하고 끝나면 종료합니다.
+ * 스트릭/롤업의 일괄 재계산은 이 Job 한 곳에서만 합니다.</p>
+ *
+ * <h3>처리</h3>
+ * <ol>
+ *   <li>사용자 ID (0, MAX(id)]를 parallelism x 4개 범위로 나눠 파티션 체크포인트 저장</li>
+ *   <li>parallelism개 스레드가 파티션을 나눠 맡아, 범위 안의 사용자를 ID Keyset으로 chunk-size명씩 순회</li>
+ *   <li>청크마다 한 트랜잭션에서 스트릭 행을 사용자 ID 순서로 잠그고, 저장된 롤업을 IN 조회로 읽고,
+ *       이력으로 다시 계산해 비교</li>
+ *   <li>차이가 있는 사용자(force=true면 전체)의 롤업을 JDBC 배치 DELETE/INSERT로 교체하고
+ *       체크포인트를 같은 트랜잭션에서 저장</li>
+ *   <li>max-users-per-second를 넘지 않도록 청크 사이에 대기 (모든 스레드 합산)</li>
+ * </ol>
+ *
+ * <h3>서비스 중 실행</h3>
+ * <p>기록 경로(StatsService)도 같은 스트릭 행을 잠그므로, 청크 트랜잭션을 READ_COMMITTED로 실행해
+ * 잠금을 얻은 뒤의 이력/롤업 조회가 그 사이 커밋된 기록을 보도록 합니다.
+ * MySQL 기본값(REPEATABLE READ)에서는 잠금 전 첫 조회 시점의 스냅샷을 읽어
+ * 잠금을 기다리는 동안 커밋된 기록의 증분을 덮어쓰게 됩니다.
+ * 잠금 뒤에 시작된 기록은 이력 UPSERT 후 스트릭 잠금에서 기다렸다가, 교체된 값 위에 증분을 반영합니다.</p>
+ *
+ * <p>실행 도중 가입한 사용자는 범위 밖이지만 기록 경로가 파생 통계를 함께 만들므로 대상이 아닙니다.</p>
+ *
+ * <h3>dry-run / 재개</h3>
+ * <ul>
+ *   <li>dry-run=true: 잠그거나 쓰지 않고 차이만 집계, 처음 diff-log-limit건은 로그로 남김</li>
+ *   <li>run-id를 비우면 새 실행 ID를 만들어 로그에 남기고, 같은 run-id로 다시 실행하면 끝나지 않은 파티션만 이어서 처리</li>
+ *   <li>dry-run 여부가 다른 실행 ID는 재개하지 않음</li>
+ * </ul>
+ *
+ * <h3>Redis 파생 데이터</h3>
+ * <p>차이 비교는 DB 테이블(user_streak_state, 롤업 3종)만 대상으로 하므로,
+ * DB는 맞고 Redis만 어긋난 성공 캘린더/리더보드는 이벤트가 발행되지 않아 복구되지 않습니다.
+ * 이때는 force=true로 실행해 모든 사용자의 이벤트를 발행합니다.</p>
+ *
+ * @see DerivedStatistics
+ * @see StatsRebuildCheckpoint
+ */
+@Component
+@ConditionalOnProperty(prefix = "stats.rebuild", name = "enabled", havingValue = "true")
+@Slf4j
+public class StatsRebuildJob implements ApplicationRunner {
+
+    static final String INSERT_STREAK_SQL = """
+            INSERT INTO user_streak_state
+                (user_id, current_streak, longest_streak, last_success_date, created_at, updated_at)
+            VALUES
+                (?, 0, 0, NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE
+                current_streak = current_streak
+            """;
+
+    /** 스레드당 파티션 수 (ID 구간마다 사용자 밀도가 달라도 스레드가 놀지 않도록) */
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    /** 롤업 INSERT 배치 크기 */
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final UserRepository userRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final UserStreakStateRepository userStreakStateRepository;
+    private final StatsRebuildCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationContext applicationContext;
+    private final Options options;
+    private final boolean exitOnFinish;
+    private final Clock clock;
+    private final Throttle throttle;
+    private final AtomicInteger loggedDiffs = new AtomicInteger();
+
+    public StatsRebuildJob(
+            UserRepository userRepository,
+            DailyStatisticsRepository dailyStatisticsRepository,
+            UserStreakStateRepository userStreakStateRepository,
+            StatsRebuildCheckpointRepository checkpointRepository,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            ApplicationContext applicationContext,
+            @Value("${stats.rebuild.run-id:}") String runId,
+            @Value("${stats.rebuild.dry-run:true}") boolean dryRun,
+            @Value("${stats.rebuild.force:false}") boolean force,
+            @Value("${stats.rebuild.parallelism:0}") int parallelism,
+            @Value("${stats.rebuild.chunk-size:100}") int chunkSize,
+            @Value("${stats.rebuild.max-users-per-second:0}") int maxUsersPerSecond,
+            @Value("${stats.rebuild.diff-log-limit:20}") int diffLogLimit,
+            @Value("${stats.rebuild.exit-on-finish:false}") boolean exitOnFinish) {
+        this(userRepository, dailyStatisticsRepository, userStreakStateRepository, checkpointRepository,
+                jdbcTemplate, eventPublisher, transactionManager, applicationContext,
+                new Options(runId, dryRun, force,
+                        parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                        chunkSize, maxUsersPerSecond, diffLogLimit),
+                exitOnFinish, Clock.systemDefaultZone());
+    }
+
+    StatsRebuildJob(
+            UserRepository userRepository,
+            DailyStatisticsRepository dailyStatisticsRepository,
+            UserStreakStateRepository userStreakStateRepository,
+            StatsRebuildCheckpointRepository checkpointRepository,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            ApplicationContext applicationContext,
+            Options options,
+            boolean exitOnFinish,
+            Clock clock) {
+        this.userRepository = userRepository;
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.userStreakStateRepository = userStreakStateRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 스트릭 잠금 후 조회가 잠금 대기 중 커밋된 기록을 보도록 (클래스 설명 참고)
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.applicationContext = applicationContext;
+        this.options = options;
+        this.exitOnFinish = exitOnFinish;
+        this.clock = clock;
+        this.throttle = new Throttle(options.maxUsersPerSecond());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        StatsRebuildReport report = rebuildAll();
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(applicationContext, () -> report.succeeded() ? 0 : 1));
+        }
+    }
+
+    /**
+     * 전체 사용자 파생 통계 재계산 (실행 ID의 체크포인트부터 재개)
+     *
+     * @return 이번 실행에서 처리한 결과
+     */
+    public StatsRebuildReport rebuildAll() {
+        String runId = options.runId().isBlank()
+                ? LocalDateTime.now(clock).format(RUN_ID_FORMAT) + (options.dryRun() ? "-dry" : "")
+                : options.runId();
+
+        List<StatsRebuildCheckpoint> checkpoints = checkpointRepository.findByRunIdOrderByPartitionNoAsc(runId);
+        if (checkpoints.isEmpty()) {
+            checkpoints = checkpointRepository.saveAll(partition(runId));
+        } else if (checkpoints.get(0).getDryRun() != options.dryRun()) {
+            log.error("파생 통계 재계산 중단: dry-run 여부가 다른 실행 ID - runId={}, dryRun={}",
+                    runId, checkpoints.get(0).getDryRun());
+            return StatsRebuildReport.failed(checkpoints.size());
+        }
+
+        List<StatsRebuildCheckpoint> pending = checkpoints.stream().filter(c -> !c.getCompleted()).toList();
+        log.info("파생 통계 재계산 시작 - runId={}, dryRun={}, force={}, partitions={}, pending={}, parallelism={}",
+                runId, options.dryRun(), options.force(), checkpoints.size(), pending.size(),
+                options.parallelism());
+
+        StatsRebuildReport report = execute(pending);
+
+        log.info("파생 통계 재계산 완료 - runId={}, dryRun={}, report={}", runId, options.dryRun(), report);
+        return report;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 사용자 ID (0, MAX(id)]를 균등한 범위로 분할
+     */
+    private List<StatsRebuildCheckpoint> partition(String runId) {
+        long maxId = userRepository.findMaxId();
+        int count = (int) Math.max(1, Math.min((long) options.parallelism() * PARTITIONS_PER_THREAD, maxId));
+        long size = (maxId + count - 1) / count;
+
+        List<StatsRebuildCheckpoint> partitions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long start = Math.min(maxId, i * size);
+            long end = i == count - 1 ? maxId : Math.min(maxId, start + size);
+            partitions.add(StatsRebuildCheckpoint.start(runId, i, start, end, options.dryRun()));
+        }
+        return partitions;
+    }
+
+    /**
+     * 고정 크기 스레드 풀에서 파티션 병렬 처리
+     */
+    private StatsRebuildReport execute(List<StatsRebuildCheckpoint> pending) {
+        if (pending.isEmpty()) {
+            return StatsRebuildReport.empty();
+        }
+        AtomicInteger threadNo = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(options.parallelism(), pending.size()),
+                task -> new Thread(task, "stats-rebuild-" + threadNo.incrementAndGet()));
+
+        List<Future<StatsRebuildReport>> futures = new ArrayList<>();
+        for (StatsRebuildCheckpoint checkpoint : pending) {
+            futures.add(executor.submit(() -> rebuildPartition(checkpoint)));
+        }
+
+        StatsRebuildReport report = StatsRebuildReport.empty();
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    report = report.merge(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    log.error("파생 통계 재계산 파티션 실패, 같은 run-id로 재개 가능 - partitionNo={}",
+                            pending.get(i).getPartitionNo(), e.getCause());
+                    report = report.merge(StatsRebuildReport.failed(1));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("파생 통계 재계산 중단, 같은 run-id로 재개 가능");
+            executor.shutdownNow();
+            return report.merge(StatsRebuildReport.failed(1));
+        } finally {
+            executor.shutdown();
+        }
+        return report;
+    }
+
+    /**
+     * 파티션 하나를 청크 단위로 끝까지 처리
+     */
+    private StatsRebuildReport rebuildPartition(StatsRebuildCheckpoint checkpoint) {
+        StatsRebuildReport report = StatsRebuildReport.empty();
+        StatsRebuildCheckpoint current = checkpoint;
+        while (!current.getCompleted()) {
+            StatsRebuildCheckpoint chunkStart = current;
+            ChunkResult result = transactionTemplate.execute(status -> rebuildChunk(chunkStart));
+            current = result.checkpoint();
+            report = report.merge(result.report());
+            if (!current.getCompleted() && !throttle.acquire(result.report().scannedUsers())) {
+                // 인터럽트: 파티션을 실패로 집계하고 체크포인트에서 재개
+                throw new IllegalStateException("파생 통계 재계산 중단 - lastUserId=" + current.getLastUserId());
+            }
+        }
+        log.debug("파생 통계 재계산 파티션 완료 - partitionNo={}, range=({}, {}], report={}",
+                checkpoint.getPartitionNo(), checkpoint.getRangeStart(), checkpoint.getRangeEnd(), report);
+        return report;
+    }
+
+    /**
+     * 사용자 한 청크 재계산 및 체크포인트 저장 (단일 READ_COMMITTED 트랜잭션)
+     */
+    private ChunkResult rebuildChunk(StatsRebuildCheckpoint checkpoint) {
+        List<Long> userIds = userRepository.findIdsBetween(
+                checkpoint.getLastUserId(), checkpoint.getRangeEnd(), PageRequest.of(0, options.chunkSize()));
+
+        StatsRebuildReport report = userIds.isEmpty() ? StatsRebuildReport.empty() : rebuildUsers(userIds);
+
+        Long lastUserId = userIds.isEmpty() ? checkpoint.getLastUserId() : userIds.get(userIds.size() - 1);
+        checkpoint.advance(lastUserId, userIds.size() < options.chunkSize(),
+                userIds.size(), Math.toIntExact(report.changedUsers()));
+        return new ChunkResult(checkpointRepository.save(checkpoint), report);
+    }
+
+    /**
+     * 청크 사용자의 저장값과 재계산 결과 비교, dry-run이 아니면 차이가 있는 사용자 교체
+     */
+    private StatsRebuildReport rebuildUsers(List<Long> userIds) {
+        boolean write = !options.dryRun();
+        List<UserStreakState> storedStates;
+        if (write) {
+            jdbcTemplate.batchUpdate(INSERT_STREAK_SQL, userIds, userIds.size(), (ps, userId) -> ps.setLong(1, userId));
+            storedStates = userStreakStateRepository.findByUserIdInForUpdate(userIds);
+        } else {
+            storedStates = userStreakStateRepository.findAllById(userIds);
+        }
+        Map<Long, UserStreakState> states = new HashMap<>();
+        storedStates.forEach(state -> states.put(state.getUserId(), state));
+
+        Map<RollupTable, Map<Long, Map<LocalDate, StatsRollupDelta>>> storedRollups = new EnumMap<>(RollupTable.class);
+        for (RollupTable table : RollupTable.values()) {
+            storedRollups.put(table, loadRollups(table, userIds));
+        }
+
+        long changed = 0;
+        long[] diffs = new long[RollupTable.values().length + 1];
+        List<UserRebuild> targets = new ArrayList<>();
+        for (Long userId : userIds) {
+            List<DailyStatisticsView> history = dailyStatisticsRepository.findViewsByUserIdOrderByDateAsc(userId);
+            DerivedStatistics derived = DerivedStatistics.compute(userId, history);
+            UserStreakState state = states.get(userId);
+
+            boolean streakDiff = !sameStreak(state, derived.streak());
+            Map<RollupTable, Boolean> rollupDiffs = new EnumMap<>(RollupTable.class);
+            for (RollupTable table : RollupTable.values()) {
+                Map<LocalDate, StatsRollupDelta> stored = storedRollups.get(table).getOrDefault(userId, Map.of());
+                rollupDiffs.put(table, !table.of(derived).equals(stored));
+            }
+
+            boolean differs = streakDiff || rollupDiffs.containsValue(true);
+            if (differs) {
+                changed++;
+                diffs[0] += streakDiff ? 1 : 0;
+                rollupDiffs.forEach((table, diff) -> diffs[table.ordinal() + 1] += diff ? 1 : 0);
+                logDiff(userId, state, derived.streak(), rollupDiffs);
+            }
+            if (write && (differs || options.force())) {
+                state.rebuild(history);
+                targets.add(new UserRebuild(userId, derived, statuses(history)));
+            }
+        }
+
+        if (!targets.isEmpty()) {
+            replaceRollups(targets);
+            targets.forEach(target -> eventPublisher.publishEvent(
+                    new StatsUpdatedEvent(target.userId(), target.statuses())));
+        }
+        return new StatsRebuildReport(userIds.size(), changed, diffs[0],
+                diffs[RollupTable.WEEKLY.ordinal() + 1], diffs[RollupTable.MONTHLY.ordinal() + 1],
+                diffs[RollupTable.CUMULATIVE.ordinal() + 1], 0);
+    }
+
+    /**
+     * 청크 사용자의 저장된 롤업 조회 (사용자 ID → 날짜 → 합계)
+     */
+    private Map<Long, Map<LocalDate, StatsRollupDelta>> loadRollups(RollupTable table, List<Long> userIds) {
+        Map<Long, Map<LocalDate, StatsRollupDelta>> rollups = new HashMap<>();
+        jdbcTemplate.query(table.selectSql(userIds.size()), rs -> {
+            rollups.computeIfAbsent(rs.getLong(1), id -> new TreeMap<>()).put(rs.getDate(2).toLocalDate(),
+                    new StatsRollupDelta(rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6), rs.getLong(7)));
+        }, userIds.toArray());
+        return rollups;
+    }
+
+    /**
+     * 대상 사용자의 롤업을 JDBC 배치 DELETE 후 INSERT로 교체
+     */
+    private void replaceRollups(List<UserRebuild> targets) {
+        List<Long> userIds = targets.stream().map(UserRebuild::userId).toList();
+        for (RollupTable table : RollupTable.values()) {
+            jdbcTemplate.batchUpdate(table.deleteSql(), userIds, userIds.size(),
+                    (ps, userId) -> ps.setLong(1, userId));
+
+            List<RollupRow> rows = new ArrayList<>();
+            targets.forEach(target -> table.of(target.derived()).forEach((date, delta) ->
+                    rows.add(new RollupRow(target.userId(), date, delta))));
+            if (rows.isEmpty()) {
+                continue;
+            }
+            jdbcTemplate.batchUpdate(table.insertSql(), rows, INSERT_BATCH_SIZE, (ps, row) -> {
+                ps.setLong(1, row.userId());
+                ps.setDate(2, Date.valueOf(row.date()));
+                ps.setLong(3, row.delta().totalSchedules());
+                ps.setLong(4, row.delta().completedSchedules());
+                ps.setLong(5, row.delta().focusTime());
+                ps.setLong(6, row.delta().forceQuitCount());
+                ps.setLong(7, row.delta().successDays());
+            });
+        }
+    }
+
+    /**
+     * 저장된 스트릭 상태가 재계산 결과와 같은지 (재계산 대기 중이면 다름)
+     */
+    private boolean sameStreak(UserStreakState stored, UserStreakState expected) {
+        if (stored == null) {
+            // dry-run에서 아직 행이 없는 사용자
+            return expected.getLongestStreak() == 0;
+        }
+        return !stored.isDirty()
+                && Objects.equals(stored.getCurrentStreak(), expected.getCurrentStreak())
+                && Objects.equals(stored.getLongestStreak(), expected.getLongestStreak())
+                && Objects.equals(stored.getLastSuccessDate(), expected.getLastSuccessDate())
+                && Objects.equals(stored.getLongestStreakEnd(), expected.getLongestStreakEnd());
+    }
+
+    /**
+     * 처음 diff-log-limit건의 차이 로그 (모든 스레드 합산)
+     */
+    private void logDiff(Long userId, UserStreakState stored, UserStreakState expected,
+                         Map<RollupTable, Boolean> rollupDiffs) {
+        if (loggedDiffs.getAndIncrement() >= options.diffLogLimit()) {
+            return;
+        }
+        log.info("파생 통계 차이 - userId={}, streak(stored/expected)={}/{} longest={}/{}, rollups={}",
+                userId,
+                stored == null ? null : stored.getCurrentStreak(), expected.getCurrentStreak(),
+                stored == null ? null : stored.getLongestStreak(), expected.getLongestStreak(),
+                rollupDiffs);
+    }
+
+    /**
+     * 이벤트로 전달할 날짜별 상태 (리더보드 주간 점수, 성공 캘린더, 캐시 무효화 범위)
+     */
+    private static Map<LocalDate, DailyStatus> statuses(List<DailyStatisticsView> history) {
+        Map<LocalDate, DailyStatus> statuses = new TreeMap<>();
+        history.forEach(day -> statuses.put(day.date(), day.status()));
+        return Collections.unmodifiableMap(statuses);
+    }
+
+    /**
+     * 재계산 옵션
+     *
+     * @param runId 재개할 실행 ID (비우면 새 실행)
+     * @param dryRun true면 차이만 집계
+     * @param force true면 차이가 없어도 덮어씀
+     * @param parallelism 스레드 수
+     * @param chunkSize 청크(트랜잭션)당 사용자 수
+     * @param maxUsersPerSecond 초당 최대 처리 사용자 수 (0 = 제한 없음)
+     * @param diffLogLimit 로그로 남길 차이 건수
+     */
+    record Options(String runId, boolean dryRun, boolean force, int parallelism, int chunkSize,
+                   int maxUsersPerSecond, int diffLogLimit) {
+    }
+
+    /**
+     * 재계산 대상 롤업 테이블
+     */
+    private enum RollupTable {
+        WEEKLY("weekly_statistics", "week_start"),
+        MONTHLY("monthly_statistics", "month_start"),
+        CUMULATIVE("cumulative_statistics", "date");
+
+        private static final String COLUMNS =
+                "total_schedules, completed_schedules, total_focus_time, force_quit_count, success_days";
+
+        private final String table;
+        private final String dateColumn;
+
+        RollupTable(String table, String dateColumn) {
+            this.table = table;
+            this.dateColumn = dateColumn;
+        }
+
+        Map<LocalDate, StatsRollupDelta> of(DerivedStatistics derived) {
+            return switch (this) {
+                case WEEKLY -> derived.weekly();
+                case MONTHLY -> derived.monthly();
+                case CUMULATIVE -> derived.cumulative();
+            };
+        }
+
+        String selectSql(int userCount) {
+            return "SELECT user_id, " + dateColumn + ", " + COLUMNS + " FROM " + table
+                    + " WHERE user_id IN (" + String.join(", ", Collections.nCopies(userCount, "?")) + ")";
+        }
+
+        String deleteSql() {
+            return "DELETE FROM " + table + " WHERE user_id = ?";
+        }
+
+        String insertSql() {
+            return "INSERT INTO " + table + " (user_id, " + dateColumn + ", " + COLUMNS
+                    + ", created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+        }
+    }
+
+    /**
+     * 모든 스레드가 공유하는 처리량 제한 (처리한 사용자 수만큼 시간 구간을 예약하고 끝날 때까지 대기)
+     */
+    private static final class Throttle {
+
+        private final long nanosPerUser;
+        private final AtomicLong nextFree = new AtomicLong(System.nanoTime());
+
+        Throttle(int maxUsersPerSecond) {
+            this.nanosPerUser = maxUsersPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxUsersPerSecond : 0;
+        }
+
+        /**
+         * @return false면 인터럽트되어 중단 (체크포인트에서 재개)
+         */
+        boolean acquire(long users) {
+            if (nanosPerUser == 0 || users == 0) {
+                return true;
+            }
+            long reservedUntil = nextFree.accumulateAndGet(users * nanosPerUser,
+                    (previous, cost) -> Math.max(previous, System.nanoTime()) + cost);
+            try {
+                TimeUnit.NANOSECONDS.sleep(reservedUntil - System.nanoTime());
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private record UserRebuild(Long userId, DerivedStatistics derived, Map<LocalDate, DailyStatus> statuses) {
+    }
+
+    private record RollupRow(Long userId, LocalDate date, StatsRollupDelta delta) {
+    }
+
+    private record ChunkResult(StatsRebuildCheckpoint checkpoint, StatsRebuildReport report) {
+    }
+}
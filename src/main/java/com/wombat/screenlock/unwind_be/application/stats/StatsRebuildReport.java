@@ -0,0 +1,58 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+/**
+ * 파생 통계 재계산 결과
+ *
+ * <p>차이 건수는 해당 항목의 저장값이 재계산 결과와 다른 사용자 수입니다.
+ * dry-run이면 쓰지 않고 차이만 집계합니다.</p>
+ *
+ * @param scannedUsers 확인한 사용자 수
+ * @param changedUsers 한 항목이라도 차이가 있었던 사용자 수
+ * @param streakDiffs 스트릭 상태 차이
+ * @param weeklyDiffs 주간 롤업 차이
+ * @param monthlyDiffs 월간 롤업 차이
+ * @param cumulativeDiffs 누적 합계 차이
+ * @param failedPartitions 실패한 파티션 수
+ */
+public record StatsRebuildReport(
+    long scannedUsers,
+    long changedUsers,
+    long streakDiffs,
+    long weeklyDiffs,
+    long monthlyDiffs,
+    long cumulativeDiffs,
+    int failedPartitions
+) {
+    public static StatsRebuildReport empty() {
+        return new StatsRebuildReport(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * 실패한 파티션만 있는 결과
+     */
+    public static StatsRebuildReport failed(int partitions) {
+        return new StatsRebuildReport(0, 0, 0, 0, 0, 0, partitions);
+    }
+
+    /**
+     * 두 결과 합산
+     */
+    public StatsRebuildReport merge(StatsRebuildReport other) {
+        return new StatsRebuildReport(
+            scannedUsers + other.scannedUsers,
+            changedUsers + other.changedUsers,
+            streakDiffs + other.streakDiffs,
+            weeklyDiffs + other.weeklyDiffs,
+            monthlyDiffs + other.monthlyDiffs,
+            cumulativeDiffs + other.cumulativeDiffs,
+            failedPartitions + other.failedPartitions
+        );
+    }
+
+    /**
+     * 모든 파티션이 성공했는지
+     */
+    public boolean succeeded() {
+        return failedPartitions == 0;
+    }
+}
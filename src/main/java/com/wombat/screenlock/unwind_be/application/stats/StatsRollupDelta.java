@@ -0,0 +1,79 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+
+/**
+ * 주간/월간 롤업 증분값
+ *
+ * <p>하루치 DailyStatsDelta에 해당 일의 SUCCESS 일수 변화를 더한 값이며,
+ * 같은 주/월에 속한 날짜끼리 합산되어 롤업 UPSERT 1회로 반영됩니다.</p>
+ *
+ * @param totalSchedules 전체 스케줄 수 증분
+ * @param completedSchedules 완료된 스케줄 수 증분
+ * @param focusTime 집중 시간 증분 (초)
+ * @param forceQuitCount 강제 종료 횟수 증분
+ * @param successDays SUCCESS 일수 증분
+ */
+public record StatsRollupDelta(
+    long totalSchedules,
+    long completedSchedules,
+    long focusTime,
+    long forceQuitCount,
+    long successDays
+) {
+    /**
+     * 일별 UPSERT 1회에 해당하는 롤업 증분값
+     *
+     * <p>일별 상태는 카운터만으로 결정되므로(DailyStatistics.updateStatus와 같은 규칙),
+     * UPSERT 후 값에서 증분을 빼 UPSERT 전 상태를 복원하여 SUCCESS 전환 여부를 판단합니다.
+     * 일별 행은 UPSERT로 잠겨 있으므로 같은 트랜잭션에서 읽은 값과 증분이 어긋나지 않습니다.</p>
+     *
+     * @param delta 이번 트랜잭션에서 반영한 일별 증분값
+     * @param after UPSERT 후 일별 통계
+     */
+    public static StatsRollupDelta of(DailyStatsDelta delta, DailyStatisticsView after) {
+        boolean wasSuccess = isSuccess(
+            after.totalSchedules() - delta.totalSchedules(),
+            after.completedSchedules() - delta.completedSchedules(),
+            after.forceQuitCount() - delta.forceQuitCount());
+        boolean nowSuccess = after.status() == DailyStatus.SUCCESS;
+        return new StatsRollupDelta(
+            delta.totalSchedules(),
+            delta.completedSchedules(),
+            delta.focusTime(),
+            delta.forceQuitCount(),
+            (nowSuccess ? 1 : 0) - (wasSuccess ? 1 : 0)
+        );
+    }
+
+    /**
+     * 일별 통계 전체를 롤업에 더하는 증분값 (재계산용)
+     */
+    public static StatsRollupDelta of(DailyStatisticsView day) {
+        return new StatsRollupDelta(
+            day.totalSchedules(),
+            day.completedSchedules(),
+            day.totalFocusTime(),
+            day.forceQuitCount(),
+            day.status() == DailyStatus.SUCCESS ? 1 : 0
+        );
+    }
+
+    /**
+     * 두 증분값 합산
+     */
+    public StatsRollupDelta merge(StatsRollupDelta other) {
+        return new StatsRollupDelta(
+            totalSchedules + other.totalSchedules,
+            completedSchedules + other.completedSchedules,
+            focusTime + other.focusTime,
+            forceQuitCount + other.forceQuitCount,
+            successDays + other.successDays
+        );
+    }
+
+    private static boolean isSuccess(int totalSchedules, int completedSchedules, int forceQuitCount) {
+        return forceQuitCount == 0 && totalSchedules > 0 && completedSchedules == totalSchedules;
+    }
+}
@@ -0,0 +1,129 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.RangeStatsResponse;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.CumulativeStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.CumulativeStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.MonthlyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 주간/월간/누적 통계 롤업 서비스
+ * 
+ * <p>weekly_statistics / monthly_statistics / cumulative_statistics를
+ * DailyStatistics UPSERT와 같은 트랜잭션에서 증분 유지합니다.
+ * 주 단위는 ISO 주(월요일 시작), 월 단위는 달력 월입니다.</p>
+ * 
+ * <h3>누적 합계 (prefix sum)</h3>
+ * <p>기록일마다 첫 기록일부터의 누적 합계를 두어 임의 기간 합계를 두 행의 차이로 계산합니다.
+ * 날짜 d에 증분이 생기면 d 행이 없을 때 직전 누적을 복사해 만들고,
+ * d 이후 행에 같은 증분을 한 번의 UPDATE로 더합니다.
+ * 오늘 기록은 마지막 행 하나만, 늦게 도착한 지난 날짜 기록은 그 뒤 기록일 수만큼만 갱신합니다.</p>
+ * 
+ * <h3>잠금 순서</h3>
+ * <p>StatsService가 스트릭 상태 행 잠금을 얻은 뒤 호출하며, 주간 행 → 월간 행 → 누적 행 순서로
+ * 각각 날짜 오름차순으로 갱신하여 동시 기록 간 데드락을 방지합니다.</p>
+ * 
+ * <p>전체 이력으로 다시 채우는 재계산은 StatsRebuildJob이 담당합니다.
+ * V13 이전에 기록한 사용자는 누적 행이 없으므로, 마이그레이션 후 rebuild 프로필로
+ * StatsRebuildJob을 한 번 실행해야 임의 기간 합계에 기존 이력이 포함됩니다.</p>
+ * 
+ * @see StatsRollupDelta
+ * @see StatsRebuildJob
+ * @see CumulativeStatistics
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class StatsRollupService {
+
+    private final WeeklyStatisticsRepository weeklyStatisticsRepository;
+    private final MonthlyStatisticsRepository monthlyStatisticsRepository;
+    private final CumulativeStatisticsRepository cumulativeStatisticsRepository;
+
+    /**
+     * 일별 UPSERT 결과를 롤업에 반영
+     * 
+     * <p>StatsService의 기록 트랜잭션 안에서 호출됩니다.</p>
+     * 
+     * @param userId 사용자 ID
+     * @param views UPSERT 후 일별 통계
+     * @param deltasByDate 날짜별로 이번 트랜잭션에서 반영한 증분값
+     */
+    @Transactional
+    public void applyDaily(Long userId, List<DailyStatisticsView> views,
+                           Map<LocalDate, DailyStatsDelta> deltasByDate) {
+        Map<LocalDate, StatsRollupDelta> weekly = new TreeMap<>();
+        Map<LocalDate, StatsRollupDelta> monthly = new TreeMap<>();
+        Map<LocalDate, StatsRollupDelta> daily = new TreeMap<>();
+        for (DailyStatisticsView view : views) {
+            DailyStatsDelta delta = deltasByDate.get(view.date());
+            if (delta == null) {
+                continue;
+            }
+            StatsRollupDelta rollup = StatsRollupDelta.of(delta, view);
+            weekly.merge(DerivedStatistics.weekStart(view.date()), rollup, StatsRollupDelta::merge);
+            monthly.merge(DerivedStatistics.monthStart(view.date()), rollup, StatsRollupDelta::merge);
+            daily.merge(view.date(), rollup, StatsRollupDelta::merge);
+        }
+        upsert(userId, weekly, monthly);
+        daily.forEach((date, delta) -> {
+            cumulativeStatisticsRepository.insertCarryForward(userId, date);
+            cumulativeStatisticsRepository.incrementFrom(userId, date,
+                    Math.toIntExact(delta.totalSchedules()), Math.toIntExact(delta.completedSchedules()),
+                    delta.focusTime(), Math.toIntExact(delta.forceQuitCount()), Math.toIntExact(delta.successDays()));
+        });
+    }
+
+    /**
+     * 임의 기간 합계 조회 (누적 행 2개의 차이)
+     * 
+     * @param userId 사용자 ID
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @return RangeStatsResponse 기간 합계
+     * @throws BusinessException INVALID_INPUT - 시작일이 종료일보다 늦음
+     */
+    public RangeStatsResponse getRange(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        Optional<CumulativeStatistics> end =
+                cumulativeStatisticsRepository.findFirstByUserIdAndDateLessThanEqualOrderByDateDesc(userId, to);
+        if (end.isEmpty()) {
+            return RangeStatsResponse.empty(from, to);
+        }
+        Optional<CumulativeStatistics> beforeStart =
+                cumulativeStatisticsRepository.findFirstByUserIdAndDateLessThanEqualOrderByDateDesc(
+                        userId, from.minusDays(1));
+        return RangeStatsResponse.between(from, to, end.get(), beforeStart.orElse(null));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 주간 → 월간 순서로 날짜 오름차순 UPSERT
+     */
+    private void upsert(Long userId, Map<LocalDate, StatsRollupDelta> weekly,
+                        Map<LocalDate, StatsRollupDelta> monthly) {
+        weekly.forEach((weekStart, delta) -> weeklyStatisticsRepository.upsertIncrement(userId, weekStart,
+                delta.totalSchedules(), delta.completedSchedules(), delta.focusTime(),
+                delta.forceQuitCount(), delta.successDays()));
+        monthly.forEach((monthStart, delta) -> monthlyStatisticsRepository.upsertIncrement(userId, monthStart,
+                delta.totalSchedules(), delta.completedSchedules(), delta.focusTime(),
+                delta.forceQuitCount(), delta.successDays()));
+    }
+}
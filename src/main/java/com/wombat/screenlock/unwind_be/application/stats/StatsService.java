@@ -1,21 +1,28 @@
 package com.wombat.screenlock.unwind_be.application.stats;
 
 import com.wombat.screenlock.unwind_be.api.stats.dto.*;
-import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatistics;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
 import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.UserStreakState;
 import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
-import com.wombat.screenlock.unwind_be.domain.user.entity.User;
-import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.StatsWindowTotals;
 import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
 import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import com.wombat.screenlock.unwind_be.infrastructure.archive.DailyStatisticsArchive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * 통계 서비스
@@ -26,15 +33,50 @@ import java.util.List;
  * <ul>
  *   <li>완료 통계 기록 (UPSERT)</li>
  *   <li>강제 종료 카운트 기록</li>
- *   <li>통계 요약 조회 (스트릭, 완료율, 집중 시간)</li>
+ *   <li>권한 해제 패널티 기록 (사유는 revocation_logs에 배치 기록)</li>
+ *   <li>완료/강제 종료 이벤트 일괄 기록 (오프라인 큐 재전송)</li>
+ *   <li>통계 요약 조회 (스트릭, 완료율, 집중 시간, 주간 백분위)</li>
  * </ul>
  * 
+ * <h3>중복 제거</h3>
+ * <p>요청에 eventId가 있으면 StatsEventDeduplicator로 선점한 이벤트만 반영합니다.
+ * 재시도/재전송으로 같은 이벤트가 다시 오면 DB를 갱신하지 않고 현재 누적값만 반환합니다.</p>
+ * 
+ * <h3>세션 로그</h3>
+ * <p>완료 요청은 FocusSessionService가 focus_sessions에 원본으로 남깁니다.
+ * 비동기 집계 모드에서는 요청 경로가 세션 INSERT만 하고,
+ * FocusSessionAggregator가 {@link #applyDeltas}로 daily_statistics에 반영합니다.</p>
+ * 
+ * <h3>스트릭</h3>
+ * <p>기록 시 일별 상태가 바뀔 때마다 StreakService가 user_streak_state를 증분 갱신하며,
+ * 요약 조회는 전체 이력 대신 이 상태 행만 읽습니다.</p>
+ * 
+ * <h3>늦게 도착한 기록</h3>
+ * <p>오프라인 클라이언트의 지난 날짜 기록은 파생 상태마다 그 날짜 이후만 다시 계산합니다.</p>
+ * <ul>
+ *   <li>스트릭: 증분 반영이 불가능하면 dirty_from(가장 이른 날짜)만 기록, StreakRecomputeJob이 백그라운드 재계산</li>
+ *   <li>주간/월간 롤업: 해당 주/월 행만 증분, 누적 합계: 해당 날짜 이후 행만 증분</li>
+ *   <li>캐시: 커밋 후 StatsUpdatedEvent의 날짜가 속한 요약/연도/월 캐시만 삭제</li>
+ * </ul>
+ * 
+ * <h3>롤업</h3>
+ * <p>같은 트랜잭션에서 StatsRollupService가 weekly_statistics / monthly_statistics를,
+ * ScheduleStatsService가 스케줄 clientId별 schedule_statistics를 증분 갱신합니다.</p>
+ * 
+ * <h3>통계 날짜</h3>
+ * <p>강제 종료 시각의 날짜 변환과 요약의 "오늘"은 사용자 시간대 기준이며,
+ * UserZoneResolver가 JWT tz 클레임/캐시로 DB 조회 없이 제공합니다.
+ * 콜드 아카이브로 옮겨졌거나 옮길 대상인 날짜의 기록은 INVALID_INPUT으로 거부합니다.</p>
+ * 
  * <h3>UPSERT 로직</h3>
  * <p>userId + date 조합으로 기존 레코드가 있으면 누적하고,
- * 없으면 새 레코드를 생성합니다.</p>
+ * 없으면 새 레코드를 생성합니다. INSERT ... ON DUPLICATE KEY UPDATE
+ * 단일 SQL로 처리되어 동시 요청에도 원자적으로 누적됩니다.</p>
  * 
  * @see DailyStatisticsRepository
- * @see UserRepository
+ * @see StreakService
+ * @see StatsRollupService
+ * @see StatsEventDeduplicator
  */
 @Service
 @RequiredArgsConstructor
@@ -43,49 +85,74 @@ import java.util.List;
 public class StatsService {
 
     private final DailyStatisticsRepository dailyStatisticsRepository;
-    private final UserRepository userRepository;
+    private final StreakService streakService;
+    private final StatsRollupService statsRollupService;
+    private final StatsSummaryCache statsSummaryCache;
+    private final UserZoneResolver userZoneResolver;
+    private final DailyStatisticsArchive dailyStatisticsArchive;
+    private final StatsEventDeduplicator statsEventDeduplicator;
+    private final FocusSessionService focusSessionService;
+    private final ScheduleStatsService scheduleStatsService;
+    private final PercentileService percentileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 완료 통계 기록 (UPSERT)
      * 
      * <h3>비즈니스 로직 순서</h3>
      * <ol>
-     *   <li>userId로 User 엔티티 조회</li>
-     *   <li>userId + date로 기존 DailyStatistics 조회</li>
-     *   <li>존재하면 누적 업데이트, 없으면 신규 생성</li>
-     *   <li>저장 후 응답 반환</li>
+     *   <li>eventId 선점 (이미 처리된 이벤트면 현재 누적값만 반환)</li>
+     *   <li>세션 로그 기록 (비동기 집계 모드면 여기서 반환)</li>
+     *   <li>userId + date 기준 단일 SQL UPSERT로 카운터 누적 (status도 SQL에서 계산)</li>
+     *   <li>스케줄별 통계 UPSERT (userId + scheduleId)</li>
+     *   <li>누적 결과를 Projection으로 조회</li>
+     *   <li>커밋 후 요약 캐시 무효화 / 성공 캘린더 갱신 이벤트 발행</li>
+     *   <li>응답 반환</li>
      * </ol>
      * 
+     * <p>엔티티를 조회/수정하지 않으므로 동일 날짜에 대한 동시 요청도
+     * 누락 없이 원자적으로 누적됩니다.</p>
+     * 
      * @param request 완료 통계 요청 DTO
      * @param userId 인증된 사용자 ID (JWT에서 추출)
      * @return CompletionResponse 기록 결과
      * @throws BusinessException USER_NOT_FOUND - 사용자를 찾을 수 없음
+     * @throws BusinessException INVALID_INPUT - 콜드 아카이브 대상 날짜
      */
     @Transactional
     public CompletionResponse recordCompletion(CompletionRequest request, Long userId) {
         log.info("완료 통계 기록 - userId={}, date={}, completed={}, focusTime={}",
                 userId, request.date(), request.completed(), request.focusTime());
 
-        // 1. User 엔티티 조회
-        User user = findUserById(userId);
+        // 1. 재전송 중복 제거
+        if (!statsEventDeduplicator.tryClaim(userId, request.eventId())) {
+            return CompletionResponse.duplicate(dailyStatisticsRepository
+                    .findViewByUserIdAndDate(userId, request.date())
+                    .map(DailyStatsDto::from)
+                    .orElse(null));
+        }
 
-        // 2. 기존 레코드 조회 또는 신규 생성 (UPSERT)
-        DailyStatistics dailyStats = dailyStatisticsRepository
-                .findByUserIdAndDate(userId, request.date())
-                .orElseGet(() -> createNewDailyStatistics(user, request.date()));
+        // 2. 세션 로그 기록
+        ensureWritable(userId, request.date());
+        if (focusSessionService.append(userId, request)) {
+            log.info("완료 통계 집계 대기 - userId={}, date={}", userId, request.date());
+            return CompletionResponse.accepted();
+        }
 
-        // 3. 통계 누적
-        dailyStats.recordCompletion(
-                request.completed(),
-                request.focusTime(),
-                request.isAllInMode()
-        );
+        // 3. 통계 누적 (UPSERT)
+        DailyStatsDelta delta = DailyStatsDelta.completion(
+                request.completed(), request.focusTime(), request.isAllInMode());
+        applyDelta(userId, request.date(), delta);
+        scheduleStatsService.apply(userId, Map.of(request.scheduleId(), delta));
 
-        // 4. 저장
-        DailyStatistics saved = dailyStatisticsRepository.save(dailyStats);
+        // 4. 누적 결과 조회 및 스트릭/롤업 반영
+        DailyStatisticsView saved = findView(userId, request.date());
+        streakService.onDailyStatusChanged(userId, saved.date(), saved.status());
+        statsRollupService.applyDaily(userId, List.of(saved), Map.of(saved.date(), delta));
+        eventPublisher.publishEvent(StatsUpdatedEvent.of(userId, saved.date(), saved.status()));
 
         log.info("완료 통계 기록 완료 - userId={}, date={}, totalSchedules={}, completedSchedules={}",
-                userId, saved.getDate(), saved.getTotalSchedules(), saved.getCompletedSchedules());
+                userId, saved.date(), saved.totalSchedules(), saved.completedSchedules());
 
         return CompletionResponse.success(DailyStatsDto.from(saved));
     }
@@ -95,44 +162,220 @@ public class StatsService {
      * 
      * <h3>비즈니스 로직 순서</h3>
      * <ol>
-     *   <li>timestamp에서 날짜 추출 (KST 기준)</li>
-     *   <li>userId + date로 기존 DailyStatistics 조회</li>
-     *   <li>존재하면 forceQuitCount 증가, 없으면 신규 생성</li>
-     *   <li>저장 후 응답 반환</li>
+     *   <li>timestamp에서 날짜 추출 (사용자 시간대 기준)</li>
+     *   <li>eventId 선점 (이미 처리된 이벤트면 현재 누적 횟수만 반환)</li>
+     *   <li>userId + date 기준 단일 SQL UPSERT로 forceQuitCount 증가 (status = FAILURE)</li>
+     *   <li>scheduleId가 있으면 스케줄별 강제 종료 횟수 증가</li>
+     *   <li>누적 결과 조회 후 응답 반환</li>
      * </ol>
      * 
      * @param request 강제 종료 요청 DTO
      * @param userId 인증된 사용자 ID (JWT에서 추출)
      * @return ForceQuitResponse 기록 결과
      * @throws BusinessException USER_NOT_FOUND - 사용자를 찾을 수 없음
+     * @throws BusinessException INVALID_INPUT - 콜드 아카이브 대상 날짜
      */
     @Transactional
     public ForceQuitResponse recordForceQuit(ForceQuitRequest request, Long userId) {
-        // 1. timestamp에서 날짜 추출 (KST 기준)
-        LocalDate date = request.timestamp()
-                .atZone(ZoneId.of("Asia/Seoul"))
-                .toLocalDate();
+        // 1. timestamp에서 날짜 추출 (사용자 시간대 기준)
+        LocalDate date = userZoneResolver.toLocalDate(userId, request.timestamp());
 
         log.info("강제 종료 기록 - userId={}, date={}, timestamp={}", userId, date, request.timestamp());
 
-        // 2. User 엔티티 조회
-        User user = findUserById(userId);
-
-        // 3. 기존 레코드 조회 또는 신규 생성 (UPSERT)
-        DailyStatistics dailyStats = dailyStatisticsRepository
-                .findByUserIdAndDate(userId, date)
-                .orElseGet(() -> createNewDailyStatistics(user, date));
+        // 2. 재전송 중복 제거
+        if (!statsEventDeduplicator.tryClaim(userId, request.eventId())) {
+            return ForceQuitResponse.duplicate(dailyStatisticsRepository.findViewByUserIdAndDate(userId, date)
+                    .map(DailyStatisticsView::forceQuitCount)
+                    .orElse(0));
+        }
 
-        // 4. 강제 종료 카운트 증가
-        dailyStats.incrementForceQuit();
+        // 3. 강제 종료 카운트 증가 (UPSERT)
+        DailyStatsDelta delta = DailyStatsDelta.forceQuit();
+        applyDelta(userId, date, delta);
+        if (hasScheduleId(request.scheduleId())) {
+            scheduleStatsService.apply(userId, Map.of(request.scheduleId(), delta));
+        }
 
-        // 5. 저장
-        DailyStatistics saved = dailyStatisticsRepository.save(dailyStats);
+        // 4. 누적 결과 조회 및 스트릭/롤업 반영
+        DailyStatisticsView saved = findView(userId, date);
+        streakService.onDailyStatusChanged(userId, saved.date(), saved.status());
+        statsRollupService.applyDaily(userId, List.of(saved), Map.of(saved.date(), delta));
+        eventPublisher.publishEvent(StatsUpdatedEvent.of(userId, saved.date(), saved.status()));
 
         log.info("강제 종료 기록 완료 - userId={}, date={}, forceQuitCount={}",
-                userId, saved.getDate(), saved.getForceQuitCount());
+                userId, saved.date(), saved.forceQuitCount());
+
+        return ForceQuitResponse.success(saved.forceQuitCount());
+    }
+
+    /**
+     * 권한 해제 패널티 기록
+     * 
+     * <h3>비즈니스 로직 순서</h3>
+     * <ol>
+     *   <li>revokedAt에서 날짜 추출 (사용자 시간대 기준)</li>
+     *   <li>eventId 선점 (이미 처리된 이벤트면 현재 누적값만 반환)</li>
+     *   <li>강제 종료와 같은 패널티로 UPSERT (status = FAILURE)</li>
+     *   <li>누적 결과 조회 및 스트릭/롤업 반영</li>
+     *   <li>커밋 후 사유 로그 큐에 추가 (PermissionRevokedEvent → RevocationLogWriter)</li>
+     * </ol>
+     * 
+     * @param request 권한 해제 요청 DTO
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return RevocationResponse 기록 결과
+     * @throws BusinessException USER_NOT_FOUND - 사용자를 찾을 수 없음
+     * @throws BusinessException INVALID_INPUT - 콜드 아카이브 대상 날짜
+     */
+    @Transactional
+    public RevocationResponse recordRevocation(RevocationRequest request, Long userId) {
+        // 1. revokedAt에서 날짜 추출 (사용자 시간대 기준)
+        LocalDate date = userZoneResolver.toLocalDate(userId, request.revokedAt());
+
+        log.info("권한 해제 기록 - userId={}, date={}, revokedAt={}", userId, date, request.revokedAt());
+
+        // 2. 재전송 중복 제거
+        if (!statsEventDeduplicator.tryClaim(userId, request.eventId())) {
+            return RevocationResponse.duplicate(dailyStatisticsRepository
+                    .findViewByUserIdAndDate(userId, date)
+                    .map(DailyStatsDto::from)
+                    .orElse(null));
+        }
 
-        return ForceQuitResponse.success(saved.getForceQuitCount());
+        // 3. 패널티 반영 (UPSERT)
+        DailyStatsDelta delta = DailyStatsDelta.revocation();
+        applyDelta(userId, date, delta);
+
+        // 4. 누적 결과 조회 및 스트릭/롤업 반영
+        DailyStatisticsView saved = findView(userId, date);
+        streakService.onDailyStatusChanged(userId, saved.date(), saved.status());
+        statsRollupService.applyDaily(userId, List.of(saved), Map.of(saved.date(), delta));
+        eventPublisher.publishEvent(StatsUpdatedEvent.of(userId, saved.date(), saved.status()));
+
+        // 5. 사유 로그 (커밋 후 큐에 추가)
+        eventPublisher.publishEvent(new PermissionRevokedEvent(userId, date, request.reason(), request.revokedAt()));
+
+        log.info("권한 해제 기록 완료 - userId={}, date={}, status={}", userId, saved.date(), saved.status());
+
+        return RevocationResponse.success(DailyStatsDto.from(saved));
+    }
+
+    /**
+     * 통계 이벤트 일괄 기록 (오프라인 큐 재전송)
+     * 
+     * <h3>비즈니스 로직 순서</h3>
+     * <ol>
+     *   <li>eventId 선점에 실패한(이미 처리된) 이벤트 제외</li>
+     *   <li>COMPLETION 이벤트를 세션 로그로 기록 (비동기 집계 모드면 증분에서 제외)</li>
+     *   <li>각 이벤트를 날짜별 DailyStatsDelta로 변환 (강제 종료는 사용자 시간대 기준 날짜)</li>
+     *   <li>userId + date 단위로 증분값 합산 (scheduleId가 있으면 스케줄 단위로도 합산)</li>
+     *   <li>날짜 오름차순으로 날짜당 UPSERT 1회 수행 (단일 트랜잭션)</li>
+     *   <li>영향받은 날짜의 누적 결과를 한 번에 조회하고 스트릭 상태/주간·월간 롤업에 반영</li>
+     *   <li>스케줄별 통계 UPSERT</li>
+     * </ol>
+     * 
+     * <p>날짜 오름차순으로 반영하여 동시에 들어온 일괄 요청 간
+     * 행 잠금 순서를 고정합니다 (데드락 방지).</p>
+     * 
+     * @param request 일괄 전송 요청 DTO
+     * @param userId 인증된 사용자 ID (JWT에서 추출)
+     * @return StatsEventBatchResponse 반영 결과
+     * @throws BusinessException USER_NOT_FOUND - 사용자를 찾을 수 없음
+     * @throws BusinessException INVALID_INPUT - 콜드 아카이브 대상 날짜
+     */
+    @Transactional
+    public StatsEventBatchResponse recordEvents(StatsEventBatchRequest request, Long userId) {
+        log.info("통계 이벤트 일괄 기록 - userId={}, eventCount={}", userId, request.events().size());
+
+        ZoneId zone = userZoneResolver.zoneOf(userId);
+
+        // 1. 재전송 중복 제거
+        List<StatsEventRequest> events = new ArrayList<>();
+        for (StatsEventRequest event : request.events()) {
+            if (statsEventDeduplicator.tryClaim(userId, event.eventId())) {
+                events.add(event);
+            }
+        }
+        int duplicates = request.events().size() - events.size();
+        if (events.isEmpty()) {
+            log.info("통계 이벤트 일괄 기록 생략: 모두 중복 - userId={}, duplicates={}", userId, duplicates);
+            return new StatsEventBatchResponse(0, duplicates, List.of());
+        }
+
+        // 2. 세션 로그 기록
+        List<StatsEventRequest> completions = events.stream()
+                .filter(event -> event.type() == StatsEventType.COMPLETION)
+                .toList();
+        completions.forEach(event -> ensureWritable(userId, event.date()));
+        boolean deferred = focusSessionService.appendAll(userId, completions);
+
+        // 3-4. 날짜별/스케줄별 증분값 합산
+        Map<LocalDate, DailyStatsDelta> deltasByDate = new TreeMap<>();
+        Map<String, DailyStatsDelta> deltasBySchedule = new TreeMap<>();
+        for (StatsEventRequest event : events) {
+            if (deferred && event.type() == StatsEventType.COMPLETION) {
+                continue;
+            }
+            LocalDate date = switch (event.type()) {
+                case COMPLETION -> event.date();
+                case FORCE_QUIT -> event.timestamp().atZone(zone).toLocalDate();
+            };
+            DailyStatsDelta delta = switch (event.type()) {
+                case COMPLETION -> DailyStatsDelta.completion(
+                        event.completed(), event.focusTime(), event.isAllInMode());
+                case FORCE_QUIT -> DailyStatsDelta.forceQuit();
+            };
+            deltasByDate.merge(date, delta, DailyStatsDelta::merge);
+            if (hasScheduleId(event.scheduleId())) {
+                deltasBySchedule.merge(event.scheduleId(), delta, DailyStatsDelta::merge);
+            }
+        }
+
+        // 5-6. 날짜당 UPSERT 1회 및 스트릭/롤업 반영
+        List<DailyStatsDto> dailyStats = applyDeltas(userId, deltasByDate).stream()
+                .map(DailyStatsDto::from)
+                .toList();
+        scheduleStatsService.apply(userId, deltasBySchedule);
+
+        log.info("통계 이벤트 일괄 기록 완료 - userId={}, eventCount={}, duplicates={}, dateCount={}, deferred={}",
+                userId, events.size(), duplicates, deltasByDate.size(), deferred ? completions.size() : 0);
+
+        return new StatsEventBatchResponse(events.size(), duplicates, dailyStats);
+    }
+
+    /**
+     * 날짜별 증분값 반영
+     * 
+     * <p>날짜 오름차순으로 날짜당 UPSERT 1회를 수행하고, 영향받은 날짜의 누적 결과를
+     * 한 번에 조회하여 스트릭 상태/주간·월간 롤업에 반영한 뒤 변경 이벤트를 발행합니다.
+     * 일괄 기록과 FocusSessionAggregator의 세션 집계가 함께 사용합니다.</p>
+     * 
+     * @param userId 사용자 ID
+     * @param deltasByDate 날짜별 증분값 (비어 있으면 아무것도 하지 않음)
+     * @return 영향받은 날짜의 누적 통계 (날짜 오름차순)
+     * @throws BusinessException USER_NOT_FOUND - 사용자를 찾을 수 없음
+     * @throws BusinessException INVALID_INPUT - 콜드 아카이브 대상 날짜
+     */
+    @Transactional
+    public List<DailyStatisticsView> applyDeltas(Long userId, Map<LocalDate, DailyStatsDelta> deltasByDate) {
+        if (deltasByDate.isEmpty()) {
+            return List.of();
+        }
+        Map<LocalDate, DailyStatsDelta> sorted = new TreeMap<>(deltasByDate);
+
+        // 날짜당 UPSERT 1회 (날짜 오름차순)
+        sorted.forEach((date, delta) -> applyDelta(userId, date, delta));
+
+        // 누적 결과 일괄 조회 및 스트릭/롤업 반영 (날짜 오름차순)
+        List<DailyStatisticsView> views = dailyStatisticsRepository
+                .findViewsByUserIdAndDateIn(userId, sorted.keySet());
+        Map<LocalDate, DailyStatus> dailyStatuses = new TreeMap<>();
+        for (DailyStatisticsView view : views) {
+            streakService.onDailyStatusChanged(userId, view.date(), view.status());
+            dailyStatuses.put(view.date(), view.status());
+        }
+        statsRollupService.applyDaily(userId, views, sorted);
+        eventPublisher.publishEvent(new StatsUpdatedEvent(userId, dailyStatuses));
+        return views;
     }
 
     /**
@@ -144,43 +387,69 @@ public class StatsService {
      *   <li>주간/월간 완료율</li>
      *   <li>주간/월간 총 집중 시간</li>
      *   <li>최근 7일 일별 통계</li>
+     *   <li>이번 주 집중 시간 / 완료율 백분위 (PercentileService 스냅샷)</li>
      * </ul>
      * 
+     * <p>합계는 DB에서 조건부 SUM으로 계산하고, 최근 7일 상세는
+     * Projection으로 조회하여 엔티티 적재/스냅샷 비용 없이 처리합니다.</p>
+     * 
+     * <h3>캐시</h3>
+     * <p>Redis 요약 캐시를 먼저 확인하고, 미스일 때만 DB에서 계산하여 저장합니다.
+     * 캐시는 통계 기록 커밋 시 StatsSummaryCacheEvictor가 삭제합니다.</p>
+     * 
      * @param userId 인증된 사용자 ID (JWT에서 추출)
      * @return StatsSummaryResponse 통계 요약
      */
     public StatsSummaryResponse getSummary(Long userId) {
         log.info("통계 요약 조회 - userId={}", userId);
 
-        LocalDate today = LocalDate.now();
-        LocalDate weekStart = today.minusDays(6); // 최근 7일
-        LocalDate monthStart = today.minusDays(29); // 최근 30일
+        Optional<StatsSummaryResponse> cached = statsSummaryCache.find(userId);
+        if (cached.isPresent()) {
+            log.debug("통계 요약 캐시 적중 - userId={}", userId);
+            return cached.get();
+        }
 
-        // 1. 최근 통계 조회 (스트릭 계산용)
-        List<DailyStatistics> recentStats = dailyStatisticsRepository
-                .findRecentByUserIdOrderByDateDesc(userId, today);
+        StatsSummaryResponse summary = calculateSummary(userId);
+        statsSummaryCache.put(userId, summary);
+        return summary;
+    }
 
-        // 2. 스트릭 계산
-        int currentStreak = calculateCurrentStreak(recentStats, today);
-        int longestStreak = calculateLongestStreak(recentStats);
+    // ========== Private Helper Methods ==========
 
-        // 3. 주간 통계
-        List<DailyStatistics> weeklyStats = dailyStatisticsRepository
-                .findByUserIdAndDateBetweenOrderByDateDesc(userId, weekStart, today);
-        double weeklyCompletionRate = calculateCompletionRate(weeklyStats);
-        int totalFocusTimeThisWeek = calculateTotalFocusTime(weeklyStats);
+    /**
+     * DB에서 통계 요약 계산
+     */
+    private StatsSummaryResponse calculateSummary(Long userId) {
+        LocalDate today = userZoneResolver.today(userId);
+        LocalDate weekStart = today.minusDays(6); // 최근 7일
+        LocalDate monthStart = today.minusDays(29); // 최근 30일
 
-        // 4. 월간 통계
-        List<DailyStatistics> monthlyStats = dailyStatisticsRepository
-                .findByUserIdAndDateBetweenOrderByDateDesc(userId, monthStart, today);
-        double monthlyCompletionRate = calculateCompletionRate(monthlyStats);
-        int totalFocusTimeThisMonth = calculateTotalFocusTime(monthlyStats);
+        // 1. 주간/월간 합계 (30일 범위 단일 조건부 SUM 쿼리)
+        StatsWindowTotals totals = dailyStatisticsRepository
+                .findWindowTotals(userId, weekStart, monthStart, today);
+        double weeklyCompletionRate = totals.weeklyCompletionRate();
+        double monthlyCompletionRate = totals.monthlyCompletionRate();
 
-        // 5. 최근 7일 상세 (이미 weeklyStats에 포함)
-        List<RecentDayDto> recentDays = weeklyStats.stream()
+        // 2. 최근 7일 상세 (Projection, 엔티티 미적재)
+        List<DailyStatisticsView> recentStats = dailyStatisticsRepository
+                .findViewsByUserIdAndDateBetweenOrderByDateDesc(userId, weekStart, today);
+        List<RecentDayDto> recentDays = recentStats.stream()
                 .map(RecentDayDto::from)
                 .toList();
 
+        // 3. 스트릭 (user_streak_state, O(1))
+        DailyStatus todayStatus = recentStats.stream()
+                .filter(stat -> stat.date().equals(today))
+                .map(DailyStatisticsView::status)
+                .findFirst()
+                .orElse(null);
+        UserStreakState streakState = streakService.getStreakState(userId);
+        int currentStreak = streakState.currentStreakAsOf(today, todayStatus);
+        int longestStreak = streakState.getLongestStreak();
+
+        // 4. 이번 주 백분위 (노드 메모리 스냅샷 + 주간 롤업 1행)
+        Optional<UserPercentiles> percentiles = percentileService.lookup(userId, today);
+
         log.debug("통계 요약 조회 완료 - userId={}, currentStreak={}, weeklyRate={}",
                 userId, currentStreak, weeklyCompletionRate);
 
@@ -189,139 +458,55 @@ public class StatsService {
                 .longestStreak(longestStreak)
                 .weeklyCompletionRate(weeklyCompletionRate)
                 .monthlyCompletionRate(monthlyCompletionRate)
-                .totalFocusTimeThisWeek(totalFocusTimeThisWeek)
-                .totalFocusTimeThisMonth(totalFocusTimeThisMonth)
+                .totalFocusTimeThisWeek((int) totals.weeklyFocusTime())
+                .totalFocusTimeThisMonth((int) totals.monthlyFocusTime())
                 .recentDays(recentDays)
+                .weeklyFocusPercentile(percentiles.map(UserPercentiles::focusTime).orElse(null))
+                .weeklyCompletionPercentile(percentiles.map(UserPercentiles::completionRate).orElse(null))
                 .build();
     }
 
-    // ========== Private Helper Methods ==========
-
     /**
-     * 사용자 ID로 User 엔티티 조회
-     */
-    private User findUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.warn("통계 기록 실패: 사용자를 찾을 수 없음 - userId={}", userId);
-                    return new BusinessException(ErrorCode.USER_NOT_FOUND);
-                });
-    }
-
-    /**
-     * 새로운 DailyStatistics 엔티티 생성
-     */
-    private DailyStatistics createNewDailyStatistics(User user, LocalDate date) {
-        log.debug("새 일별 통계 생성 - userId={}, date={}", user.getId(), date);
-        return DailyStatistics.builder()
-                .user(user)
-                .date(date)
-                .build();
-    }
-
-    /**
-     * 현재 스트릭 계산 (오늘부터 연속 성공 일수)
+     * 일별 통계 원자적 누적
      * 
-     * <p>SUCCESS 상태인 날이 연속으로 몇 일인지 계산합니다.
-     * 오늘이 SUCCESS가 아니면 0을 반환합니다.</p>
+     * <p>아카이브 파일은 수정하지 않으므로 콜드 날짜는 거부합니다.</p>
+     * 
+     * <p>daily_statistics는 파티션 테이블이라 users FK가 없으므로,
+     * UPSERT가 users에 없는 사용자에 대해 0행을 반환하면 존재하지 않는 사용자로 간주합니다.</p>
      */
-    private int calculateCurrentStreak(List<DailyStatistics> stats, LocalDate today) {
-        if (stats.isEmpty()) {
-            return 0;
+    private void applyDelta(Long userId, LocalDate date, DailyStatsDelta delta) {
+        ensureWritable(userId, date);
+        int affected = dailyStatisticsRepository.upsertIncrement(userId, date,
+                delta.totalSchedules(), delta.completedSchedules(), delta.focusTime(),
+                delta.forceQuitCount(), delta.allInMode());
+        if (affected == 0) {
+            log.warn("통계 기록 실패: 사용자를 찾을 수 없음 - userId={}", userId);
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
-
-        int streak = 0;
-        LocalDate expectedDate = today;
-
-        for (DailyStatistics stat : stats) {
-            // 날짜가 연속적이지 않으면 종료
-            if (!stat.getDate().equals(expectedDate)) {
-                // 오늘이 아직 기록되지 않았으면 어제부터 확인
-                if (streak == 0 && expectedDate.equals(today)) {
-                    expectedDate = today.minusDays(1);
-                    if (!stat.getDate().equals(expectedDate)) {
-                        break;
-                    }
-                } else {
-                    break;
-                }
-            }
-
-            // SUCCESS 상태만 스트릭에 포함
-            if (stat.getStatus() == DailyStatus.SUCCESS) {
-                streak++;
-                expectedDate = expectedDate.minusDays(1);
-            } else {
-                break;
-            }
-        }
-
-        return streak;
     }
 
     /**
-     * 최장 스트릭 계산
-     * 
-     * <p>전체 기록에서 가장 긴 연속 성공 일수를 계산합니다.</p>
+     * 스케줄별 통계에 반영할 scheduleId인지 (강제 종료는 선택)
      */
-    private int calculateLongestStreak(List<DailyStatistics> stats) {
-        if (stats.isEmpty()) {
-            return 0;
-        }
-
-        int longest = 0;
-        int current = 0;
-        LocalDate previousDate = null;
-
-        for (DailyStatistics stat : stats) {
-            boolean isSuccess = stat.getStatus() == DailyStatus.SUCCESS;
-            boolean isConsecutive = previousDate != null && 
-                    stat.getDate().equals(previousDate.minusDays(1));
-
-            if (isSuccess && (previousDate == null || isConsecutive)) {
-                current++;
-            } else if (isSuccess) {
-                // 연속이 끊겼지만 새로운 시작
-                current = 1;
-            } else {
-                current = 0;
-            }
-
-            longest = Math.max(longest, current);
-            previousDate = stat.getDate();
-        }
-
-        return longest;
+    private static boolean hasScheduleId(String scheduleId) {
+        return scheduleId != null && !scheduleId.isBlank();
     }
 
     /**
-     * 완료율 계산
+     * 콜드 아카이브 대상 날짜 거부 (세션 로그를 남기기 전에도 확인)
      */
-    private double calculateCompletionRate(List<DailyStatistics> stats) {
-        if (stats.isEmpty()) {
-            return 0.0;
-        }
-
-        int totalSchedules = stats.stream()
-                .mapToInt(DailyStatistics::getTotalSchedules)
-                .sum();
-        int completedSchedules = stats.stream()
-                .mapToInt(DailyStatistics::getCompletedSchedules)
-                .sum();
-
-        if (totalSchedules == 0) {
-            return 0.0;
+    private void ensureWritable(Long userId, LocalDate date) {
+        if (dailyStatisticsArchive.isCold(date)) {
+            log.warn("통계 기록 거부: 아카이브 대상 날짜 - userId={}, date={}", userId, date);
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
         }
-
-        return (double) completedSchedules / totalSchedules;
     }
 
     /**
-     * 총 집중 시간 계산
+     * UPSERT 직후 일별 통계 Projection 조회
      */
-    private int calculateTotalFocusTime(List<DailyStatistics> stats) {
-        return stats.stream()
-                .mapToInt(DailyStatistics::getTotalFocusTime)
-                .sum();
+    private DailyStatisticsView findView(Long userId, LocalDate date) {
+        return dailyStatisticsRepository.findViewByUserIdAndDate(userId, date)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR));
     }
 }
@@ -0,0 +1,117 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.StatsSummaryResponse;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCache;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 통계 요약 캐시
+ * 
+ * <p>StatsSummaryResponse를 2단계 캐시(JVM 내 LRU → Redis)에 사용자별로 보관합니다.
+ * 요약은 해당 사용자의 기록이 있을 때만 바뀌므로, 기록 커밋 시 삭제하고
+ * 다음 조회에서 다시 채웁니다. 삭제는 pub/sub으로 모든 노드의 로컬 캐시에 전파됩니다.</p>
+ * 
+ * <h3>정책</h3>
+ * <ul>
+ *   <li>Key: {userId}:{사용자 시간대 기준 오늘 날짜} - 요약이 "오늘" 기준이므로 날짜가 바뀌면 자연히 미스</li>
+ *   <li>TTL: Redis stats.summary-cache.ttl-seconds, 로컬 stats.summary-cache.local-ttl-seconds</li>
+ *   <li>Redis 장애/역직렬화 실패: 캐시 미스로 처리하고 DB에서 계산</li>
+ *   <li>메트릭: stats.summary.cache{result=hit|miss}</li>
+ * </ul>
+ * 
+ * @see TwoLevelCache
+ * @see StatsSummaryCacheEvictor
+ */
+@Component
+public class StatsSummaryCache {
+
+    /** 캐시 이름 (Redis Key 접두사) */
+    static final String CACHE_NAME = "stats_summary";
+
+    /** 캐시 조회 결과 메트릭 이름 */
+    static final String METRIC_NAME = "stats.summary.cache";
+
+    private final TwoLevelCache<StatsSummaryResponse> cache;
+    private final Duration ttl;
+    private final UserZoneResolver userZoneResolver;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public StatsSummaryCache(
+            TwoLevelCacheManager cacheManager,
+            MeterRegistry meterRegistry,
+            UserZoneResolver userZoneResolver,
+            @Value("${stats.summary-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${stats.summary-cache.local-ttl-seconds:30}") long localTtlSeconds,
+            @Value("${stats.summary-cache.local-max-size:10000}") int localMaxSize) {
+        this(cacheManager.create(CACHE_NAME, StatsSummaryResponse.class,
+                        localMaxSize, Duration.ofSeconds(localTtlSeconds)),
+                meterRegistry, Duration.ofSeconds(ttlSeconds), userZoneResolver);
+    }
+
+    StatsSummaryCache(
+            TwoLevelCache<StatsSummaryResponse> cache,
+            MeterRegistry meterRegistry,
+            Duration ttl,
+            UserZoneResolver userZoneResolver) {
+        this.cache = cache;
+        this.ttl = ttl;
+        this.userZoneResolver = userZoneResolver;
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .description("통계 요약 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .description("통계 요약 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 요약 조회 (hit/miss 카운트)
+     * 
+     * @param userId 사용자 ID
+     * @return 캐시된 요약 Optional
+     */
+    public Optional<StatsSummaryResponse> find(Long userId) {
+        Optional<StatsSummaryResponse> cached = cache.get(key(userId));
+        (cached.isPresent() ? hitCounter : missCounter).increment();
+        return cached;
+    }
+
+    /**
+     * 요약 저장
+     * 
+     * @param userId 사용자 ID
+     * @param summary 계산된 요약
+     */
+    public void put(Long userId, StatsSummaryResponse summary) {
+        cache.put(key(userId), summary, ttl);
+    }
+
+    /**
+     * 요약 삭제 (모든 노드)
+     * 
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        cache.evict(key(userId));
+    }
+
+    /**
+     * 캐시 키 생성
+     * 
+     * @return 형식: "{userId}:{yyyy-MM-dd}"
+     */
+    private String key(Long userId) {
+        return userId + ":" + userZoneResolver.today(userId);
+    }
+}
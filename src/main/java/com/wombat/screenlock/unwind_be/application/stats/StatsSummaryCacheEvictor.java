@@ -0,0 +1,33 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 통계 요약 캐시 무효화 리스너
+ * 
+ * <p>통계 기록 트랜잭션이 커밋된 뒤에만 캐시를 삭제합니다.
+ * 커밋 전에 삭제하면 동시 조회가 커밋 전 데이터로 캐시를 다시 채울 수 있고,
+ * 롤백된 기록은 캐시를 건드릴 필요가 없기 때문입니다.</p>
+ * 
+ * @see StatsUpdatedEvent
+ * @see StatsSummaryCache
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsSummaryCacheEvictor {
+
+    private final StatsSummaryCache statsSummaryCache;
+
+    /**
+     * 커밋 이후 요약 캐시 삭제
+     * 
+     * @param event 통계 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatsUpdated(StatsUpdatedEvent event) {
+        statsSummaryCache.evict(event.userId());
+    }
+}
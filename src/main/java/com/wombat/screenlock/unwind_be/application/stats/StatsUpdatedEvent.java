@@ -0,0 +1,34 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 사용자 통계 변경 이벤트
+ * 
+ * <p>통계 기록 트랜잭션에서 발행되며, 커밋 이후 요약 캐시 무효화와
+ * 성공 캘린더 비트맵 갱신에 사용됩니다.</p>
+ * 
+ * @param userId 통계가 변경된 사용자 ID
+ * @param dailyStatuses 이번 트랜잭션에서 기록된 날짜별 변경 후 상태 (재계산 등은 빈 Map)
+ * @see StatsSummaryCacheEvictor
+ * @see SuccessCalendarService
+ */
+public record StatsUpdatedEvent(Long userId, Map<LocalDate, DailyStatus> dailyStatuses) {
+
+    /**
+     * 날짜별 상태 없이 변경만 알리는 이벤트 (스트릭 재계산 등)
+     */
+    public StatsUpdatedEvent(Long userId) {
+        this(userId, Map.of());
+    }
+
+    /**
+     * 단일 날짜 기록 이벤트
+     */
+    public static StatsUpdatedEvent of(Long userId, LocalDate date, DailyStatus status) {
+        return new StatsUpdatedEvent(userId, Map.of(date, status));
+    }
+}
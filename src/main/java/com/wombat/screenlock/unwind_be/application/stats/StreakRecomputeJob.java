@@ -0,0 +1,103 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.repository.UserStreakStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 늦게 도착한 기록의 스트릭 재계산 Job
+ *
+ * <p>오프라인 클라이언트가 지난 날짜 기록을 보내면 StreakService는 요청 경로에서 재계산하지 않고
+ * user_streak_state.dirty_from에 영향받는 가장 이른 날짜만 남깁니다.
+ * 이 Job이 주기적으로 대기 사용자를 찾아 dirty_from 이후만 재계산합니다.</p>
+ *
+ * <h3>처리 (recompute-interval-ms 주기, 기본 5초)</h3>
+ * <ol>
+ *   <li>dirty_from이 있는 사용자를 ID Keyset으로 batch-size명씩 조회</li>
+ *   <li>사용자마다 별도 트랜잭션에서 StreakService.recomputeDirty 호출</li>
+ * </ol>
+ *
+ * <p>같은 사용자의 여러 늦은 기록은 dirty_from 한 값으로 합쳐지므로 재계산은 한 번입니다.
+ * 여러 노드가 같은 사용자를 잡아도 상태 행 잠금 후 다시 확인하므로 두 번째 노드는 아무것도 하지 않습니다.
+ * 한 사용자의 실패는 로그만 남기고 다음 주기에 재시도합니다.</p>
+ *
+ * @see StreakService#recomputeDirty(Long)
+ */
+@Component
+@ConditionalOnProperty(prefix = "stats.streak", name = "recompute-enabled", havingValue = "true")
+@Slf4j
+public class StreakRecomputeJob {
+
+    private final UserStreakStateRepository userStreakStateRepository;
+    private final StreakService streakService;
+    private final int batchSize;
+
+    public StreakRecomputeJob(
+            UserStreakStateRepository userStreakStateRepository,
+            StreakService streakService,
+            @Value("${stats.streak.recompute-batch-size:500}") int batchSize) {
+        this.userStreakStateRepository = userStreakStateRepository;
+        this.streakService = streakService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 주기 실행 (기본 5초)
+     */
+    @Scheduled(fixedDelayString = "${stats.streak.recompute-interval-ms:5000}")
+    public void recomputeSafely() {
+        try {
+            recomputeAll();
+        } catch (DataAccessException e) {
+            log.warn("스트릭 재계산 대기 조회 실패 - reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재계산 대기 중인 모든 사용자 처리
+     *
+     * @return 재계산한 사용자 수
+     */
+    public int recomputeAll() {
+        int recomputed = 0;
+        long lastUserId = 0L;
+        List<Long> userIds;
+        do {
+            userIds = userStreakStateRepository.findDirtyUserIdsAfter(lastUserId, PageRequest.of(0, batchSize));
+            for (Long userId : userIds) {
+                if (recompute(userId)) {
+                    recomputed++;
+                }
+            }
+            if (!userIds.isEmpty()) {
+                lastUserId = userIds.get(userIds.size() - 1);
+            }
+        } while (userIds.size() == batchSize);
+
+        if (recomputed > 0) {
+            log.info("스트릭 재계산 완료 - userCount={}", recomputed);
+        }
+        return recomputed;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 사용자 한 명 재계산 (실패해도 다음 사용자 계속)
+     */
+    private boolean recompute(Long userId) {
+        try {
+            return streakService.recomputeDirty(userId);
+        } catch (DataAccessException e) {
+            log.warn("스트릭 재계산 실패, 다음 주기에 재시도 - userId={}, reason={}", userId, e.getMessage());
+            return false;
+        }
+    }
+}
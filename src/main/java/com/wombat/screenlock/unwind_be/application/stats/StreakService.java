@@ -0,0 +1,191 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.UserStreakState;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.UserStreakStateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스트릭 상태 서비스
+ * 
+ * <p>user_streak_state 테이블을 DailyStatistics 상태 변경에 맞춰 증분 유지합니다.</p>
+ * 
+ * <h3>갱신 전략</h3>
+ * <ul>
+ *   <li>최신 날짜의 상태 변경: O(1) 증분 반영</li>
+ *   <li>과거 날짜 변경 / 최장 스트릭 감소 가능: dirty_from에 가장 이른 날짜만 기록 (사용자당 1행으로 중복 제거)</li>
+ *   <li>상태 행이 없는 기존 사용자: 첫 기록 시 이력으로 재계산</li>
+ * </ul>
+ * 
+ * <h3>늦게 도착한 기록 (오프라인 재전송)</h3>
+ * <p>StreakRecomputeJob이 백그라운드에서 {@link #recomputeDirty}를 호출하여
+ * dirty_from 이후 이력과 그 이전 마지막 연속 SUCCESS 구간만 읽어 재계산합니다.
+ * 최장 스트릭 구간이 dirty_from 이후에 걸쳐 있으면 전체 이력으로 재계산합니다.
+ * 재계산 전까지 요약의 스트릭은 Job 주기만큼 이전 값일 수 있습니다.</p>
+ * 
+ * @see UserStreakState
+ * @see StatsRebuildJob
+ * @see StreakRecomputeJob
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class StreakService {
+
+    /** dirty_from 이후 이력 조회 상한 */
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    /** 이전 SUCCESS 구간을 거슬러 올라갈 때 한 번에 읽는 일수 */
+    private static final int RUN_WINDOW_DAYS = 31;
+
+    private final UserStreakStateRepository userStreakStateRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 일별 상태 변경 반영
+     * 
+     * <p>StatsService의 기록 트랜잭션 안에서 호출됩니다.
+     * 스트릭 상태 행을 비관적 잠금으로 조회하여 같은 사용자의 동시 기록을 직렬화합니다.</p>
+     * 
+     * @param userId 사용자 ID
+     * @param date 변경된 날짜
+     * @param status 변경 후 상태
+     */
+    @Transactional
+    public void onDailyStatusChanged(Long userId, LocalDate date, DailyStatus status) {
+        UserStreakState state = userStreakStateRepository.findByUserIdForUpdate(userId)
+                .orElse(null);
+
+        if (state == null) {
+            // 상태 행이 없는 사용자: 행 생성 후 이력으로 재계산
+            userStreakStateRepository.insertIfAbsent(userId);
+            rebuildLocked(userId);
+            return;
+        }
+
+        if (state.isDirty() || !state.apply(date, status)) {
+            // 재계산 대기 중이거나 증분 반영 불가: 가장 이른 날짜만 남기고 백그라운드 재계산
+            log.debug("스트릭 증분 반영 불가, 재계산 예약 - userId={}, date={}, status={}", userId, date, status);
+            state.markDirty(date);
+        }
+    }
+
+    /**
+     * 늦게 도착한 기록으로 재계산 대기 중인 스트릭 재계산
+     * 
+     * <p>스트릭 상태 행을 잠그고 재계산하므로 그 사이 들어온 기록과 충돌하지 않습니다.
+     * 스트릭 값이 바뀔 수 있으므로 커밋 후 요약 캐시도 무효화합니다.</p>
+     * 
+     * @param userId 사용자 ID
+     * @return 재계산 여부 (이미 최신이면 false)
+     */
+    @Transactional
+    public boolean recomputeDirty(Long userId) {
+        UserStreakState state = userStreakStateRepository.findByUserIdForUpdate(userId).orElse(null);
+        if (state == null || !state.isDirty()) {
+            return false;
+        }
+
+        LocalDate dirtyFrom = state.getDirtyFrom();
+        if (state.canRebuildFrom()) {
+            List<DailyStatisticsView> suffix = new ArrayList<>(dailyStatisticsRepository
+                    .findViewsByUserIdAndDateBetweenOrderByDateDesc(userId, dirtyFrom, MAX_DATE));
+            Collections.reverse(suffix);
+            SuccessRun before = lastSuccessRunBefore(userId, state);
+            state.rebuildFrom(before.end(), before.length(), suffix);
+        } else {
+            state.rebuild(dailyStatisticsRepository.findViewsByUserIdOrderByDateAsc(userId));
+        }
+        log.debug("스트릭 재계산 완료 - userId={}, dirtyFrom={}, currentStreak={}, longestStreak={}",
+                userId, dirtyFrom, state.getCurrentStreak(), state.getLongestStreak());
+        eventPublisher.publishEvent(new StatsUpdatedEvent(userId));
+        return true;
+    }
+
+    /**
+     * 사용자 스트릭 상태 조회
+     * 
+     * <p>상태 행이 아직 없는 사용자는 이력으로 계산한 값을 반환합니다 (저장하지 않음).</p>
+     * 
+     * @param userId 사용자 ID
+     * @return 스트릭 상태
+     */
+    public UserStreakState getStreakState(Long userId) {
+        return userStreakStateRepository.findById(userId)
+                .orElseGet(() -> UserStreakState.fromHistory(userId,
+                        dailyStatisticsRepository.findViewsByUserIdOrderByDateAsc(userId)));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * dirty_from 이전 마지막 연속 SUCCESS 구간 (RUN_WINDOW_DAYS씩 거슬러 조회)
+     * 
+     * <p>{@link UserStreakState#canRebuildFrom()}이면 최장 스트릭 구간이 dirty_from 전에 끝났으므로
+     * 그 끝 날짜까지만 거슬러 올라갑니다. 그 사이에 SUCCESS가 없으면 최장 스트릭 구간이 마지막 구간이고,
+     * 더 늦은 구간은 최장 구간과 이어질 수 없으므로(이어지면 최장이 더 김) 그 사이에서 끝납니다.</p>
+     */
+    private SuccessRun lastSuccessRunBefore(Long userId, UserStreakState state) {
+        if (state.getLongestStreak() == 0) {
+            return new SuccessRun(null, 0);
+        }
+        LocalDate floor = state.getLongestStreakEnd();
+        LocalDate end = null;
+        int run = 0;
+        LocalDate windowEnd = state.getDirtyFrom().minusDays(1);
+        while (!windowEnd.isBefore(floor)) {
+            LocalDate windowStart = windowEnd.minusDays(RUN_WINDOW_DAYS - 1L);
+            if (windowStart.isBefore(floor)) {
+                windowStart = floor;
+            }
+            for (DailyStatisticsView day : dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    userId, windowStart, windowEnd)) {
+                if (end == null) {
+                    if (day.status() == DailyStatus.SUCCESS) {
+                        end = day.date();
+                        run = 1;
+                    }
+                } else if (day.status() == DailyStatus.SUCCESS && day.date().equals(end.minusDays(run))) {
+                    run++;
+                } else {
+                    return new SuccessRun(end, run);
+                }
+            }
+            windowEnd = windowStart.minusDays(1);
+        }
+        if (end == null || end.equals(floor)) {
+            return new SuccessRun(floor, state.getLongestStreak());
+        }
+        return new SuccessRun(end, run);
+    }
+
+    /**
+     * 잠금 조회 후 전체 이력으로 재계산
+     */
+    private void rebuildLocked(Long userId) {
+        UserStreakState state = userStreakStateRepository.findByUserIdForUpdate(userId)
+                .orElseThrow();
+        state.rebuild(dailyStatisticsRepository.findViewsByUserIdOrderByDateAsc(userId));
+        log.debug("스트릭 재계산 완료 - userId={}, currentStreak={}, longestStreak={}",
+                userId, state.getCurrentStreak(), state.getLongestStreak());
+    }
+
+    /**
+     * 연속 SUCCESS 구간 (끝 날짜, 일수)
+     */
+    private record SuccessRun(LocalDate end, int length) {
+    }
+}
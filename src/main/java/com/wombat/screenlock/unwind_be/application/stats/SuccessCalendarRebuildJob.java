@@ -0,0 +1,49 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.application.user.UserIdPager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 성공 캘린더 일괄 재계산 Job
+ * 
+ * <p>Redis 비트맵 도입 이전 이력이나 Redis 유실분을 daily_statistics로 복구합니다.
+ * stats.success-calendar.rebuild-on-startup=true 일 때 애플리케이션 기동 시 1회 실행됩니다.</p>
+ * 
+ * <p>재계산 중 들어온 기록은 커밋 후 비트를 다시 설정하지만, 같은 날짜를
+ * 재계산이 뒤이어 덮어쓸 수 있으므로 트래픽이 적은 시점에 실행합니다.</p>
+ * 
+ * @see SuccessCalendarService#rebuild(Long)
+ */
+@Component
+@ConditionalOnProperty(prefix = "stats.success-calendar", name = "rebuild-on-startup", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SuccessCalendarRebuildJob implements ApplicationRunner {
+
+    private final UserIdPager userIdPager;
+    private final SuccessCalendarService successCalendarService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuildAll();
+    }
+
+    /**
+     * 전체 사용자 성공 캘린더 재계산
+     * 
+     * @return 재계산한 사용자 수
+     */
+    public int rebuildAll() {
+        log.info("성공 캘린더 일괄 재계산 시작");
+
+        int rebuilt = userIdPager.forEachUserId(successCalendarService::rebuild);
+
+        log.info("성공 캘린더 일괄 재계산 완료 - userCount={}", rebuilt);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,163 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.SuccessCalendarResponse;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.SuccessCalendarRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 성공 캘린더 서비스
+ * 
+ * <p>일별 SUCCESS 여부를 Redis 비트맵으로 유지하고 연간 캘린더를 제공합니다.
+ * 1년치 조회가 GET 1회(최대 46바이트)로 끝나므로 daily_statistics를 스캔하지 않습니다.</p>
+ * 
+ * <h3>동기화</h3>
+ * <ul>
+ *   <li>통계 기록 커밋 후 StatsUpdatedEvent의 날짜별 상태로 비트 설정/해제</li>
+ *   <li>Redis 장애로 누락된 비트는 rebuild(userId)로 daily_statistics에서 복구</li>
+ *   <li>조회 시 Redis 장애: 해당 연도를 daily_statistics에서 계산하여 응답</li>
+ * </ul>
+ * 
+ * @see SuccessCalendarRepository
+ * @see SuccessCalendarRebuildJob
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuccessCalendarService {
+
+    /** 조회 가능한 최소 연도 */
+    private static final int MIN_YEAR = 2000;
+
+    private final SuccessCalendarRepository successCalendarRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final UserZoneResolver userZoneResolver;
+
+    /**
+     * 커밋된 일별 상태를 비트맵에 반영
+     * 
+     * @param event 통계 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatsUpdated(StatsUpdatedEvent event) {
+        event.dailyStatuses().forEach((date, status) -> {
+            try {
+                successCalendarRepository.setDay(event.userId(), date, status == DailyStatus.SUCCESS);
+            } catch (DataAccessException e) {
+                log.warn("성공 캘린더 갱신 실패 - userId={}, date={}, reason={}",
+                        event.userId(), date, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 연간 성공 캘린더 조회
+     * 
+     * @param userId 사용자 ID
+     * @param year 연도 (null이면 사용자 시간대 기준 올해)
+     * @return SuccessCalendarResponse 비트맵 + 성공 일수
+     * @throws BusinessException INVALID_INPUT - 지원하지 않는 연도
+     */
+    public SuccessCalendarResponse getYear(Long userId, Integer year) {
+        int currentYear = userZoneResolver.today(userId).getYear();
+        int targetYear = (year != null) ? year : currentYear;
+        if (targetYear < MIN_YEAR || targetYear > currentYear + 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        return build(userId, targetYear);
+    }
+
+    /**
+     * 사용자 성공 캘린더 재계산
+     * 
+     * <p>첫 기록 연도부터 올해(사용자 시간대 기준)까지 연도별 비트맵을 daily_statistics 이력으로 덮어씁니다.</p>
+     * 
+     * @param userId 사용자 ID
+     */
+    public void rebuild(Long userId) {
+        List<DailyStatisticsView> history = dailyStatisticsRepository.findViewsByUserIdOrderByDateAsc(userId);
+        if (history.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<DailyStatisticsView>> byYear = new HashMap<>();
+        for (DailyStatisticsView view : history) {
+            byYear.computeIfAbsent(view.date().getYear(), y -> new ArrayList<>()).add(view);
+        }
+
+        int firstYear = history.get(0).date().getYear();
+        int lastYear = Math.max(userZoneResolver.today(userId).getYear(),
+                history.get(history.size() - 1).date().getYear());
+        for (int year = firstYear; year <= lastYear; year++) {
+            successCalendarRepository.replaceYear(userId, year,
+                    buildYearBitmap(year, byYear.getOrDefault(year, List.of())));
+        }
+        log.debug("성공 캘린더 재계산 완료 - userId={}, years={}~{}", userId, firstYear, lastYear);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 연도 비트맵 조회 (Redis 장애 시 daily_statistics에서 계산)
+     */
+    private SuccessCalendarResponse build(Long userId, int year) {
+        byte[] bitmap;
+        try {
+            bitmap = successCalendarRepository.findYear(userId, year);
+        } catch (DataAccessException e) {
+            log.warn("성공 캘린더 조회 실패, DB에서 계산 - userId={}, year={}, reason={}",
+                    userId, year, e.getMessage());
+            bitmap = buildYearBitmap(year, dailyStatisticsRepository
+                    .findViewsByUserIdAndDateBetweenOrderByDateDesc(userId,
+                            LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)));
+        }
+
+        byte[] padded = Arrays.copyOf(bitmap, bitmapSize(year));
+        return new SuccessCalendarResponse(year, countBits(padded), Base64.getEncoder().encodeToString(padded));
+    }
+
+    /**
+     * 일별 통계로 연도 비트맵 생성 (SETBIT과 같은 MSB 우선 비트 순서)
+     */
+    private byte[] buildYearBitmap(int year, List<DailyStatisticsView> views) {
+        byte[] bitmap = new byte[bitmapSize(year)];
+        for (DailyStatisticsView view : views) {
+            if (view.status() == DailyStatus.SUCCESS) {
+                int offset = (int) SuccessCalendarRepository.offset(view.date());
+                bitmap[offset / 8] |= (byte) (0x80 >>> (offset % 8));
+            }
+        }
+        return bitmap;
+    }
+
+    private int bitmapSize(int year) {
+        return (Year.of(year).length() + 7) / 8;
+    }
+
+    private int countBits(byte[] bitmap) {
+        int count = 0;
+        for (byte b : bitmap) {
+            count += Integer.bitCount(b & 0xFF);
+        }
+        return count;
+    }
+}
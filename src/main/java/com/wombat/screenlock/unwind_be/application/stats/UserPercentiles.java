@@ -0,0 +1,11 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+/**
+ * 사용자의 이번 주 백분위
+ *
+ * @param focusTime 주간 집중 시간이 더 적은 사용자 비율 (0.0 ~ 1.0)
+ * @param completionRate 주간 완료율이 더 낮은 사용자 비율 (0.0 ~ 1.0, 스케줄 기록이 없으면 null)
+ * @see PercentileService
+ */
+public record UserPercentiles(Double focusTime, Double completionRate) {
+}
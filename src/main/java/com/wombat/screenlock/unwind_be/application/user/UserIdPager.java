@@ -0,0 +1,51 @@
+package com.wombat.screenlock.unwind_be.application.user;
+
+import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 전체 사용자 ID 순회기
+ * 
+ * <p>기동 시 1회 실행되는 일괄 재계산 Job들이 공유합니다.
+ * 사용자 ID 기준 Keyset 페이지네이션으로 조회하고, 호출자는 사용자마다 별도 트랜잭션으로 처리하여
+ * 긴 잠금을 만들지 않습니다.</p>
+ * 
+ * @see UserRepository#findIdsAfter
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdPager {
+
+    /** 한 번에 조회할 사용자 수 */
+    static final int PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+
+    /**
+     * 전체 사용자 ID를 오름차순으로 순회
+     * 
+     * @param action 사용자마다 실행할 작업
+     * @return 처리한 사용자 수
+     */
+    public int forEachUserId(Consumer<Long> action) {
+        int count = 0;
+        long lastId = 0L;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(lastId, PageRequest.of(0, PAGE_SIZE));
+            for (Long userId : userIds) {
+                action.accept(userId);
+                count++;
+            }
+            if (!userIds.isEmpty()) {
+                lastId = userIds.get(userIds.size() - 1);
+            }
+        } while (userIds.size() == PAGE_SIZE);
+        return count;
+    }
+}
@@ -0,0 +1,75 @@
+package com.wombat.screenlock.unwind_be.application.user;
+
+import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCache;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 조회 서비스 (2단계 캐시)
+ * 
+ * <p>인증된 요청마다 반복되는 userId → 사용자 존재 확인을
+ * JVM 내 LRU → Redis → DB 순으로 처리합니다.
+ * 존재하는 사용자만 캐시하며, 없는 사용자는 매번 DB에서 확인합니다.</p>
+ * 
+ * <p>스냅샷 필드(이메일, 시간대 등)는 가입 이후 바뀌지 않으므로 별도 무효화 없이 TTL로만 만료합니다.
+ * 스냅샷에 담긴 정보를 바꾸는 경로를 추가하면 커밋 후 이 캐시와 UserZoneResolver 항목을 함께 비워야 합니다.</p>
+ * 
+ * <h3>설정</h3>
+ * <ul>
+ *   <li>cache.user.ttl-seconds: Redis TTL</li>
+ *   <li>cache.user.local-ttl-seconds: 로컬 TTL (노드 간 최대 불일치 시간)</li>
+ *   <li>cache.user.local-max-size: 로컬 LRU 최대 항목 수</li>
+ * </ul>
+ * 
+ * @see TwoLevelCache
+ */
+@Service
+public class UserLookupService {
+
+    /** 캐시 이름 (Redis Key 접두사) */
+    static final String CACHE_NAME = "user";
+
+    private final UserRepository userRepository;
+    private final TwoLevelCache<UserSnapshot> cache;
+    private final Duration ttl;
+
+    public UserLookupService(
+            UserRepository userRepository,
+            TwoLevelCacheManager cacheManager,
+            @Value("${cache.user.ttl-seconds:600}") long ttlSeconds,
+            @Value("${cache.user.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${cache.user.local-max-size:10000}") int localMaxSize) {
+        this(userRepository,
+                cacheManager.create(CACHE_NAME, UserSnapshot.class, localMaxSize, Duration.ofSeconds(localTtlSeconds)),
+                Duration.ofSeconds(ttlSeconds));
+    }
+
+    UserLookupService(UserRepository userRepository, TwoLevelCache<UserSnapshot> cache, Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = cache;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 사용자 조회 (캐시 우선)
+     * 
+     * @param userId 사용자 ID
+     * @return 사용자 스냅샷 Optional (존재하지 않으면 empty)
+     */
+    public Optional<UserSnapshot> findById(Long userId) {
+        String key = String.valueOf(userId);
+        Optional<UserSnapshot> cached = cache.get(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<UserSnapshot> loaded = userRepository.findById(userId).map(UserSnapshot::from);
+        loaded.ifPresent(snapshot -> cache.put(key, snapshot, ttl));
+        return loaded;
+    }
+}
@@ -0,0 +1,29 @@
+package com.wombat.screenlock.unwind_be.application.user;
+
+import com.wombat.screenlock.unwind_be.domain.user.entity.Role;
+import com.wombat.screenlock.unwind_be.domain.user.entity.User;
+
+/**
+ * 캐시용 사용자 정보 스냅샷
+ * 
+ * <p>User 엔티티 대신 캐시에 보관하는 불변 값입니다.
+ * 비밀번호 해시는 포함하지 않습니다.</p>
+ * 
+ * @param id 사용자 ID
+ * @param email 이메일
+ * @param role 사용자 권한
+ * @param timezone 시간대 IANA ID
+ */
+public record UserSnapshot(
+    Long id,
+    String email,
+    Role role,
+    String timezone
+) {
+    /**
+     * User 엔티티에서 스냅샷 생성
+     */
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getEmail(), user.getRole(), user.getTimezone());
+    }
+}
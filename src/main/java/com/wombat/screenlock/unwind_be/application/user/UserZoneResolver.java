@@ -0,0 +1,134 @@
+package com.wombat.screenlock.unwind_be.application.user;
+
+import com.wombat.screenlock.unwind_be.domain.user.entity.User;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.LocalLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 시간대 / 통계 날짜 Resolver
+ * 
+ * <p>통계의 일 단위 집계는 사용자 시간대 기준 날짜로 합니다.
+ * 요청마다 users 테이블이나 ZoneId 규칙을 다시 조회하지 않도록
+ * userId → ZoneId를 JVM 내 LRU에 보관합니다.</p>
+ * 
+ * <h3>조회 순서</h3>
+ * <ol>
+ *   <li>JwtAuthenticationFilter가 Access Token의 tz 클레임으로 채운 로컬 캐시 (DB 조회 없음)</li>
+ *   <li>UserLookupService (로컬 LRU → Redis → DB) - 이벤트 리스너/배치 등 요청 밖 호출</li>
+ *   <li>사용자가 없거나 시간대가 잘못되면 Asia/Seoul</li>
+ * </ol>
+ * 
+ * <p>시간대 문자열 → ZoneId 변환도 ID별로 한 번만 수행합니다.</p>
+ * 
+ * @see UserLookupService
+ */
+@Component
+@Slf4j
+public class UserZoneResolver {
+
+    /** 기본 시간대 */
+    public static final ZoneId DEFAULT_ZONE = ZoneId.of(User.DEFAULT_TIMEZONE);
+
+    private final UserLookupService userLookupService;
+    private final LocalLruCache<Long, ZoneId> userZones;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, ZoneId> zoneIds = new ConcurrentHashMap<>();
+
+    public UserZoneResolver(
+            UserLookupService userLookupService,
+            @Value("${cache.user-zone.local-ttl-seconds:1800}") long localTtlSeconds,
+            @Value("${cache.user-zone.local-max-size:10000}") int localMaxSize) {
+        this(userLookupService, localMaxSize, Duration.ofSeconds(localTtlSeconds), Clock.systemUTC());
+    }
+
+    UserZoneResolver(UserLookupService userLookupService, int localMaxSize, Duration ttl, Clock clock) {
+        this.userLookupService = userLookupService;
+        this.userZones = new LocalLruCache<>(localMaxSize, clock);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * 인증 토큰의 시간대 등록 (DB 조회 없음)
+     * 
+     * @param userId 사용자 ID
+     * @param timezone 시간대 IANA ID (null이면 무시)
+     */
+    public void remember(Long userId, String timezone) {
+        if (timezone != null) {
+            userZones.put(userId, parse(timezone), ttl);
+        }
+    }
+
+    /**
+     * 사용자 시간대 조회
+     * 
+     * @param userId 사용자 ID
+     * @return 시간대 (알 수 없으면 Asia/Seoul)
+     */
+    public ZoneId zoneOf(Long userId) {
+        return userZones.get(userId).orElseGet(() -> {
+            ZoneId zone = userLookupService.findById(userId)
+                    .map(UserSnapshot::timezone)
+                    .map(this::parse)
+                    .orElse(DEFAULT_ZONE);
+            userZones.put(userId, zone, ttl);
+            return zone;
+        });
+    }
+
+    /**
+     * 사용자 시간대 기준 오늘 날짜
+     */
+    public LocalDate today(Long userId) {
+        return LocalDate.now(clock.withZone(zoneOf(userId)));
+    }
+
+    /**
+     * 이벤트 발생 시각을 사용자 시간대 기준 통계 날짜로 변환
+     */
+    public LocalDate toLocalDate(Long userId, Instant timestamp) {
+        return timestamp.atZone(zoneOf(userId)).toLocalDate();
+    }
+
+    /**
+     * 시간대 ID 검증
+     * 
+     * @param timezone 시간대 IANA ID
+     * @return 유효 여부
+     */
+    public static boolean isValid(String timezone) {
+        try {
+            ZoneId.of(timezone);
+            return true;
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 시간대 문자열 → ZoneId (ID별 캐시, 잘못된 ID는 기본 시간대)
+     */
+    private ZoneId parse(String timezone) {
+        return zoneIds.computeIfAbsent(timezone, id -> {
+            try {
+                return ZoneId.of(id);
+            } catch (DateTimeException e) {
+                log.warn("잘못된 시간대, 기본 시간대 사용 - timezone={}", id);
+                return DEFAULT_ZONE;
+            }
+        });
+    }
+}
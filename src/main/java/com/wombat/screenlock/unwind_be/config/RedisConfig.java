@@ -1,9 +1,11 @@
 package com.wombat.screenlock.unwind_be.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -14,6 +16,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * String 기반 Key-Value 직렬화를 사용합니다.</p>
  * 
  * @see com.wombat.screenlock.unwind_be.infrastructure.redis.RefreshTokenRepository
+ * @see com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCacheManager
  */
 @Configuration
 public class RedisConfig {
@@ -42,6 +45,21 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
-}
-
 
+    /**
+     * Redis pub/sub 리스너 컨테이너 Bean 설정
+     * 
+     * <p>2단계 캐시의 노드 간 무효화 메시지 구독에 사용합니다.
+     * cache.invalidation.enabled=false이면 등록하지 않습니다.</p>
+     * 
+     * @param connectionFactory Redis 연결 팩토리 (자동 주입)
+     * @return 리스너 컨테이너
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -0,0 +1,18 @@
+package com.wombat.screenlock.unwind_be.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 설정
+ *
+ * <p>@Scheduled 주기 작업(파티션 유지보수 등)을 활성화합니다.
+ * 개별 작업은 각자의 설정 프로퍼티로 등록 여부를 결정합니다.</p>
+ *
+ * @see com.wombat.screenlock.unwind_be.application.stats.DailyStatisticsPartitionJob
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // 스케줄링 활성화만 담당하므로 별도 Bean 정의 없음
+}
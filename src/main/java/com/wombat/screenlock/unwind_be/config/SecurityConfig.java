@@ -1,6 +1,7 @@
 package com.wombat.screenlock.unwind_be.config;
 
 import com.wombat.screenlock.unwind_be.infrastructure.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -68,6 +69,8 @@ public class SecurityConfig {
                         // Public 엔드포인트: 인증 없이 접근 가능
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/docs/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // 비동기 재디스패치 (StreamingResponseBody 완료): 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         
                         // 그 외 모든 엔드포인트: JWT 인증 필요
                         .anyRequest().authenticated()
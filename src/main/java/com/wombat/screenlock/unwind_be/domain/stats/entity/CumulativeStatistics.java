@@ -0,0 +1,75 @@
+package com.wombat.screenlock.unwind_be.domain.stats.entity;
+
+import com.wombat.screenlock.unwind_be.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 누적 합계(prefix sum) 엔티티
+ * 
+ * <p>사용자의 첫 기록일부터 date까지(포함)의 카운터 합계입니다.
+ * 기록이 있는 날짜에만 행이 있으므로, 어떤 날짜 x까지의 누적은 date ≤ x인 마지막 행입니다.
+ * 임의 기간 합계는 두 누적의 차이로 계산합니다.</p>
+ * 
+ * <p>기록 트랜잭션에서 CumulativeStatisticsRepository의 증분 쿼리로 갱신하고,
+ * 재계산 시에만 {@link #of}로 새로 저장합니다.</p>
+ * 
+ * @see com.wombat.screenlock.unwind_be.application.stats.StatsRollupService
+ */
+@Entity
+@Table(name = "cumulative_statistics", indexes = {
+    @Index(name = "uk_cumulative_statistics_user_date",
+           columnList = "user_id, date", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CumulativeStatistics extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 누적 기준일 (이 날짜까지 포함)
+     */
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "total_schedules", nullable = false)
+    private Integer totalSchedules = 0;
+
+    @Column(name = "completed_schedules", nullable = false)
+    private Integer completedSchedules = 0;
+
+    @Column(name = "total_focus_time", nullable = false)
+    private Long totalFocusTime = 0L;
+
+    @Column(name = "force_quit_count", nullable = false)
+    private Integer forceQuitCount = 0;
+
+    @Column(name = "success_days", nullable = false)
+    private Integer successDays = 0;
+
+    /**
+     * 재계산용 누적 행 생성
+     */
+    public static CumulativeStatistics of(Long userId, LocalDate date, int totalSchedules, int completedSchedules,
+                                          long totalFocusTime, int forceQuitCount, int successDays) {
+        CumulativeStatistics statistics = new CumulativeStatistics();
+        statistics.userId = userId;
+        statistics.date = date;
+        statistics.totalSchedules = totalSchedules;
+        statistics.completedSchedules = completedSchedules;
+        statistics.totalFocusTime = totalFocusTime;
+        statistics.forceQuitCount = forceQuitCount;
+        statistics.successDays = successDays;
+        return statistics;
+    }
+}
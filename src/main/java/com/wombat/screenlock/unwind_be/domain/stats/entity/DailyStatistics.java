@@ -15,6 +15,11 @@ import java.time.LocalDate;
  * 
  * <p>사용자의 일별 집중 통계를 저장합니다.
  * userId + date 조합으로 Unique 제약이 적용됩니다.</p>
+ * 
+ * <p>테이블은 date 기준 월 단위 RANGE 파티션으로 관리되며(V8),
+ * MySQL 파티션 테이블은 외래 키를 지원하지 않으므로 user_id에 FK 제약을 두지 않습니다.</p>
+ * 
+ * @see com.wombat.screenlock.unwind_be.application.stats.DailyStatisticsPartitionJob
  */
 @Entity
 @Table(name = "daily_statistics", indexes = {
@@ -30,7 +35,8 @@ public class DailyStatistics extends BaseTimeEntity {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false,
+                foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Column(nullable = false)
@@ -0,0 +1,91 @@
+package com.wombat.screenlock.unwind_be.domain.stats.entity;
+
+import com.wombat.screenlock.unwind_be.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 하루 마감 Job 체크포인트 엔티티
+ * 
+ * <p>시간대마다 한 행으로, 마감 중인 날짜와 처리를 마친 마지막 사용자 ID를 보관합니다.
+ * 청크 처리와 같은 트랜잭션에서 저장되므로 Job이 중단되면 다음 실행에서 이어서 처리합니다.</p>
+ * 
+ * <h3>상태</h3>
+ * <ul>
+ *   <li>closed=false: closingDate 마감 중, lastUserId 다음 사용자부터 처리</li>
+ *   <li>closed=true: closingDate까지 마감 완료</li>
+ * </ul>
+ */
+@Entity
+@Table(name = "day_close_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DayCloseCheckpoint extends BaseTimeEntity {
+
+    /**
+     * 시간대 IANA ID (PK)
+     */
+    @Id
+    @Column(name = "timezone", length = 64)
+    private String timezone;
+
+    @Column(name = "closing_date", nullable = false)
+    private LocalDate closingDate;
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId = 0L;
+
+    @Column(name = "closed", nullable = false)
+    private Boolean closed = false;
+
+    /**
+     * 새 시간대의 체크포인트 생성 (저장되지 않은 상태)
+     * 
+     * @param timezone 시간대 IANA ID
+     * @param closingDate 마감할 날짜
+     */
+    public static DayCloseCheckpoint start(String timezone, LocalDate closingDate) {
+        DayCloseCheckpoint checkpoint = new DayCloseCheckpoint();
+        checkpoint.timezone = timezone;
+        checkpoint.closingDate = closingDate;
+        return checkpoint;
+    }
+
+    // ========== 비즈니스 메서드 ==========
+
+    /**
+     * 해당 날짜까지 마감을 마쳤는지
+     */
+    public boolean isClosedThrough(LocalDate date) {
+        return closed && !closingDate.isBefore(date);
+    }
+
+    /**
+     * 다음 날짜 마감 시작 (진행 중이던 날짜가 있으면 커서를 처음으로 되돌림)
+     * 
+     * <p>이전 날짜를 마치지 못했더라도 마감 범위(lookback)가 겹치므로 새 날짜부터 다시 순회합니다.</p>
+     */
+    public void restart(LocalDate closingDate) {
+        if (closingDate.equals(this.closingDate)) {
+            return;
+        }
+        this.closingDate = closingDate;
+        this.lastUserId = 0L;
+        this.closed = false;
+    }
+
+    /**
+     * 청크 처리 결과 반영
+     * 
+     * @param lastUserId 처리를 마친 마지막 사용자 ID
+     * @param finished 마지막 청크 여부
+     */
+    public void advance(Long lastUserId, boolean finished) {
+        this.lastUserId = lastUserId;
+        this.closed = finished;
+    }
+}
@@ -0,0 +1,87 @@
+package com.wombat.screenlock.unwind_be.domain.stats.entity;
+
+import com.wombat.screenlock.unwind_be.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 집중 세션 엔티티 (원본 이벤트)
+ * 
+ * <p>완료 통계 요청 한 건을 그대로 남기는 추가 전용(append-only) 로그입니다.
+ * daily_statistics에 합산되면 개별 세션 정보가 사라지므로,
+ * 세션 단위 분석(스케줄별/시간대별)은 이 테이블을 기준으로 합니다.</p>
+ * 
+ * <p>aggregatedAt이 null이면 아직 daily_statistics에 반영되지 않은 세션이며,
+ * FocusSessionAggregator가 배치로 집계한 뒤 표시합니다.</p>
+ * 
+ * @see com.wombat.screenlock.unwind_be.application.stats.FocusSessionAggregator
+ */
+@Entity
+@Table(name = "focus_sessions", indexes = {
+    @Index(name = "idx_focus_sessions_user_date", columnList = "user_id, date"),
+    @Index(name = "idx_focus_sessions_user_schedule", columnList = "user_id, schedule_id"),
+    @Index(name = "idx_focus_sessions_pending", columnList = "aggregated_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FocusSession extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "schedule_id", nullable = false, length = 64)
+    private String scheduleId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "ended_at")
+    private Instant endedAt;
+
+    @Column(name = "focus_time", nullable = false)
+    private Integer focusTime;
+
+    @Column(nullable = false)
+    private Boolean completed;
+
+    @Column(name = "all_in_mode", nullable = false)
+    private Boolean allInMode = false;
+
+    @Column(name = "aggregated_at")
+    private LocalDateTime aggregatedAt;
+
+    @Builder
+    public FocusSession(Long userId, String scheduleId, LocalDate date, Instant startedAt, Instant endedAt,
+                        Integer focusTime, Boolean completed, Boolean allInMode, LocalDateTime aggregatedAt) {
+        this.userId = userId;
+        this.scheduleId = scheduleId;
+        this.date = date;
+        this.startedAt = startedAt;
+        this.endedAt = endedAt;
+        this.focusTime = focusTime;
+        this.completed = completed;
+        this.allInMode = allInMode != null && allInMode;
+        this.aggregatedAt = aggregatedAt;
+    }
+
+    /**
+     * 집계 대기 중인지
+     */
+    public boolean isPending() {
+        return aggregatedAt == null;
+    }
+}
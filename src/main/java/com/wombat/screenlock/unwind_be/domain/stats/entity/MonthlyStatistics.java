@@ -0,0 +1,63 @@
+package com.wombat.screenlock.unwind_be.domain.stats.entity;
+
+import com.wombat.screenlock.unwind_be.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 월간 통계 롤업 엔티티
+ * 
+ * <p>DailyStatistics 기록과 같은 트랜잭션에서 증분으로 유지되는 월 단위 합계입니다.
+ * 월간 조회/장기 추이 차트가 일별 행 대신 월당 한 행만 읽도록 합니다.</p>
+ * 
+ * <p>행은 MonthlyStatisticsRepository의 네이티브 UPSERT로만 생성/갱신됩니다.</p>
+ */
+@Entity
+@Table(name = "monthly_statistics", indexes = {
+    @Index(name = "uk_monthly_statistics_user_month", 
+           columnList = "user_id, month_start", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MonthlyStatistics extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 월 시작일 (1일)
+     */
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "total_schedules", nullable = false)
+    private Integer totalSchedules = 0;
+
+    @Column(name = "completed_schedules", nullable = false)
+    private Integer completedSchedules = 0;
+
+    @Column(name = "total_focus_time", nullable = false)
+    private Integer totalFocusTime = 0;
+
+    @Column(name = "force_quit_count", nullable = false)
+    private Integer forceQuitCount = 0;
+
+    @Column(name = "success_days", nullable = false)
+    private Integer successDays = 0;
+
+    /**
+     * 완료율 계산
+     */
+    public double getCompletionRate() {
+        if (totalSchedules == 0) return 0.0;
+        return (double) completedSchedules / totalSchedules;
+    }
+}
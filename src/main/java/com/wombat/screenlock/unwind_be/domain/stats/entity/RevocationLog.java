@@ -0,0 +1,47 @@
+package com.wombat.screenlock.unwind_be.domain.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 권한 해제 사유 로그 엔티티
+ * 
+ * <p>집중 세션 중 Screen Time 권한을 해제한 사용자가 앱 재진입 시 입력한 사유를 남깁니다.
+ * 추가 전용(append-only) 로그로 수정/삭제하지 않으며, 기록은 JPA 대신
+ * RevocationLogWriter의 JDBC 배치 INSERT로 이루어집니다.</p>
+ * 
+ * @see com.wombat.screenlock.unwind_be.application.stats.RevocationLogWriter
+ */
+@Entity
+@Table(name = "revocation_logs", indexes = {
+    @Index(name = "idx_revocation_logs_user_date", columnList = "user_id, date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevocationLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false, length = 500)
+    private String reason;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
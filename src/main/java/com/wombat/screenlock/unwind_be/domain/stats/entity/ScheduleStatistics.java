@@ -0,0 +1,50 @@
+package com.wombat.screenlock.unwind_be.domain.stats.entity;
+
+import com.wombat.screenlock.unwind_be.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄별 누적 통계 엔티티
+ * 
+ * <p>사용자 + 스케줄 clientId 단위로 시도/완료/집중 시간/강제 종료를 누적합니다.
+ * 통계 기록 시 ScheduleStatisticsRepository.upsertIncrement로만 갱신하며,
+ * 조회는 Schedule.duration과 조인해 계획 대비 실제 집중 시간을 계산합니다.</p>
+ * 
+ * <p>스케줄이 서버에 등록되기 전에 들어온 기록도 남도록 schedules FK 대신 clientId로 연결합니다.</p>
+ * 
+ * @see com.wombat.screenlock.unwind_be.application.stats.ScheduleStatsService
+ */
+@Entity
+@Table(name = "schedule_statistics", indexes = {
+    @Index(name = "uk_schedule_statistics_user_schedule",
+           columnList = "user_id, schedule_client_id", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduleStatistics extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "schedule_client_id", nullable = false, length = 64)
+    private String scheduleClientId;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private Integer completions = 0;
+
+    @Column(name = "total_focus_time", nullable = false)
+    private Long totalFocusTime = 0L;
+
+    @Column(name = "force_quit_count", nullable = false)
+    private Integer forceQuitCount = 0;
+}
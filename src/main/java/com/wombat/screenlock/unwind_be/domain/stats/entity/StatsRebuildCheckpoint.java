@@ -0,0 +1,105 @@
+package com.wombat.screenlock.unwind_be.domain.stats.entity;
+
+import com.wombat.screenlock.unwind_be.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 파생 통계 재계산 도구 체크포인트 엔티티
+ * 
+ * <p>재계산 실행(runId)의 사용자 ID 범위 파티션마다 한 행으로,
+ * 처리를 마친 마지막 사용자 ID와 누적 건수를 보관합니다.
+ * 청크 처리와 같은 트랜잭션에서 저장되므로 같은 runId로 다시 실행하면 이어서 처리합니다.</p>
+ * 
+ * <h3>범위</h3>
+ * <ul>
+ *   <li>(rangeStart, rangeEnd] 사용자를 ID 오름차순으로 처리</li>
+ *   <li>completed=false: lastUserId 다음 사용자부터 처리</li>
+ * </ul>
+ */
+@Entity
+@Table(name = "stats_rebuild_checkpoints", indexes = {
+    @Index(name = "uk_stats_rebuild_checkpoints_run_partition",
+           columnList = "run_id, partition_no", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatsRebuildCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false, length = 64)
+    private String runId;
+
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+
+    /**
+     * 파티션 시작 사용자 ID (미포함)
+     */
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    /**
+     * 파티션 끝 사용자 ID (포함)
+     */
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId;
+
+    @Column(name = "dry_run", nullable = false)
+    private Boolean dryRun;
+
+    @Column(name = "completed", nullable = false)
+    private Boolean completed = false;
+
+    @Column(name = "scanned_users", nullable = false)
+    private Long scannedUsers = 0L;
+
+    @Column(name = "changed_users", nullable = false)
+    private Long changedUsers = 0L;
+
+    /**
+     * 새 파티션 체크포인트 생성 (저장되지 않은 상태)
+     * 
+     * @param runId 재계산 실행 ID
+     * @param partitionNo 파티션 번호
+     * @param rangeStart 시작 사용자 ID (미포함)
+     * @param rangeEnd 끝 사용자 ID (포함)
+     * @param dryRun 차이만 집계하는 실행인지
+     */
+    public static StatsRebuildCheckpoint start(String runId, int partitionNo, long rangeStart, long rangeEnd,
+                                               boolean dryRun) {
+        StatsRebuildCheckpoint checkpoint = new StatsRebuildCheckpoint();
+        checkpoint.runId = runId;
+        checkpoint.partitionNo = partitionNo;
+        checkpoint.rangeStart = rangeStart;
+        checkpoint.rangeEnd = rangeEnd;
+        checkpoint.lastUserId = rangeStart;
+        checkpoint.dryRun = dryRun;
+        return checkpoint;
+    }
+
+    // ========== 비즈니스 메서드 ==========
+
+    /**
+     * 청크 처리 결과 반영
+     * 
+     * @param lastUserId 처리를 마친 마지막 사용자 ID
+     * @param finished 마지막 청크 여부
+     * @param scanned 청크에서 확인한 사용자 수
+     * @param changed 청크에서 차이가 있었던 사용자 수
+     */
+    public void advance(Long lastUserId, boolean finished, int scanned, int changed) {
+        this.lastUserId = lastUserId;
+        this.completed = finished;
+        this.scannedUsers += scanned;
+        this.changedUsers += changed;
+    }
+}
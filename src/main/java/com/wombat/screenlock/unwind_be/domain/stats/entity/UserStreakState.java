@@ -0,0 +1,261 @@
+package com.wombat.screenlock.unwind_be.domain.stats.entity;
+
+import com.wombat.screenlock.unwind_be.domain.common.BaseTimeEntity;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 사용자 스트릭 상태 엔티티
+ * 
+ * <p>DailyStatistics 상태 변경 시 증분으로 유지되는 스트릭 요약입니다.
+ * 통계 요약 조회 시 전체 이력을 스캔하지 않고 O(1)로 스트릭을 계산합니다.</p>
+ * 
+ * <h3>불변식</h3>
+ * <ul>
+ *   <li>currentStreak: lastSuccessDate로 끝나는 연속 SUCCESS 일수</li>
+ *   <li>currentStreak > 0 이면 lastSuccessDate != null</li>
+ *   <li>longestStreak >= currentStreak</li>
+ * </ul>
+ * 
+ * <p>과거 날짜 변경처럼 증분 반영이 불가능한 경우 {@link #apply}가 false를 반환하며,
+ * 호출자는 {@link #markDirty}로 영향받는 가장 이른 날짜를 기록하고
+ * 백그라운드에서 {@link #rebuildFrom}(그 날짜 이후만) 또는 {@link #rebuild}(전체 이력)로 재계산합니다.</p>
+ */
+@Entity
+@Table(name = "user_streak_state", indexes = {
+    @Index(name = "idx_user_streak_state_dirty_from", columnList = "dirty_from")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserStreakState extends BaseTimeEntity {
+
+    /**
+     * 사용자 ID (PK, users.id)
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "current_streak", nullable = false)
+    private Integer currentStreak = 0;
+
+    @Column(name = "longest_streak", nullable = false)
+    private Integer longestStreak = 0;
+
+    @Column(name = "last_success_date")
+    private LocalDate lastSuccessDate;
+
+    /**
+     * 최장 스트릭(같은 길이면 가장 이른 구간)의 마지막 날짜
+     */
+    @Column(name = "longest_streak_end")
+    private LocalDate longestStreakEnd;
+
+    /**
+     * 재계산이 필요한 가장 이른 날짜 (NULL = 최신 상태)
+     */
+    @Column(name = "dirty_from")
+    private LocalDate dirtyFrom;
+
+    /**
+     * 전체 이력에서 계산한 스트릭 상태 생성 (저장되지 않은 상태)
+     * 
+     * @param userId 사용자 ID
+     * @param history 날짜 오름차순 일별 통계
+     */
+    public static UserStreakState fromHistory(Long userId, List<DailyStatisticsView> history) {
+        UserStreakState state = new UserStreakState();
+        state.userId = userId;
+        state.rebuild(history);
+        return state;
+    }
+
+    // ========== 비즈니스 메서드 ==========
+
+    /**
+     * 일별 상태 변경 증분 반영
+     * 
+     * @param date 변경된 날짜
+     * @param status 변경 후 상태
+     * @return 반영 성공 여부 (false면 {@link #rebuild} 필요)
+     */
+    public boolean apply(LocalDate date, DailyStatus status) {
+        if (status == DailyStatus.SUCCESS) {
+            return applySuccess(date);
+        }
+        return applyNonSuccess(date);
+    }
+
+    /**
+     * 전체 이력에서 재계산
+     * 
+     * @param history 날짜 오름차순 일별 통계
+     */
+    public void rebuild(List<DailyStatisticsView> history) {
+        this.currentStreak = 0;
+        this.longestStreak = 0;
+        this.longestStreakEnd = null;
+        this.lastSuccessDate = null;
+        replay(history);
+    }
+
+    /**
+     * 증분 반영이 불가능한 날짜 기록 (가장 이른 날짜만 유지)
+     * 
+     * <p>재계산 전까지는 이후 변경도 증분 반영하지 않고 날짜만 모읍니다.</p>
+     * 
+     * @param date 변경된 날짜
+     */
+    public void markDirty(LocalDate date) {
+        if (dirtyFrom == null || date.isBefore(dirtyFrom)) {
+            dirtyFrom = date;
+        }
+    }
+
+    /**
+     * 재계산 대기 여부
+     */
+    public boolean isDirty() {
+        return dirtyFrom != null;
+    }
+
+    /**
+     * dirtyFrom 이후만으로 재계산 가능한지
+     * 
+     * <p>최장 스트릭 구간이 dirtyFrom 이전에 끝났으면 그 이전 이력은 바뀌지 않았으므로
+     * 저장된 최장 스트릭을 그대로 쓸 수 있습니다. 그렇지 않으면 전체 이력이 필요합니다.</p>
+     */
+    public boolean canRebuildFrom() {
+        return dirtyFrom != null
+                && (longestStreak == 0 || (longestStreakEnd != null && longestStreakEnd.isBefore(dirtyFrom)));
+    }
+
+    /**
+     * dirtyFrom 이후 이력만으로 재계산
+     * 
+     * <p>dirtyFrom 이전 마지막 SUCCESS 구간에서 이어서 반영하므로 {@link #rebuild}(전체 이력)와 같은 상태가 됩니다.</p>
+     * 
+     * @param lastSuccessBefore dirtyFrom 이전 마지막 SUCCESS 날짜 (없으면 null)
+     * @param runBefore lastSuccessBefore로 끝나는 연속 SUCCESS 일수
+     * @param suffix dirtyFrom 이후 날짜 오름차순 일별 통계
+     * @throws IllegalStateException {@link #canRebuildFrom()}이 false인 경우
+     */
+    public void rebuildFrom(LocalDate lastSuccessBefore, int runBefore, List<DailyStatisticsView> suffix) {
+        if (!canRebuildFrom()) {
+            throw new IllegalStateException("dirtyFrom 이후만으로 재계산할 수 없음: userId=" + userId);
+        }
+        this.currentStreak = lastSuccessBefore != null ? runBefore : 0;
+        this.lastSuccessDate = lastSuccessBefore;
+        replay(suffix);
+    }
+
+    /**
+     * 기준일의 현재 스트릭
+     * 
+     * <p>오늘이 SUCCESS면 오늘까지, 오늘 기록이 아직 없으면 어제까지의 연속 성공 일수입니다.
+     * 오늘 기록이 SUCCESS가 아니면 0입니다.</p>
+     * 
+     * @param today 기준일
+     * @param todayStatus 오늘 일별 상태 (기록 없으면 null)
+     */
+    public int currentStreakAsOf(LocalDate today, DailyStatus todayStatus) {
+        if (lastSuccessDate == null) {
+            return 0;
+        }
+        if (lastSuccessDate.equals(today)) {
+            return currentStreak;
+        }
+        if (lastSuccessDate.equals(today.minusDays(1)) && todayStatus == null) {
+            return currentStreak;
+        }
+        return 0;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * SUCCESS 반영
+     */
+    private boolean applySuccess(LocalDate date) {
+        if (lastSuccessDate == null || date.isAfter(lastSuccessDate.plusDays(1))) {
+            // 새 스트릭 시작
+            currentStreak = 1;
+        } else if (date.equals(lastSuccessDate.plusDays(1))) {
+            // 스트릭 연장
+            currentStreak++;
+        } else {
+            // 현재 스트릭 구간 안이면 이미 반영됨, 그 이전이면 재계산 필요
+            return !date.isBefore(runStart());
+        }
+        lastSuccessDate = date;
+        updateLongest();
+        return true;
+    }
+
+    /**
+     * SUCCESS가 아닌 상태 반영
+     */
+    private boolean applyNonSuccess(LocalDate date) {
+        if (lastSuccessDate == null || date.isAfter(lastSuccessDate)) {
+            // 스트릭 이후의 날짜: 다음 SUCCESS 반영 시 날짜 간격으로 끊김 처리
+            return true;
+        }
+        if (date.isBefore(runStart()) || currentStreak.equals(longestStreak)) {
+            // 이전 구간 변경 또는 최장 스트릭 감소 가능성 → 재계산
+            return false;
+        }
+        if (currentStreak == 1) {
+            // 하루짜리 구간이 사라짐 → 이전 구간의 끝 날짜를 모르므로 재계산
+            return false;
+        }
+        // 현재 스트릭 구간이 date에서 끊김 → date 이후 구간만 남음
+        if (date.equals(lastSuccessDate)) {
+            currentStreak--;
+            lastSuccessDate = date.minusDays(1);
+        } else {
+            currentStreak = (int) ChronoUnit.DAYS.between(date, lastSuccessDate);
+        }
+        return true;
+    }
+
+    /**
+     * 현재 상태에 이어서 SUCCESS 날짜를 순서대로 반영하고 재계산 대기 해제
+     */
+    private void replay(List<DailyStatisticsView> history) {
+        for (DailyStatisticsView day : history) {
+            if (day.status() != DailyStatus.SUCCESS) {
+                continue;
+            }
+            // 날짜가 하루 차이로 이어지지 않으면 새 스트릭 시작
+            boolean consecutive = lastSuccessDate != null && day.date().equals(lastSuccessDate.plusDays(1));
+            currentStreak = consecutive ? currentStreak + 1 : 1;
+            lastSuccessDate = day.date();
+            updateLongest();
+        }
+        this.dirtyFrom = null;
+    }
+
+    /**
+     * 현재 스트릭이 최장을 넘으면 최장 갱신 (같은 길이면 이른 구간 유지)
+     */
+    private void updateLongest() {
+        if (currentStreak > longestStreak) {
+            longestStreak = currentStreak;
+            longestStreakEnd = lastSuccessDate;
+        }
+    }
+
+    /**
+     * 현재 스트릭 구간의 시작 날짜
+     */
+    private LocalDate runStart() {
+        return lastSuccessDate.minusDays(currentStreak - 1L);
+    }
+}
@@ -0,0 +1,64 @@
+package com.wombat.screenlock.unwind_be.domain.stats.entity;
+
+import com.wombat.screenlock.unwind_be.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 주간 통계 롤업 엔티티
+ * 
+ * <p>DailyStatistics 기록과 같은 트랜잭션에서 증분으로 유지되는 주 단위 합계입니다.
+ * 주간 조회/장기 추이 차트가 일별 행 대신 주당 한 행만 읽도록 합니다.</p>
+ * 
+ * <p>행은 WeeklyStatisticsRepository의 네이티브 UPSERT로만 생성/갱신됩니다.</p>
+ */
+@Entity
+@Table(name = "weekly_statistics", indexes = {
+    @Index(name = "uk_weekly_statistics_user_week", 
+           columnList = "user_id, week_start", unique = true),
+    @Index(name = "idx_weekly_statistics_week_id", columnList = "week_start, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WeeklyStatistics extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 주 시작일 (ISO 주, 월요일)
+     */
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "total_schedules", nullable = false)
+    private Integer totalSchedules = 0;
+
+    @Column(name = "completed_schedules", nullable = false)
+    private Integer completedSchedules = 0;
+
+    @Column(name = "total_focus_time", nullable = false)
+    private Integer totalFocusTime = 0;
+
+    @Column(name = "force_quit_count", nullable = false)
+    private Integer forceQuitCount = 0;
+
+    @Column(name = "success_days", nullable = false)
+    private Integer successDays = 0;
+
+    /**
+     * 완료율 계산
+     */
+    public double getCompletionRate() {
+        if (totalSchedules == 0) return 0.0;
+        return (double) completedSchedules / totalSchedules;
+    }
+}
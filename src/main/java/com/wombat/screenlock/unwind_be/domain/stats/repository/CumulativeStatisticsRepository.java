@@ -0,0 +1,83 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.CumulativeStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 누적 합계(prefix sum) Repository
+ */
+public interface CumulativeStatisticsRepository extends JpaRepository<CumulativeStatistics, Long> {
+
+    /**
+     * date까지의 누적 조회 (date 이하 마지막 행, uk_cumulative_statistics_user_date 역순 탐색 1회)
+     */
+    Optional<CumulativeStatistics> findFirstByUserIdAndDateLessThanEqualOrderByDateDesc(Long userId, LocalDate date);
+
+    /**
+     * 날짜 행이 없으면 직전 누적을 복사해 생성 (있으면 변경 없음)
+     *
+     * <p>이어서 {@link #incrementFrom}으로 그 날짜 이후 행에 증분을 더하면
+     * 새 행도 직전 누적 + 증분이 됩니다. 파생 테이블은 먼저 구체화되므로 같은 테이블을 읽어도 됩니다.</p>
+     *
+     * @return 영향받은 행 수 (삽입 1, 이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO cumulative_statistics
+            (user_id, date, total_schedules, completed_schedules, total_focus_time,
+             force_quit_count, success_days, created_at, updated_at)
+        SELECT :userId, :date,
+            COALESCE(MAX(p.total_schedules), 0), COALESCE(MAX(p.completed_schedules), 0),
+            COALESCE(MAX(p.total_focus_time), 0), COALESCE(MAX(p.force_quit_count), 0),
+            COALESCE(MAX(p.success_days), 0), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM (
+            SELECT total_schedules, completed_schedules, total_focus_time, force_quit_count, success_days
+            FROM cumulative_statistics
+            WHERE user_id = :userId AND date < :date
+            ORDER BY date DESC
+            LIMIT 1
+        ) p
+        ON DUPLICATE KEY UPDATE user_id = user_id
+        """, nativeQuery = true)
+    int insertCarryForward(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    /**
+     * date 이후(포함) 모든 누적 행에 증분 반영
+     *
+     * <p>오늘 기록이면 마지막 행 1개만, 지난 날짜 기록이면 그 뒤 기록일 수만큼만 갱신합니다.</p>
+     *
+     * @return 갱신한 행 수
+     */
+    @Modifying
+    @Query("""
+        UPDATE CumulativeStatistics c
+        SET c.totalSchedules = c.totalSchedules + :totalDelta,
+            c.completedSchedules = c.completedSchedules + :completedDelta,
+            c.totalFocusTime = c.totalFocusTime + :focusTimeDelta,
+            c.forceQuitCount = c.forceQuitCount + :forceQuitDelta,
+            c.successDays = c.successDays + :successDaysDelta
+        WHERE c.userId = :userId
+        AND c.date >= :date
+        """)
+    int incrementFrom(
+        @Param("userId") Long userId,
+        @Param("date") LocalDate date,
+        @Param("totalDelta") int totalDelta,
+        @Param("completedDelta") int completedDelta,
+        @Param("focusTimeDelta") long focusTimeDelta,
+        @Param("forceQuitDelta") int forceQuitDelta,
+        @Param("successDaysDelta") int successDaysDelta);
+
+    /**
+     * 사용자의 누적 행 전체 삭제 (재계산용)
+     */
+    @Modifying
+    @Query("DELETE FROM CumulativeStatistics c WHERE c.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
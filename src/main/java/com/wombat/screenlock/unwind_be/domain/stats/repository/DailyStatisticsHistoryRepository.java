@@ -0,0 +1,26 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 통계 장기 이력 조회 Repository (Spring Data 커스텀 Fragment)
+ *
+ * <p>MySQL의 최근 이력과 콜드 아카이브 파일의 오래된 이력을 합쳐 반환합니다.
+ * 호출 측은 데이터가 어느 저장소에 있는지 알 필요가 없습니다.</p>
+ *
+ * @see com.wombat.screenlock.unwind_be.infrastructure.archive.DailyStatisticsHistoryRepositoryImpl
+ */
+public interface DailyStatisticsHistoryRepository {
+
+    /**
+     * 사용자의 전체 일별 통계 Projection 조회 (스트릭/롤업/캘린더 재계산용)
+     */
+    List<DailyStatisticsView> findViewsByUserIdOrderByDateAsc(Long userId);
+
+    /**
+     * 기간별 통계 Projection 조회 (최근 일별 상세, 연간 히트맵/캘린더용)
+     */
+    List<DailyStatisticsView> findViewsByUserIdAndDateBetweenOrderByDateDesc(
+        Long userId, LocalDate startDate, LocalDate endDate);
+}
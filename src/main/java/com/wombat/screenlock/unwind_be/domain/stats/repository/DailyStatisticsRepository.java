@@ -1,18 +1,28 @@
 package com.wombat.screenlock.unwind_be.domain.stats.repository;
 
 import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatistics;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 일별 통계 Repository
+ *
+ * <p>장기 이력 Projection 조회는 DailyStatisticsHistoryRepository가
+ * 콜드 아카이브와 합쳐 제공합니다 (read-through).</p>
  */
-public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics, Long> {
+public interface DailyStatisticsRepository
+        extends JpaRepository<DailyStatistics, Long>, DailyStatisticsHistoryRepository {
 
     /**
      * 사용자 ID와 날짜로 통계 조회 (UPSERT용)
@@ -37,4 +47,206 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     List<DailyStatistics> findRecentByUserIdOrderByDateDesc(
         @Param("userId") Long userId, 
         @Param("today") LocalDate today);
+
+    /**
+     * 일별 통계 원자적 누적 (단일 SQL UPSERT)
+     *
+     * <p>uk_daily_statistics_user_date 충돌 시 카운터를 증분하고,
+     * 없으면 새 레코드를 삽입합니다. 엔티티를 조회하지 않으므로
+     * 동시 요청에서도 누락(lost update)이나 중복 키 예외가 발생하지 않습니다.</p>
+     *
+     * <p>status는 DailyStatistics.updateStatus()와 같은 규칙으로 SQL에서 계산합니다.
+     * ON DUPLICATE KEY UPDATE는 왼쪽부터 평가되므로 status를 가장 먼저 두어
+     * 증분 전 값 + 증분값으로 판정합니다.</p>
+     *
+     * <p>daily_statistics는 파티션 테이블이라 users FK가 없으므로,
+     * 삽입 값을 users에서 SELECT하여 존재하지 않는 사용자는 아무 행도 만들지 않습니다.</p>
+     *
+     * @return 영향받은 행 수 (MySQL: 삽입 1, 갱신 2, 사용자 없음 0)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO daily_statistics
+            (user_id, date, total_schedules, completed_schedules, total_focus_time,
+             force_quit_count, all_in_mode_used, status, created_at, updated_at)
+        SELECT
+            u.id, :date, :totalDelta, :completedDelta, :focusTimeDelta,
+            :forceQuitDelta, :allInMode,
+            CASE
+                WHEN :forceQuitDelta > 0 THEN 'FAILURE'
+                WHEN :totalDelta > 0 AND :completedDelta = :totalDelta THEN 'SUCCESS'
+                WHEN :completedDelta > 0 THEN 'WARNING'
+                ELSE 'IN_PROGRESS'
+            END,
+            CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM users u
+        WHERE u.id = :userId
+        ON DUPLICATE KEY UPDATE
+            status = CASE
+                WHEN force_quit_count + VALUES(force_quit_count) > 0 THEN 'FAILURE'
+                WHEN total_schedules + VALUES(total_schedules) > 0
+                     AND completed_schedules + VALUES(completed_schedules)
+                         = total_schedules + VALUES(total_schedules) THEN 'SUCCESS'
+                WHEN completed_schedules + VALUES(completed_schedules) > 0 THEN 'WARNING'
+                ELSE status
+            END,
+            total_schedules = total_schedules + VALUES(total_schedules),
+            completed_schedules = completed_schedules + VALUES(completed_schedules),
+            total_focus_time = total_focus_time + VALUES(total_focus_time),
+            force_quit_count = force_quit_count + VALUES(force_quit_count),
+            all_in_mode_used = all_in_mode_used OR VALUES(all_in_mode_used),
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int upsertIncrement(
+        @Param("userId") Long userId,
+        @Param("date") LocalDate date,
+        @Param("totalDelta") int totalDelta,
+        @Param("completedDelta") int completedDelta,
+        @Param("focusTimeDelta") int focusTimeDelta,
+        @Param("forceQuitDelta") int forceQuitDelta,
+        @Param("allInMode") boolean allInMode);
+
+    /**
+     * 사용자 ID와 날짜로 통계 Projection 조회 (UPSERT 결과 확인용)
+     */
+    @Query("""
+        SELECT new com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView(
+            ds.date, ds.totalSchedules, ds.completedSchedules,
+            ds.totalFocusTime, ds.forceQuitCount, ds.status)
+        FROM DailyStatistics ds
+        WHERE ds.user.id = :userId
+        AND ds.date = :date
+        """)
+    Optional<DailyStatisticsView> findViewByUserIdAndDate(
+        @Param("userId") Long userId,
+        @Param("date") LocalDate date);
+
+    /**
+     * 여러 날짜의 통계 Projection 일괄 조회 (일괄 UPSERT 결과 확인용)
+     */
+    @Query("""
+        SELECT new com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView(
+            ds.date, ds.totalSchedules, ds.completedSchedules,
+            ds.totalFocusTime, ds.forceQuitCount, ds.status)
+        FROM DailyStatistics ds
+        WHERE ds.user.id = :userId
+        AND ds.date IN :dates
+        ORDER BY ds.date ASC
+        """)
+    List<DailyStatisticsView> findViewsByUserIdAndDateIn(
+        @Param("userId") Long userId,
+        @Param("dates") Collection<LocalDate> dates);
+
+    /**
+     * 주간/월간 합계 조회 (요약용)
+     *
+     * <p>monthStart ~ today 범위를 한 번만 읽고, weekStart 이후 행만
+     * 조건부로 더해 두 기간의 합계를 단일 쿼리로 계산합니다.
+     * 기록이 없으면 모든 합계가 0입니다.</p>
+     */
+    @Query("""
+        SELECT new com.wombat.screenlock.unwind_be.domain.stats.repository.StatsWindowTotals(
+            COALESCE(SUM(CASE WHEN ds.date >= :weekStart THEN ds.totalSchedules ELSE 0 END), 0L),
+            COALESCE(SUM(CASE WHEN ds.date >= :weekStart THEN ds.completedSchedules ELSE 0 END), 0L),
+            COALESCE(SUM(CASE WHEN ds.date >= :weekStart THEN ds.totalFocusTime ELSE 0 END), 0L),
+            COALESCE(SUM(ds.totalSchedules), 0L),
+            COALESCE(SUM(ds.completedSchedules), 0L),
+            COALESCE(SUM(ds.totalFocusTime), 0L))
+        FROM DailyStatistics ds
+        WHERE ds.user.id = :userId
+        AND ds.date BETWEEN :monthStart AND :today
+        """)
+    StatsWindowTotals findWindowTotals(
+        @Param("userId") Long userId,
+        @Param("weekStart") LocalDate weekStart,
+        @Param("monthStart") LocalDate monthStart,
+        @Param("today") LocalDate today);
+
+    /**
+     * 기간별 통계 스트림 조회 (내보내기용)
+     *
+     * <p>결과를 List로 적재하지 않고 JDBC fetch size 단위로 읽어옵니다.
+     * 읽기 전용 힌트로 dirty checking 스냅샷을 만들지 않으며,
+     * 호출자는 트랜잭션 안에서 소비하고 스트림을 닫아야 합니다.</p>
+     *
+     * <p>MySQL은 useCursorFetch=true 일 때 fetch size 단위로 서버 커서를 사용합니다.</p>
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT ds FROM DailyStatistics ds
+        WHERE ds.user.id = :userId
+        AND ds.date BETWEEN :startDate AND :endDate
+        ORDER BY ds.date ASC
+        """)
+    Stream<DailyStatistics> streamByUserIdAndDateBetweenOrderByDateAsc(
+        @Param("userId") Long userId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간별 전체 컬럼 스트림 조회 (콜드 아카이브 이관용)
+     *
+     * <p>아카이브 파일 형식에 맞춰 (user_id, date) 오름차순으로 읽습니다.
+     * 호출자는 트랜잭션 안에서 소비하고 스트림을 닫아야 합니다.</p>
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRow(
+            ds.user.id, ds.date, ds.totalSchedules, ds.completedSchedules,
+            ds.totalFocusTime, ds.forceQuitCount, ds.allInModeUsed, ds.status)
+        FROM DailyStatistics ds
+        WHERE ds.date BETWEEN :startDate AND :endDate
+        ORDER BY ds.user.id ASC, ds.date ASC
+        """)
+    Stream<DailyStatisticsRow> streamRowsByDateBetweenOrderByUserIdAscDateAsc(
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate);
+
+    /**
+     * 가장 오래된 통계 날짜 (콜드 아카이브 이관 시작점)
+     */
+    @Query("SELECT MIN(ds.date) FROM DailyStatistics ds")
+    Optional<LocalDate> findMinDate();
+
+    /**
+     * 기간 내 통계 일부 삭제 (콜드 아카이브 이관 후 배치 삭제)
+     *
+     * @return 삭제된 행 수 (limit보다 작으면 마지막 배치)
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM daily_statistics
+        WHERE date BETWEEN :startDate AND :endDate
+        LIMIT :limit
+        """, nativeQuery = true)
+    int deleteBatchByDateBetween(
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("limit") int limit);
+
+    /**
+     * 사용자 목록의 기간 내 IN_PROGRESS 행 조회 (하루 마감용)
+     *
+     * <p>uk_daily_statistics_user_date로 사용자별 날짜 범위만 읽습니다.</p>
+     */
+    @Query("""
+        SELECT new com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRow(
+            ds.user.id, ds.date, ds.totalSchedules, ds.completedSchedules,
+            ds.totalFocusTime, ds.forceQuitCount, ds.allInModeUsed, ds.status)
+        FROM DailyStatistics ds
+        WHERE ds.user.id IN :userIds
+        AND ds.date BETWEEN :startDate AND :endDate
+        AND ds.status = com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus.IN_PROGRESS
+        ORDER BY ds.user.id ASC, ds.date ASC
+        """)
+    List<DailyStatisticsRow> findInProgressRows(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,55 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 통계 전체 컬럼 Projection (아카이브 이관/내보내기용)
+ *
+ * <p>사용자 ID와 올인 모드 여부까지 포함하며, 엔티티 없이
+ * 콜드 아카이브 파일과 MySQL 사이를 오갈 때 사용합니다.</p>
+ *
+ * @param userId 사용자 ID
+ * @param date 통계 날짜
+ * @param totalSchedules 전체 스케줄 수
+ * @param completedSchedules 완료된 스케줄 수
+ * @param totalFocusTime 총 집중 시간 (초)
+ * @param forceQuitCount 강제 종료 횟수
+ * @param allInModeUsed 올인 모드 사용 여부
+ * @param status 일별 상태
+ */
+public record DailyStatisticsRow(
+    Long userId,
+    LocalDate date,
+    int totalSchedules,
+    int completedSchedules,
+    int totalFocusTime,
+    int forceQuitCount,
+    boolean allInModeUsed,
+    DailyStatus status
+) {
+    /**
+     * 엔티티에서 변환 (사용자 ID는 호출자가 전달하여 user 연관을 건드리지 않음)
+     */
+    public static DailyStatisticsRow of(Long userId, DailyStatistics entity) {
+        return new DailyStatisticsRow(
+                userId,
+                entity.getDate(),
+                entity.getTotalSchedules(),
+                entity.getCompletedSchedules(),
+                entity.getTotalFocusTime(),
+                entity.getForceQuitCount(),
+                entity.getAllInModeUsed(),
+                entity.getStatus());
+    }
+
+    /**
+     * 조회용 Projection으로 변환
+     */
+    public DailyStatisticsView toView() {
+        return new DailyStatisticsView(date, totalSchedules, completedSchedules,
+                totalFocusTime, forceQuitCount, status);
+    }
+}
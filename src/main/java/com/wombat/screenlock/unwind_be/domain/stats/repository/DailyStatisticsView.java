@@ -0,0 +1,35 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 통계 조회 전용 Projection
+ *
+ * <p>DailyStatistics 엔티티를 영속성 컨텍스트에 올리지 않고
+ * 응답에 필요한 컬럼만 조회할 때 사용합니다 (JPQL Constructor Expression).</p>
+ *
+ * @param date 통계 날짜
+ * @param totalSchedules 전체 스케줄 수
+ * @param completedSchedules 완료된 스케줄 수
+ * @param totalFocusTime 총 집중 시간 (초)
+ * @param forceQuitCount 강제 종료 횟수
+ * @param status 일별 상태
+ */
+public record DailyStatisticsView(
+    LocalDate date,
+    int totalSchedules,
+    int completedSchedules,
+    int totalFocusTime,
+    int forceQuitCount,
+    DailyStatus status
+) {
+    /**
+     * 완료율 계산
+     */
+    public double completionRate() {
+        if (totalSchedules == 0) return 0.0;
+        return (double) completedSchedules / totalSchedules;
+    }
+}
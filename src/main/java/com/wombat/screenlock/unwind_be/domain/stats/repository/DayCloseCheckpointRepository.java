@@ -0,0 +1,10 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DayCloseCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 하루 마감 Job 체크포인트 Repository
+ */
+public interface DayCloseCheckpointRepository extends JpaRepository<DayCloseCheckpoint, String> {
+}
@@ -0,0 +1,40 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.FocusSession;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 집중 세션 Repository
+ */
+public interface FocusSessionRepository extends JpaRepository<FocusSession, Long> {
+
+    /**
+     * 집계 대기 세션 조회 (id 오름차순, idx_focus_sessions_pending)
+     */
+    List<FocusSession> findByAggregatedAtIsNullOrderByIdAsc(Limit limit);
+
+    /**
+     * 집계 완료 표시 (아직 대기 중인 행만)
+     * 
+     * <p>여러 노드의 집계기가 같은 세션을 잡은 경우 먼저 표시한 쪽만 반영하도록,
+     * 반환값이 ids 크기보다 작으면 호출자가 트랜잭션을 롤백합니다.</p>
+     * 
+     * @return 표시한 행 수
+     */
+    @Modifying
+    @Query("""
+        UPDATE FocusSession fs
+        SET fs.aggregatedAt = :aggregatedAt
+        WHERE fs.id IN :ids
+        AND fs.aggregatedAt IS NULL
+        """)
+    int markAggregated(@Param("ids") Collection<Long> ids, @Param("aggregatedAt") LocalDateTime aggregatedAt);
+}
@@ -0,0 +1,62 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.MonthlyStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 월간 통계 롤업 Repository
+ */
+public interface MonthlyStatisticsRepository extends JpaRepository<MonthlyStatistics, Long> {
+
+    /**
+     * 기간별 월간 롤업 조회 (월 오름차순)
+     */
+    List<MonthlyStatistics> findByUserIdAndMonthStartBetweenOrderByMonthStartAsc(
+        Long userId, LocalDate from, LocalDate to);
+
+    /**
+     * 월간 롤업 원자적 누적 (단일 SQL UPSERT)
+     *
+     * <p>uk_monthly_statistics_user_month 충돌 시 카운터를 증분하고, 없으면 새 레코드를 삽입합니다.
+     * successDaysDelta는 해당 일의 SUCCESS 전환 여부에 따라 -1, 0, 1 중 하나입니다.</p>
+     *
+     * @return 영향받은 행 수 (MySQL: 삽입 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO monthly_statistics
+            (user_id, month_start, total_schedules, completed_schedules, total_focus_time,
+             force_quit_count, success_days, created_at, updated_at)
+        VALUES
+            (:userId, :monthStart, :totalDelta, :completedDelta, :focusTimeDelta,
+             :forceQuitDelta, :successDaysDelta, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        ON DUPLICATE KEY UPDATE
+            total_schedules = total_schedules + VALUES(total_schedules),
+            completed_schedules = completed_schedules + VALUES(completed_schedules),
+            total_focus_time = total_focus_time + VALUES(total_focus_time),
+            force_quit_count = force_quit_count + VALUES(force_quit_count),
+            success_days = success_days + VALUES(success_days),
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int upsertIncrement(
+        @Param("userId") Long userId,
+        @Param("monthStart") LocalDate monthStart,
+        @Param("totalDelta") long totalDelta,
+        @Param("completedDelta") long completedDelta,
+        @Param("focusTimeDelta") long focusTimeDelta,
+        @Param("forceQuitDelta") long forceQuitDelta,
+        @Param("successDaysDelta") long successDaysDelta);
+
+    /**
+     * 사용자의 월간 롤업 전체 삭제 (재계산용)
+     */
+    @Modifying
+    @Query("DELETE FROM MonthlyStatistics s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
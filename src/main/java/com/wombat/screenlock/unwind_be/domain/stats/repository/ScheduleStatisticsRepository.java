@@ -0,0 +1,61 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.ScheduleStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 스케줄별 누적 통계 Repository
+ */
+public interface ScheduleStatisticsRepository extends JpaRepository<ScheduleStatistics, Long> {
+
+    /**
+     * 스케줄별 통계 원자적 누적 (단일 SQL UPSERT)
+     *
+     * <p>uk_schedule_statistics_user_schedule 충돌 시 카운터를 증분하고, 없으면 새 레코드를 삽입합니다.</p>
+     *
+     * @return 영향받은 행 수 (MySQL: 삽입 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO schedule_statistics
+            (user_id, schedule_client_id, attempts, completions, total_focus_time,
+             force_quit_count, created_at, updated_at)
+        VALUES
+            (:userId, :scheduleClientId, :attemptsDelta, :completionsDelta, :focusTimeDelta,
+             :forceQuitDelta, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        ON DUPLICATE KEY UPDATE
+            attempts = attempts + VALUES(attempts),
+            completions = completions + VALUES(completions),
+            total_focus_time = total_focus_time + VALUES(total_focus_time),
+            force_quit_count = force_quit_count + VALUES(force_quit_count),
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int upsertIncrement(
+        @Param("userId") Long userId,
+        @Param("scheduleClientId") String scheduleClientId,
+        @Param("attemptsDelta") int attemptsDelta,
+        @Param("completionsDelta") int completionsDelta,
+        @Param("focusTimeDelta") long focusTimeDelta,
+        @Param("forceQuitDelta") int forceQuitDelta);
+
+    /**
+     * 활성 스케줄과 누적 통계 조회 (스케줄 PK + 통계 UK 단건 조인)
+     */
+    @Query("""
+        SELECT new com.wombat.screenlock.unwind_be.domain.stats.repository.ScheduleStatsView(
+            s.id, s.clientId, s.name, s.duration, s.user.id,
+            COALESCE(ss.attempts, 0), COALESCE(ss.completions, 0),
+            COALESCE(ss.totalFocusTime, 0L), COALESCE(ss.forceQuitCount, 0))
+        FROM Schedule s
+        LEFT JOIN ScheduleStatistics ss
+            ON ss.userId = s.user.id AND ss.scheduleClientId = s.clientId
+        WHERE s.id = :scheduleId
+        AND s.deletedAt IS NULL
+        """)
+    Optional<ScheduleStatsView> findViewByScheduleId(@Param("scheduleId") Long scheduleId);
+}
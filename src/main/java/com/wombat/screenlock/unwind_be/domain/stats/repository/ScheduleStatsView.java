@@ -0,0 +1,29 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+/**
+ * 스케줄 + 스케줄별 누적 통계 Projection
+ *
+ * <p>기록이 없는 스케줄은 누적값이 모두 0입니다.</p>
+ *
+ * @param scheduleId 스케줄 ID
+ * @param clientId 스케줄 clientId
+ * @param name 스케줄 이름
+ * @param duration 계획 집중 시간 (분)
+ * @param ownerId 소유 사용자 ID
+ * @param attempts 시도 횟수
+ * @param completions 완료 횟수
+ * @param totalFocusTime 총 집중 시간 (초)
+ * @param forceQuitCount 강제 종료 횟수
+ */
+public record ScheduleStatsView(
+    Long scheduleId,
+    String clientId,
+    String name,
+    int duration,
+    Long ownerId,
+    int attempts,
+    int completions,
+    long totalFocusTime,
+    int forceQuitCount
+) {
+}
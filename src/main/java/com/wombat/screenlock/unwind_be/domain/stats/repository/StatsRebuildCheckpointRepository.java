@@ -0,0 +1,17 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.StatsRebuildCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 파생 통계 재계산 도구 체크포인트 Repository
+ */
+public interface StatsRebuildCheckpointRepository extends JpaRepository<StatsRebuildCheckpoint, Long> {
+
+    /**
+     * 재계산 실행의 파티션 체크포인트 조회 (재개용)
+     */
+    List<StatsRebuildCheckpoint> findByRunIdOrderByPartitionNoAsc(String runId);
+}
@@ -0,0 +1,42 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+/**
+ * 주간/월간 통계 합계 Projection
+ *
+ * <p>최근 30일 범위를 한 번 스캔하면서 조건부 SUM으로
+ * 최근 7일 합계와 30일 합계를 함께 계산한 결과입니다.</p>
+ *
+ * @param weeklyTotalSchedules 최근 7일 전체 스케줄 수
+ * @param weeklyCompletedSchedules 최근 7일 완료된 스케줄 수
+ * @param weeklyFocusTime 최근 7일 총 집중 시간 (초)
+ * @param monthlyTotalSchedules 최근 30일 전체 스케줄 수
+ * @param monthlyCompletedSchedules 최근 30일 완료된 스케줄 수
+ * @param monthlyFocusTime 최근 30일 총 집중 시간 (초)
+ */
+public record StatsWindowTotals(
+    long weeklyTotalSchedules,
+    long weeklyCompletedSchedules,
+    long weeklyFocusTime,
+    long monthlyTotalSchedules,
+    long monthlyCompletedSchedules,
+    long monthlyFocusTime
+) {
+    /**
+     * 주간 완료율 계산
+     */
+    public double weeklyCompletionRate() {
+        return completionRate(weeklyCompletedSchedules, weeklyTotalSchedules);
+    }
+
+    /**
+     * 월간 완료율 계산
+     */
+    public double monthlyCompletionRate() {
+        return completionRate(monthlyCompletedSchedules, monthlyTotalSchedules);
+    }
+
+    private static double completionRate(long completed, long total) {
+        if (total == 0) return 0.0;
+        return (double) completed / total;
+    }
+}
@@ -0,0 +1,66 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.UserStreakState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자 스트릭 상태 Repository
+ */
+public interface UserStreakStateRepository extends JpaRepository<UserStreakState, Long> {
+
+    /**
+     * 스트릭 상태 조회 (비관적 쓰기 잠금)
+     * 
+     * <p>같은 사용자의 동시 통계 기록이 스트릭 상태를 순차적으로 갱신하도록 합니다.</p>
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStreakState s WHERE s.userId = :userId")
+    Optional<UserStreakState> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 여러 사용자의 스트릭 상태 조회 (비관적 쓰기 잠금, 사용자 ID 순서로 잠금)
+     * 
+     * <p>재계산 도구가 청크 단위로 기록과 직렬화할 때 사용합니다.</p>
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStreakState s WHERE s.userId IN :userIds ORDER BY s.userId ASC")
+    List<UserStreakState> findByUserIdInForUpdate(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 빈 스트릭 상태 생성 (이미 있으면 무시)
+     * 
+     * <p>첫 기록이 동시에 들어와도 PK 중복 예외 없이 한 행만 생성됩니다.</p>
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_streak_state
+            (user_id, current_streak, longest_streak, last_success_date, created_at, updated_at)
+        VALUES
+            (:userId, 0, 0, NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        ON DUPLICATE KEY UPDATE
+            current_streak = current_streak
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    /**
+     * 스트릭 재계산 대기 사용자 ID 조회 (ID Keyset 페이지네이션)
+     * 
+     * <p>idx_user_streak_state_dirty_from으로 대기 행만 읽습니다.</p>
+     */
+    @Query("""
+        SELECT s.userId FROM UserStreakState s
+        WHERE s.dirtyFrom IS NOT NULL AND s.userId > :lastUserId
+        ORDER BY s.userId ASC
+        """)
+    List<Long> findDirtyUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+}
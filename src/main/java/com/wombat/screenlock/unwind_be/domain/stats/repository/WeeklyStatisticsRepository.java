@@ -0,0 +1,92 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.WeeklyStatistics;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주간 통계 롤업 Repository
+ */
+public interface WeeklyStatisticsRepository extends JpaRepository<WeeklyStatistics, Long> {
+
+    /**
+     * 기간별 주간 롤업 조회 (주 오름차순)
+     */
+    List<WeeklyStatistics> findByUserIdAndWeekStartBetweenOrderByWeekStartAsc(
+        Long userId, LocalDate from, LocalDate to);
+
+    /**
+     * 사용자의 한 주 롤업 조회
+     */
+    Optional<WeeklyStatistics> findByUserIdAndWeekStart(Long userId, LocalDate weekStart);
+
+    /**
+     * 한 주의 전체 사용자 합계를 id Keyset으로 조회 (백분위 스냅샷용)
+     *
+     * <p>idx_weekly_statistics_week_id 범위 스캔으로 조회합니다.</p>
+     *
+     * @param weekStart 주 시작일 (월요일)
+     * @param lastId 이전 페이지의 마지막 행 ID (첫 페이지는 0)
+     * @param pageable 페이지 크기 (page는 항상 0)
+     * @return 주간 합계 목록 (id 오름차순)
+     */
+    @Query("""
+        SELECT new com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyTotalsRow(
+            s.id, s.totalSchedules, s.completedSchedules, s.totalFocusTime)
+        FROM WeeklyStatistics s
+        WHERE s.weekStart = :weekStart
+        AND s.id > :lastId
+        ORDER BY s.id ASC
+        """)
+    List<WeeklyTotalsRow> findWeekTotalsAfter(
+        @Param("weekStart") LocalDate weekStart,
+        @Param("lastId") Long lastId,
+        Pageable pageable);
+
+    /**
+     * 주간 롤업 원자적 누적 (단일 SQL UPSERT)
+     *
+     * <p>uk_weekly_statistics_user_week 충돌 시 카운터를 증분하고, 없으면 새 레코드를 삽입합니다.
+     * successDaysDelta는 해당 일의 SUCCESS 전환 여부에 따라 -1, 0, 1 중 하나입니다.</p>
+     *
+     * @return 영향받은 행 수 (MySQL: 삽입 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO weekly_statistics
+            (user_id, week_start, total_schedules, completed_schedules, total_focus_time,
+             force_quit_count, success_days, created_at, updated_at)
+        VALUES
+            (:userId, :weekStart, :totalDelta, :completedDelta, :focusTimeDelta,
+             :forceQuitDelta, :successDaysDelta, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        ON DUPLICATE KEY UPDATE
+            total_schedules = total_schedules + VALUES(total_schedules),
+            completed_schedules = completed_schedules + VALUES(completed_schedules),
+            total_focus_time = total_focus_time + VALUES(total_focus_time),
+            force_quit_count = force_quit_count + VALUES(force_quit_count),
+            success_days = success_days + VALUES(success_days),
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int upsertIncrement(
+        @Param("userId") Long userId,
+        @Param("weekStart") LocalDate weekStart,
+        @Param("totalDelta") long totalDelta,
+        @Param("completedDelta") long completedDelta,
+        @Param("focusTimeDelta") long focusTimeDelta,
+        @Param("forceQuitDelta") long forceQuitDelta,
+        @Param("successDaysDelta") long successDaysDelta);
+
+    /**
+     * 사용자의 주간 롤업 전체 삭제 (재계산용)
+     */
+    @Modifying
+    @Query("DELETE FROM WeeklyStatistics s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,17 @@
+package com.wombat.screenlock.unwind_be.domain.stats.repository;
+
+/**
+ * 주간 합계 Projection (백분위 스냅샷용)
+ *
+ * @param id weekly_statistics 행 ID (Keyset 커서)
+ * @param totalSchedules 전체 스케줄 수
+ * @param completedSchedules 완료된 스케줄 수
+ * @param totalFocusTime 총 집중 시간 (초)
+ */
+public record WeeklyTotalsRow(
+    Long id,
+    int totalSchedules,
+    int completedSchedules,
+    int totalFocusTime
+) {
+}
@@ -18,6 +18,7 @@ import lombok.NoArgsConstructor;
  *   <li>테이블명: users</li>
  *   <li>PK: id (AUTO_INCREMENT)</li>
  *   <li>UK: email (Unique Index)</li>
+ *   <li>IDX: (timezone, id) - 시간대별 배치 순회</li>
  * </ul>
  * 
  * @see BaseTimeEntity
@@ -25,12 +26,16 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "users", indexes = {
-    @Index(name = "uk_users_email", columnList = "email", unique = true)
+    @Index(name = "uk_users_email", columnList = "email", unique = true),
+    @Index(name = "idx_users_timezone_id", columnList = "timezone, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
 
+    /** 기본 시간대 (서비스 초기 기준) */
+    public static final String DEFAULT_TIMEZONE = "Asia/Seoul";
+
     /**
      * 사용자 고유 ID (PK)
      */
@@ -60,18 +65,29 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false, length = 20)
     private Role role;
 
+    /**
+     * 시간대 (IANA ID)
+     * <p>통계 날짜(일 단위 집계)의 기준, 기본값: Asia/Seoul</p>
+     * <p>가입 시 한 번 정해지며 변경 경로를 두지 않습니다.
+     * (이미 집계된 일자와 Access Token tz 클레임, 시간대 캐시가 모두 이 값을 기준으로 합니다)</p>
+     */
+    @Column(nullable = false, length = 64)
+    private String timezone;
+
     /**
      * User 엔티티 생성자
      * 
      * @param email 이메일 (로그인 ID)
      * @param passwordHash BCrypt 해시 비밀번호
      * @param role 사용자 권한 (null인 경우 USER로 설정)
+     * @param timezone 시간대 IANA ID (null인 경우 Asia/Seoul로 설정)
      */
     @Builder
-    public User(String email, String passwordHash, Role role) {
+    public User(String email, String passwordHash, Role role, String timezone) {
         this.email = email;
         this.passwordHash = passwordHash;
         this.role = (role != null) ? role : Role.USER;
+        this.timezone = (timezone != null) ? timezone : DEFAULT_TIMEZONE;
     }
 
     // ========== 비즈니스 메서드 ==========
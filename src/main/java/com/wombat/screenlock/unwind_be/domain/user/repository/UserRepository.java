@@ -1,9 +1,13 @@
 package com.wombat.screenlock.unwind_be.domain.user.repository;
 
 import com.wombat.screenlock.unwind_be.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -40,6 +44,58 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 존재 여부 (true: 존재, false: 미존재)
      */
     boolean existsByEmail(String email);
-}
 
+    /**
+     * 사용자 ID Keyset 페이지 조회
+     * 
+     * <p>배치 작업에서 전체 사용자를 ID 오름차순으로 순회할 때 사용합니다.
+     * OFFSET 없이 PK 범위 스캔으로 조회합니다.</p>
+     * 
+     * @param lastId 이전 페이지의 마지막 사용자 ID (첫 페이지는 0)
+     * @param pageable 페이지 크기 (page는 항상 0)
+     * @return 사용자 ID 목록 (오름차순)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId ORDER BY u.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 
+    /**
+     * 가장 큰 사용자 ID (사용자가 없으면 0)
+     * 
+     * <p>재계산 도구가 사용자 ID 범위를 파티션으로 나눌 때 사용합니다.</p>
+     */
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    Long findMaxId();
+
+    /**
+     * 사용자 ID 범위 Keyset 페이지 조회
+     * 
+     * @param lastId 이전 페이지의 마지막 사용자 ID (범위 시작, 미포함)
+     * @param maxId 범위 끝 사용자 ID (포함)
+     * @param pageable 페이지 크기 (page는 항상 0)
+     * @return 사용자 ID 목록 (오름차순)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId AND u.id <= :maxId ORDER BY u.id ASC")
+    List<Long> findIdsBetween(@Param("lastId") Long lastId, @Param("maxId") Long maxId, Pageable pageable);
+
+    /**
+     * 사용자가 있는 시간대 목록 (하루 마감 Job 샤드)
+     */
+    @Query("SELECT DISTINCT u.timezone FROM User u ORDER BY u.timezone ASC")
+    List<String> findDistinctTimezones();
+
+    /**
+     * 시간대별 사용자 ID Keyset 페이지 조회
+     * 
+     * <p>idx_users_timezone_id 범위 스캔으로 조회합니다.</p>
+     * 
+     * @param timezone 시간대 IANA ID
+     * @param lastId 이전 페이지의 마지막 사용자 ID (첫 페이지는 0)
+     * @param pageable 페이지 크기 (page는 항상 0)
+     * @return 사용자 ID 목록 (오름차순)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.timezone = :timezone AND u.id > :lastId ORDER BY u.id ASC")
+    List<Long> findIdsByTimezoneAfter(
+            @Param("timezone") String timezone,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+}
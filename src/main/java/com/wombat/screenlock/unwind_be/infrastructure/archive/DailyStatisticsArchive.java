@@ -0,0 +1,248 @@
+package com.wombat.screenlock.unwind_be.infrastructure.archive;
+
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 일별 통계 콜드 아카이브 (로컬 디스크, 월 단위 컬럼형 파일)
+ *
+ * <p>horizon-months보다 오래된 daily_statistics 달을 MonthArchiveFile로 옮겨
+ * InnoDB 버퍼 풀에는 최근 이력(working set)만 남깁니다.
+ * 아카이브된 달은 이 클래스가 원본이며, 해당 달의 MySQL 행은 이관 직후 삭제됩니다.</p>
+ *
+ * <h3>경계</h3>
+ * <ul>
+ *   <li>archivedUntil: 아카이브된 마지막 달의 다음 달 1일 (이 날짜 이전은 파일에서 읽음)</li>
+ *   <li>isCold(date): 아카이브되었거나 이관 대상(horizon 이전)인 날짜 - 새 기록을 받지 않음</li>
+ * </ul>
+ *
+ * <h3>파일</h3>
+ * <ul>
+ *   <li>경로: {stats.archive.directory}/daily_statistics_yyyyMM.dsa</li>
+ *   <li>임시 파일에 쓰고 fsync 후 원자적 이동 - 파일은 생성 후 수정하지 않음</li>
+ *   <li>여러 노드가 읽는 경우 디렉터리는 공유 볼륨이어야 하며,
+ *       디렉터리 목록은 refresh-interval마다 다시 읽어 다른 노드가 추가한 달을 반영</li>
+ * </ul>
+ *
+ * @see MonthArchiveFile
+ * @see com.wombat.screenlock.unwind_be.application.stats.DailyStatisticsArchiveJob
+ */
+@Component
+@Slf4j
+public class DailyStatisticsArchive {
+
+    /** 달 경계 기준 시간대 (기본 사용자 시간대) */
+    public static final ZoneId ARCHIVE_ZONE = ZoneId.of("Asia/Seoul");
+
+    /** 최소 horizon (요약/리더보드 등 최근 기간 쿼리는 항상 MySQL에서 처리) */
+    private static final int MIN_HORIZON_MONTHS = 3;
+
+    private static final Pattern FILE_NAME = Pattern.compile("daily_statistics_(\\d{6})\\.dsa");
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final Path directory;
+    private final boolean enabled;
+    private final int horizonMonths;
+    private final Duration refreshInterval;
+    private final Clock clock;
+
+    private volatile NavigableMap<YearMonth, MonthArchiveFile> months = Collections.emptyNavigableMap();
+    private volatile Instant refreshedAt = Instant.MIN;
+
+    public DailyStatisticsArchive(
+            @Value("${stats.archive.directory:./data/stats-archive}") String directory,
+            @Value("${stats.archive.enabled:false}") boolean enabled,
+            @Value("${stats.archive.horizon-months:24}") int horizonMonths,
+            @Value("${stats.archive.refresh-interval-seconds:60}") long refreshIntervalSeconds) {
+        this(Paths.get(directory), enabled, horizonMonths, Duration.ofSeconds(refreshIntervalSeconds),
+                Clock.system(ARCHIVE_ZONE));
+    }
+
+    DailyStatisticsArchive(Path directory, boolean enabled, int horizonMonths, Duration refreshInterval, Clock clock) {
+        if (horizonMonths < MIN_HORIZON_MONTHS) {
+            throw new IllegalArgumentException("stats.archive.horizon-months는 " + MIN_HORIZON_MONTHS + " 이상이어야 합니다");
+        }
+        this.directory = directory;
+        this.enabled = enabled;
+        this.horizonMonths = horizonMonths;
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * 이관 대상 경계 (이 날짜 이전 달은 아카이브 대상)
+     *
+     * @return 이번 달 - horizon-months 의 1일
+     */
+    public LocalDate horizonStart() {
+        return YearMonth.now(clock).minusMonths(horizonMonths).atDay(1);
+    }
+
+    /**
+     * 아카이브 경계 (이 날짜 이전은 아카이브 파일이 원본)
+     *
+     * @return 아카이브된 마지막 달의 다음 달 1일 (아카이브 없으면 empty)
+     */
+    public Optional<LocalDate> archivedUntil() {
+        NavigableMap<YearMonth, MonthArchiveFile> snapshot = snapshot();
+        return snapshot.isEmpty()
+                ? Optional.empty()
+                : Optional.of(snapshot.lastKey().plusMonths(1).atDay(1));
+    }
+
+    /**
+     * 새 기록을 받지 않는 날짜인지 (아카이브되었거나 이관 대상)
+     *
+     * @param date 기록 날짜
+     * @return true: 기록 거부 대상
+     */
+    public boolean isCold(LocalDate date) {
+        if (enabled && date.isBefore(horizonStart())) {
+            return true;
+        }
+        return archivedUntil().map(date::isBefore).orElse(false);
+    }
+
+    /**
+     * 해당 달이 아카이브되었는지
+     */
+    public boolean contains(YearMonth month) {
+        return snapshot().containsKey(month);
+    }
+
+    /**
+     * 사용자의 아카이브 행 조회 (날짜 오름차순)
+     *
+     * <p>archivedUntil 이후 날짜는 포함하지 않습니다 (MySQL에서 조회).</p>
+     *
+     * @param userId 사용자 ID
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (포함)
+     * @return 아카이브 행 (없으면 빈 리스트)
+     */
+    public List<DailyStatisticsRow> find(Long userId, LocalDate startDate, LocalDate endDate) {
+        NavigableMap<YearMonth, MonthArchiveFile> snapshot = snapshot();
+        if (snapshot.isEmpty() || startDate.isAfter(endDate)) {
+            return List.of();
+        }
+
+        List<DailyStatisticsRow> rows = new ArrayList<>();
+        for (MonthArchiveFile file : snapshot.subMap(
+                YearMonth.from(startDate), true, YearMonth.from(endDate), true).values()) {
+            for (DailyStatisticsRow row : file.find(userId)) {
+                if (!row.date().isBefore(startDate) && !row.date().isAfter(endDate)) {
+                    rows.add(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 한 달치 행을 아카이브 파일로 기록
+     *
+     * @param month 대상 달
+     * @param rows (userId, date) 오름차순 행
+     * @return 기록한 행 수
+     * @throws IllegalStateException 이미 아카이브된 달
+     * @throws UncheckedIOException 파일 기록 실패
+     */
+    public int write(YearMonth month, Iterator<DailyStatisticsRow> rows) {
+        Path target = pathOf(month);
+        if (Files.exists(target)) {
+            throw new IllegalStateException("이미 아카이브된 달입니다: " + month);
+        }
+
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            int rowCount = MonthArchiveFile.write(temp, month, rows);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            refresh();
+            log.info("일별 통계 아카이브 기록 - month={}, rowCount={}, bytes={}", month, rowCount, Files.size(target));
+            return rowCount;
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 기록 실패: " + month, e);
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                log.warn("아카이브 임시 파일 삭제 실패 - path={}", temp);
+            }
+        }
+    }
+
+    /**
+     * 디렉터리를 다시 읽어 아카이브 목록 갱신
+     *
+     * <p>이미 매핑한 파일은 그대로 재사용합니다 (파일은 생성 후 변경되지 않음).</p>
+     */
+    public synchronized void refresh() {
+        NavigableMap<YearMonth, MonthArchiveFile> current = months;
+        NavigableMap<YearMonth, MonthArchiveFile> refreshed = new TreeMap<>();
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "daily_statistics_*.dsa")) {
+                for (Path file : files) {
+                    Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                    if (!matcher.matches()) {
+                        continue;
+                    }
+                    YearMonth month = YearMonth.parse(matcher.group(1), MONTH_FORMAT);
+                    MonthArchiveFile mapped = current.get(month);
+                    refreshed.put(month, mapped != null ? mapped : MonthArchiveFile.open(file));
+                }
+            } catch (IOException e) {
+                // 손상 파일 등 - 기존 목록 유지
+                log.error("아카이브 목록 갱신 실패 - directory={}, reason={}", directory, e.getMessage());
+                refreshedAt = clock.instant();
+                return;
+            }
+        }
+        months = Collections.unmodifiableNavigableMap(refreshed);
+        refreshedAt = clock.instant();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private NavigableMap<YearMonth, MonthArchiveFile> snapshot() {
+        if (refreshedAt.plus(refreshInterval).isBefore(clock.instant())) {
+            refresh();
+        }
+        return months;
+    }
+
+    private Path pathOf(YearMonth month) {
+        return directory.resolve("daily_statistics_" + month.format(MONTH_FORMAT) + ".dsa");
+    }
+}
@@ -0,0 +1,81 @@
+package com.wombat.screenlock.unwind_be.infrastructure.archive;
+
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsHistoryRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRow;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일별 통계 장기 이력 조회 구현 (아카이브 read-through)
+ *
+ * <p>archivedUntil 이전은 아카이브 파일, 이후는 MySQL에서 읽습니다.
+ * 이관 중(파일 기록 후 MySQL 삭제 전)에도 같은 날짜가 중복되지 않도록
+ * MySQL 조회 시작일을 항상 archivedUntil 이후로 자릅니다.</p>
+ *
+ * <p>조회 범위가 아카이브 경계 이후뿐이면(요약의 최근 7일 등) 파일을 읽지 않습니다.</p>
+ */
+@RequiredArgsConstructor
+public class DailyStatisticsHistoryRepositoryImpl implements DailyStatisticsHistoryRepository {
+
+    private static final String VIEW_SELECT = """
+        SELECT new com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView(
+            ds.date, ds.totalSchedules, ds.completedSchedules,
+            ds.totalFocusTime, ds.forceQuitCount, ds.status)
+        FROM DailyStatistics ds
+        WHERE ds.user.id = :userId
+        AND ds.date >= :startDate
+        """;
+
+    /** 하한 없음 (MySQL DATE 최소값) */
+    private static final LocalDate NO_LOWER_BOUND = LocalDate.of(1000, 1, 1);
+
+    private final EntityManager entityManager;
+    private final DailyStatisticsArchive dailyStatisticsArchive;
+
+    @Override
+    public List<DailyStatisticsView> findViewsByUserIdOrderByDateAsc(Long userId) {
+        Optional<LocalDate> archivedUntil = dailyStatisticsArchive.archivedUntil();
+
+        List<DailyStatisticsView> views = new ArrayList<>();
+        archivedUntil.ifPresent(until -> dailyStatisticsArchive.find(userId, NO_LOWER_BOUND, until.minusDays(1))
+                .forEach(row -> views.add(row.toView())));
+        views.addAll(entityManager.createQuery(VIEW_SELECT + "ORDER BY ds.date ASC", DailyStatisticsView.class)
+                .setParameter("userId", userId)
+                .setParameter("startDate", archivedUntil.orElse(NO_LOWER_BOUND))
+                .getResultList());
+        return views;
+    }
+
+    @Override
+    public List<DailyStatisticsView> findViewsByUserIdAndDateBetweenOrderByDateDesc(
+            Long userId, LocalDate startDate, LocalDate endDate) {
+        Optional<LocalDate> archivedUntil = dailyStatisticsArchive.archivedUntil()
+                .filter(startDate::isBefore);
+
+        List<DailyStatisticsView> views = new ArrayList<>(entityManager.createQuery(
+                        VIEW_SELECT + "AND ds.date <= :endDate ORDER BY ds.date DESC", DailyStatisticsView.class)
+                .setParameter("userId", userId)
+                .setParameter("startDate", archivedUntil.orElse(startDate))
+                .setParameter("endDate", endDate)
+                .getResultList());
+
+        if (archivedUntil.isPresent()) {
+            List<DailyStatisticsRow> archived = dailyStatisticsArchive.find(
+                    userId, startDate, min(endDate, archivedUntil.get().minusDays(1)));
+            for (int i = archived.size() - 1; i >= 0; i--) {
+                views.add(archived.get(i).toView());
+            }
+        }
+        return views;
+    }
+
+    private LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,367 @@
+package com.wombat.screenlock.unwind_be.infrastructure.archive;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRow;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 월 단위 일별 통계 컬럼형 아카이브 파일
+ *
+ * <p>한 달치 daily_statistics를 한 번만 쓰고(append-only, 재작성 없음)
+ * FileChannel.map으로 읽기 전용 매핑하여 조회합니다.</p>
+ *
+ * <h3>파일 구조 (Big Endian)</h3>
+ * <pre>
+ * [Header 16B]  magic(int) | version(int) | yyyyMM(int) | 0(int)
+ * [User Block]* 사용자별 컬럼 묶음 (행은 날짜 오름차순)
+ *               day        : varint × n (첫 값은 일(day of month), 이후는 직전 일과의 차이)
+ *               total      : varint × n
+ *               completed  : varint × n
+ *               focusTime  : varint × n
+ *               forceQuit  : varint × n
+ *               status     : byte × n (STATUS_CODES 인덱스)
+ *               allInMode  : byte × n (0/1)
+ * [Index]       userId(long) | blockOffset(int) | rowCount(int) × userCount (userId 오름차순)
+ * [Footer 20B]  indexOffset(long) | userCount(int) | rowCount(int) | magic(int)
+ * </pre>
+ *
+ * <p>사용자 조회는 Index 영역을 이진 탐색한 뒤 해당 블록만 디코딩합니다.
+ * 매핑은 2GB 이하 파일만 지원합니다.</p>
+ */
+final class MonthArchiveFile {
+
+    static final int MAGIC = 0x44534131; // "DSA1"
+    static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 16;
+    private static final int INDEX_ENTRY_SIZE = 16;
+    private static final int FOOTER_SIZE = 20;
+
+    /** 상태 코드 (파일에 기록되는 순서이므로 enum 순서와 무관하게 고정) */
+    private static final DailyStatus[] STATUS_CODES = {
+        DailyStatus.SUCCESS, DailyStatus.WARNING, DailyStatus.FAILURE,
+        DailyStatus.NO_PLAN, DailyStatus.IN_PROGRESS
+    };
+
+    private final YearMonth month;
+    private final MappedByteBuffer buffer;
+    private final int indexOffset;
+    private final int userCount;
+    private final int rowCount;
+
+    private MonthArchiveFile(YearMonth month, MappedByteBuffer buffer, int indexOffset, int userCount, int rowCount) {
+        this.month = month;
+        this.buffer = buffer;
+        this.indexOffset = indexOffset;
+        this.userCount = userCount;
+        this.rowCount = rowCount;
+    }
+
+    // ========== Read ==========
+
+    /**
+     * 파일을 읽기 전용으로 매핑
+     *
+     * @throws IOException 파일 손상(매직/버전 불일치) 또는 2GB 초과
+     */
+    static MonthArchiveFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + FOOTER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("아카이브 파일 크기 오류: " + path + " (" + size + " bytes)");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            int footer = (int) size - FOOTER_SIZE;
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(footer + 16) != MAGIC) {
+                throw new IOException("아카이브 파일 형식 오류: " + path);
+            }
+            int yyyyMM = buffer.getInt(8);
+            YearMonth month = YearMonth.of(yyyyMM / 100, yyyyMM % 100);
+            return new MonthArchiveFile(month, buffer,
+                    (int) buffer.getLong(footer), buffer.getInt(footer + 8), buffer.getInt(footer + 12));
+        }
+    }
+
+    YearMonth month() {
+        return month;
+    }
+
+    int userCount() {
+        return userCount;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 사용자의 한 달치 행 조회 (날짜 오름차순, 없으면 빈 리스트)
+     */
+    List<DailyStatisticsRow> find(Long userId) {
+        int entry = findIndexEntry(userId);
+        if (entry < 0) {
+            return List.of();
+        }
+
+        int blockOffset = buffer.getInt(entry + 8);
+        int count = buffer.getInt(entry + 12);
+        int[] pos = {blockOffset};
+
+        int[] days = new int[count];
+        int day = 0;
+        for (int i = 0; i < count; i++) {
+            day += readVarint(pos);
+            days[i] = day;
+        }
+        int[] totals = readVarints(pos, count);
+        int[] completed = readVarints(pos, count);
+        int[] focusTimes = readVarints(pos, count);
+        int[] forceQuits = readVarints(pos, count);
+        int statusStart = pos[0];
+        int allInStart = statusStart + count;
+
+        List<DailyStatisticsRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new DailyStatisticsRow(userId, month.atDay(days[i]),
+                    totals[i], completed[i], focusTimes[i], forceQuits[i],
+                    buffer.get(allInStart + i) != 0, STATUS_CODES[buffer.get(statusStart + i)]));
+        }
+        return rows;
+    }
+
+    /**
+     * Index 이진 탐색
+     *
+     * @return 엔트리 절대 위치 (없으면 -1)
+     */
+    private int findIndexEntry(long userId) {
+        int low = 0;
+        int high = userCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = indexOffset + mid * INDEX_ENTRY_SIZE;
+            long midUserId = buffer.getLong(entry);
+            if (midUserId < userId) {
+                low = mid + 1;
+            } else if (midUserId > userId) {
+                high = mid - 1;
+            } else {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    private int[] readVarints(int[] pos, int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = readVarint(pos);
+        }
+        return values;
+    }
+
+    /**
+     * 부호 없는 LEB128 varint 읽기 (절대 위치 사용 - 매핑 버퍼를 스레드 간 공유)
+     */
+    private int readVarint(int[] pos) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get(pos[0]++);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    // ========== Write ==========
+
+    /**
+     * 한 달치 행을 파일로 기록
+     *
+     * <p>행은 (userId, date) 오름차순이어야 하며, 사용자 한 명분(최대 31행)만 메모리에 모아
+     * 컬럼 단위로 기록합니다. 호출자는 임시 경로에 쓴 뒤 원자적으로 이동해야 합니다.</p>
+     *
+     * @return 기록한 행 수
+     * @throws IllegalArgumentException 정렬되지 않았거나 다른 달의 행이 포함된 경우
+     */
+    static int write(Path path, YearMonth month, Iterator<DailyStatisticsRow> rows) throws IOException {
+        try (OutputStream file = Files.newOutputStream(path);
+             CountingOutputStream counting = new CountingOutputStream(new BufferedOutputStream(file, 64 * 1024));
+             DataOutputStream out = new DataOutputStream(counting)) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(month.getYear() * 100 + month.getMonthValue());
+            out.writeInt(0);
+
+            UserIndex index = new UserIndex();
+            List<DailyStatisticsRow> block = new ArrayList<>(31);
+            while (rows.hasNext()) {
+                DailyStatisticsRow row = rows.next();
+                if (!YearMonth.from(row.date()).equals(month)) {
+                    throw new IllegalArgumentException("다른 달의 행: " + row.date());
+                }
+                if (!block.isEmpty() && !block.get(0).userId().equals(row.userId())) {
+                    index.add(block.get(0).userId(), checkedOffset(counting.count()), block.size());
+                    writeBlock(out, block);
+                    block.clear();
+                }
+                block.add(row);
+            }
+            if (!block.isEmpty()) {
+                index.add(block.get(0).userId(), checkedOffset(counting.count()), block.size());
+                writeBlock(out, block);
+            }
+
+            long indexOffset = counting.count();
+            for (int i = 0; i < index.size; i++) {
+                out.writeLong(index.userIds[i]);
+                out.writeInt(index.offsets[i]);
+                out.writeInt(index.counts[i]);
+            }
+            out.writeLong(indexOffset);
+            out.writeInt(index.size);
+            out.writeInt(index.rowCount);
+            out.writeInt(MAGIC);
+            checkedOffset(counting.count());
+            return index.rowCount;
+        }
+    }
+
+    /**
+     * 사용자 한 명의 행을 컬럼 단위로 기록
+     */
+    private static void writeBlock(DataOutputStream out, List<DailyStatisticsRow> block) throws IOException {
+        int previousDay = 0;
+        for (DailyStatisticsRow row : block) {
+            int day = row.date().getDayOfMonth();
+            if (day <= previousDay) {
+                throw new IllegalArgumentException("날짜 오름차순이 아닙니다: " + row);
+            }
+            writeVarint(out, day - previousDay);
+            previousDay = day;
+        }
+        for (DailyStatisticsRow row : block) {
+            writeVarint(out, row.totalSchedules());
+        }
+        for (DailyStatisticsRow row : block) {
+            writeVarint(out, row.completedSchedules());
+        }
+        for (DailyStatisticsRow row : block) {
+            writeVarint(out, row.totalFocusTime());
+        }
+        for (DailyStatisticsRow row : block) {
+            writeVarint(out, row.forceQuitCount());
+        }
+        for (DailyStatisticsRow row : block) {
+            out.writeByte(statusCode(row.status()));
+        }
+        for (DailyStatisticsRow row : block) {
+            out.writeByte(row.allInModeUsed() ? 1 : 0);
+        }
+    }
+
+    /**
+     * 부호 없는 LEB128 varint 쓰기 (카운터는 0 이상)
+     */
+    static void writeVarint(DataOutputStream out, int value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수는 기록할 수 없습니다: " + value);
+        }
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int statusCode(DailyStatus status) {
+        for (int i = 0; i < STATUS_CODES.length; i++) {
+            if (STATUS_CODES[i] == status) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 상태: " + status);
+    }
+
+    private static int checkedOffset(long offset) throws IOException {
+        if (offset > Integer.MAX_VALUE) {
+            throw new IOException("아카이브 파일이 2GB를 초과합니다");
+        }
+        return (int) offset;
+    }
+
+    /**
+     * 기록 중 쌓는 사용자 Index (userId 오름차순 검증)
+     */
+    private static final class UserIndex {
+
+        private long[] userIds = new long[1024];
+        private int[] offsets = new int[1024];
+        private int[] counts = new int[1024];
+        private int size;
+        private int rowCount;
+
+        void add(long userId, int offset, int count) {
+            if (size > 0 && userIds[size - 1] >= userId) {
+                throw new IllegalArgumentException("userId 오름차순이 아닙니다: " + userId);
+            }
+            if (size == userIds.length) {
+                userIds = Arrays.copyOf(userIds, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            userIds[size] = userId;
+            offsets[size] = offset;
+            counts[size] = count;
+            size++;
+            rowCount += count;
+        }
+    }
+
+    /**
+     * 기록한 바이트 수를 세는 스트림 (블록 오프셋 계산용)
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.wombat.screenlock.unwind_be.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 크기 제한 + TTL을 지원하는 JVM 내 LRU 캐시
+ * 
+ * <p>접근 순서(access-order) LinkedHashMap으로 최대 크기를 넘으면
+ * 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * 만료된 항목은 조회 시점에 제거합니다 (lazy expiration).</p>
+ * 
+ * <p>모든 연산은 인스턴스 단위로 동기화됩니다. 항목 수가 수만 개 이하이고
+ * 연산이 O(1)이므로 단일 잠금으로 충분합니다.</p>
+ * 
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ * @see TwoLevelCache
+ */
+public class LocalLruCache<K, V> {
+
+    private final int maxSize;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public LocalLruCache(int maxSize, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LocalLruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 항목 조회 (만료된 항목은 제거 후 empty)
+     */
+    public synchronized Optional<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtMillis() <= clock.millis()) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    /**
+     * 항목 저장 (기존 항목은 덮어씀)
+     */
+    public synchronized void put(K key, V value, Duration ttl) {
+        entries.put(key, new Entry<>(value, clock.millis() + ttl.toMillis()));
+    }
+
+    /**
+     * 항목 제거
+     */
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 현재 항목 수 (만료되었지만 아직 제거되지 않은 항목 포함)
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+}
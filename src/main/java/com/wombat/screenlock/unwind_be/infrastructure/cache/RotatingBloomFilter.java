@@ -0,0 +1,123 @@
+package com.wombat.screenlock.unwind_be.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 세대 교체형 JVM 내 Bloom 필터
+ *
+ * <p>현재/이전 두 세대의 비트 배열을 두고, generationTtl마다 이전 세대를 버리고
+ * 새 세대를 시작합니다. 키는 최소 generationTtl, 최대 2 × generationTtl 동안 기억됩니다.
+ * 포함 여부는 두 세대 중 하나라도 포함하면 true입니다 (거짓 양성 가능, 거짓 음성 없음).</p>
+ *
+ * <p>해시는 FNV-1a 64비트 값을 둘로 나눈 이중 해싱(h1 + i × h2)을 사용합니다.
+ * 모든 연산은 인스턴스 단위로 동기화됩니다.</p>
+ */
+public class RotatingBloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int bitCount;
+    private final int hashCount;
+    private final long generationMillis;
+    private final Clock clock;
+
+    private long[] current;
+    private long[] previous;
+    private long rotatedAtMillis;
+
+    /**
+     * @param expectedInsertions 세대당 예상 키 수
+     * @param falsePositiveRate 목표 거짓 양성률 (0 초과 1 미만)
+     * @param generationTtl 세대 교체 주기
+     * @param clock 시계
+     */
+    public RotatingBloomFilter(long expectedInsertions, double falsePositiveRate, Duration generationTtl, Clock clock) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions는 1 이상이어야 합니다: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        // m = -n ln p / (ln 2)^2, k = m / n × ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Math.max(bits, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.generationMillis = generationTtl.toMillis();
+        this.clock = clock;
+        this.current = new long[wordCount()];
+        this.previous = new long[wordCount()];
+        this.rotatedAtMillis = clock.millis();
+    }
+
+    /**
+     * 포함 여부 (true: 포함 가능성 있음, false: 확실히 없음)
+     */
+    public synchronized boolean mightContain(String key) {
+        rotateIfExpired();
+        long hash = hash(key);
+        return contains(current, hash) || contains(previous, hash);
+    }
+
+    /**
+     * 키 추가
+     *
+     * @return true: 이전에 확실히 없던 키, false: 이미 포함되었을 가능성 있음
+     */
+    public synchronized boolean put(String key) {
+        rotateIfExpired();
+        long hash = hash(key);
+        boolean seen = contains(current, hash) || contains(previous, hash);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            current[bit >>> 6] |= 1L << bit;
+        }
+        return !seen;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private boolean contains(long[] bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    private void rotateIfExpired() {
+        long now = clock.millis();
+        if (now - rotatedAtMillis < generationMillis) {
+            return;
+        }
+        // 두 세대 이상 지났으면 둘 다 비움
+        previous = (now - rotatedAtMillis < 2 * generationMillis) ? current : new long[wordCount()];
+        current = new long[wordCount()];
+        rotatedAtMillis = now;
+    }
+
+    private int wordCount() {
+        return (bitCount + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
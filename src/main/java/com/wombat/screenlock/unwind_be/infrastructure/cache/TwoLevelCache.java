@@ -0,0 +1,158 @@
+package com.wombat.screenlock.unwind_be.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * 2단계 캐시 (JVM 내 LRU → Redis)
+ * 
+ * <p>조회는 로컬 LRU를 먼저 확인하고, 없으면 Redis에서 읽어 로컬에 채웁니다.
+ * 삭제 시에는 Redis와 로컬을 함께 비우고, Redis pub/sub으로 다른 노드에도
+ * 로컬 삭제를 알립니다.</p>
+ * 
+ * <h3>일관성</h3>
+ * <ul>
+ *   <li>Redis 값: 삭제 즉시 모든 노드에 반영</li>
+ *   <li>로컬 값: pub/sub 메시지 수신 시 삭제, 메시지 유실 시에도 로컬 TTL 이후 만료</li>
+ *   <li>Redis 장애: 로그만 남기고 캐시 미스로 처리 (호출 측은 원본 저장소에서 조회)</li>
+ * </ul>
+ * 
+ * <h3>저장 구조</h3>
+ * <ul>
+ *   <li>Key: {name}:{key}</li>
+ *   <li>Value: 값 타입의 JSON</li>
+ * </ul>
+ * 
+ * @param <V> 캐시 값 타입 (Jackson 직렬화 가능해야 함)
+ * @see TwoLevelCacheManager
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private final String name;
+    private final Class<V> type;
+    private final LocalLruCache<String, V> local;
+    private final Duration localTtl;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final BiConsumer<String, String> invalidationBroadcaster;
+
+    TwoLevelCache(
+            String name,
+            Class<V> type,
+            int localMaxSize,
+            Duration localTtl,
+            Clock clock,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            BiConsumer<String, String> invalidationBroadcaster) {
+        this.name = name;
+        this.type = type;
+        this.local = new LocalLruCache<>(localMaxSize, clock);
+        this.localTtl = localTtl;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.invalidationBroadcaster = invalidationBroadcaster;
+    }
+
+    /**
+     * 캐시 이름 (Redis Key 접두사 및 무효화 메시지 라우팅에 사용)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 값 조회 (로컬 → Redis 순)
+     * 
+     * @param key 캐시 키
+     * @return 캐시된 값 Optional (양쪽 모두 없으면 empty)
+     */
+    public Optional<V> get(String key) {
+        Optional<V> cached = local.get(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(key));
+            if (json == null) {
+                return Optional.empty();
+            }
+            V value = objectMapper.readValue(json, type);
+            local.put(key, value, localTtl);
+            return Optional.of(value);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("캐시 조회 실패 - cache={}, key={}, reason={}", name, key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 값 저장 (Redis + 로컬)
+     * 
+     * @param key 캐시 키
+     * @param value 저장할 값
+     * @param ttl Redis TTL (로컬 TTL은 이 값과 설정값 중 짧은 값)
+     */
+    public void put(String key, V value, Duration ttl) {
+        local.put(key, value, ttl.compareTo(localTtl) < 0 ? ttl : localTtl);
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("캐시 저장 실패 - cache={}, key={}, reason={}", name, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 만료 없이 값 저장 (Redis + 로컬)
+     * 
+     * <p>지난 기간처럼 더 이상 바뀌지 않는 값에 사용합니다.
+     * Redis에는 TTL 없이 저장하고, 로컬은 설정된 로컬 TTL을 따릅니다.</p>
+     * 
+     * @param key 캐시 키
+     * @param value 저장할 값
+     */
+    public void put(String key, V value) {
+        local.put(key, value, localTtl);
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), objectMapper.writeValueAsString(value));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("캐시 저장 실패 - cache={}, key={}, reason={}", name, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 값 삭제 (Redis + 로컬 + 다른 노드 로컬)
+     * 
+     * @param key 캐시 키
+     */
+    public void evict(String key) {
+        local.remove(key);
+        try {
+            redisTemplate.delete(redisKey(key));
+        } catch (DataAccessException e) {
+            log.warn("캐시 삭제 실패 - cache={}, key={}, reason={}", name, key, e.getMessage());
+        }
+        invalidationBroadcaster.accept(name, key);
+    }
+
+    /**
+     * 로컬 항목만 삭제 (다른 노드의 무효화 메시지 수신 시)
+     */
+    void evictLocal(String key) {
+        local.remove(key);
+    }
+
+    private String redisKey(String key) {
+        return name + ":" + key;
+    }
+}
@@ -0,0 +1,109 @@
+package com.wombat.screenlock.unwind_be.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 캐시 생성 및 노드 간 무효화 관리
+ * 
+ * <p>이름별 TwoLevelCache를 생성/보관하고, Redis pub/sub 채널로
+ * 캐시 삭제를 모든 노드에 전파합니다.</p>
+ * 
+ * <h3>무효화 메시지</h3>
+ * <ul>
+ *   <li>Channel: cache:invalidation</li>
+ *   <li>Body: {nodeId}\t{cacheName}\t{key}</li>
+ *   <li>자신이 보낸 메시지는 무시 (발행 전에 이미 로컬 삭제)</li>
+ * </ul>
+ * 
+ * <p>cache.invalidation.enabled=false이면 구독하지 않습니다 (단일 노드/테스트).</p>
+ * 
+ * @see TwoLevelCache
+ * @see com.wombat.screenlock.unwind_be.config.RedisConfig
+ */
+@Component
+@Slf4j
+public class TwoLevelCacheManager implements MessageListener {
+
+    /** 무효화 메시지 채널 */
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private static final String SEPARATOR = "\t";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        listenerContainer.ifAvailable(container ->
+                container.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL)));
+    }
+
+    /**
+     * 이름별 2단계 캐시 생성
+     * 
+     * @param name 캐시 이름 (Redis Key 접두사, 노드 간 유일해야 함)
+     * @param type 값 타입
+     * @param localMaxSize 로컬 LRU 최대 항목 수
+     * @param localTtl 로컬 항목 TTL (노드 간 최대 불일치 시간)
+     * @return 생성된 캐시
+     * @throws IllegalStateException 같은 이름의 캐시가 이미 있는 경우
+     */
+    public <V> TwoLevelCache<V> create(String name, Class<V> type, int localMaxSize, Duration localTtl) {
+        TwoLevelCache<V> cache = new TwoLevelCache<>(name, type, localMaxSize, localTtl,
+                Clock.systemUTC(), redisTemplate, objectMapper, this::broadcast);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("이미 등록된 캐시 이름입니다: " + name);
+        }
+        return cache;
+    }
+
+    /**
+     * 다른 노드로 무효화 메시지 발행
+     */
+    void broadcast(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - cache={}, key={}, reason={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 메시지 수신 → 해당 캐시의 로컬 항목 삭제
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache<?> cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(parts[2]);
+            log.debug("원격 캐시 무효화 - cache={}, key={}", parts[1], parts[2]);
+        }
+    }
+}
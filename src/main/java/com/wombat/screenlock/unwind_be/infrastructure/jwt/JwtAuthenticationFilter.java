@@ -1,5 +1,6 @@
 package com.wombat.screenlock.unwind_be.infrastructure.jwt;
 
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +27,7 @@ import java.util.List;
  *   <li>HTTP 요청의 Authorization 헤더에서 Bearer 토큰 추출</li>
  *   <li>토큰이 존재하고 유효하면 JwtProvider로 검증</li>
  *   <li>검증 성공 시 SecurityContext에 Authentication 설정</li>
+ *   <li>tz 클레임이 있으면 UserZoneResolver에 등록 (통계 날짜 계산 시 DB 조회 생략)</li>
  *   <li>검증 실패 시 무시하고 다음 필터로 진행 (인증 실패로 처리되지 않음)</li>
  * </ol>
  * 
@@ -51,6 +53,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtProvider jwtProvider;
+    private final UserZoneResolver userZoneResolver;
 
     /**
      * 필터 실행 메서드
@@ -84,11 +87,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // 5. SecurityContext에 설정
             SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            // 6. 사용자 시간대 등록 (이후 통계 날짜 계산에서 DB 조회 없음)
+            userZoneResolver.remember(userId, jwtProvider.getTimezoneFromToken(token));
             
             log.debug("JWT 인증 성공: userId={}", userId);
         }
 
-        // 6. 다음 필터로 진행
+        // 7. 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 
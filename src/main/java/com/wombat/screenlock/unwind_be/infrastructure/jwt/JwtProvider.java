@@ -27,6 +27,7 @@ import java.util.Date;
  *   <li>Refresh Token: 7일 만료 (604800초)</li>
  *   <li>알고리즘: HS256</li>
  *   <li>Subject: userId (Long 타입을 String으로 변환)</li>
+ *   <li>tz: 사용자 시간대 IANA ID (Access Token, 통계 날짜 기준)</li>
  * </ul>
  * 
  * <h3>보안 주의사항</h3>
@@ -42,6 +43,9 @@ import java.util.Date;
 @Slf4j
 public class JwtProvider {
 
+    /** 사용자 시간대 클레임 이름 */
+    static final String TIMEZONE_CLAIM = "tz";
+
     private final SecretKey secretKey;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
@@ -71,7 +75,20 @@ public class JwtProvider {
      * @return JWT Access Token 문자열
      */
     public String generateAccessToken(Long userId) {
-        return generateToken(userId, accessTokenExpiration);
+        return generateAccessToken(userId, null);
+    }
+
+    /**
+     * 시간대 클레임을 포함한 Access Token 생성
+     * 
+     * <p>인증 필터가 DB 조회 없이 사용자 시간대를 알 수 있도록 tz 클레임을 추가합니다.</p>
+     * 
+     * @param userId 사용자 고유 ID
+     * @param timezone 사용자 시간대 IANA ID (null이면 클레임 생략)
+     * @return JWT Access Token 문자열
+     */
+    public String generateAccessToken(Long userId, String timezone) {
+        return generateToken(userId, timezone, accessTokenExpiration);
     }
 
     /**
@@ -83,7 +100,7 @@ public class JwtProvider {
      * @return JWT Refresh Token 문자열
      */
     public String generateRefreshToken(Long userId) {
-        return generateToken(userId, refreshTokenExpiration);
+        return generateToken(userId, null, refreshTokenExpiration);
     }
 
     /**
@@ -100,6 +117,17 @@ public class JwtProvider {
         return Long.parseLong(claims.getSubject());
     }
 
+    /**
+     * 토큰에서 시간대 추출
+     * 
+     * @param token JWT 토큰 문자열
+     * @return 시간대 IANA ID (클레임이 없으면 null)
+     * @throws io.jsonwebtoken.JwtException 토큰 파싱 실패 시
+     */
+    public String getTimezoneFromToken(String token) {
+        return parseClaims(token).get(TIMEZONE_CLAIM, String.class);
+    }
+
     /**
      * 토큰 유효성 검증
      * 
@@ -145,15 +173,17 @@ public class JwtProvider {
      * JWT 토큰 생성 (Private Helper)
      * 
      * @param userId 사용자 고유 ID
+     * @param timezone 사용자 시간대 (null이면 클레임 생략)
      * @param expirationMs 만료 시간 (밀리초)
      * @return JWT 토큰 문자열
      */
-    private String generateToken(Long userId, long expirationMs) {
+    private String generateToken(Long userId, String timezone, long expirationMs) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))
+                .claim(TIMEZONE_CLAIM, timezone)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(secretKey)
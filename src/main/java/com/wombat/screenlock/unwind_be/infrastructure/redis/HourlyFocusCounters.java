@@ -0,0 +1,10 @@
+package com.wombat.screenlock.unwind_be.infrastructure.redis;
+
+/**
+ * 시간대별 집중 시간 카운터 조회 결과
+ *
+ * @param recent 조회한 날짜들의 0~23시 합계 (초)
+ * @param allTime 전체 기간 0~23시 누적 (초)
+ */
+public record HourlyFocusCounters(long[] recent, long[] allTime) {
+}
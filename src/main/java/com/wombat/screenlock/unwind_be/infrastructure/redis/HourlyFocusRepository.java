@@ -0,0 +1,156 @@
+package com.wombat.screenlock.unwind_be.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.BitFieldSubCommands.Offset;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간대별(0~23시) 집중 시간 Redis 카운터 Repository
+ * 
+ * <p>사용자별로 24칸 고정 폭 카운터를 바이너리 문자열 하나에 담고 BITFIELD INCRBY로 누적합니다.</p>
+ * 
+ * <h3>저장 구조</h3>
+ * <ul>
+ *   <li>일별: hourly_focus:{userId}:{yyyyMMdd} - 24 × u32 (96바이트), TTL로 최근 구간만 유지</li>
+ *   <li>전체: hourly_focus:{userId}:all - 24 × i64 (192바이트), TTL 없음</li>
+ *   <li>칸 h의 값은 바이트 [h × 폭, (h + 1) × 폭) 빅엔디언 (BITFIELD #h 오프셋)</li>
+ * </ul>
+ * 
+ * <p>BITFIELD는 기록한 가장 높은 칸까지만 문자열을 늘리므로 읽을 때 모자란 칸은 0입니다.
+ * 값은 바이너리이므로 조회는 String 직렬화를 거치지 않고 연결에서 byte[]로 직접 처리합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class HourlyFocusRepository {
+
+    /** 하루 칸 수 */
+    public static final int HOURS = 24;
+
+    /** Redis Key 접두사 */
+    private static final String KEY_PREFIX = "hourly_focus:";
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final BitFieldType DAY_TYPE = BitFieldType.unsigned(32);
+    private static final BitFieldType TOTAL_TYPE = BitFieldType.signed(64);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 날짜별 시간대 집중 시간 누적 (파이프라인, 날짜당 BITFIELD 1회 + 전체 BITFIELD 1회)
+     * 
+     * @param userId 사용자 ID
+     * @param secondsByDate 날짜별 24칸 집중 시간 (초)
+     * @param dayTtl 일별 키 TTL
+     */
+    public void increment(Long userId, Map<LocalDate, long[]> secondsByDate, Duration dayTtl) {
+        if (secondsByDate.isEmpty()) {
+            return;
+        }
+        long[] total = new long[HOURS];
+        secondsByDate.values().forEach(seconds -> {
+            for (int hour = 0; hour < HOURS; hour++) {
+                total[hour] += seconds[hour];
+            }
+        });
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            secondsByDate.forEach((date, seconds) -> {
+                byte[] rawKey = rawKey(userId, DAY_FORMAT.format(date));
+                BitFieldSubCommands commands = incrementCommands(DAY_TYPE, seconds);
+                if (commands != null) {
+                    connection.stringCommands().bitField(rawKey, commands);
+                    connection.keyCommands().expire(rawKey, dayTtl.toSeconds());
+                }
+            });
+            BitFieldSubCommands totalCommands = incrementCommands(TOTAL_TYPE, total);
+            if (totalCommands != null) {
+                connection.stringCommands().bitField(rawKey(userId, "all"), totalCommands);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 여러 날짜 합계와 전체 누적 조회 (MGET 1회)
+     * 
+     * @param userId 사용자 ID
+     * @param dates 합산할 날짜 목록
+     * @return 날짜 합계와 전체 누적 (기록이 없으면 0)
+     */
+    public HourlyFocusCounters find(Long userId, List<LocalDate> dates) {
+        byte[][] rawKeys = new byte[dates.size() + 1][];
+        for (int i = 0; i < dates.size(); i++) {
+            rawKeys[i] = rawKey(userId, DAY_FORMAT.format(dates.get(i)));
+        }
+        rawKeys[dates.size()] = rawKey(userId, "all");
+
+        List<byte[]> values = redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+
+        long[] recent = new long[HOURS];
+        long[] allTime = new long[HOURS];
+        if (values != null) {
+            for (int i = 0; i < dates.size(); i++) {
+                addCounters(recent, values.get(i), Integer.BYTES);
+            }
+            addCounters(allTime, values.get(dates.size()), Long.BYTES);
+        }
+        return new HourlyFocusCounters(recent, allTime);
+    }
+
+    /**
+     * 0이 아닌 칸만 INCRBY (모두 0이면 null)
+     */
+    private BitFieldSubCommands incrementCommands(BitFieldType type, long[] seconds) {
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        boolean any = false;
+        for (int hour = 0; hour < HOURS; hour++) {
+            if (seconds[hour] != 0) {
+                commands = commands.incr(type).valueAt(Offset.offset(hour).multipliedByTypeLength()).by(seconds[hour]);
+                any = true;
+            }
+        }
+        return any ? commands : null;
+    }
+
+    /**
+     * 빅엔디언 고정 폭 카운터를 더함 (짧은 값은 모자란 칸을 0으로 간주)
+     */
+    private static void addCounters(long[] target, byte[] value, int width) {
+        if (value == null) {
+            return;
+        }
+        int hours = Math.min(HOURS, value.length / width);
+        for (int hour = 0; hour < hours; hour++) {
+            long counter = 0;
+            for (int b = 0; b < width; b++) {
+                counter = (counter << 8) | (value[hour * width + b] & 0xFF);
+            }
+            target[hour] += counter;
+        }
+    }
+
+    private byte[] rawKey(Long userId, String suffix) {
+        return generateKey(userId, suffix).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Redis Key 생성
+     * 
+     * @return 형식: "hourly_focus:{userId}:{yyyyMMdd|all}"
+     */
+    private String generateKey(Long userId, String suffix) {
+        return KEY_PREFIX + userId + ":" + suffix;
+    }
+}
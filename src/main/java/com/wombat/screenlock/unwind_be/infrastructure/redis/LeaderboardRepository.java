@@ -0,0 +1,142 @@
+package com.wombat.screenlock.unwind_be.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 리더보드 Redis Sorted Set Repository
+ * 
+ * <h3>저장 구조</h3>
+ * <ul>
+ *   <li>leaderboard:streak - ZSET, member=userId, score=현재 스트릭</li>
+ *   <li>leaderboard:streak:last_success - HASH, field=userId, value=마지막 성공일 (epochDay)</li>
+ *   <li>leaderboard:focus:{weekKey} - ZSET, member=userId, score=주간 집중 시간 (초), 주 종료 후 만료</li>
+ * </ul>
+ * 
+ * <p>순위 조회는 ZREVRANGE / ZREVRANK로 O(log n + limit)입니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaderboardRepository {
+
+    private static final String STREAK_KEY = "leaderboard:streak";
+    private static final String STREAK_LAST_SUCCESS_KEY = "leaderboard:streak:last_success";
+    private static final String FOCUS_KEY_PREFIX = "leaderboard:focus:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // ========== 스트릭 ==========
+
+    /**
+     * 현재 스트릭 점수 갱신 (0이면 리더보드에서 제거)
+     * 
+     * @param userId 사용자 ID
+     * @param streak 현재 스트릭
+     * @param lastSuccessEpochDay 마지막 성공일 (epochDay)
+     */
+    public void saveStreak(Long userId, int streak, long lastSuccessEpochDay) {
+        String member = String.valueOf(userId);
+        if (streak <= 0) {
+            removeStreaks(List.of(member));
+            return;
+        }
+        redisTemplate.opsForZSet().add(STREAK_KEY, member, streak);
+        redisTemplate.opsForHash().put(STREAK_LAST_SUCCESS_KEY, member, String.valueOf(lastSuccessEpochDay));
+    }
+
+    /**
+     * 스트릭 상위 구간 조회 (ZREVRANGE WITHSCORES)
+     */
+    public List<TypedTuple<String>> findStreakRange(long start, long end) {
+        return toList(redisTemplate.opsForZSet().reverseRangeWithScores(STREAK_KEY, start, end));
+    }
+
+    /**
+     * 회원들의 마지막 성공일 조회 (HMGET), 순서는 입력과 동일
+     * 
+     * @return epochDay 목록 (없으면 null 원소)
+     */
+    public List<Long> findLastSuccessDays(List<String> members) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(STREAK_LAST_SUCCESS_KEY, new ArrayList<>(members));
+        List<Long> days = new ArrayList<>(values.size());
+        for (Object value : values) {
+            days.add(value != null ? Long.valueOf(value.toString()) : null);
+        }
+        return days;
+    }
+
+    /**
+     * 스트릭 리더보드에서 회원 제거 (끊긴 스트릭 정리)
+     */
+    public void removeStreaks(Collection<String> members) {
+        Object[] values = members.toArray();
+        redisTemplate.opsForZSet().remove(STREAK_KEY, values);
+        redisTemplate.opsForHash().delete(STREAK_LAST_SUCCESS_KEY, values);
+    }
+
+    /**
+     * 스트릭 순위 조회 (ZREVRANK, 0부터)
+     */
+    public Optional<Long> findStreakRank(Long userId) {
+        return Optional.ofNullable(redisTemplate.opsForZSet().reverseRank(STREAK_KEY, String.valueOf(userId)));
+    }
+
+    /**
+     * 스트릭 점수 조회 (ZSCORE)
+     */
+    public Optional<Double> findStreakScore(Long userId) {
+        return Optional.ofNullable(redisTemplate.opsForZSet().score(STREAK_KEY, String.valueOf(userId)));
+    }
+
+    // ========== 주간 집중 시간 ==========
+
+    /**
+     * 주간 집중 시간 점수 갱신 및 만료 시각 설정
+     * 
+     * @param weekKey 주 식별자 (예: 2026-W07)
+     * @param userId 사용자 ID
+     * @param focusTime 해당 주 총 집중 시간 (초)
+     * @param expireAt 키 만료 시각
+     */
+    public void saveWeeklyFocus(String weekKey, Long userId, long focusTime, Instant expireAt) {
+        String key = FOCUS_KEY_PREFIX + weekKey;
+        redisTemplate.opsForZSet().add(key, String.valueOf(userId), focusTime);
+        redisTemplate.expireAt(key, expireAt);
+    }
+
+    /**
+     * 주간 집중 시간 상위 구간 조회
+     */
+    public List<TypedTuple<String>> findWeeklyFocusRange(String weekKey, long start, long end) {
+        return toList(redisTemplate.opsForZSet().reverseRangeWithScores(FOCUS_KEY_PREFIX + weekKey, start, end));
+    }
+
+    /**
+     * 주간 집중 시간 순위 조회 (0부터)
+     */
+    public Optional<Long> findWeeklyFocusRank(String weekKey, Long userId) {
+        return Optional.ofNullable(
+                redisTemplate.opsForZSet().reverseRank(FOCUS_KEY_PREFIX + weekKey, String.valueOf(userId)));
+    }
+
+    /**
+     * 주간 집중 시간 점수 조회
+     */
+    public Optional<Double> findWeeklyFocusScore(String weekKey, Long userId) {
+        return Optional.ofNullable(
+                redisTemplate.opsForZSet().score(FOCUS_KEY_PREFIX + weekKey, String.valueOf(userId)));
+    }
+
+    private List<TypedTuple<String>> toList(Set<TypedTuple<String>> tuples) {
+        return tuples != null ? new ArrayList<>(tuples) : List.of();
+    }
+}
@@ -0,0 +1,68 @@
+package com.wombat.screenlock.unwind_be.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 백분위 스냅샷 Redis Repository
+ * 
+ * <h3>저장 구조</h3>
+ * <ul>
+ *   <li>stats_percentile:snapshot:{weekStart} - STRING, 주별 최신 스냅샷 JSON (새로 뜬 노드의 초기 적재용)</li>
+ *   <li>stats_percentile:rebuild_lock - STRING, 재생성 노드 선출 (SET NX, 주기만큼 TTL)</li>
+ *   <li>채널 stats_percentile - 새 스냅샷 JSON을 모든 노드에 전파</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PercentileSnapshotRepository {
+
+    /** 스냅샷 전파 채널 */
+    public static final String CHANNEL = "stats_percentile";
+
+    private static final String SNAPSHOT_KEY_PREFIX = "stats_percentile:snapshot:";
+    private static final String LOCK_KEY = "stats_percentile:rebuild_lock";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 이번 주기의 재생성 권한 획득 (SET NX EX)
+     * 
+     * @param nodeId 노드 식별자
+     * @param ttl 권한 유지 시간 (재생성 주기)
+     * @return true: 이 노드가 재생성
+     */
+    public boolean tryAcquireRebuild(String nodeId, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, ttl));
+    }
+
+    /**
+     * 주별 스냅샷 저장 후 전파 (SET + PUBLISH)
+     * 
+     * @param weekStart 스냅샷의 주 시작일
+     * @param json 스냅샷 JSON
+     * @param ttl 저장 TTL
+     */
+    public void saveAndPublish(LocalDate weekStart, String json, Duration ttl) {
+        redisTemplate.opsForValue().set(SNAPSHOT_KEY_PREFIX + weekStart, json, ttl);
+        redisTemplate.convertAndSend(CHANNEL, json);
+    }
+
+    /**
+     * 주별 최신 스냅샷 조회 (MGET)
+     * 
+     * @param weekStarts 주 시작일 목록
+     * @return 저장된 스냅샷 JSON (없는 주는 제외)
+     */
+    public List<String> findAll(List<LocalDate> weekStarts) {
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                weekStarts.stream().map(weekStart -> SNAPSHOT_KEY_PREFIX + weekStart).toList());
+        return values != null ? values.stream().filter(Objects::nonNull).toList() : List.of();
+    }
+}
@@ -0,0 +1,62 @@
+package com.wombat.screenlock.unwind_be.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * 처리된 통계 이벤트 Redis Repository (재전송 중복 제거)
+ *
+ * <p>클라이언트 이벤트 ID를 SET NX로 선점하여, 같은 이벤트가 여러 번 전달되어도
+ * 한 번만 반영되도록 합니다.</p>
+ *
+ * <h3>저장 구조</h3>
+ * <ul>
+ *   <li>Key: stats_event:{userId}:{eventId}</li>
+ *   <li>Value: "1"</li>
+ *   <li>TTL: 중복 제거 윈도우 (stats.dedup.window-hours)</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventRepository {
+
+    /** Redis Key 접두사 */
+    private static final String KEY_PREFIX = "stats_event:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 이벤트 선점 (SET NX EX)
+     *
+     * @param userId 사용자 ID
+     * @param eventId 클라이언트 이벤트 ID
+     * @param window 보관 기간
+     * @return true: 처음 선점, false: 이미 처리된 이벤트
+     */
+    public boolean claim(Long userId, String eventId, Duration window) {
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(generateKey(userId, eventId), "1", window);
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    /**
+     * 선점 해제 (반영 트랜잭션이 롤백된 경우 재전송을 받기 위함)
+     *
+     * @param userId 사용자 ID
+     * @param eventId 클라이언트 이벤트 ID
+     */
+    public void release(Long userId, String eventId) {
+        redisTemplate.delete(generateKey(userId, eventId));
+    }
+
+    /**
+     * Redis Key 생성
+     *
+     * @return 형식: "stats_event:{userId}:{eventId}"
+     */
+    private String generateKey(Long userId, String eventId) {
+        return KEY_PREFIX + userId + ":" + eventId;
+    }
+}
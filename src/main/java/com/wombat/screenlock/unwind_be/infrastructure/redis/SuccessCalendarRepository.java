@@ -0,0 +1,107 @@
+package com.wombat.screenlock.unwind_be.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 성공 캘린더 Redis 비트맵 Repository
+ * 
+ * <p>사용자별/연도별로 하루 1비트의 비트맵을 저장합니다.
+ * 해당 날짜가 SUCCESS이면 1, 아니면 0입니다.</p>
+ * 
+ * <h3>저장 구조</h3>
+ * <ul>
+ *   <li>Key: success_calendar:{userId}:{year}</li>
+ *   <li>Value: 비트맵 (offset = dayOfYear - 1, 바이트 내 MSB부터)</li>
+ *   <li>크기: 연 최대 46바이트, TTL 없음</li>
+ * </ul>
+ * 
+ * <p>비트맵은 바이너리 값이므로 조회/일괄 저장은 String 직렬화를 거치지 않고
+ * 연결에서 byte[]로 직접 처리합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SuccessCalendarRepository {
+
+    /** Redis Key 접두사 */
+    private static final String KEY_PREFIX = "success_calendar:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 하루 성공 여부 기록 (SETBIT)
+     * 
+     * @param userId 사용자 ID
+     * @param date 날짜
+     * @param success SUCCESS 여부
+     */
+    public void setDay(Long userId, LocalDate date, boolean success) {
+        redisTemplate.opsForValue().setBit(generateKey(userId, date.getYear()), offset(date), success);
+    }
+
+    /**
+     * 연도 비트맵 조회 (GET)
+     * 
+     * @param userId 사용자 ID
+     * @param year 연도
+     * @return 비트맵 (없으면 빈 배열, 마지막 성공일 이후 바이트는 생략될 수 있음)
+     */
+    public byte[] findYear(Long userId, int year) {
+        byte[] rawKey = rawKey(userId, year);
+        byte[] bitmap = redisTemplate.execute(
+                (RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+        return bitmap != null ? bitmap : new byte[0];
+    }
+
+    /**
+     * 연도 비트맵 전체 교체 (재계산용)
+     * 
+     * <p>성공일이 하나도 없으면 키를 삭제합니다.</p>
+     * 
+     * @param userId 사용자 ID
+     * @param year 연도
+     * @param bitmap 새 비트맵
+     */
+    public void replaceYear(Long userId, int year, byte[] bitmap) {
+        byte[] rawKey = rawKey(userId, year);
+        if (isEmpty(bitmap)) {
+            redisTemplate.delete(generateKey(userId, year));
+            return;
+        }
+        redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(rawKey, bitmap));
+    }
+
+    /**
+     * 날짜의 비트 오프셋 (1월 1일 = 0)
+     */
+    public static long offset(LocalDate date) {
+        return date.getDayOfYear() - 1L;
+    }
+
+    private boolean isEmpty(byte[] bitmap) {
+        for (byte b : bitmap) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] rawKey(Long userId, int year) {
+        return generateKey(userId, year).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Redis Key 생성
+     * 
+     * @return 형식: "success_calendar:{userId}:{year}"
+     */
+    private String generateKey(Long userId, int year) {
+        return KEY_PREFIX + userId + ":" + year;
+    }
+}
@@ -0,0 +1,30 @@
+-- ===========================================
+-- V10__create_focus_sessions_table.sql
+-- 집중 세션 원본 이벤트 테이블 생성 (FocusSession Entity)
+-- ===========================================
+-- 완료 요청 한 건 = 한 행인 추가 전용(append-only) 로그입니다.
+-- daily_statistics 카운터는 이 로그를 집계한 결과이며,
+-- aggregated_at이 NULL인 행은 아직 daily_statistics에 반영되지 않은 세션입니다.
+
+CREATE TABLE focus_sessions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '세션 ID',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    schedule_id VARCHAR(64) NOT NULL COMMENT '스케줄 clientId (UUID)',
+    date DATE NOT NULL COMMENT '통계 날짜',
+    started_at DATETIME(6) NULL COMMENT '세션 시작 시각 (구버전 앱은 NULL)',
+    ended_at DATETIME(6) NULL COMMENT '세션 종료 시각 (구버전 앱은 NULL)',
+    focus_time INT NOT NULL COMMENT '집중 시간 (초)',
+    completed BOOLEAN NOT NULL COMMENT '완료 여부',
+    all_in_mode BOOLEAN NOT NULL DEFAULT FALSE COMMENT '올인 모드 사용 여부',
+    aggregated_at DATETIME NULL COMMENT 'daily_statistics 반영 일시 (NULL = 집계 대기)',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    INDEX idx_focus_sessions_user_date (user_id, date),
+    INDEX idx_focus_sessions_user_schedule (user_id, schedule_id),
+    INDEX idx_focus_sessions_pending (aggregated_at, id),
+    CONSTRAINT fk_focus_sessions_user_id FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB 
+  DEFAULT CHARSET=utf8mb4 
+  COLLATE=utf8mb4_unicode_ci 
+  COMMENT='집중 세션 원본 이벤트 (추가 전용, daily_statistics로 집계)';
@@ -0,0 +1,21 @@
+-- ===========================================
+-- V11__create_day_close_checkpoints_table.sql
+-- 하루 마감 Job 체크포인트 테이블 생성 (DayCloseCheckpoint Entity)
+-- ===========================================
+-- 시간대별로 자정이 지나면 전날까지의 IN_PROGRESS 행을 확정합니다.
+-- 사용자 ID 커서를 청크마다 같은 트랜잭션에서 저장하여 중단된 지점부터 재개합니다.
+
+CREATE TABLE day_close_checkpoints (
+    timezone VARCHAR(64) PRIMARY KEY COMMENT '마감 대상 시간대 (IANA ID)',
+    closing_date DATE NOT NULL COMMENT '마감 중이거나 마지막으로 마감한 날짜 (해당 시간대 기준)',
+    last_user_id BIGINT NOT NULL DEFAULT 0 COMMENT '처리를 마친 마지막 사용자 ID (Keyset 커서)',
+    closed BOOLEAN NOT NULL DEFAULT FALSE COMMENT 'closing_date 마감 완료 여부',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시'
+) ENGINE=InnoDB 
+  DEFAULT CHARSET=utf8mb4 
+  COLLATE=utf8mb4_unicode_ci 
+  COMMENT='하루 마감 Job 체크포인트 (시간대별)';
+
+-- 시간대별 사용자 Keyset 순회
+CREATE INDEX idx_users_timezone_id ON users (timezone, id);
@@ -0,0 +1,24 @@
+-- ===========================================
+-- V12__create_schedule_statistics_table.sql
+-- 스케줄별 누적 통계 테이블 생성 (ScheduleStatistics Entity)
+-- ===========================================
+-- 통계 기록 트랜잭션에서 daily_statistics와 함께 UPSERT로 누적합니다.
+-- 스케줄 통계 조회는 uk_schedule_statistics_user_schedule 단건 조회로 끝납니다.
+
+CREATE TABLE schedule_statistics (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '통계 ID',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    schedule_client_id VARCHAR(64) NOT NULL COMMENT '스케줄 clientId (UUID)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '시도 횟수 (완료 기록 건수)',
+    completions INT NOT NULL DEFAULT 0 COMMENT '완료 횟수',
+    total_focus_time BIGINT NOT NULL DEFAULT 0 COMMENT '총 집중 시간 (초)',
+    force_quit_count INT NOT NULL DEFAULT 0 COMMENT '강제 종료 횟수',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    UNIQUE KEY uk_schedule_statistics_user_schedule (user_id, schedule_client_id),
+    CONSTRAINT fk_schedule_statistics_user_id FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB 
+  DEFAULT CHARSET=utf8mb4 
+  COLLATE=utf8mb4_unicode_ci 
+  COMMENT='스케줄별 누적 통계 (계획 대비 실제 집중 시간)';
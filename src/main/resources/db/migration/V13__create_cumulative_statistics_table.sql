@@ -0,0 +1,29 @@
+-- ===========================================
+-- V13__create_cumulative_statistics_table.sql
+-- 사용자별 누적 합계(prefix sum) 테이블 생성 (CumulativeStatistics Entity)
+-- ===========================================
+-- 기록이 있는 날짜마다 첫 기록일부터 그 날짜까지의 누적 합계를 한 행으로 둡니다.
+-- 임의 기간 [from, to] 합계 = (to 이하 마지막 행) - (from 전 마지막 행), 인덱스 탐색 2회.
+-- 지난 날짜에 기록이 늦게 들어오면 그 날짜 이후 행(suffix)에만 증분을 더합니다.
+-- 기존 사용자는 비어 있으므로 마이그레이션 후 반드시 StatsRebuildJob(rebuild 프로필,
+-- stats.rebuild.dry-run=false)을 한 번 실행해 채웁니다. 실행 전에는 /api/stats/range가
+-- 기존 이력을 빠뜨린 합계를 반환합니다.
+
+CREATE TABLE cumulative_statistics (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '누적 통계 ID',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    date DATE NOT NULL COMMENT '누적 기준일 (이 날짜까지 포함)',
+    total_schedules INT NOT NULL DEFAULT 0 COMMENT '누적 전체 스케줄 수',
+    completed_schedules INT NOT NULL DEFAULT 0 COMMENT '누적 완료 스케줄 수',
+    total_focus_time BIGINT NOT NULL DEFAULT 0 COMMENT '누적 집중 시간 (초)',
+    force_quit_count INT NOT NULL DEFAULT 0 COMMENT '누적 강제 종료 횟수',
+    success_days INT NOT NULL DEFAULT 0 COMMENT '누적 SUCCESS 일수',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    UNIQUE KEY uk_cumulative_statistics_user_date (user_id, date),
+    CONSTRAINT fk_cumulative_statistics_user_id FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB 
+  DEFAULT CHARSET=utf8mb4 
+  COLLATE=utf8mb4_unicode_ci 
+  COMMENT='사용자별 일 단위 누적 합계 (임의 기간 통계 조회용)';
@@ -0,0 +1,8 @@
+-- ===========================================
+-- V14__add_week_index_to_weekly_statistics.sql
+-- 주 단위 전체 사용자 순회용 인덱스 추가
+-- ===========================================
+-- 백분위 스냅샷 Job이 특정 주의 weekly_statistics를 id Keyset으로 순회합니다.
+-- uk_weekly_statistics_user_week(user_id, week_start)는 주 단위 범위 스캔에 쓸 수 없습니다.
+
+CREATE INDEX idx_weekly_statistics_week_id ON weekly_statistics (week_start, id);
@@ -0,0 +1,14 @@
+-- ===========================================
+-- V15__add_dirty_range_to_user_streak_state.sql
+-- 늦게 도착한 과거 날짜 기록의 스트릭 재계산 범위 추가
+-- ===========================================
+-- 과거 날짜 변경은 요청 트랜잭션에서 전체 이력을 재계산하지 않고 dirty_from만 기록하며,
+-- StreakRecomputeJob이 백그라운드에서 dirty_from 이후만 재계산합니다.
+-- longest_streak_end가 dirty_from 이전이면 그 이전 이력은 다시 읽지 않습니다.
+-- 기존 행은 longest_streak_end가 NULL이므로 첫 재계산만 전체 이력을 사용합니다.
+
+ALTER TABLE user_streak_state
+    ADD COLUMN longest_streak_end DATE NULL COMMENT '최장 스트릭(가장 이른 구간)의 마지막 날짜' AFTER last_success_date,
+    ADD COLUMN dirty_from DATE NULL COMMENT '재계산이 필요한 가장 이른 날짜 (NULL = 최신 상태)' AFTER longest_streak_end;
+
+CREATE INDEX idx_user_streak_state_dirty_from ON user_streak_state (dirty_from);
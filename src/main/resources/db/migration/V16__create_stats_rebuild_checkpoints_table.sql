@@ -0,0 +1,27 @@
+-- ===========================================
+-- V16__create_stats_rebuild_checkpoints_table.sql
+-- 파생 통계 재계산 도구 체크포인트 테이블 생성 (StatsRebuildCheckpoint Entity)
+-- ===========================================
+-- StatsRebuildJob은 사용자 ID 범위를 파티션으로 나눠 병렬로 재계산합니다.
+-- 파티션마다 처리를 마친 마지막 사용자 ID를 청크 트랜잭션에서 함께 저장하여,
+-- 같은 run_id로 다시 실행하면 중단된 지점부터 재개합니다.
+
+CREATE TABLE stats_rebuild_checkpoints (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '체크포인트 고유 식별자',
+    run_id VARCHAR(64) NOT NULL COMMENT '재계산 실행 ID (재개 시 같은 값 지정)',
+    partition_no INT NOT NULL COMMENT '파티션 번호 (0부터)',
+    range_start BIGINT NOT NULL COMMENT '파티션 시작 사용자 ID (미포함)',
+    range_end BIGINT NOT NULL COMMENT '파티션 끝 사용자 ID (포함)',
+    last_user_id BIGINT NOT NULL COMMENT '처리를 마친 마지막 사용자 ID (Keyset 커서)',
+    dry_run BOOLEAN NOT NULL COMMENT 'true: 차이만 집계하고 쓰지 않음',
+    completed BOOLEAN NOT NULL DEFAULT FALSE COMMENT '파티션 완료 여부',
+    scanned_users BIGINT NOT NULL DEFAULT 0 COMMENT '확인한 사용자 수',
+    changed_users BIGINT NOT NULL DEFAULT 0 COMMENT '저장값과 재계산 결과가 다른 사용자 수',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+
+    CONSTRAINT uk_stats_rebuild_checkpoints_run_partition UNIQUE (run_id, partition_no)
+) ENGINE=InnoDB 
+  DEFAULT CHARSET=utf8mb4 
+  COLLATE=utf8mb4_unicode_ci 
+  COMMENT='파생 통계 재계산 도구 체크포인트 (실행 x 파티션)';
@@ -0,0 +1,18 @@
+-- ===========================================
+-- V5__create_user_streak_state_table.sql
+-- 사용자 스트릭 상태 테이블 생성 (UserStreakState Entity)
+-- ===========================================
+
+CREATE TABLE user_streak_state (
+    user_id BIGINT PRIMARY KEY COMMENT '사용자 ID',
+    current_streak INT NOT NULL DEFAULT 0 COMMENT 'last_success_date로 끝나는 연속 성공 일수',
+    longest_streak INT NOT NULL DEFAULT 0 COMMENT '최장 연속 성공 일수',
+    last_success_date DATE NULL COMMENT '마지막 성공 날짜 (NULL = 진행 중인 스트릭 없음)',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    CONSTRAINT fk_user_streak_state_user_id FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB 
+  DEFAULT CHARSET=utf8mb4 
+  COLLATE=utf8mb4_unicode_ci 
+  COMMENT='사용자 스트릭 상태 테이블 (daily_statistics 증분 유지)';
@@ -0,0 +1,42 @@
+-- ===========================================
+-- V6__create_rollup_statistics_tables.sql
+-- 주간/월간 통계 롤업 테이블 생성 (WeeklyStatistics / MonthlyStatistics Entity)
+-- ===========================================
+
+CREATE TABLE weekly_statistics (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '통계 고유 ID',
+    user_id BIGINT NOT NULL COMMENT '소유 사용자 ID',
+    week_start DATE NOT NULL COMMENT '주 시작일 (월요일)',
+    total_schedules INT NOT NULL DEFAULT 0 COMMENT '전체 스케줄 수',
+    completed_schedules INT NOT NULL DEFAULT 0 COMMENT '완료된 스케줄 수',
+    total_focus_time INT NOT NULL DEFAULT 0 COMMENT '총 집중 시간 (초 단위)',
+    force_quit_count INT NOT NULL DEFAULT 0 COMMENT '강제 종료 횟수',
+    success_days INT NOT NULL DEFAULT 0 COMMENT 'SUCCESS 일수',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    CONSTRAINT uk_weekly_statistics_user_week UNIQUE (user_id, week_start),
+    CONSTRAINT fk_weekly_statistics_user_id FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB 
+  DEFAULT CHARSET=utf8mb4 
+  COLLATE=utf8mb4_unicode_ci 
+  COMMENT='주간 통계 롤업 테이블 (daily_statistics 증분 유지)';
+
+CREATE TABLE monthly_statistics (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '통계 고유 ID',
+    user_id BIGINT NOT NULL COMMENT '소유 사용자 ID',
+    month_start DATE NOT NULL COMMENT '월 시작일 (1일)',
+    total_schedules INT NOT NULL DEFAULT 0 COMMENT '전체 스케줄 수',
+    completed_schedules INT NOT NULL DEFAULT 0 COMMENT '완료된 스케줄 수',
+    total_focus_time INT NOT NULL DEFAULT 0 COMMENT '총 집중 시간 (초 단위)',
+    force_quit_count INT NOT NULL DEFAULT 0 COMMENT '강제 종료 횟수',
+    success_days INT NOT NULL DEFAULT 0 COMMENT 'SUCCESS 일수',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    CONSTRAINT uk_monthly_statistics_user_month UNIQUE (user_id, month_start),
+    CONSTRAINT fk_monthly_statistics_user_id FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB 
+  DEFAULT CHARSET=utf8mb4 
+  COLLATE=utf8mb4_unicode_ci 
+  COMMENT='월간 통계 롤업 테이블 (daily_statistics 증분 유지)';
@@ -0,0 +1,9 @@
+-- ===========================================
+-- V7__add_timezone_to_users.sql
+-- 사용자 시간대 컬럼 추가 (통계 날짜 기준)
+-- ===========================================
+
+-- IANA 시간대 ID (예: Asia/Seoul, America/Los_Angeles)
+-- 기존 사용자는 서비스 초기 기준인 Asia/Seoul로 채움
+ALTER TABLE users
+    ADD COLUMN timezone VARCHAR(64) NOT NULL DEFAULT 'Asia/Seoul' COMMENT '통계 날짜 기준 시간대 (IANA ID)' AFTER role;
@@ -0,0 +1,40 @@
+-- ===========================================
+-- V8__partition_daily_statistics_by_month.sql
+-- daily_statistics 월 단위 RANGE 파티셔닝
+-- ===========================================
+-- MySQL 파티션 테이블 제약:
+--   1) 모든 PK/UNIQUE 키에 파티션 키(date)가 포함되어야 함
+--      - PK: (id) → (id, date) / uk_daily_statistics_user_date는 이미 date 포함
+--   2) 외래 키를 지원하지 않음
+--      - fk_daily_statistics_user_id 제거 (사용자 삭제 시 정리는 애플리케이션 책임)
+--
+-- 파티션 구성:
+--   p_history : 2026-01-01 이전 전체
+--   pYYYYMM   : 해당 월 (상한 = 다음 달 1일)
+--   p_future  : MAXVALUE (적재 누락 방지용, 평소에는 비어 있음)
+-- 이후 월 파티션은 DailyStatisticsPartitionJob이 p_future를 분할해 미리 생성하고,
+-- 보존 기간이 지난 파티션은 분리(EXCHANGE) 후 DROP 합니다.
+
+ALTER TABLE daily_statistics DROP FOREIGN KEY fk_daily_statistics_user_id;
+
+ALTER TABLE daily_statistics
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, date);
+
+ALTER TABLE daily_statistics
+    PARTITION BY RANGE COLUMNS(date) (
+        PARTITION p_history VALUES LESS THAN ('2026-01-01'),
+        PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+        PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+        PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+        PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+        PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+        PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+        PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+        PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+        PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+        PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+        PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
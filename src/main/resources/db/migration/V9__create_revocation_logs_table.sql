@@ -0,0 +1,21 @@
+-- ===========================================
+-- V9__create_revocation_logs_table.sql
+-- 권한 해제 사유 로그 테이블 생성 (RevocationLog Entity)
+-- ===========================================
+-- 추가 전용(append-only) 로그로 UPDATE/DELETE 하지 않습니다.
+-- 애플리케이션이 메모리 큐에 모아 JDBC 배치 INSERT로 기록합니다.
+
+CREATE TABLE revocation_logs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '로그 ID',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    date DATE NOT NULL COMMENT '패널티가 적용된 통계 날짜 (사용자 시간대 기준)',
+    reason VARCHAR(500) NOT NULL COMMENT '사용자가 입력한 권한 해제 사유',
+    revoked_at DATETIME(6) NOT NULL COMMENT '권한 해제 시각',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '기록일시',
+    INDEX idx_revocation_logs_user_date (user_id, date),
+    CONSTRAINT fk_revocation_logs_user_id FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB 
+  DEFAULT CHARSET=utf8mb4 
+  COLLATE=utf8mb4_unicode_ci 
+  COMMENT='권한 해제 사유 로그 (추가 전용)';
@@ -24,6 +24,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -111,7 +112,7 @@ class AuthServiceTest {
             
             given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(testUser));
             given(passwordEncoder.matches(PASSWORD, PASSWORD_HASH)).willReturn(true);
-            given(jwtProvider.generateAccessToken(USER_ID)).willReturn(ACCESS_TOKEN);
+            given(jwtProvider.generateAccessToken(USER_ID, User.DEFAULT_TIMEZONE)).willReturn(ACCESS_TOKEN);
             given(jwtProvider.generateRefreshToken(USER_ID)).willReturn(REFRESH_TOKEN);
             given(jwtProvider.getAccessTokenExpirationSeconds()).willReturn(EXPIRES_IN);
 
@@ -144,7 +145,7 @@ class AuthServiceTest {
                     });
 
             verify(passwordEncoder, never()).matches(anyString(), anyString());
-            verify(jwtProvider, never()).generateAccessToken(anyLong());
+            verify(jwtProvider, never()).generateAccessToken(anyLong(), any());
             verify(refreshTokenRepository, never()).save(anyLong(), anyString());
         }
 
@@ -165,7 +166,7 @@ class AuthServiceTest {
                         assertThat(authException.getErrorCode()).isEqualTo(ErrorCode.INVALID_CREDENTIALS);
                     });
 
-            verify(jwtProvider, never()).generateAccessToken(anyLong());
+            verify(jwtProvider, never()).generateAccessToken(anyLong(), any());
             verify(refreshTokenRepository, never()).save(anyLong(), anyString());
         }
     }
@@ -185,7 +186,8 @@ class AuthServiceTest {
             given(jwtProvider.validateToken(REFRESH_TOKEN)).willReturn(true);
             given(jwtProvider.getUserIdFromToken(REFRESH_TOKEN)).willReturn(USER_ID);
             given(refreshTokenRepository.findByUserId(USER_ID)).willReturn(Optional.of(REFRESH_TOKEN));
-            given(jwtProvider.generateAccessToken(USER_ID)).willReturn(ACCESS_TOKEN);
+            given(userRepository.findById(USER_ID)).willReturn(Optional.of(testUser));
+            given(jwtProvider.generateAccessToken(USER_ID, User.DEFAULT_TIMEZONE)).willReturn(ACCESS_TOKEN);
             given(jwtProvider.generateRefreshToken(USER_ID)).willReturn(NEW_REFRESH_TOKEN);
             given(jwtProvider.getAccessTokenExpirationSeconds()).willReturn(EXPIRES_IN);
 
@@ -241,7 +243,7 @@ class AuthServiceTest {
                         assertThat(authException.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
                     });
 
-            verify(jwtProvider, never()).generateAccessToken(anyLong());
+            verify(jwtProvider, never()).generateAccessToken(anyLong(), any());
             verify(refreshTokenRepository, never()).save(anyLong(), anyString());
         }
 
@@ -264,7 +266,7 @@ class AuthServiceTest {
                         assertThat(authException.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
                     });
 
-            verify(jwtProvider, never()).generateAccessToken(anyLong());
+            verify(jwtProvider, never()).generateAccessToken(anyLong(), any());
             verify(refreshTokenRepository, never()).save(anyLong(), anyString());
         }
     }
@@ -3,6 +3,8 @@ package com.wombat.screenlock.unwind_be.application.schedule;
 import com.wombat.screenlock.unwind_be.api.schedule.dto.CreateScheduleRequest;
 import com.wombat.screenlock.unwind_be.api.schedule.dto.ScheduleResponse;
 import com.wombat.screenlock.unwind_be.api.schedule.dto.UpdateScheduleRequest;
+import com.wombat.screenlock.unwind_be.application.user.UserLookupService;
+import com.wombat.screenlock.unwind_be.application.user.UserSnapshot;
 import com.wombat.screenlock.unwind_be.domain.schedule.entity.Schedule;
 import com.wombat.screenlock.unwind_be.domain.schedule.repository.ScheduleRepository;
 import com.wombat.screenlock.unwind_be.domain.user.entity.User;
@@ -54,6 +56,9 @@ class ScheduleServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserLookupService userLookupService;
+
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -91,8 +96,10 @@ class ScheduleServiceTest {
             // Given
             given(scheduleRepository.findByClientId(VALID_CLIENT_ID))
                     .willReturn(Optional.empty());
-            given(userRepository.findById(VALID_USER_ID))
-                    .willReturn(Optional.of(testUser));
+            given(userLookupService.findById(VALID_USER_ID))
+                    .willReturn(Optional.of(UserSnapshot.from(testUser)));
+            given(userRepository.getReferenceById(VALID_USER_ID))
+                    .willReturn(testUser);
             given(scheduleRepository.save(any(Schedule.class)))
                     .willAnswer(invocation -> {
                         Schedule schedule = invocation.getArgument(0);
@@ -114,7 +121,8 @@ class ScheduleServiceTest {
             assertThat(response.duration()).isEqualTo(DURATION);
             
             verify(scheduleRepository).findByClientId(VALID_CLIENT_ID);
-            verify(userRepository).findById(VALID_USER_ID);
+            verify(userLookupService).findById(VALID_USER_ID);
+            verify(userRepository, never()).findById(any());
             verify(scheduleRepository).save(any(Schedule.class));
         }
 
@@ -142,7 +150,7 @@ class ScheduleServiceTest {
             assertThat(response.duration()).isEqualTo(30);
             
             // User 조회 및 저장은 호출되지 않음
-            verify(userRepository, never()).findById(any());
+            verify(userLookupService, never()).findById(any());
             verify(scheduleRepository, never()).save(any());
         }
 
@@ -152,7 +160,7 @@ class ScheduleServiceTest {
             // Given
             given(scheduleRepository.findByClientId(VALID_CLIENT_ID))
                     .willReturn(Optional.empty());
-            given(userRepository.findById(VALID_USER_ID))
+            given(userLookupService.findById(VALID_USER_ID))
                     .willReturn(Optional.empty());
 
             // When & Then
@@ -164,7 +172,8 @@ class ScheduleServiceTest {
                     });
             
             verify(scheduleRepository).findByClientId(VALID_CLIENT_ID);
-            verify(userRepository).findById(VALID_USER_ID);
+            verify(userLookupService).findById(VALID_USER_ID);
+            verify(userRepository, never()).getReferenceById(any());
             verify(scheduleRepository, never()).save(any());
         }
 
@@ -174,8 +183,10 @@ class ScheduleServiceTest {
             // Given
             given(scheduleRepository.findByClientId(VALID_CLIENT_ID))
                     .willReturn(Optional.empty());
-            given(userRepository.findById(VALID_USER_ID))
-                    .willReturn(Optional.of(testUser));
+            given(userLookupService.findById(VALID_USER_ID))
+                    .willReturn(Optional.of(UserSnapshot.from(testUser)));
+            given(userRepository.getReferenceById(VALID_USER_ID))
+                    .willReturn(testUser);
             given(scheduleRepository.save(any(Schedule.class)))
                     .willAnswer(invocation -> invocation.getArgument(0));
 
@@ -0,0 +1,228 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.CalendarMonthResponse;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * CalendarMonthService 단위 테스트
+ *
+ * <p>월 합계 계산, 확정된 달 판단과 캐시, 지난 달 기록 시 해당 월 캐시 삭제, ETag를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CalendarMonthService 단위 테스트")
+class CalendarMonthServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.of(2026, 2, 12);
+    private static final int CLOSE_LOOKBACK_DAYS = 7;
+
+    @Mock
+    private TwoLevelCache<CalendarMonthResponse> cache;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private UserZoneResolver userZoneResolver;
+
+    private CalendarMonthService calendarMonthService;
+
+    @BeforeEach
+    void setUp() {
+        calendarMonthService = new CalendarMonthService(cache, dailyStatisticsRepository, userZoneResolver,
+                CLOSE_LOOKBACK_DAYS);
+        given(userZoneResolver.today(USER_ID)).willReturn(TODAY);
+    }
+
+    @Nested
+    @DisplayName("getMonth 메서드")
+    class GetMonth {
+
+        @Test
+        @DisplayName("이번 달 - 날짜 오름차순 일별 통계와 월 합계, 캐시 미사용")
+        void should_SumDays_When_CurrentMonth() {
+            // Given
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28)))
+                    .willReturn(List.of(
+                            new DailyStatisticsView(LocalDate.of(2026, 2, 11), 2, 1, 1800, 1, DailyStatus.WARNING),
+                            new DailyStatisticsView(LocalDate.of(2026, 2, 3), 2, 2, 3600, 0, DailyStatus.SUCCESS)));
+
+            // When
+            CalendarMonthResponse response = calendarMonthService.getMonth(USER_ID, null);
+
+            // Then
+            assertThat(response.month()).isEqualTo("2026-02");
+            assertThat(response.closed()).isFalse();
+            assertThat(response.days()).extracting(day -> day.date())
+                    .containsExactly(LocalDate.of(2026, 2, 3), LocalDate.of(2026, 2, 11));
+            assertThat(response.totalSchedules()).isEqualTo(4);
+            assertThat(response.completionRate()).isEqualTo(0.75);
+            assertThat(response.totalFocusTime()).isEqualTo(5400L);
+            assertThat(response.forceQuitCount()).isEqualTo(1);
+            assertThat(response.successDays()).isEqualTo(1);
+            verifyNoInteractions(cache);
+        }
+
+        @Test
+        @DisplayName("지난 달 캐시 미스 - 계산 후 만료 없이 저장")
+        void should_CacheWithoutTtl_When_ClosedMonthMiss() {
+            // Given
+            given(cache.get("1:2026-01")).willReturn(Optional.empty());
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)))
+                    .willReturn(List.of());
+
+            // When
+            CalendarMonthResponse response = calendarMonthService.getMonth(USER_ID, YearMonth.of(2026, 1));
+
+            // Then
+            assertThat(response.closed()).isTrue();
+            assertThat(response.completionRate()).isZero();
+            verify(cache).put("1:2026-01", response);
+        }
+
+        @Test
+        @DisplayName("말일이 하루 마감 lookback 안 - 확정 전이므로 캐시하지 않음")
+        void should_NotClose_When_WithinCloseLookback() {
+            // Given - 1월 31일 + 7일 lookback이 아직 지나지 않음
+            given(userZoneResolver.today(USER_ID)).willReturn(LocalDate.of(2026, 2, 8));
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)))
+                    .willReturn(List.of());
+
+            // When
+            CalendarMonthResponse response = calendarMonthService.getMonth(USER_ID, YearMonth.of(2026, 1));
+
+            // Then
+            assertThat(response.closed()).isFalse();
+            verifyNoInteractions(cache);
+        }
+
+        @Test
+        @DisplayName("lookback이 지났지만 IN_PROGRESS 날짜가 남음 - 확정 전이므로 저장하지 않음")
+        void should_NotClose_When_InProgressDayRemains() {
+            // Given
+            given(cache.get("1:2026-01")).willReturn(Optional.empty());
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)))
+                    .willReturn(List.of(
+                            new DailyStatisticsView(LocalDate.of(2026, 1, 31), 1, 0, 0, 0, DailyStatus.IN_PROGRESS)));
+
+            // When
+            CalendarMonthResponse response = calendarMonthService.getMonth(USER_ID, YearMonth.of(2026, 1));
+
+            // Then
+            assertThat(response.closed()).isFalse();
+            verify(cache, never()).put(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("지난 달 캐시 적중 - DB 미조회")
+        void should_ReturnCached_When_ClosedMonthHit() {
+            // Given
+            CalendarMonthResponse cached = new CalendarMonthResponse("2025-12", true, List.of(), 0, 0, 0.0, 0L, 0, 0);
+            given(cache.get("1:2025-12")).willReturn(Optional.of(cached));
+
+            // When
+            CalendarMonthResponse response = calendarMonthService.getMonth(USER_ID, YearMonth.of(2025, 12));
+
+            // Then
+            assertThat(response).isEqualTo(cached);
+            verifyNoInteractions(dailyStatisticsRepository);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 월 - BusinessException")
+        void should_ThrowException_When_MonthOutOfRange() {
+            // When & Then
+            assertThatThrownBy(() -> calendarMonthService.getMonth(USER_ID, YearMonth.of(1999, 12)))
+                    .isInstanceOf(BusinessException.class);
+            assertThatThrownBy(() -> calendarMonthService.getMonth(USER_ID, YearMonth.of(2026, 4)))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("eTag 메서드")
+    class ETag {
+
+        @Test
+        @DisplayName("내용이 같으면 같은 강한 ETag, 늦은 기록으로 바뀌면 다른 ETag")
+        void should_ChangeETag_When_ContentChanges() {
+            // Given - 늦은 기록으로 캐시가 삭제되고 다시 계산된 경우
+            CalendarMonthResponse before = new CalendarMonthResponse("2026-01", true, List.of(), 0, 0, 0.0, 0L, 0, 0);
+            CalendarMonthResponse after = new CalendarMonthResponse("2026-01", true, List.of(), 1, 1, 1.0, 60L, 0, 1);
+            given(cache.get("1:2026-01")).willReturn(Optional.of(before), Optional.of(before), Optional.of(after));
+
+            // When
+            String first = CalendarMonthService.eTag(calendarMonthService.getMonth(USER_ID, YearMonth.of(2026, 1)));
+            String second = CalendarMonthService.eTag(calendarMonthService.getMonth(USER_ID, YearMonth.of(2026, 1)));
+            String changed = CalendarMonthService.eTag(calendarMonthService.getMonth(USER_ID, YearMonth.of(2026, 1)));
+
+            // Then
+            assertThat(first).isEqualTo(second).startsWith("\"").endsWith("\"")
+                    .isNotEqualTo(changed);
+        }
+    }
+
+    @Nested
+    @DisplayName("onStatsUpdated 메서드")
+    class OnStatsUpdated {
+
+        @Test
+        @DisplayName("지난 달 날짜 기록 - 해당 월 캐시만 삭제")
+        void should_EvictClosedMonth_When_PastDateRecorded() {
+            // Given
+            StatsUpdatedEvent event = new StatsUpdatedEvent(USER_ID, Map.of(
+                    LocalDate.of(2026, 1, 31), DailyStatus.SUCCESS,
+                    LocalDate.of(2026, 1, 30), DailyStatus.WARNING,
+                    TODAY, DailyStatus.WARNING));
+
+            // When
+            calendarMonthService.onStatsUpdated(event);
+
+            // Then
+            verify(cache).evict("1:2026-01");
+            verify(cache, never()).evict("1:2026-02");
+            verify(cache, never()).evict("1:2025-12");
+        }
+
+        @Test
+        @DisplayName("이번 달 날짜만 기록 - 캐시 미변경")
+        void should_NotEvict_When_OnlyCurrentMonth() {
+            // When
+            calendarMonthService.onStatsUpdated(StatsUpdatedEvent.of(USER_ID, TODAY, DailyStatus.SUCCESS));
+
+            // Then
+            verify(cache, never()).evict(anyString());
+        }
+    }
+}
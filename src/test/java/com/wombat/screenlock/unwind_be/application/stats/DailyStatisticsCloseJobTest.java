@@ -0,0 +1,238 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DayCloseCheckpoint;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRow;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DayCloseCheckpointRepository;
+import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * DailyStatisticsCloseJob 단위 테스트
+ *
+ * <p>Repository와 JdbcTemplate을 Mocking하고 확정 규칙, 청크 순회,
+ * 체크포인트 재개, 이벤트 발행을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyStatisticsCloseJob 테스트")
+class DailyStatisticsCloseJobTest {
+
+    private static final String TIMEZONE = "Asia/Seoul";
+    private static final LocalDate CLOSING_DATE = LocalDate.of(2026, 2, 12);
+    private static final int CHUNK_SIZE = 2;
+    private static final int LOOKBACK_DAYS = 7;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private DayCloseCheckpointRepository dayCloseCheckpointRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DailyStatisticsCloseJob job;
+
+    @BeforeEach
+    void setUp() {
+        // 2026-02-13 00:30 KST
+        Clock clock = Clock.fixed(Instant.parse("2026-02-12T15:30:00Z"), ZoneOffset.UTC);
+        job = new DailyStatisticsCloseJob(userRepository, dailyStatisticsRepository, dayCloseCheckpointRepository,
+                jdbcTemplate, eventPublisher, new TransactionTemplate(transactionManager),
+                CHUNK_SIZE, LOOKBACK_DAYS, 0L, clock);
+    }
+
+    private DailyStatisticsRow inProgressRow(long userId, LocalDate date, int totalSchedules) {
+        return new DailyStatisticsRow(userId, date, totalSchedules, 0, 600 * totalSchedules, 0, false,
+                DailyStatus.IN_PROGRESS);
+    }
+
+    private void givenTransactionsAndCheckpointSave() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(dayCloseCheckpointRepository.save(any(DayCloseCheckpoint.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Nested
+    @DisplayName("closeZone 메서드")
+    class CloseZone {
+
+        @Test
+        @DisplayName("성공: 사용자 청크마다 IN_PROGRESS 행을 확정하고 체크포인트를 남긴다")
+        @SuppressWarnings("unchecked")
+        void should_CloseInChunks_When_RowsInProgress() {
+            // Given
+            givenTransactionsAndCheckpointSave();
+            given(dayCloseCheckpointRepository.findById(TIMEZONE)).willReturn(Optional.empty());
+            given(userRepository.findIdsByTimezoneAfter(TIMEZONE, 0L, PageRequest.of(0, CHUNK_SIZE)))
+                    .willReturn(List.of(1L, 2L));
+            given(userRepository.findIdsByTimezoneAfter(TIMEZONE, 2L, PageRequest.of(0, CHUNK_SIZE)))
+                    .willReturn(List.of(3L));
+            List<DailyStatisticsRow> firstChunk = List.of(
+                    inProgressRow(1L, CLOSING_DATE.minusDays(2), 2),
+                    inProgressRow(1L, CLOSING_DATE, 0));
+            given(dailyStatisticsRepository.findInProgressRows(List.of(1L, 2L),
+                    CLOSING_DATE.minusDays(LOOKBACK_DAYS), CLOSING_DATE)).willReturn(firstChunk);
+            given(dailyStatisticsRepository.findInProgressRows(List.of(3L),
+                    CLOSING_DATE.minusDays(LOOKBACK_DAYS), CLOSING_DATE)).willReturn(List.of());
+            given(jdbcTemplate.batchUpdate(eq(DailyStatisticsCloseJob.CLOSE_SQL), eq(firstChunk), eq(2),
+                    any(ParameterizedPreparedStatementSetter.class))).willReturn(new int[][]{{1, 1}});
+
+            // When
+            int closed = job.closeZone(TIMEZONE, CLOSING_DATE);
+
+            // Then
+            assertThat(closed).isEqualTo(2);
+            verify(eventPublisher).publishEvent(new StatsUpdatedEvent(1L, Map.of(
+                    CLOSING_DATE.minusDays(2), DailyStatus.FAILURE,
+                    CLOSING_DATE, DailyStatus.NO_PLAN)));
+        }
+
+        @Test
+        @DisplayName("성공: 그 사이 기록이 들어와 바뀌지 않은 행은 이벤트를 발행하지 않는다")
+        @SuppressWarnings("unchecked")
+        void should_SkipEvent_When_RowChangedConcurrently() {
+            // Given
+            givenTransactionsAndCheckpointSave();
+            given(dayCloseCheckpointRepository.findById(TIMEZONE)).willReturn(Optional.empty());
+            given(userRepository.findIdsByTimezoneAfter(TIMEZONE, 0L, PageRequest.of(0, CHUNK_SIZE)))
+                    .willReturn(List.of(1L));
+            List<DailyStatisticsRow> rows = List.of(inProgressRow(1L, CLOSING_DATE, 1));
+            given(dailyStatisticsRepository.findInProgressRows(anyCollection(), any(), any())).willReturn(rows);
+            given(jdbcTemplate.batchUpdate(eq(DailyStatisticsCloseJob.CLOSE_SQL), eq(rows), eq(1),
+                    any(ParameterizedPreparedStatementSetter.class))).willReturn(new int[][]{{0}});
+
+            // When
+            int closed = job.closeZone(TIMEZONE, CLOSING_DATE);
+
+            // Then
+            assertThat(closed).isZero();
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("성공: 마감 중이던 체크포인트의 다음 사용자부터 재개한다")
+        void should_ResumeFromCheckpoint_When_PreviousRunInterrupted() {
+            // Given
+            givenTransactionsAndCheckpointSave();
+            DayCloseCheckpoint checkpoint = DayCloseCheckpoint.start(TIMEZONE, CLOSING_DATE);
+            checkpoint.advance(42L, false);
+            given(dayCloseCheckpointRepository.findById(TIMEZONE)).willReturn(Optional.of(checkpoint));
+            given(userRepository.findIdsByTimezoneAfter(TIMEZONE, 42L, PageRequest.of(0, CHUNK_SIZE)))
+                    .willReturn(List.of());
+
+            // When
+            job.closeZone(TIMEZONE, CLOSING_DATE);
+
+            // Then
+            verify(userRepository, never()).findIdsByTimezoneAfter(eq(TIMEZONE), eq(0L), any());
+            assertThat(checkpoint.isClosedThrough(CLOSING_DATE)).isTrue();
+            assertThat(checkpoint.getLastUserId()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("성공: 이미 마감한 날짜는 건너뛴다")
+        void should_Skip_When_AlreadyClosed() {
+            // Given
+            DayCloseCheckpoint checkpoint = DayCloseCheckpoint.start(TIMEZONE, CLOSING_DATE);
+            checkpoint.advance(100L, true);
+            given(dayCloseCheckpointRepository.findById(TIMEZONE)).willReturn(Optional.of(checkpoint));
+
+            // When
+            int closed = job.closeZone(TIMEZONE, CLOSING_DATE);
+
+            // Then
+            assertThat(closed).isZero();
+            verifyNoInteractions(userRepository, dailyStatisticsRepository, jdbcTemplate, transactionManager);
+        }
+
+        @Test
+        @DisplayName("성공: 다음 날이 되면 커서를 처음으로 되돌려 새로 마감한다")
+        void should_RestartCursor_When_NextDay() {
+            // Given
+            givenTransactionsAndCheckpointSave();
+            DayCloseCheckpoint checkpoint = DayCloseCheckpoint.start(TIMEZONE, CLOSING_DATE.minusDays(1));
+            checkpoint.advance(100L, true);
+            given(dayCloseCheckpointRepository.findById(TIMEZONE)).willReturn(Optional.of(checkpoint));
+            given(userRepository.findIdsByTimezoneAfter(TIMEZONE, 0L, PageRequest.of(0, CHUNK_SIZE)))
+                    .willReturn(List.of());
+
+            // When
+            job.closeZone(TIMEZONE, CLOSING_DATE);
+
+            // Then
+            assertThat(checkpoint.getClosingDate()).isEqualTo(CLOSING_DATE);
+            assertThat(checkpoint.isClosedThrough(CLOSING_DATE)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("closeAll 메서드")
+    class CloseAll {
+
+        @Test
+        @DisplayName("성공: 시간대마다 그 시간대의 어제를 마감하고 잘못된 시간대는 건너뛴다")
+        void should_UseZoneLocalYesterday_When_MultipleZones() {
+            // Given - 2026-02-12T15:30Z: 서울은 2/13, 로스앤젤레스는 2/12
+            DayCloseCheckpoint seoul = DayCloseCheckpoint.start("Asia/Seoul", CLOSING_DATE);
+            seoul.advance(10L, true);
+            DayCloseCheckpoint losAngeles = DayCloseCheckpoint.start("America/Los_Angeles", CLOSING_DATE.minusDays(1));
+            losAngeles.advance(10L, true);
+            given(userRepository.findDistinctTimezones())
+                    .willReturn(List.of("America/Los_Angeles", "Asia/Seoul", "Mars/Olympus"));
+            given(dayCloseCheckpointRepository.findById("Asia/Seoul")).willReturn(Optional.of(seoul));
+            given(dayCloseCheckpointRepository.findById("America/Los_Angeles")).willReturn(Optional.of(losAngeles));
+
+            // When
+            int closed = job.closeAll();
+
+            // Then
+            assertThat(closed).isZero();
+            verify(dayCloseCheckpointRepository, never()).findById("Mars/Olympus");
+            verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyList(), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class));
+        }
+    }
+}
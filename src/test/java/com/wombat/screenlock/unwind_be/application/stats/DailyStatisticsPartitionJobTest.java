@@ -0,0 +1,180 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.application.stats.DailyStatisticsPartitionJob.PartitionInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * DailyStatisticsPartitionJob 단위 테스트
+ *
+ * <p>JdbcTemplate을 Mocking하고 파티션 목록에 따라 실행되는 DDL을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyStatisticsPartitionJob 단위 테스트")
+class DailyStatisticsPartitionJobTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Nested
+    @DisplayName("파티션 미리 생성")
+    class CreateAhead {
+
+        @Test
+        @DisplayName("앞으로 필요한 월 파티션 없음 - p_future 분할로 한 번에 생성")
+        void should_ReorganizeFuture_When_MonthsMissing() {
+            // Given - V8 초기 상태 (p202612까지), 기준일 2026-11-15, 3개월 앞까지
+            givenPartitions(initialPartitions());
+            DailyStatisticsPartitionJob job = new DailyStatisticsPartitionJob(jdbcTemplate, 3, 0, true);
+
+            // When
+            job.maintain(LocalDate.of(2026, 11, 15));
+
+            // Then
+            verify(jdbcTemplate).execute("ALTER TABLE daily_statistics REORGANIZE PARTITION p_future INTO ("
+                    + "PARTITION p202701 VALUES LESS THAN ('2027-02-01'), "
+                    + "PARTITION p202702 VALUES LESS THAN ('2027-03-01'), "
+                    + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        }
+
+        @Test
+        @DisplayName("필요한 월 파티션 모두 존재 - DDL 미실행")
+        void should_DoNothing_When_AllMonthsExist() {
+            // Given
+            givenPartitions(initialPartitions());
+            DailyStatisticsPartitionJob job = new DailyStatisticsPartitionJob(jdbcTemplate, 3, 0, true);
+
+            // When
+            job.maintain(LocalDate.of(2026, 2, 12));
+
+            // Then
+            verify(jdbcTemplate, never()).execute(anyString());
+        }
+
+        @Test
+        @DisplayName("파티션 테이블이 아님 - DDL 미실행")
+        void should_Skip_When_NotPartitioned() {
+            // Given
+            givenPartitions(List.of());
+            DailyStatisticsPartitionJob job = new DailyStatisticsPartitionJob(jdbcTemplate, 3, 12, true);
+
+            // When
+            job.maintain(LocalDate.of(2026, 2, 12));
+
+            // Then
+            verify(jdbcTemplate, never()).execute(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("보존 기간 지난 파티션 분리")
+    class DetachExpired {
+
+        @Test
+        @DisplayName("보존 기간 경과 - 보관 테이블로 EXCHANGE 후 DROP, 이후 파티션은 유지")
+        void should_ExchangeAndDrop_When_PartitionExpired() {
+            // Given - 12개월 보존, 기준일 2027-01-15 → 2026-01-01 이전(p_history)만 분리
+            givenPartitions(partitionsThrough(YearMonth.of(2027, 4)));
+            given(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("daily_statistics_p_history")))
+                    .willReturn(0);
+            DailyStatisticsPartitionJob job = new DailyStatisticsPartitionJob(jdbcTemplate, 3, 12, true);
+
+            // When
+            job.maintain(LocalDate.of(2027, 1, 15));
+
+            // Then
+            InOrder inOrder = inOrder(jdbcTemplate);
+            inOrder.verify(jdbcTemplate).execute("CREATE TABLE daily_statistics_p_history LIKE daily_statistics");
+            inOrder.verify(jdbcTemplate).execute("ALTER TABLE daily_statistics_p_history REMOVE PARTITIONING");
+            inOrder.verify(jdbcTemplate).execute(
+                    "ALTER TABLE daily_statistics EXCHANGE PARTITION p_history WITH TABLE daily_statistics_p_history");
+            inOrder.verify(jdbcTemplate).execute("ALTER TABLE daily_statistics DROP PARTITION p_history");
+            verify(jdbcTemplate, never()).execute("ALTER TABLE daily_statistics DROP PARTITION p202601");
+        }
+
+        @Test
+        @DisplayName("archive=false - EXCHANGE 없이 DROP")
+        void should_DropOnly_When_ArchiveDisabled() {
+            // Given
+            givenPartitions(partitionsThrough(YearMonth.of(2027, 4)));
+            DailyStatisticsPartitionJob job = new DailyStatisticsPartitionJob(jdbcTemplate, 3, 12, false);
+
+            // When
+            job.maintain(LocalDate.of(2027, 1, 15));
+
+            // Then
+            verify(jdbcTemplate).execute("ALTER TABLE daily_statistics DROP PARTITION p_history");
+            verify(jdbcTemplate, never()).execute(
+                    "ALTER TABLE daily_statistics EXCHANGE PARTITION p_history WITH TABLE daily_statistics_p_history");
+        }
+
+        @Test
+        @DisplayName("보관 테이블이 이미 존재 - 분리 중단")
+        void should_StopDetaching_When_ArchiveTableExists() {
+            // Given
+            givenPartitions(partitionsThrough(YearMonth.of(2027, 4)));
+            given(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("daily_statistics_p_history")))
+                    .willReturn(1);
+            DailyStatisticsPartitionJob job = new DailyStatisticsPartitionJob(jdbcTemplate, 3, 12, true);
+
+            // When
+            job.maintain(LocalDate.of(2027, 1, 15));
+
+            // Then
+            verify(jdbcTemplate, never()).execute(anyString());
+        }
+    }
+
+    @Test
+    @DisplayName("상한 파싱 - 날짜 리터럴과 MAXVALUE")
+    void should_ParseBound_When_Description() {
+        assertThat(DailyStatisticsPartitionJob.parseBound("'2026-02-01'")).isEqualTo(LocalDate.of(2026, 2, 1));
+        assertThat(DailyStatisticsPartitionJob.parseBound("MAXVALUE")).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPartitions(List<PartitionInfo> partitions) {
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("daily_statistics")))
+                .willReturn(partitions);
+    }
+
+    /**
+     * V8 마이그레이션 직후 파티션 구성
+     */
+    private List<PartitionInfo> initialPartitions() {
+        return partitionsThrough(YearMonth.of(2026, 12));
+    }
+
+    private List<PartitionInfo> partitionsThrough(YearMonth last) {
+        List<PartitionInfo> partitions = new ArrayList<>();
+        partitions.add(new PartitionInfo("p_history", LocalDate.of(2026, 1, 1)));
+        for (YearMonth month = YearMonth.of(2026, 1); !month.isAfter(last); month = month.plusMonths(1)) {
+            partitions.add(new PartitionInfo(
+                    String.format("p%d%02d", month.getYear(), month.getMonthValue()),
+                    month.plusMonths(1).atDay(1)));
+        }
+        partitions.add(new PartitionInfo("p_future", null));
+        return partitions;
+    }
+}
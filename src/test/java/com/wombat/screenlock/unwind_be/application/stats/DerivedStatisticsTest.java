@@ -0,0 +1,59 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DerivedStatistics 단위 테스트
+ */
+@DisplayName("DerivedStatistics 테스트")
+class DerivedStatisticsTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Test
+    @DisplayName("성공: 이력 한 번 순회로 주간/월간 합계, 누적 합계, 스트릭을 계산한다")
+    void should_ComputeRollupsAndStreak_When_HistoryGiven() {
+        // Given - 2026-02-08(일)은 이전 주, 2026-02-10 ~ 11은 2026-02-09 주
+        List<DailyStatisticsView> history = List.of(
+                new DailyStatisticsView(LocalDate.of(2026, 2, 8), 1, 1, 600, 0, DailyStatus.SUCCESS),
+                new DailyStatisticsView(LocalDate.of(2026, 2, 10), 2, 2, 1200, 0, DailyStatus.SUCCESS),
+                new DailyStatisticsView(LocalDate.of(2026, 2, 11), 2, 1, 900, 1, DailyStatus.FAILURE));
+
+        // When
+        DerivedStatistics derived = DerivedStatistics.compute(USER_ID, history);
+
+        // Then
+        assertThat(derived.weekly()).isEqualTo(Map.of(
+                LocalDate.of(2026, 2, 2), new StatsRollupDelta(1, 1, 600, 0, 1),
+                LocalDate.of(2026, 2, 9), new StatsRollupDelta(4, 3, 2100, 1, 1)));
+        assertThat(derived.monthly()).isEqualTo(Map.of(
+                LocalDate.of(2026, 2, 1), new StatsRollupDelta(5, 4, 2700, 1, 2)));
+        assertThat(derived.cumulative()).containsExactly(
+                Map.entry(LocalDate.of(2026, 2, 8), new StatsRollupDelta(1, 1, 600, 0, 1)),
+                Map.entry(LocalDate.of(2026, 2, 10), new StatsRollupDelta(3, 3, 1800, 0, 2)),
+                Map.entry(LocalDate.of(2026, 2, 11), new StatsRollupDelta(5, 4, 2700, 1, 2)));
+        assertThat(derived.streak().getLongestStreak()).isEqualTo(1);
+        assertThat(derived.streak().getLastSuccessDate()).isEqualTo(LocalDate.of(2026, 2, 10));
+    }
+
+    @Test
+    @DisplayName("성공: 이력이 없으면 빈 롤업과 0 스트릭")
+    void should_ReturnEmpty_When_NoHistory() {
+        // When
+        DerivedStatistics derived = DerivedStatistics.compute(USER_ID, List.of());
+
+        // Then
+        assertThat(derived.weekly()).isEmpty();
+        assertThat(derived.cumulative()).isEmpty();
+        assertThat(derived.streak().getCurrentStreak()).isZero();
+    }
+}
@@ -0,0 +1,173 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.FocusSession;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.FocusSessionRepository;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * FocusSessionAggregator 단위 테스트
+ *
+ * <p>FocusSessionRepository, StatsService를 Mocking하고
+ * 사용자별 합산, 중복 집계 방지, 반영 불가 세션 처리를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FocusSessionAggregator 테스트")
+class FocusSessionAggregatorTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2026, 2, 12);
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-02-12T06:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(FIXED_CLOCK);
+
+    @Mock
+    private FocusSessionRepository focusSessionRepository;
+
+    @Mock
+    private StatsService statsService;
+
+    @Mock
+    private ScheduleStatsService scheduleStatsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleTransactionStatus transactionStatus;
+    private FocusSessionAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        transactionStatus = new SimpleTransactionStatus();
+        aggregator = new FocusSessionAggregator(focusSessionRepository, statsService, scheduleStatsService,
+                new TransactionTemplate(transactionManager), 100, FIXED_CLOCK);
+    }
+
+    private FocusSession session(long id, long userId, LocalDate date, boolean completed, int focusTime) {
+        FocusSession session = FocusSession.builder()
+                .userId(userId)
+                .scheduleId("schedule-" + id)
+                .date(date)
+                .focusTime(focusTime)
+                .completed(completed)
+                .allInMode(false)
+                .build();
+        ReflectionTestUtils.setField(session, "id", id);
+        return session;
+    }
+
+    @Nested
+    @DisplayName("aggregate 메서드")
+    class Aggregate {
+
+        @Test
+        @DisplayName("성공: 사용자별로 날짜별 증분을 합산해 한 트랜잭션에서 반영한다")
+        void should_ApplyDeltasPerUser_When_SessionsPending() {
+            // Given
+            LocalDate nextDate = TEST_DATE.plusDays(1);
+            given(focusSessionRepository.findByAggregatedAtIsNullOrderByIdAsc(Limit.of(100))).willReturn(List.of(
+                    session(1L, 10L, TEST_DATE, true, 1800),
+                    session(2L, 20L, TEST_DATE, false, 600),
+                    session(3L, 10L, TEST_DATE, false, 300),
+                    session(4L, 10L, nextDate, true, 1200)));
+            given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+            given(focusSessionRepository.markAggregated(List.of(1L, 3L, 4L), NOW)).willReturn(3);
+            given(focusSessionRepository.markAggregated(List.of(2L), NOW)).willReturn(1);
+
+            // When
+            int processed = aggregator.aggregate();
+
+            // Then
+            assertThat(processed).isEqualTo(4);
+            verify(statsService).applyDeltas(10L, Map.of(
+                    TEST_DATE, new DailyStatsDelta(2, 1, 2100, 0, false),
+                    nextDate, new DailyStatsDelta(1, 1, 1200, 0, false)));
+            verify(statsService).applyDeltas(20L, Map.of(
+                    TEST_DATE, new DailyStatsDelta(1, 0, 600, 0, false)));
+            verify(scheduleStatsService).apply(10L, Map.of(
+                    "schedule-1", new DailyStatsDelta(1, 1, 1800, 0, false),
+                    "schedule-3", new DailyStatsDelta(1, 0, 300, 0, false),
+                    "schedule-4", new DailyStatsDelta(1, 1, 1200, 0, false)));
+            verify(transactionManager, times(2)).commit(transactionStatus);
+        }
+
+        @Test
+        @DisplayName("성공: 대기 세션이 없으면 아무것도 하지 않는다")
+        void should_DoNothing_When_NoPendingSessions() {
+            // Given
+            given(focusSessionRepository.findByAggregatedAtIsNullOrderByIdAsc(Limit.of(100))).willReturn(List.of());
+
+            // When
+            int processed = aggregator.aggregate();
+
+            // Then
+            assertThat(processed).isZero();
+            verifyNoInteractions(statsService, transactionManager);
+        }
+
+        @Test
+        @DisplayName("성공: 다른 노드가 먼저 표시한 세션은 반영하지 않고 롤백한다")
+        void should_Rollback_When_AlreadyMarkedElsewhere() {
+            // Given
+            given(focusSessionRepository.findByAggregatedAtIsNullOrderByIdAsc(Limit.of(100)))
+                    .willReturn(List.of(session(1L, 10L, TEST_DATE, true, 1800), session(2L, 10L, TEST_DATE, true, 600)));
+            given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+            given(focusSessionRepository.markAggregated(List.of(1L, 2L), NOW)).willReturn(1);
+
+            // When
+            aggregator.aggregate();
+
+            // Then
+            verify(statsService, never()).applyDeltas(any(), anyMap());
+            assertThat(transactionStatus.isRollbackOnly()).isTrue();
+        }
+
+        @Test
+        @DisplayName("실패: 반영할 수 없는 세션은 집계 제외로 표시해 대기열이 막히지 않게 한다")
+        void should_MarkAsSkipped_When_ApplyFails() {
+            // Given
+            given(focusSessionRepository.findByAggregatedAtIsNullOrderByIdAsc(Limit.of(100)))
+                    .willReturn(List.of(session(1L, 10L, TEST_DATE, true, 1800)));
+            given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+            given(focusSessionRepository.markAggregated(List.of(1L), NOW)).willReturn(1);
+            given(statsService.applyDeltas(eq(10L), anyMap()))
+                    .willThrow(new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+            // When
+            aggregator.aggregate();
+
+            // Then
+            verify(transactionManager).rollback(transactionStatus);
+            verify(focusSessionRepository, times(2)).markAggregated(List.of(1L), NOW);
+            verify(transactionManager).commit(transactionStatus);
+        }
+    }
+}
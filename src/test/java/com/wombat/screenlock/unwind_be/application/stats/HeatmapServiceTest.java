@@ -0,0 +1,188 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.HeatmapResponse;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * HeatmapService 단위 테스트
+ *
+ * <p>2비트 패킹 규칙, 지난 연도 캐시, 지난 날짜 기록 시 캐시 삭제를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HeatmapService 단위 테스트")
+class HeatmapServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.of(2026, 2, 12);
+
+    @Mock
+    private TwoLevelCache<HeatmapResponse> cache;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private UserZoneResolver userZoneResolver;
+
+    private HeatmapService heatmapService;
+
+    @BeforeEach
+    void setUp() {
+        heatmapService = new HeatmapService(cache, dailyStatisticsRepository, userZoneResolver);
+        given(userZoneResolver.today(USER_ID)).willReturn(TODAY);
+    }
+
+    @Nested
+    @DisplayName("getYear 메서드")
+    class GetYear {
+
+        @Test
+        @DisplayName("올해 - 하루 2비트로 패킹, 캐시 미사용")
+        void should_PackTwoBitsPerDay_When_CurrentYear() {
+            // Given - 1/1 SUCCESS, 1/2 WARNING, 1/3 FAILURE, 1/4 NO_PLAN, 1/5 SUCCESS
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)))
+                    .willReturn(List.of(
+                            view(LocalDate.of(2026, 1, 5), DailyStatus.SUCCESS),
+                            view(LocalDate.of(2026, 1, 4), DailyStatus.NO_PLAN),
+                            view(LocalDate.of(2026, 1, 3), DailyStatus.FAILURE),
+                            view(LocalDate.of(2026, 1, 2), DailyStatus.WARNING),
+                            view(LocalDate.of(2026, 1, 1), DailyStatus.SUCCESS)));
+
+            // When
+            HeatmapResponse response = heatmapService.getYear(USER_ID, null);
+
+            // Then - 01 10 11 00 | 01 00 00 00
+            byte[] packed = Base64.getDecoder().decode(response.statuses());
+            assertThat(response.year()).isEqualTo(2026);
+            assertThat(response.days()).isEqualTo(365);
+            assertThat(packed).hasSize(92);
+            assertThat(packed[0] & 0xFF).isEqualTo(0b01101100);
+            assertThat(packed[1] & 0xFF).isEqualTo(0b01000000);
+            verifyNoInteractions(cache);
+        }
+
+        @Test
+        @DisplayName("윤년 마지막 날 - 92번째 바이트 하위 비트")
+        void should_PackLastDay_When_LeapYear() {
+            // Given
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+                    .willReturn(List.of(view(LocalDate.of(2024, 12, 31), DailyStatus.FAILURE)));
+            given(cache.get("1:2024")).willReturn(Optional.empty());
+
+            // When
+            HeatmapResponse response = heatmapService.getYear(USER_ID, 2024);
+
+            // Then - 366번째 날 = 92번째 바이트의 두 번째 2비트
+            byte[] packed = Base64.getDecoder().decode(response.statuses());
+            assertThat(response.days()).isEqualTo(366);
+            assertThat(packed).hasSize(92);
+            assertThat(packed[91] & 0xFF).isEqualTo(0b00110000);
+        }
+
+        @Test
+        @DisplayName("지난 연도 캐시 미스 - 계산 후 만료 없이 저장")
+        void should_CacheWithoutTtl_When_ElapsedYearMiss() {
+            // Given
+            given(cache.get("1:2025")).willReturn(Optional.empty());
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
+                    .willReturn(List.of());
+
+            // When
+            HeatmapResponse response = heatmapService.getYear(USER_ID, 2025);
+
+            // Then
+            verify(cache).put("1:2025", response);
+        }
+
+        @Test
+        @DisplayName("지난 연도 캐시 적중 - DB 미조회")
+        void should_ReturnCached_When_ElapsedYearHit() {
+            // Given
+            HeatmapResponse cached = new HeatmapResponse(2025, 365, "AAAA");
+            given(cache.get("1:2025")).willReturn(Optional.of(cached));
+
+            // When
+            HeatmapResponse response = heatmapService.getYear(USER_ID, 2025);
+
+            // Then
+            assertThat(response).isEqualTo(cached);
+            verifyNoInteractions(dailyStatisticsRepository);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 연도 - BusinessException")
+        void should_ThrowException_When_YearOutOfRange() {
+            // When & Then
+            assertThatThrownBy(() -> heatmapService.getYear(USER_ID, 1999))
+                    .isInstanceOf(BusinessException.class);
+            assertThatThrownBy(() -> heatmapService.getYear(USER_ID, 2028))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("onStatsUpdated 메서드")
+    class OnStatsUpdated {
+
+        @Test
+        @DisplayName("지난 연도 날짜 기록 - 해당 연도 캐시 삭제")
+        void should_EvictElapsedYear_When_PastDateRecorded() {
+            // Given
+            StatsUpdatedEvent event = new StatsUpdatedEvent(USER_ID, Map.of(
+                    LocalDate.of(2025, 12, 31), DailyStatus.SUCCESS,
+                    TODAY, DailyStatus.WARNING));
+
+            // When
+            heatmapService.onStatsUpdated(event);
+
+            // Then
+            verify(cache).evict("1:2025");
+            verify(cache, never()).evict("1:2026");
+        }
+
+        @Test
+        @DisplayName("올해 날짜만 기록 - 캐시 미변경")
+        void should_NotEvict_When_OnlyCurrentYear() {
+            // When
+            heatmapService.onStatsUpdated(StatsUpdatedEvent.of(USER_ID, TODAY, DailyStatus.SUCCESS));
+
+            // Then
+            verify(cache, never()).evict(anyString());
+            verify(cache, never()).put(anyString(), any(HeatmapResponse.class));
+        }
+    }
+
+    private DailyStatisticsView view(LocalDate date, DailyStatus status) {
+        return new DailyStatisticsView(date, 1, 1, 60, 0, status);
+    }
+}
@@ -0,0 +1,200 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.HourlyFocusResponse;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.FocusSession;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.HourlyFocusCounters;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.HourlyFocusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * HourlyFocusService 단위 테스트
+ *
+ * <p>HourlyFocusRepository와 UserZoneResolver를 Mocking하고
+ * 세션 시간 배분, Redis 장애 격리, 최근 구간 조회를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HourlyFocusService 테스트")
+class HourlyFocusServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2026, 2, 12);
+    private static final int RECENT_DAYS = 30;
+
+    @Mock
+    private HourlyFocusRepository hourlyFocusRepository;
+
+    @Mock
+    private UserZoneResolver userZoneResolver;
+
+    private HourlyFocusService hourlyFocusService;
+
+    @BeforeEach
+    void setUp() {
+        hourlyFocusService = new HourlyFocusService(hourlyFocusRepository, userZoneResolver, RECENT_DAYS);
+    }
+
+    private FocusSession session(Instant startedAt, Instant endedAt, int focusTime) {
+        return FocusSession.builder()
+                .userId(USER_ID)
+                .scheduleId("schedule-1")
+                .date(TODAY)
+                .startedAt(startedAt)
+                .endedAt(endedAt)
+                .focusTime(focusTime)
+                .completed(true)
+                .allInMode(false)
+                .build();
+    }
+
+    private long[] hours(int... hourSecondPairs) {
+        long[] seconds = new long[HourlyFocusRepository.HOURS];
+        for (int i = 0; i < hourSecondPairs.length; i += 2) {
+            seconds[hourSecondPairs[i]] = hourSecondPairs[i + 1];
+        }
+        return seconds;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<LocalDate, long[]> captureIncrement() {
+        ArgumentCaptor<Map<LocalDate, long[]>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(hourlyFocusRepository).increment(eq(USER_ID), captor.capture(), eq(Duration.ofDays(RECENT_DAYS + 2)));
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("onSessionsRecorded 메서드")
+    class OnSessionsRecorded {
+
+        @Test
+        @DisplayName("성공: 여러 시간에 걸친 세션은 겹친 길이에 비례해 나눈다")
+        void should_SplitProportionally_When_SessionSpansHours() {
+            // Given - 09:30 ~ 11:00 KST, 실제 집중 3000초 (일시정지 포함)
+            given(userZoneResolver.zoneOf(USER_ID)).willReturn(SEOUL);
+            FocusSession session = session(
+                    Instant.parse("2026-02-12T00:30:00Z"), Instant.parse("2026-02-12T02:00:00Z"), 3000);
+
+            // When
+            hourlyFocusService.onSessionsRecorded(new FocusSessionsRecordedEvent(USER_ID, List.of(session)));
+
+            // Then - 30분 : 60분 = 1000 : 2000
+            Map<LocalDate, long[]> increments = captureIncrement();
+            assertThat(increments).containsOnlyKeys(TODAY);
+            assertThat(increments.get(TODAY)).containsExactly(hours(9, 1000, 10, 2000));
+        }
+
+        @Test
+        @DisplayName("성공: 자정을 넘는 세션은 두 날짜로 나뉜다")
+        void should_SplitAcrossDates_When_SessionCrossesMidnight() {
+            // Given - 2/12 23:30 ~ 2/13 00:30 KST
+            given(userZoneResolver.zoneOf(USER_ID)).willReturn(SEOUL);
+            FocusSession session = session(
+                    Instant.parse("2026-02-12T14:30:00Z"), Instant.parse("2026-02-12T15:30:00Z"), 3600);
+
+            // When
+            hourlyFocusService.onSessionsRecorded(new FocusSessionsRecordedEvent(USER_ID, List.of(session)));
+
+            // Then
+            Map<LocalDate, long[]> increments = captureIncrement();
+            assertThat(increments.get(TODAY)).containsExactly(hours(23, 1800));
+            assertThat(increments.get(TODAY.plusDays(1))).containsExactly(hours(0, 1800));
+        }
+
+        @Test
+        @DisplayName("성공: 종료 시각만 있으면 focusTime으로 시작 시각을 계산한다")
+        void should_DeriveStart_When_OnlyEndedAtKnown() {
+            // Given - 10:20 KST 종료, 40분 집중 → 09:40 ~ 10:20
+            given(userZoneResolver.zoneOf(USER_ID)).willReturn(SEOUL);
+            FocusSession session = session(null, Instant.parse("2026-02-12T01:20:00Z"), 2400);
+
+            // When
+            hourlyFocusService.onSessionsRecorded(new FocusSessionsRecordedEvent(USER_ID, List.of(session)));
+
+            // Then
+            assertThat(captureIncrement().get(TODAY)).containsExactly(hours(9, 1200, 10, 1200));
+        }
+
+        @Test
+        @DisplayName("성공: 시각이 없는 세션은 배분하지 않는다")
+        void should_Skip_When_SessionHasNoTimes() {
+            // Given
+            given(userZoneResolver.zoneOf(USER_ID)).willReturn(SEOUL);
+
+            // When
+            hourlyFocusService.onSessionsRecorded(
+                    new FocusSessionsRecordedEvent(USER_ID, List.of(session(null, null, 1800))));
+
+            // Then
+            verifyNoInteractions(hourlyFocusRepository);
+        }
+
+        @Test
+        @DisplayName("실패: Redis 장애는 예외를 전파하지 않는다")
+        void should_SwallowException_When_RedisFails() {
+            // Given
+            given(userZoneResolver.zoneOf(USER_ID)).willReturn(SEOUL);
+            willThrow(new QueryTimeoutException("timeout"))
+                    .given(hourlyFocusRepository).increment(eq(USER_ID), anyMap(), any());
+            FocusSession session = session(
+                    Instant.parse("2026-02-12T00:00:00Z"), Instant.parse("2026-02-12T00:30:00Z"), 1800);
+
+            // When & Then
+            assertThatCode(() -> hourlyFocusService.onSessionsRecorded(
+                    new FocusSessionsRecordedEvent(USER_ID, List.of(session)))).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("getHourly 메서드")
+    class GetHourly {
+
+        @Test
+        @DisplayName("성공: 오늘 포함 최근 30일 카운터와 전체 카운터를 반환한다")
+        @SuppressWarnings("unchecked")
+        void should_ReadRecentDaysAndAllTime_When_Requested() {
+            // Given
+            given(userZoneResolver.today(USER_ID)).willReturn(TODAY);
+            given(hourlyFocusRepository.find(eq(USER_ID), any()))
+                    .willReturn(new HourlyFocusCounters(hours(9, 3600), hours(9, 7200, 21, 1800)));
+
+            // When
+            HourlyFocusResponse response = hourlyFocusService.getHourly(USER_ID);
+
+            // Then
+            ArgumentCaptor<List<LocalDate>> captor = ArgumentCaptor.forClass(List.class);
+            verify(hourlyFocusRepository).find(eq(USER_ID), captor.capture());
+            assertThat(captor.getValue()).hasSize(RECENT_DAYS)
+                    .startsWith(TODAY.minusDays(RECENT_DAYS - 1))
+                    .endsWith(TODAY);
+            assertThat(response.recentDays()).isEqualTo(RECENT_DAYS);
+            assertThat(response.recent()).hasSize(24).element(9).isEqualTo(3600L);
+            assertThat(response.allTime().get(21)).isEqualTo(1800L);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.LeaderboardEntryDto;
+import com.wombat.screenlock.unwind_be.api.stats.dto.LeaderboardRankResponse;
+import com.wombat.screenlock.unwind_be.api.stats.dto.LeaderboardResponse;
+import com.wombat.screenlock.unwind_be.api.stats.dto.LeaderboardWindow;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.UserStreakState;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.WeeklyStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.LeaderboardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * LeaderboardService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaderboardService 단위 테스트")
+class LeaderboardServiceTest {
+
+    @Mock
+    private LeaderboardRepository leaderboardRepository;
+
+    @Mock
+    private StreakService streakService;
+
+    @Mock
+    private WeeklyStatisticsRepository weeklyStatisticsRepository;
+
+    @Mock
+    private UserZoneResolver userZoneResolver;
+
+    @InjectMocks
+    private LeaderboardService leaderboardService;
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    @Nested
+    @DisplayName("onStatsUpdated 메서드")
+    class OnStatsUpdated {
+
+        @Test
+        @DisplayName("오늘 SUCCESS 기록 - 스트릭과 이번 주 집중 시간 갱신")
+        void should_UpdateStreakAndWeeklyFocus_When_Committed() {
+            // Given
+            LocalDate weekStart = TODAY.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            given(userZoneResolver.today(USER_ID)).willReturn(TODAY);
+            given(streakService.getStreakState(USER_ID)).willReturn(UserStreakState.fromHistory(USER_ID, List.of(
+                    successView(TODAY.minusDays(1)), successView(TODAY))));
+            WeeklyStatistics week = mock(WeeklyStatistics.class);
+            given(week.getTotalFocusTime()).willReturn(5400);
+            given(weeklyStatisticsRepository.findByUserIdAndWeekStart(USER_ID, weekStart)).willReturn(Optional.of(week));
+
+            // When
+            leaderboardService.onStatsUpdated(StatsUpdatedEvent.of(USER_ID, TODAY, DailyStatus.SUCCESS));
+
+            // Then
+            verify(leaderboardRepository).saveStreak(USER_ID, 2, TODAY.toEpochDay());
+            verify(leaderboardRepository).saveWeeklyFocus(anyString(), eq(USER_ID), eq(5400L), any());
+        }
+
+        @Test
+        @DisplayName("끊긴 스트릭 - 리더보드에서 제거")
+        void should_RemoveStreak_When_NotLive() {
+            // Given
+            given(userZoneResolver.today(USER_ID)).willReturn(TODAY);
+            given(streakService.getStreakState(USER_ID)).willReturn(UserStreakState.fromHistory(USER_ID, List.of(
+                    successView(TODAY.minusDays(3)))));
+
+            // When
+            leaderboardService.onStatsUpdated(new StatsUpdatedEvent(USER_ID));
+
+            // Then
+            verify(leaderboardRepository).saveStreak(USER_ID, 0, 0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("getLeaderboard 메서드")
+    class GetLeaderboard {
+
+        @Test
+        @DisplayName("전체 스트릭 - 끊긴 회원은 제외하고 제거, 순위 재부여")
+        void should_SkipAndRemoveStale_When_AllWindow() {
+            // Given - 2명 조회 (배치 4)
+            given(leaderboardRepository.findStreakRange(0, 3)).willReturn(List.of(
+                    tuple("10", 30), tuple("11", 20), tuple("12", 10)));
+            given(leaderboardRepository.findLastSuccessDays(List.of("10", "11", "12"))).willReturn(Arrays.asList(
+                    TODAY.minusDays(5).toEpochDay(), TODAY.toEpochDay(), TODAY.minusDays(1).toEpochDay()));
+            given(userZoneResolver.today(any())).willReturn(TODAY);
+
+            // When
+            LeaderboardResponse response = leaderboardService.getLeaderboard(LeaderboardWindow.ALL, 2);
+
+            // Then
+            assertThat(response.window()).isEqualTo("all");
+            assertThat(response.entries()).containsExactly(
+                    new LeaderboardEntryDto(1, 11L, 20),
+                    new LeaderboardEntryDto(2, 12L, 10));
+            verify(leaderboardRepository).removeStreaks(List.of("10"));
+        }
+
+        @Test
+        @DisplayName("전체 스트릭 - 어제 성공은 회원 시간대 기준으로 판단 (KST가 하루 앞선 회원 유지)")
+        void should_KeepMember_When_YesterdayInOwnZone() {
+            // Given - 로스앤젤레스 회원의 오늘은 KST 기준 어제, 마지막 성공일은 그 전날
+            LocalDate losAngelesToday = TODAY.minusDays(1);
+            given(leaderboardRepository.findStreakRange(0, 1)).willReturn(List.of(tuple("20", 7)));
+            given(leaderboardRepository.findLastSuccessDays(List.of("20")))
+                    .willReturn(List.of(losAngelesToday.minusDays(1).toEpochDay()));
+            given(userZoneResolver.today(20L)).willReturn(losAngelesToday);
+
+            // When
+            LeaderboardResponse response = leaderboardService.getLeaderboard(LeaderboardWindow.ALL, 1);
+
+            // Then
+            assertThat(response.entries()).containsExactly(new LeaderboardEntryDto(1, 20L, 7));
+            verify(leaderboardRepository, never()).removeStreaks(any());
+        }
+
+        @Test
+        @DisplayName("limit 범위 초과 - INVALID_INPUT")
+        void should_ThrowException_When_LimitOutOfRange() {
+            assertThatThrownBy(() -> leaderboardService.getLeaderboard(LeaderboardWindow.WEEK, 101))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getMyRank 메서드")
+    class GetMyRank {
+
+        @Test
+        @DisplayName("주간 순위 - 1부터 시작하는 순위와 점수")
+        void should_ReturnOneBasedRank_When_Ranked() {
+            // Given
+            given(leaderboardRepository.findWeeklyFocusRank(anyString(), eq(USER_ID))).willReturn(Optional.of(4L));
+            given(leaderboardRepository.findWeeklyFocusScore(anyString(), eq(USER_ID))).willReturn(Optional.of(7200.0));
+
+            // When
+            LeaderboardRankResponse response = leaderboardService.getMyRank(LeaderboardWindow.WEEK, USER_ID);
+
+            // Then
+            assertThat(response.rank()).isEqualTo(5L);
+            assertThat(response.score()).isEqualTo(7200L);
+        }
+
+        @Test
+        @DisplayName("전체 순위 - 회원 시간대 기준 어제 성공이면 순위 유지")
+        void should_ReturnRank_When_LiveInOwnZone() {
+            // Given
+            LocalDate losAngelesToday = TODAY.minusDays(1);
+            given(userZoneResolver.today(USER_ID)).willReturn(losAngelesToday);
+            given(leaderboardRepository.findLastSuccessDays(List.of("1")))
+                    .willReturn(List.of(losAngelesToday.minusDays(1).toEpochDay()));
+            given(leaderboardRepository.findStreakRank(USER_ID)).willReturn(Optional.of(0L));
+            given(leaderboardRepository.findStreakScore(USER_ID)).willReturn(Optional.of(7.0));
+
+            // When
+            LeaderboardRankResponse response = leaderboardService.getMyRank(LeaderboardWindow.ALL, USER_ID);
+
+            // Then
+            assertThat(response.rank()).isEqualTo(1L);
+            assertThat(response.score()).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("전체 순위 - 내 위의 끊긴 회원을 제거하고 상위 목록과 같은 순위")
+        void should_RemoveStaleAbove_When_AllWindow() {
+            // Given - 내 위에 3명, 그중 "10"은 끊긴 스트릭
+            given(userZoneResolver.today(any())).willReturn(TODAY);
+            given(leaderboardRepository.findLastSuccessDays(List.of("1")))
+                    .willReturn(List.of(TODAY.toEpochDay()));
+            given(leaderboardRepository.findStreakRank(USER_ID)).willReturn(Optional.of(3L));
+            given(leaderboardRepository.findStreakRange(0, 2)).willReturn(List.of(
+                    tuple("10", 30), tuple("11", 20), tuple("12", 10)));
+            given(leaderboardRepository.findLastSuccessDays(List.of("10", "11", "12"))).willReturn(Arrays.asList(
+                    TODAY.minusDays(5).toEpochDay(), TODAY.toEpochDay(), TODAY.minusDays(1).toEpochDay()));
+            given(leaderboardRepository.findStreakScore(USER_ID)).willReturn(Optional.of(5.0));
+
+            // When
+            LeaderboardRankResponse response = leaderboardService.getMyRank(LeaderboardWindow.ALL, USER_ID);
+
+            // Then
+            assertThat(response.rank()).isEqualTo(3L);
+            verify(leaderboardRepository).removeStreaks(List.of("10"));
+        }
+
+        @Test
+        @DisplayName("끊긴 스트릭 - 순위 없음")
+        void should_ReturnUnranked_When_StreakNotLive() {
+            // Given
+            given(userZoneResolver.today(USER_ID)).willReturn(TODAY);
+            given(leaderboardRepository.findLastSuccessDays(List.of("1")))
+                    .willReturn(Arrays.asList(TODAY.minusDays(2).toEpochDay()));
+
+            // When
+            LeaderboardRankResponse response = leaderboardService.getMyRank(LeaderboardWindow.ALL, USER_ID);
+
+            // Then
+            assertThat(response.rank()).isNull();
+            assertThat(response.score()).isZero();
+        }
+    }
+
+    private TypedTuple<String> tuple(String member, double score) {
+        return new DefaultTypedTuple<>(member, score);
+    }
+
+    private DailyStatisticsView successView(LocalDate date) {
+        return new DailyStatisticsView(date, 1, 1, 600, 0, DailyStatus.SUCCESS);
+    }
+}
@@ -0,0 +1,236 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.WeeklyStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.PercentileSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * PercentileService 단위 테스트
+ *
+ * <p>스냅샷 버킷/백분위 계산, 노드 간 전파, 주 불일치 처리를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PercentileService 테스트")
+class PercentileServiceTest {
+
+    private static final Long USER_ID = 1L;
+    // 2026-02-09 (월) ~ 2026-02-15 (일)
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 2, 9);
+    private static final LocalDate TODAY = LocalDate.of(2026, 2, 12);
+    private static final Instant BUILT_AT = Instant.parse("2026-02-12T03:00:00Z");
+
+    @Mock
+    private PercentileSnapshotRepository percentileSnapshotRepository;
+
+    @Mock
+    private WeeklyStatisticsRepository weeklyStatisticsRepository;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private PercentileService percentileService;
+
+    @BeforeEach
+    void setUp() {
+        percentileService = new PercentileService(
+                percentileSnapshotRepository, weeklyStatisticsRepository, objectMapper, listenerContainer);
+    }
+
+    /**
+     * 집중 시간 0 / 10분 / 1시간 / 2시간, 완료율 50% / 100% (0초 사용자는 스케줄 없음)
+     */
+    private PercentileSnapshot snapshot(LocalDate weekStart, Instant builtAt) {
+        return new PercentileSnapshot.Builder(weekStart)
+                .add(0, 0, 0)
+                .add(2, 1, 600)
+                .add(2, 2, 3600)
+                .add(4, 2, 7200)
+                .build(builtAt);
+    }
+
+    private WeeklyStatistics week(int totalSchedules, int completedSchedules, int focusTime) {
+        WeeklyStatistics week = mock(WeeklyStatistics.class);
+        given(week.getTotalSchedules()).willReturn(totalSchedules);
+        given(week.getTotalFocusTime()).willReturn(focusTime);
+        if (totalSchedules > 0) {
+            given(week.getCompletionRate()).willReturn((double) completedSchedules / totalSchedules);
+        }
+        return week;
+    }
+
+    @Nested
+    @DisplayName("lookup 메서드")
+    class Lookup {
+
+        @Test
+        @DisplayName("성공: 자신보다 낮은 버킷의 사용자 비율을 반환한다")
+        void should_ReturnShareBelow_When_SnapshotAvailable() {
+            // Given
+            percentileService.publish(snapshot(WEEK_START, BUILT_AT));
+            WeeklyStatistics week = week(2, 2, 3600);
+            given(weeklyStatisticsRepository.findByUserIdAndWeekStart(USER_ID, WEEK_START))
+                    .willReturn(Optional.of(week));
+
+            // When
+            Optional<UserPercentiles> percentiles = percentileService.lookup(USER_ID, TODAY);
+
+            // Then - 집중: 0초, 10분 2명 / 4명, 완료율: 50% 2명 / 3명
+            assertThat(percentiles).isPresent();
+            assertThat(percentiles.get().focusTime()).isEqualTo(0.5);
+            assertThat(percentiles.get().completionRate()).isEqualTo(2.0 / 3);
+        }
+
+        @Test
+        @DisplayName("성공: 이번 주 기록이 없으면 집중 시간 0 기준, 완료율은 null")
+        void should_TreatAsZero_When_NoWeeklyRow() {
+            // Given
+            percentileService.publish(snapshot(WEEK_START, BUILT_AT));
+            given(weeklyStatisticsRepository.findByUserIdAndWeekStart(USER_ID, WEEK_START))
+                    .willReturn(Optional.empty());
+
+            // When
+            Optional<UserPercentiles> percentiles = percentileService.lookup(USER_ID, TODAY);
+
+            // Then
+            assertThat(percentiles).contains(new UserPercentiles(0.0, null));
+        }
+
+        @Test
+        @DisplayName("성공: 이번 주 스냅샷이 생겨도 아직 지난 주인 시간대 사용자는 지난 주 스냅샷으로 조회한다")
+        void should_UsePreviousWeek_When_UserStillInPreviousWeek() {
+            // Given - 지난 주 일요일인 사용자
+            LocalDate previousWeekStart = WEEK_START.minusWeeks(1);
+            percentileService.publish(snapshot(previousWeekStart, BUILT_AT));
+            percentileService.publish(snapshot(WEEK_START, BUILT_AT));
+            given(weeklyStatisticsRepository.findByUserIdAndWeekStart(USER_ID, previousWeekStart))
+                    .willReturn(Optional.empty());
+
+            // When
+            Optional<UserPercentiles> percentiles = percentileService.lookup(USER_ID, WEEK_START.minusDays(1));
+
+            // Then
+            assertThat(percentiles).contains(new UserPercentiles(0.0, null));
+        }
+
+        @Test
+        @DisplayName("성공: 최근 두 주보다 오래된 스냅샷은 버린다")
+        void should_DropOldWeek_When_NewerWeeksPublished() {
+            // Given
+            percentileService.publish(snapshot(WEEK_START.minusWeeks(1), BUILT_AT));
+            percentileService.publish(snapshot(WEEK_START, BUILT_AT));
+
+            // When
+            percentileService.publish(snapshot(WEEK_START.plusWeeks(1), BUILT_AT));
+
+            // Then
+            assertThat(percentileService.lookup(USER_ID, WEEK_START.minusDays(1))).isEmpty();
+            verifyNoInteractions(weeklyStatisticsRepository);
+        }
+
+        @Test
+        @DisplayName("성공: 스냅샷이 없거나 다른 주면 조회하지 않는다")
+        void should_ReturnEmpty_When_NoSnapshotOrOtherWeek() {
+            // When & Then
+            assertThat(percentileService.lookup(USER_ID, TODAY)).isEmpty();
+
+            percentileService.publish(snapshot(WEEK_START.minusWeeks(1), BUILT_AT));
+            assertThat(percentileService.lookup(USER_ID, TODAY)).isEmpty();
+            verifyNoInteractions(weeklyStatisticsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 전파")
+    class Broadcast {
+
+        @Test
+        @DisplayName("성공: 재생성한 스냅샷을 Redis에 저장하고 전파한다")
+        void should_SaveAndPublish_When_Published() {
+            // When
+            percentileService.publish(snapshot(WEEK_START, BUILT_AT));
+
+            // Then
+            verify(percentileSnapshotRepository).saveAndPublish(eq(WEEK_START), anyString(), eq(Duration.ofDays(8)));
+        }
+
+        @Test
+        @DisplayName("성공: 같은 주의 더 오래된 스냅샷을 수신하면 무시한다")
+        void should_KeepNewer_When_OlderSnapshotReceived() throws Exception {
+            // Given - 더 오래된 스냅샷은 0초 사용자 1명뿐인 분포
+            percentileService.publish(snapshot(WEEK_START, BUILT_AT));
+            String older = objectMapper.writeValueAsString(new PercentileSnapshot.Builder(WEEK_START)
+                    .add(0, 0, 0)
+                    .build(BUILT_AT.minusSeconds(600)));
+            WeeklyStatistics week = week(0, 0, 3600);
+            given(weeklyStatisticsRepository.findByUserIdAndWeekStart(USER_ID, WEEK_START))
+                    .willReturn(Optional.of(week));
+
+            // When
+            percentileService.onMessage(new DefaultMessage(
+                    "stats_percentile".getBytes(StandardCharsets.UTF_8), older.getBytes(StandardCharsets.UTF_8)), null);
+
+            // Then - 기존 분포 기준: 0초, 10분 2명 / 4명
+            assertThat(percentileService.lookup(USER_ID, TODAY).map(UserPercentiles::focusTime)).contains(0.5);
+        }
+
+        @Test
+        @DisplayName("실패: 기동 시 Redis 장애는 예외를 전파하지 않는다")
+        void should_SwallowException_When_LoadFails() {
+            // Given
+            given(percentileSnapshotRepository.findAll(any())).willThrow(new QueryTimeoutException("timeout"));
+
+            // When & Then
+            assertThatCode(() -> percentileService.loadLatest()).doesNotThrowAnyException();
+            assertThat(percentileService.lookup(USER_ID, TODAY)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("PercentileSnapshot 버킷")
+    class Buckets {
+
+        @Test
+        @DisplayName("집중 시간은 1분부터 로그 스케일, 주 최대치도 범위 안에 들어간다")
+        void should_UseLogScaleBuckets_When_FocusTime() {
+            // When & Then
+            assertThat(PercentileSnapshot.focusBucket(0)).isZero();
+            assertThat(PercentileSnapshot.focusBucket(59)).isEqualTo(1);
+            assertThat(PercentileSnapshot.focusBucket(60)).isEqualTo(2);
+            assertThat(PercentileSnapshot.focusBucket(120)).isEqualTo(10);
+            assertThat(PercentileSnapshot.focusBucket(7 * 24 * 3600))
+                    .isLessThan(PercentileSnapshot.FOCUS_BUCKETS - 1);
+            assertThat(PercentileSnapshot.rateBucket(1.0)).isEqualTo(100);
+            assertThat(PercentileSnapshot.rateBucket(0.289)).isEqualTo(28);
+        }
+    }
+}
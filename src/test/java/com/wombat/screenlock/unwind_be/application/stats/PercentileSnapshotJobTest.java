@@ -0,0 +1,111 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyTotalsRow;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.PercentileSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * PercentileSnapshotJob 단위 테스트
+ *
+ * <p>주간 롤업 Keyset 순회, 히스토그램 생성, 재생성 노드 선출을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PercentileSnapshotJob 테스트")
+class PercentileSnapshotJobTest {
+
+    // 2026-02-16 (월) 08:00 KST, 서쪽 시간대는 아직 2026-02-15 (일)
+    private static final Instant NOW = Instant.parse("2026-02-15T23:00:00Z");
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 2, 16);
+    private static final LocalDate PREVIOUS_WEEK_START = LocalDate.of(2026, 2, 9);
+    private static final Duration INTERVAL = Duration.ofMinutes(10);
+
+    @Mock
+    private WeeklyStatisticsRepository weeklyStatisticsRepository;
+
+    @Mock
+    private PercentileSnapshotRepository percentileSnapshotRepository;
+
+    @Mock
+    private PercentileService percentileService;
+
+    private PercentileSnapshotJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new PercentileSnapshotJob(weeklyStatisticsRepository, percentileSnapshotRepository, percentileService,
+                2, INTERVAL, Clock.fixed(NOW, ZoneId.of("Asia/Seoul")));
+    }
+
+    @Nested
+    @DisplayName("rebuild 메서드")
+    class Rebuild {
+
+        @Test
+        @DisplayName("성공: 주 경계 부근이면 진행 중인 지난 주와 이번 주 롤업을 페이지 단위로 읽어 각각 누적 분포를 만든다")
+        void should_BuildCumulativeHistogram_When_Rebuild() {
+            // Given
+            given(weeklyStatisticsRepository.findWeekTotalsAfter(PREVIOUS_WEEK_START, 0L, PageRequest.of(0, 2)))
+                    .willReturn(List.of(new WeeklyTotalsRow(1L, 1, 1, 600)));
+            given(weeklyStatisticsRepository.findWeekTotalsAfter(WEEK_START, 0L, PageRequest.of(0, 2)))
+                    .willReturn(List.of(new WeeklyTotalsRow(3L, 0, 0, 0), new WeeklyTotalsRow(7L, 2, 1, 1800)));
+            given(weeklyStatisticsRepository.findWeekTotalsAfter(WEEK_START, 7L, PageRequest.of(0, 2)))
+                    .willReturn(List.of(new WeeklyTotalsRow(9L, 1, 1, 7200)));
+
+            // When
+            List<PercentileSnapshot> snapshots = job.rebuild();
+
+            // Then
+            assertThat(snapshots).extracting(PercentileSnapshot::weekStart)
+                    .containsExactly(PREVIOUS_WEEK_START, WEEK_START);
+            assertThat(snapshots.get(0).focusBelow()[PercentileSnapshot.FOCUS_BUCKETS]).isEqualTo(1);
+            PercentileSnapshot snapshot = snapshots.get(1);
+            assertThat(snapshot.builtAt()).isEqualTo(NOW);
+            assertThat(snapshot.focusBelow()[PercentileSnapshot.FOCUS_BUCKETS]).isEqualTo(3);
+            assertThat(snapshot.rateBelow()[PercentileSnapshot.RATE_BUCKETS]).isEqualTo(2);
+            assertThat(snapshot.focusPercentile(7200)).isEqualTo(2.0 / 3);
+            assertThat(snapshot.completionPercentile(1.0)).isEqualTo(0.5);
+            verify(percentileService).publish(snapshots.get(0));
+            verify(percentileService).publish(snapshot);
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuildSafely 메서드")
+    class RebuildSafely {
+
+        @Test
+        @DisplayName("성공: 다른 노드가 재생성 권한을 가지면 건너뛴다")
+        void should_Skip_When_LockHeldElsewhere() {
+            // Given
+            given(percentileSnapshotRepository.tryAcquireRebuild(anyString(), eq(INTERVAL))).willReturn(false);
+
+            // When
+            job.rebuildSafely();
+
+            // Then
+            verifyNoInteractions(weeklyStatisticsRepository, percentileService);
+        }
+    }
+}
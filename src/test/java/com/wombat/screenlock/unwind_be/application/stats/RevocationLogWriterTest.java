@@ -0,0 +1,161 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * RevocationLogWriter 단위 테스트
+ *
+ * <p>JdbcTemplate을 Mocking하고 큐 적재, 배치 분할, 실패 시 재적재를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RevocationLogWriter 테스트")
+class RevocationLogWriterTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2026, 2, 12);
+    private static final Instant REVOKED_AT = Instant.parse("2026-02-12T05:30:00Z");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RevocationLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        // 큐 3건, 배치 2건
+        writer = new RevocationLogWriter(jdbcTemplate, 3, 2);
+    }
+
+    private PermissionRevokedEvent event(long userId) {
+        return new PermissionRevokedEvent(userId, TEST_DATE, "사유 " + userId, REVOKED_AT);
+    }
+
+    @Nested
+    @DisplayName("onPermissionRevoked 메서드")
+    class OnPermissionRevoked {
+
+        @Test
+        @DisplayName("성공: 큐에 여유가 있으면 INSERT 없이 적재만 한다")
+        void should_Enqueue_When_QueueHasRoom() {
+            // When
+            writer.onPermissionRevoked(event(1L));
+
+            // Then
+            assertThat(writer.pending()).isEqualTo(1);
+            verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyCollection(), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class));
+        }
+
+        @Test
+        @DisplayName("성공: 큐가 가득 차면 요청 스레드에서 바로 기록한다")
+        @SuppressWarnings("unchecked")
+        void should_InsertImmediately_When_QueueFull() {
+            // Given
+            writer.onPermissionRevoked(event(1L));
+            writer.onPermissionRevoked(event(2L));
+            writer.onPermissionRevoked(event(3L));
+
+            // When
+            writer.onPermissionRevoked(event(4L));
+
+            // Then
+            ArgumentCaptor<Collection<PermissionRevokedEvent>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(jdbcTemplate).batchUpdate(eq(RevocationLogWriter.INSERT_SQL), captor.capture(), eq(1),
+                    any(ParameterizedPreparedStatementSetter.class));
+            assertThat(captor.getValue()).containsExactly(event(4L));
+            assertThat(writer.pending()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("flush 메서드")
+    class Flush {
+
+        @Test
+        @DisplayName("성공: batch-size 단위로 나누어 큐를 비운다")
+        void should_WriteInBatches_When_Flushed() {
+            // Given
+            writer.onPermissionRevoked(event(1L));
+            writer.onPermissionRevoked(event(2L));
+            writer.onPermissionRevoked(event(3L));
+
+            // When
+            int written = writer.flush();
+
+            // Then
+            assertThat(written).isEqualTo(3);
+            assertThat(writer.pending()).isZero();
+            verify(jdbcTemplate, times(2)).batchUpdate(eq(RevocationLogWriter.INSERT_SQL), anyCollection(),
+                    anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        }
+
+        @Test
+        @DisplayName("성공: 비어 있으면 INSERT하지 않는다")
+        void should_DoNothing_When_QueueEmpty() {
+            // When
+            int written = writer.flush();
+
+            // Then
+            assertThat(written).isZero();
+            verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyCollection(), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class));
+        }
+
+        @Test
+        @DisplayName("실패: INSERT 실패 시 다음 주기를 위해 큐에 다시 넣는다")
+        void should_Requeue_When_InsertFails() {
+            // Given
+            writer.onPermissionRevoked(event(1L));
+            writer.onPermissionRevoked(event(2L));
+            given(jdbcTemplate.batchUpdate(eq(RevocationLogWriter.INSERT_SQL), anyCollection(), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class)))
+                    .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+            // When
+            int written = writer.flush();
+
+            // Then
+            assertThat(written).isZero();
+            assertThat(writer.pending()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 종료 시 남은 로그를 기록한다")
+    void should_FlushRemaining_When_Shutdown() {
+        // Given
+        writer.onPermissionRevoked(event(1L));
+
+        // When
+        writer.shutdown();
+
+        // Then
+        assertThat(writer.pending()).isZero();
+        verify(jdbcTemplate).batchUpdate(eq(RevocationLogWriter.INSERT_SQL), eq(List.of(event(1L))), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+}
@@ -0,0 +1,130 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.schedule.dto.ScheduleStatsResponse;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.ScheduleStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.ScheduleStatsView;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+
+/**
+ * ScheduleStatsService 단위 테스트
+ *
+ * <p>ScheduleStatisticsRepository를 Mocking하고 스케줄별 누적, 계획 대비 실제 계산,
+ * 소유권 검증을 확인합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleStatsService 테스트")
+class ScheduleStatsServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long SCHEDULE_ID = 10L;
+    private static final String CLIENT_ID = "550e8400-e29b-41d4-a716-446655440000";
+
+    @Mock
+    private ScheduleStatisticsRepository scheduleStatisticsRepository;
+
+    @InjectMocks
+    private ScheduleStatsService scheduleStatsService;
+
+    @Nested
+    @DisplayName("apply 메서드")
+    class Apply {
+
+        @Test
+        @DisplayName("성공: clientId 오름차순으로 스케줄마다 UPSERT 1회")
+        void should_UpsertPerScheduleInOrder_When_Applied() {
+            // When
+            scheduleStatsService.apply(USER_ID, Map.of(
+                    "b-schedule", new DailyStatsDelta(2, 1, 2400, 0, false),
+                    "a-schedule", DailyStatsDelta.forceQuit()));
+
+            // Then
+            InOrder inOrder = inOrder(scheduleStatisticsRepository);
+            inOrder.verify(scheduleStatisticsRepository).upsertIncrement(USER_ID, "a-schedule", 0, 0, 0L, 1);
+            inOrder.verify(scheduleStatisticsRepository).upsertIncrement(USER_ID, "b-schedule", 2, 1, 2400L, 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("getScheduleStats 메서드")
+    class GetScheduleStats {
+
+        @Test
+        @DisplayName("성공: 계획 시간 대비 실제 집중 시간을 계산한다")
+        void should_ComparePlannedAndActual_When_StatsExist() {
+            // Given - 60분 계획, 4회 시도 중 3회 완료, 실제 3시간
+            given(scheduleStatisticsRepository.findViewByScheduleId(SCHEDULE_ID)).willReturn(Optional.of(
+                    new ScheduleStatsView(SCHEDULE_ID, CLIENT_ID, "아침 공부", 60, USER_ID, 4, 3, 10800L, 1)));
+
+            // When
+            ScheduleStatsResponse response = scheduleStatsService.getScheduleStats(SCHEDULE_ID, USER_ID);
+
+            // Then
+            assertThat(response.plannedDuration()).isEqualTo(60);
+            assertThat(response.completionRate()).isEqualTo(0.75);
+            assertThat(response.plannedFocusTime()).isEqualTo(14400L);
+            assertThat(response.averageFocusTime()).isEqualTo(2700L);
+            assertThat(response.focusTimeRatio()).isEqualTo(0.75);
+            assertThat(response.forceQuitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 기록이 없으면 비율은 0이다")
+        void should_ReturnZeroRates_When_NoAttempts() {
+            // Given
+            given(scheduleStatisticsRepository.findViewByScheduleId(SCHEDULE_ID)).willReturn(Optional.of(
+                    new ScheduleStatsView(SCHEDULE_ID, CLIENT_ID, "아침 공부", 60, USER_ID, 0, 0, 0L, 0)));
+
+            // When
+            ScheduleStatsResponse response = scheduleStatsService.getScheduleStats(SCHEDULE_ID, USER_ID);
+
+            // Then
+            assertThat(response.completionRate()).isZero();
+            assertThat(response.focusTimeRatio()).isZero();
+            assertThat(response.averageFocusTime()).isZero();
+        }
+
+        @Test
+        @DisplayName("실패: 스케줄이 없으면 SCHEDULE_NOT_FOUND")
+        void should_ThrowNotFound_When_ScheduleMissing() {
+            // Given
+            given(scheduleStatisticsRepository.findViewByScheduleId(SCHEDULE_ID)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> scheduleStatsService.getScheduleStats(SCHEDULE_ID, USER_ID))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.SCHEDULE_NOT_FOUND));
+        }
+
+        @Test
+        @DisplayName("실패: 타인의 스케줄이면 SCHEDULE_ACCESS_DENIED")
+        void should_ThrowAccessDenied_When_NotOwner() {
+            // Given
+            given(scheduleStatisticsRepository.findViewByScheduleId(SCHEDULE_ID)).willReturn(Optional.of(
+                    new ScheduleStatsView(SCHEDULE_ID, CLIENT_ID, "아침 공부", 60, 99L, 1, 1, 3600L, 0)));
+
+            // When & Then
+            assertThatThrownBy(() -> scheduleStatsService.getScheduleStats(SCHEDULE_ID, USER_ID))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.SCHEDULE_ACCESS_DENIED));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.infrastructure.cache.RotatingBloomFilter;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.ProcessedEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * StatsEventDeduplicator 단위 테스트
+ *
+ * <p>Redis 선점 결과, 장애 시 로컬 Bloom 필터 판정, 롤백 시 선점 해제와 메트릭을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatsEventDeduplicator 테스트")
+class StatsEventDeduplicatorTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String EVENT_ID = "9b2f6c1e-4a5d-4e8b-9c3a-1f2e3d4c5b6a";
+    private static final Duration WINDOW = Duration.ofHours(72);
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    private MeterRegistry meterRegistry;
+    private StatsEventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new StatsEventDeduplicator(processedEventRepository, meterRegistry, WINDOW,
+                new RotatingBloomFilter(1000, 0.001, WINDOW, Clock.systemUTC()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(StatsEventDeduplicator.METRIC_NAME, "result", result).count();
+    }
+
+    @Nested
+    @DisplayName("tryClaim 메서드")
+    class TryClaim {
+
+        @Test
+        @DisplayName("성공: 처음 도착한 이벤트는 반영 대상이다")
+        void should_Accept_When_FirstDelivery() {
+            // Given
+            given(processedEventRepository.claim(USER_ID, EVENT_ID, WINDOW)).willReturn(true);
+
+            // When & Then
+            assertThat(deduplicator.tryClaim(USER_ID, EVENT_ID)).isTrue();
+            assertThat(count("accepted")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공: 이미 선점된 이벤트는 중복으로 거부한다")
+        void should_Reject_When_AlreadyClaimed() {
+            // Given
+            given(processedEventRepository.claim(USER_ID, EVENT_ID, WINDOW)).willReturn(false);
+
+            // When & Then
+            assertThat(deduplicator.tryClaim(USER_ID, EVENT_ID)).isFalse();
+            assertThat(count("duplicate")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공: eventId가 없으면 Redis 조회 없이 반영한다")
+        void should_AcceptWithoutRedis_When_EventIdMissing() {
+            // When & Then
+            assertThat(deduplicator.tryClaim(USER_ID, null)).isTrue();
+            assertThat(deduplicator.tryClaim(USER_ID, " ")).isTrue();
+            assertThat(count("untracked")).isEqualTo(2.0);
+            verifyNoInteractions(processedEventRepository);
+        }
+
+        @Test
+        @DisplayName("성공: Redis 장애 시 로컬 필터로 판정한다")
+        void should_UseLocalFilter_When_RedisUnavailable() {
+            // Given
+            given(processedEventRepository.claim(anyLong(), anyString(), any()))
+                    .willThrow(new RedisConnectionFailureException("connection refused"));
+
+            // When
+            boolean first = deduplicator.tryClaim(USER_ID, EVENT_ID);
+            boolean second = deduplicator.tryClaim(USER_ID, EVENT_ID);
+
+            // Then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(meterRegistry.counter(StatsEventDeduplicator.FALLBACK_METRIC_NAME).count()).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 연동")
+    class TransactionBinding {
+
+        @Test
+        @DisplayName("성공: 반영 트랜잭션이 롤백되면 선점을 해제한다")
+        void should_Release_When_RolledBack() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            given(processedEventRepository.claim(USER_ID, EVENT_ID, WINDOW)).willReturn(true);
+            deduplicator.tryClaim(USER_ID, EVENT_ID);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            verify(processedEventRepository).release(USER_ID, EVENT_ID);
+        }
+
+        @Test
+        @DisplayName("성공: 커밋되면 선점을 유지한다")
+        void should_KeepClaim_When_Committed() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            given(processedEventRepository.claim(USER_ID, EVENT_ID, WINDOW)).willReturn(true);
+            deduplicator.tryClaim(USER_ID, EVENT_ID);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // Then
+            verify(processedEventRepository, never()).release(any(), any());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.ExportFormat;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.infrastructure.archive.DailyStatisticsArchive;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * StatsExportService 단위 테스트
+ * 
+ * <p>대용량 이력에서도 행을 모아두지 않고 읽는 즉시 출력하는지(메모리 일정) 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatsExportService 테스트")
+class StatsExportServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 1, 31);
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private UserZoneResolver userZoneResolver;
+
+    @Mock
+    private DailyStatisticsArchive dailyStatisticsArchive;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EntityManager entityManager;
+    private AtomicLong detachCount;
+    private StatsExportService statsExportService;
+
+    @BeforeEach
+    void setUp() {
+        // 호출 이력을 기록하지 않는 Mock (대용량 테스트에서 엔티티 참조를 붙잡지 않도록)
+        entityManager = mock(EntityManager.class, withSettings().stubOnly());
+        detachCount = new AtomicLong();
+        doAnswer(invocation -> detachCount.incrementAndGet()).when(entityManager).detach(any());
+        statsExportService = new StatsExportService(
+                dailyStatisticsRepository, userZoneResolver, dailyStatisticsArchive, entityManager, transactionManager);
+    }
+
+    @Nested
+    @DisplayName("export 메서드")
+    class Export {
+
+        @Test
+        @DisplayName("대용량 이력 - 읽은 행을 쌓아두지 않고 일정한 지연으로 출력")
+        void should_StreamWithBoundedLag_When_LargeDataset() throws Exception {
+            // Given - 100만 행을 지연 생성 (리스트로 만들지 않음)
+            int rowCount = 1_000_000;
+            LineCountingOutputStream out = new LineCountingOutputStream();
+            AtomicLong generated = new AtomicLong();
+            AtomicLong maxLag = new AtomicLong();
+            LocalDate start = LocalDate.of(1000, 1, 1);
+
+            Stream<DailyStatistics> rows = Stream.iterate(0, i -> i < rowCount, i -> i + 1)
+                    .map(i -> {
+                        // 생성된 행 수 - 응답에 도달한 행 수 = 메모리에 머무는 행 수
+                        long lag = generated.incrementAndGet() - out.lines;
+                        maxLag.accumulateAndGet(lag, Math::max);
+                        return row(start.plusDays(i), i % 2 == 0);
+                    });
+            given(dailyStatisticsRepository.streamByUserIdAndDateBetweenOrderByDateAsc(USER_ID, FROM, TO))
+                    .willReturn(rows);
+
+            // When
+            statsExportService.export(USER_ID, ExportFormat.CSV, FROM, TO).writeTo(out);
+
+            // Then - 헤더 + 전체 행, 출력 버퍼(8K 문자)를 넘는 적재 없음, 행마다 detach
+            assertThat(out.lines).isEqualTo(rowCount + 1L);
+            assertThat(maxLag.get()).isLessThan(1_000);
+            assertThat(detachCount.get()).isEqualTo(rowCount);
+        }
+
+        @Test
+        @DisplayName("NDJSON - 한 줄에 일별 통계 JSON 1개")
+        void should_WriteJsonLines_When_Ndjson() throws Exception {
+            // Given
+            given(dailyStatisticsRepository.streamByUserIdAndDateBetweenOrderByDateAsc(USER_ID, FROM, TO))
+                    .willReturn(Stream.of(row(LocalDate.of(2026, 1, 5), true), row(LocalDate.of(2026, 1, 6), false)));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            statsExportService.export(USER_ID, ExportFormat.NDJSON, FROM, TO).writeTo(out);
+
+            // Then
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                    "{\"date\":\"2026-01-05\",\"totalSchedules\":1,\"completedSchedules\":1,\"totalFocusTime\":60,"
+                            + "\"forceQuitCount\":0,\"allInModeUsed\":false,\"status\":\"SUCCESS\"}\n"
+                            + "{\"date\":\"2026-01-06\",\"totalSchedules\":1,\"completedSchedules\":0,\"totalFocusTime\":60,"
+                            + "\"forceQuitCount\":0,\"allInModeUsed\":false,\"status\":\"IN_PROGRESS\"}\n");
+        }
+
+        @Test
+        @DisplayName("기간 미입력 - 2000-01-01 ~ 사용자 시간대 기준 오늘")
+        void should_UseDefaultRange_When_NoDates() throws Exception {
+            // Given
+            LocalDate today = LocalDate.of(2026, 2, 12);
+            given(userZoneResolver.today(USER_ID)).willReturn(today);
+            given(dailyStatisticsRepository.streamByUserIdAndDateBetweenOrderByDateAsc(
+                    USER_ID, StatsExportService.MIN_DATE, today)).willReturn(Stream.empty());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            statsExportService.export(USER_ID, ExportFormat.CSV, null, null).writeTo(out);
+
+            // Then - 헤더만 출력
+            assertThat(out.toString(StandardCharsets.UTF_8)).startsWith("date,").hasLineCount(1);
+        }
+
+        @Test
+        @DisplayName("from > to - INVALID_INPUT, 스트리밍 시작 전 실패")
+        void should_ThrowException_When_InvalidRange() {
+            assertThatThrownBy(() -> statsExportService.export(USER_ID, ExportFormat.CSV, TO, FROM))
+                    .isInstanceOf(BusinessException.class);
+            verifyNoInteractions(dailyStatisticsRepository);
+        }
+    }
+
+    private DailyStatistics row(LocalDate date, boolean completed) {
+        DailyStatistics row = DailyStatistics.builder().date(date).build();
+        row.recordCompletion(completed, 60, false);
+        return row;
+    }
+
+    /**
+     * 내용을 보관하지 않고 줄 수만 세는 OutputStream
+     */
+    private static class LineCountingOutputStream extends OutputStream {
+
+        private volatile long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
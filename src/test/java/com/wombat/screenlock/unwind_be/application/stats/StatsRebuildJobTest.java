@@ -0,0 +1,193 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.StatsRebuildCheckpoint;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.UserStreakState;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.StatsRebuildCheckpointRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.UserStreakStateRepository;
+import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * StatsRebuildJob 단위 테스트
+ *
+ * <p>Repository와 JdbcTemplate을 Mocking하고 파티션 분할, dry-run 차이 집계,
+ * JDBC 배치 교체, 체크포인트 재개를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatsRebuildJob 테스트")
+class StatsRebuildJobTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate SUCCESS_DATE = LocalDate.of(2026, 2, 10);
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-02-12T15:00:00Z"), ZoneOffset.UTC);
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private UserStreakStateRepository userStreakStateRepository;
+
+    @Mock
+    private StatsRebuildCheckpointRepository checkpointRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StatsRebuildJob job(String runId, boolean dryRun) {
+        return new StatsRebuildJob(userRepository, dailyStatisticsRepository, userStreakStateRepository,
+                checkpointRepository, jdbcTemplate, eventPublisher, transactionManager,
+                null, new StatsRebuildJob.Options(runId, dryRun, false, 1, CHUNK_SIZE, 0, 20), false, FIXED_CLOCK);
+    }
+
+    private List<DailyStatisticsView> successHistory() {
+        return List.of(new DailyStatisticsView(SUCCESS_DATE, 2, 2, 3600, 0, DailyStatus.SUCCESS));
+    }
+
+    private void givenNewRunWithSingleUser(String runId) {
+        given(checkpointRepository.findByRunIdOrderByPartitionNoAsc(runId)).willReturn(List.of());
+        given(userRepository.findMaxId()).willReturn(USER_ID);
+        given(checkpointRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(checkpointRepository.save(any(StatsRebuildCheckpoint.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(userRepository.findIdsBetween(0L, USER_ID, PageRequest.of(0, CHUNK_SIZE))).willReturn(List.of(USER_ID));
+        given(dailyStatisticsRepository.findViewsByUserIdOrderByDateAsc(USER_ID)).willReturn(successHistory());
+    }
+
+    @Nested
+    @DisplayName("rebuildAll 메서드")
+    class RebuildAll {
+
+        @Test
+        @DisplayName("성공: dry-run이면 차이만 집계하고 쓰거나 이벤트를 발행하지 않는다")
+        void should_CountDiffsWithoutWriting_When_DryRun() {
+            // Given - 롤업/스트릭이 비어 있는 사용자
+            givenNewRunWithSingleUser("20260212-150000-dry");
+            given(userStreakStateRepository.findAllById(List.of(USER_ID))).willReturn(List.of());
+
+            // When
+            StatsRebuildReport report = job("", true).rebuildAll();
+
+            // Then
+            assertThat(report).isEqualTo(new StatsRebuildReport(1, 1, 1, 1, 1, 1, 0));
+            verify(userStreakStateRepository, never()).findByUserIdInForUpdate(any());
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("성공: 차이가 있는 사용자의 스트릭을 재계산하고 롤업을 JDBC 배치로 교체한다")
+        @SuppressWarnings("unchecked")
+        void should_ReplaceWithJdbcBatch_When_Differs() {
+            // Given
+            givenNewRunWithSingleUser("run-1");
+            UserStreakState state = UserStreakState.fromHistory(USER_ID, List.of());
+            given(userStreakStateRepository.findByUserIdInForUpdate(List.of(USER_ID))).willReturn(List.of(state));
+
+            // When
+            StatsRebuildReport report = job("run-1", false).rebuildAll();
+
+            // Then
+            assertThat(report.changedUsers()).isEqualTo(1);
+            assertThat(state.getLongestStreak()).isEqualTo(1);
+            assertThat(state.getLastSuccessDate()).isEqualTo(SUCCESS_DATE);
+            verify(jdbcTemplate).batchUpdate(eq(StatsRebuildJob.INSERT_STREAK_SQL), eq(List.of(USER_ID)), eq(1),
+                    any(ParameterizedPreparedStatementSetter.class));
+            verify(jdbcTemplate, times(3)).batchUpdate(startsWith("DELETE FROM"), eq(List.of(USER_ID)), eq(1),
+                    any(ParameterizedPreparedStatementSetter.class));
+            verify(jdbcTemplate, times(3)).batchUpdate(matches("INSERT INTO (weekly|monthly|cumulative)_statistics .*"),
+                    anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+            verify(eventPublisher).publishEvent(new StatsUpdatedEvent(USER_ID, Map.of(SUCCESS_DATE, DailyStatus.SUCCESS)));
+            verify(transactionManager, atLeastOnce()).getTransaction(argThat(definition ->
+                    definition.getIsolationLevel() == TransactionDefinition.ISOLATION_READ_COMMITTED));
+        }
+
+        @Test
+        @DisplayName("성공: 같은 run-id면 끝나지 않은 파티션만 체크포인트 다음 사용자부터 재개한다")
+        void should_ResumePendingPartitions_When_RunIdExists() {
+            // Given
+            StatsRebuildCheckpoint done = StatsRebuildCheckpoint.start("run-1", 0, 0L, 5L, false);
+            done.advance(5L, true, 5, 0);
+            StatsRebuildCheckpoint pending = StatsRebuildCheckpoint.start("run-1", 1, 5L, 10L, false);
+            pending.advance(7L, false, 2, 0);
+            given(checkpointRepository.findByRunIdOrderByPartitionNoAsc("run-1")).willReturn(List.of(done, pending));
+            given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+            given(userRepository.findIdsBetween(7L, 10L, PageRequest.of(0, CHUNK_SIZE))).willReturn(List.of());
+            given(checkpointRepository.save(pending)).willReturn(pending);
+
+            // When
+            StatsRebuildReport report = job("run-1", false).rebuildAll();
+
+            // Then
+            assertThat(report).isEqualTo(StatsRebuildReport.empty());
+            assertThat(pending.getCompleted()).isTrue();
+            assertThat(pending.getScannedUsers()).isEqualTo(2L);
+            verify(userRepository, never()).findMaxId();
+            verify(userRepository, never()).findIdsBetween(eq(0L), any(), any());
+        }
+
+        @Test
+        @DisplayName("실패: dry-run 여부가 다른 실행 ID는 재개하지 않는다")
+        void should_Abort_When_DryRunMismatch() {
+            // Given
+            given(checkpointRepository.findByRunIdOrderByPartitionNoAsc("run-1")).willReturn(List.of(
+                    StatsRebuildCheckpoint.start("run-1", 0, 0L, 10L, true)));
+
+            // When
+            StatsRebuildReport report = job("run-1", false).rebuildAll();
+
+            // Then
+            assertThat(report.succeeded()).isFalse();
+            verifyNoInteractions(userRepository, transactionManager, jdbcTemplate);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.RangeStatsResponse;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.CumulativeStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.CumulativeStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.MonthlyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+
+/**
+ * StatsRollupService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatsRollupService 단위 테스트")
+class StatsRollupServiceTest {
+
+    @Mock
+    private WeeklyStatisticsRepository weeklyStatisticsRepository;
+
+    @Mock
+    private MonthlyStatisticsRepository monthlyStatisticsRepository;
+
+    @Mock
+    private CumulativeStatisticsRepository cumulativeStatisticsRepository;
+
+    @InjectMocks
+    private StatsRollupService statsRollupService;
+
+    private static final Long USER_ID = 1L;
+    // 2026-02-09 (월) ~ 2026-02-15 (일)
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 2, 9);
+    private static final LocalDate MONTH_START = LocalDate.of(2026, 2, 1);
+
+    @Nested
+    @DisplayName("applyDaily 메서드")
+    class ApplyDaily {
+
+        @Test
+        @DisplayName("첫 완료로 SUCCESS 전환 - 성공 일수 +1")
+        void should_IncrementSuccessDays_When_BecameSuccess() {
+            // Given
+            LocalDate date = LocalDate.of(2026, 2, 12);
+            DailyStatisticsView after = new DailyStatisticsView(date, 1, 1, 1800, 0, DailyStatus.SUCCESS);
+
+            // When
+            statsRollupService.applyDaily(USER_ID, List.of(after),
+                    Map.of(date, DailyStatsDelta.completion(true, 1800, false)));
+
+            // Then
+            verify(weeklyStatisticsRepository).upsertIncrement(USER_ID, WEEK_START, 1, 1, 1800, 0, 1);
+            verify(monthlyStatisticsRepository).upsertIncrement(USER_ID, MONTH_START, 1, 1, 1800, 0, 1);
+        }
+
+        @Test
+        @DisplayName("SUCCESS 일에 강제 종료 - 성공 일수 -1")
+        void should_DecrementSuccessDays_When_SuccessBecameFailure() {
+            // Given
+            LocalDate date = LocalDate.of(2026, 2, 12);
+            DailyStatisticsView after = new DailyStatisticsView(date, 2, 2, 3600, 1, DailyStatus.FAILURE);
+
+            // When
+            statsRollupService.applyDaily(USER_ID, List.of(after), Map.of(date, DailyStatsDelta.forceQuit()));
+
+            // Then
+            verify(weeklyStatisticsRepository).upsertIncrement(USER_ID, WEEK_START, 0, 0, 0, 1, -1);
+            verify(monthlyStatisticsRepository).upsertIncrement(USER_ID, MONTH_START, 0, 0, 0, 1, -1);
+        }
+
+        @Test
+        @DisplayName("여러 날짜 - 주/월 단위로 합산하여 주간 → 월간 오름차순 UPSERT")
+        void should_MergePerPeriodInLockOrder_When_MultipleDates() {
+            // Given - 2026-02-01 (일)은 이전 주, 2026-01-31은 이전 월
+            LocalDate jan31 = LocalDate.of(2026, 1, 31);
+            LocalDate feb1 = LocalDate.of(2026, 2, 1);
+            LocalDate feb2 = LocalDate.of(2026, 2, 2);
+            DailyStatsDelta delta = DailyStatsDelta.completion(true, 600, false);
+
+            // When
+            statsRollupService.applyDaily(USER_ID, List.of(
+                    new DailyStatisticsView(jan31, 1, 1, 600, 0, DailyStatus.SUCCESS),
+                    new DailyStatisticsView(feb1, 1, 1, 600, 0, DailyStatus.SUCCESS),
+                    new DailyStatisticsView(feb2, 1, 1, 600, 0, DailyStatus.SUCCESS)),
+                    Map.of(jan31, delta, feb1, delta, feb2, delta));
+
+            // Then
+            InOrder order = inOrder(weeklyStatisticsRepository, monthlyStatisticsRepository);
+            order.verify(weeklyStatisticsRepository).upsertIncrement(USER_ID, LocalDate.of(2026, 1, 26), 2, 2, 1200, 0, 2);
+            order.verify(weeklyStatisticsRepository).upsertIncrement(USER_ID, feb2, 1, 1, 600, 0, 1);
+            order.verify(monthlyStatisticsRepository).upsertIncrement(USER_ID, LocalDate.of(2026, 1, 1), 1, 1, 600, 0, 1);
+            order.verify(monthlyStatisticsRepository).upsertIncrement(USER_ID, MONTH_START, 2, 2, 1200, 0, 2);
+        }
+
+        @Test
+        @DisplayName("누적 합계 - 날짜 오름차순으로 직전 누적 복사 후 해당 날짜 이후 행에 증분")
+        void should_PropagateSuffixInDateOrder_When_CumulativeUpdated() {
+            // Given - 늦게 도착한 2/10 미완료 기록(SUCCESS → WARNING)과 오늘(2/12) 기록
+            LocalDate feb10 = LocalDate.of(2026, 2, 10);
+            LocalDate feb12 = LocalDate.of(2026, 2, 12);
+
+            // When
+            statsRollupService.applyDaily(USER_ID, List.of(
+                    new DailyStatisticsView(feb12, 1, 1, 600, 0, DailyStatus.SUCCESS),
+                    new DailyStatisticsView(feb10, 2, 1, 900, 0, DailyStatus.WARNING)),
+                    Map.of(feb12, DailyStatsDelta.completion(true, 600, false),
+                            feb10, DailyStatsDelta.completion(false, 300, false)));
+
+            // Then
+            InOrder order = inOrder(cumulativeStatisticsRepository);
+            order.verify(cumulativeStatisticsRepository).insertCarryForward(USER_ID, feb10);
+            order.verify(cumulativeStatisticsRepository).incrementFrom(USER_ID, feb10, 1, 0, 300L, 0, -1);
+            order.verify(cumulativeStatisticsRepository).insertCarryForward(USER_ID, feb12);
+            order.verify(cumulativeStatisticsRepository).incrementFrom(USER_ID, feb12, 1, 1, 600L, 0, 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("getRange 메서드")
+    class GetRange {
+
+        private final LocalDate from = LocalDate.of(2026, 1, 1);
+        private final LocalDate to = LocalDate.of(2026, 3, 31);
+
+        @Test
+        @DisplayName("기간 합계 = to까지의 누적 - from 전날까지의 누적")
+        void should_SubtractTwoPrefixes_When_RangeRequested() {
+            // Given
+            given(cumulativeStatisticsRepository.findFirstByUserIdAndDateLessThanEqualOrderByDateDesc(USER_ID, to))
+                    .willReturn(Optional.of(CumulativeStatistics.of(USER_ID, LocalDate.of(2026, 3, 30),
+                            50, 40, 90000L, 3, 30)));
+            given(cumulativeStatisticsRepository.findFirstByUserIdAndDateLessThanEqualOrderByDateDesc(
+                    USER_ID, LocalDate.of(2025, 12, 31)))
+                    .willReturn(Optional.of(CumulativeStatistics.of(USER_ID, LocalDate.of(2025, 12, 28),
+                            10, 8, 18000L, 1, 6)));
+
+            // When
+            RangeStatsResponse response = statsRollupService.getRange(USER_ID, from, to);
+
+            // Then
+            assertThat(response.totalSchedules()).isEqualTo(40);
+            assertThat(response.completedSchedules()).isEqualTo(32);
+            assertThat(response.completionRate()).isEqualTo(0.8);
+            assertThat(response.totalFocusTime()).isEqualTo(72000L);
+            assertThat(response.forceQuitCount()).isEqualTo(2);
+            assertThat(response.successDays()).isEqualTo(24);
+        }
+
+        @Test
+        @DisplayName("기간 이전 기록이 없으면 to까지의 누적 그대로")
+        void should_ReturnPrefix_When_NoRecordBeforeRange() {
+            // Given
+            given(cumulativeStatisticsRepository.findFirstByUserIdAndDateLessThanEqualOrderByDateDesc(USER_ID, to))
+                    .willReturn(Optional.of(CumulativeStatistics.of(USER_ID, LocalDate.of(2026, 2, 1),
+                            5, 5, 3000L, 0, 3)));
+            given(cumulativeStatisticsRepository.findFirstByUserIdAndDateLessThanEqualOrderByDateDesc(
+                    USER_ID, LocalDate.of(2025, 12, 31))).willReturn(Optional.empty());
+
+            // When
+            RangeStatsResponse response = statsRollupService.getRange(USER_ID, from, to);
+
+            // Then
+            assertThat(response.totalSchedules()).isEqualTo(5);
+            assertThat(response.successDays()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("to까지 기록이 없으면 0")
+        void should_ReturnEmpty_When_NoRecord() {
+            // Given
+            given(cumulativeStatisticsRepository.findFirstByUserIdAndDateLessThanEqualOrderByDateDesc(USER_ID, to))
+                    .willReturn(Optional.empty());
+
+            // When
+            RangeStatsResponse response = statsRollupService.getRange(USER_ID, from, to);
+
+            // Then
+            assertThat(response.totalSchedules()).isZero();
+            assertThat(response.completionRate()).isZero();
+        }
+
+        @Test
+        @DisplayName("시작일이 종료일보다 늦으면 INVALID_INPUT")
+        void should_ThrowInvalidInput_When_FromAfterTo() {
+            // When & Then
+            assertThatThrownBy(() -> statsRollupService.getRange(USER_ID, to, from))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_INPUT));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.CompletionRequest;
+import com.wombat.screenlock.unwind_be.api.stats.dto.ForceQuitRequest;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.MonthlyStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.WeeklyStatistics;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.MonthlyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.UserStreakStateRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.WeeklyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.user.entity.User;
+import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StatsService 동시성 테스트
+ *
+ * <p>동일 userId + date에 대한 병렬 기록이 단일 SQL UPSERT로
+ * 누락 없이 누적되는지 검증합니다.</p>
+ *
+ * <h3>테스트 환경</h3>
+ * <ul>
+ *   <li>H2 인메모리 데이터베이스 (MODE=MySQL, ON DUPLICATE KEY UPDATE 지원)</li>
+ *   <li>@Transactional 미사용 - 각 요청이 실제로 별도 트랜잭션에서 커밋됨</li>
+ * </ul>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("StatsService 동시성 테스트")
+class StatsServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int REQUEST_COUNT = 300;
+    private static final int FOCUS_TIME = 60;
+    private static final LocalDate TEST_DATE = LocalDate.of(2026, 2, 12);
+    private static final String SCHEDULE_CLIENT_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Autowired
+    private UserStreakStateRepository userStreakStateRepository;
+
+    @Autowired
+    private WeeklyStatisticsRepository weeklyStatisticsRepository;
+
+    @Autowired
+    private MonthlyStatisticsRepository monthlyStatisticsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("concurrency@test.com")
+                .passwordHash("hashedPassword")
+                .build());
+        userId = user.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userStreakStateRepository.deleteAll();
+        weeklyStatisticsRepository.deleteAll();
+        monthlyStatisticsRepository.deleteAll();
+        dailyStatisticsRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("병렬 완료 기록 - 총합이 정확히 일치")
+    void should_AccumulateExactTotals_When_ParallelCompletions() throws Exception {
+        // Given - 짝수 번째 요청만 완료 처리
+        List<CompletionRequest> requests = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            requests.add(new CompletionRequest(SCHEDULE_CLIENT_ID, i % 2 == 0, FOCUS_TIME, false, TEST_DATE));
+        }
+
+        // When
+        runConcurrently(requests.stream()
+                .<Runnable>map(request -> () -> statsService.recordCompletion(request, userId))
+                .toList());
+
+        // Then
+        DailyStatisticsView result = dailyStatisticsRepository
+                .findViewByUserIdAndDate(userId, TEST_DATE)
+                .orElseThrow();
+
+        assertThat(dailyStatisticsRepository.count()).isEqualTo(1);
+        assertThat(result.totalSchedules()).isEqualTo(REQUEST_COUNT);
+        assertThat(result.completedSchedules()).isEqualTo(REQUEST_COUNT / 2);
+        assertThat(result.totalFocusTime()).isEqualTo(REQUEST_COUNT * FOCUS_TIME);
+        assertThat(result.status()).isEqualTo(DailyStatus.WARNING);
+    }
+
+    @Test
+    @DisplayName("병렬 완료 + 강제 종료 혼합 - 카운트 정확, 상태 FAILURE")
+    void should_AccumulateExactTotals_When_MixedWithForceQuit() throws Exception {
+        // Given - 2026-02-12 14:30 KST
+        Instant timestamp = Instant.parse("2026-02-12T05:30:00Z");
+        int forceQuits = REQUEST_COUNT / 10;
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            CompletionRequest request = new CompletionRequest(SCHEDULE_CLIENT_ID, true, FOCUS_TIME, false, TEST_DATE);
+            tasks.add(() -> statsService.recordCompletion(request, userId));
+        }
+        for (int i = 0; i < forceQuits; i++) {
+            tasks.add(() -> statsService.recordForceQuit(new ForceQuitRequest(timestamp), userId));
+        }
+
+        // When
+        runConcurrently(tasks);
+
+        // Then
+        DailyStatisticsView result = dailyStatisticsRepository
+                .findViewByUserIdAndDate(userId, TEST_DATE)
+                .orElseThrow();
+
+        assertThat(result.totalSchedules()).isEqualTo(REQUEST_COUNT);
+        assertThat(result.completedSchedules()).isEqualTo(REQUEST_COUNT);
+        assertThat(result.forceQuitCount()).isEqualTo(forceQuits);
+        assertThat(result.status()).isEqualTo(DailyStatus.FAILURE);
+
+        // 롤업도 같은 트랜잭션에서 누락 없이 누적, SUCCESS를 거쳤더라도 최종 성공 일수 0
+        WeeklyStatistics weekly = weeklyStatisticsRepository.findByUserIdAndWeekStartBetweenOrderByWeekStartAsc(
+                userId, TEST_DATE.minusDays(6), TEST_DATE).get(0);
+        assertThat(weekly.getTotalSchedules()).isEqualTo(REQUEST_COUNT);
+        assertThat(weekly.getTotalFocusTime()).isEqualTo(REQUEST_COUNT * FOCUS_TIME);
+        assertThat(weekly.getForceQuitCount()).isEqualTo(forceQuits);
+        assertThat(weekly.getSuccessDays()).isZero();
+
+        MonthlyStatistics monthly = monthlyStatisticsRepository.findByUserIdAndMonthStartBetweenOrderByMonthStartAsc(
+                userId, TEST_DATE.withDayOfMonth(1), TEST_DATE).get(0);
+        assertThat(monthly.getCompletedSchedules()).isEqualTo(REQUEST_COUNT);
+        assertThat(monthly.getSuccessDays()).isZero();
+    }
+
+    /**
+     * 모든 작업을 동시에 시작시키고 완료까지 대기 (예외 발생 시 전파)
+     */
+    private void runConcurrently(List<Runnable> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
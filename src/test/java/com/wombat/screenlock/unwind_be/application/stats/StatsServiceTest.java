@@ -1,13 +1,15 @@
 package com.wombat.screenlock.unwind_be.application.stats;
 
 import com.wombat.screenlock.unwind_be.api.stats.dto.*;
-import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatistics;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
 import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.UserStreakState;
 import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
-import com.wombat.screenlock.unwind_be.domain.user.entity.User;
-import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.StatsWindowTotals;
 import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
 import com.wombat.screenlock.unwind_be.global.exception.ErrorCode;
+import com.wombat.screenlock.unwind_be.infrastructure.archive.DailyStatisticsArchive;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,22 +18,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * StatsService 단위 테스트
@@ -53,7 +63,34 @@ class StatsServiceTest {
     private DailyStatisticsRepository dailyStatisticsRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private StreakService streakService;
+
+    @Mock
+    private StatsRollupService statsRollupService;
+
+    @Mock
+    private StatsSummaryCache statsSummaryCache;
+
+    @Mock
+    private UserZoneResolver userZoneResolver;
+
+    @Mock
+    private DailyStatisticsArchive dailyStatisticsArchive;
+
+    @Mock
+    private StatsEventDeduplicator statsEventDeduplicator;
+
+    @Mock
+    private FocusSessionService focusSessionService;
+
+    @Mock
+    private ScheduleStatsService scheduleStatsService;
+
+    @Mock
+    private PercentileService percentileService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private StatsService statsService;
@@ -61,17 +98,15 @@ class StatsServiceTest {
     private static final Long VALID_USER_ID = 1L;
     private static final String SCHEDULE_CLIENT_ID = "123e4567-e89b-12d3-a456-426614174000";
     private static final LocalDate TEST_DATE = LocalDate.of(2026, 2, 12);
-
-    private User testUser;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     @BeforeEach
-    void setUp() {
-        testUser = User.builder()
-                .email("test@example.com")
-                .passwordHash("hashedPassword")
-                .build();
-        // 테스트용 User ID 설정 (리플렉션)
-        ReflectionTestUtils.setField(testUser, "id", VALID_USER_ID);
+    void setUpUpsert() {
+        // 사용자가 존재하면 UPSERT는 1행 이상 반영
+        lenient().when(dailyStatisticsRepository.upsertIncrement(
+                any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean())).thenReturn(1);
+        // 처음 도착한 이벤트
+        lenient().when(statsEventDeduplicator.tryClaim(any(), any())).thenReturn(true);
     }
 
     // ========== recordCompletion 테스트 ==========
@@ -81,8 +116,8 @@ class StatsServiceTest {
     class RecordCompletion {
 
         @Test
-        @DisplayName("신규 생성 - 해당 날짜에 기록이 없을 때 새로 생성")
-        void should_CreateNewRecord_When_NoExistingRecord() {
+        @DisplayName("UPSERT - 단일 SQL로 누적 후 결과 반환")
+        void should_UpsertAndReturnAccumulated_When_ValidRequest() {
             // Given
             CompletionRequest request = new CompletionRequest(
                     SCHEDULE_CLIENT_ID,
@@ -92,12 +127,9 @@ class StatsServiceTest {
                     TEST_DATE
             );
 
-            given(userRepository.findById(VALID_USER_ID))
-                    .willReturn(Optional.of(testUser));
-            given(dailyStatisticsRepository.findByUserIdAndDate(VALID_USER_ID, TEST_DATE))
-                    .willReturn(Optional.empty());
-            given(dailyStatisticsRepository.save(any(DailyStatistics.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(dailyStatisticsRepository.findViewByUserIdAndDate(VALID_USER_ID, TEST_DATE))
+                    .willReturn(Optional.of(new DailyStatisticsView(
+                            TEST_DATE, 1, 1, 1800, 0, DailyStatus.SUCCESS)));
 
             // When
             CompletionResponse response = statsService.recordCompletion(request, VALID_USER_ID);
@@ -109,52 +141,62 @@ class StatsServiceTest {
             assertThat(response.dailyStats().totalSchedules()).isEqualTo(1);
             assertThat(response.dailyStats().completedSchedules()).isEqualTo(1);
             assertThat(response.dailyStats().totalFocusTime()).isEqualTo(1800);
-
-            verify(userRepository).findById(VALID_USER_ID);
-            verify(dailyStatisticsRepository).findByUserIdAndDate(VALID_USER_ID, TEST_DATE);
-            verify(dailyStatisticsRepository).save(any(DailyStatistics.class));
+            assertThat(response.dailyStats().status()).isEqualTo(DailyStatus.SUCCESS);
+
+            verify(dailyStatisticsRepository).upsertIncrement(VALID_USER_ID, TEST_DATE, 1, 1, 1800, 0, false);
+            verify(streakService).onDailyStatusChanged(VALID_USER_ID, TEST_DATE, DailyStatus.SUCCESS);
+            verify(statsRollupService).applyDaily(VALID_USER_ID,
+                    List.of(new DailyStatisticsView(TEST_DATE, 1, 1, 1800, 0, DailyStatus.SUCCESS)),
+                    Map.of(TEST_DATE, DailyStatsDelta.completion(true, 1800, false)));
+            verify(eventPublisher).publishEvent(StatsUpdatedEvent.of(VALID_USER_ID, TEST_DATE, DailyStatus.SUCCESS));
+            verify(scheduleStatsService).apply(VALID_USER_ID,
+                    Map.of(SCHEDULE_CLIENT_ID, DailyStatsDelta.completion(true, 1800, false)));
+            verify(dailyStatisticsRepository, never()).findByUserIdAndDate(any(), any());
+            verify(dailyStatisticsRepository, never()).save(any());
         }
 
         @Test
-        @DisplayName("누적 업데이트 - 기존 기록에 추가")
-        void should_AccumulateRecord_When_ExistingRecord() {
+        @DisplayName("중복 이벤트 - 이미 처리된 eventId는 누적하지 않고 현재 통계 반환")
+        void should_ReturnCurrentStats_When_DuplicateEvent() {
             // Given
+            String eventId = "9b2f6c1e-4a5d-4e8b-9c3a-1f2e3d4c5b6a";
             CompletionRequest request = new CompletionRequest(
-                    SCHEDULE_CLIENT_ID,
-                    true,
-                    1800,
-                    false,
-                    TEST_DATE
-            );
+                    SCHEDULE_CLIENT_ID, true, 1800, false, TEST_DATE, eventId, null, null);
 
-            DailyStatistics existingStats = DailyStatistics.builder()
-                    .user(testUser)
-                    .date(TEST_DATE)
-                    .build();
-            // 기존 기록 설정
-            existingStats.recordCompletion(true, 1200, false);
-
-            given(userRepository.findById(VALID_USER_ID))
-                    .willReturn(Optional.of(testUser));
-            given(dailyStatisticsRepository.findByUserIdAndDate(VALID_USER_ID, TEST_DATE))
-                    .willReturn(Optional.of(existingStats));
-            given(dailyStatisticsRepository.save(any(DailyStatistics.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(statsEventDeduplicator.tryClaim(VALID_USER_ID, eventId)).willReturn(false);
+            given(dailyStatisticsRepository.findViewByUserIdAndDate(VALID_USER_ID, TEST_DATE))
+                    .willReturn(Optional.of(new DailyStatisticsView(
+                            TEST_DATE, 1, 1, 1800, 0, DailyStatus.SUCCESS)));
 
             // When
             CompletionResponse response = statsService.recordCompletion(request, VALID_USER_ID);
 
             // Then
-            assertThat(response).isNotNull();
-            assertThat(response.dailyStats().totalSchedules()).isEqualTo(2);
-            assertThat(response.dailyStats().completedSchedules()).isEqualTo(2);
-            assertThat(response.dailyStats().totalFocusTime()).isEqualTo(3000); // 1200 + 1800
+            assertThat(response.recorded()).isFalse();
+            assertThat(response.dailyStats().totalSchedules()).isEqualTo(1);
+            verify(dailyStatisticsRepository, never()).upsertIncrement(
+                    any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean());
+            verifyNoInteractions(streakService, statsRollupService, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("비동기 집계 - 세션만 기록하고 daily_statistics는 갱신하지 않음")
+        void should_OnlyAppendSession_When_AggregationDeferred() {
+            // Given
+            CompletionRequest request = new CompletionRequest(SCHEDULE_CLIENT_ID, true, 1800, false, TEST_DATE);
+            given(focusSessionService.append(VALID_USER_ID, request)).willReturn(true);
 
-            verify(dailyStatisticsRepository).save(existingStats);
+            // When
+            CompletionResponse response = statsService.recordCompletion(request, VALID_USER_ID);
+
+            // Then
+            assertThat(response.recorded()).isTrue();
+            assertThat(response.dailyStats()).isNull();
+            verifyNoInteractions(dailyStatisticsRepository, streakService, statsRollupService, eventPublisher);
         }
 
         @Test
-        @DisplayName("실패 기록 - completed=false인 경우")
+        @DisplayName("실패 기록 - completed=false인 경우 completedDelta 0")
         void should_RecordIncomplete_When_NotCompleted() {
             // Given
             CompletionRequest request = new CompletionRequest(
@@ -165,12 +207,9 @@ class StatsServiceTest {
                     TEST_DATE
             );
 
-            given(userRepository.findById(VALID_USER_ID))
-                    .willReturn(Optional.of(testUser));
-            given(dailyStatisticsRepository.findByUserIdAndDate(VALID_USER_ID, TEST_DATE))
-                    .willReturn(Optional.empty());
-            given(dailyStatisticsRepository.save(any(DailyStatistics.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(dailyStatisticsRepository.findViewByUserIdAndDate(VALID_USER_ID, TEST_DATE))
+                    .willReturn(Optional.of(new DailyStatisticsView(
+                            TEST_DATE, 1, 0, 600, 0, DailyStatus.IN_PROGRESS)));
 
             // When
             CompletionResponse response = statsService.recordCompletion(request, VALID_USER_ID);
@@ -179,6 +218,8 @@ class StatsServiceTest {
             assertThat(response.dailyStats().totalSchedules()).isEqualTo(1);
             assertThat(response.dailyStats().completedSchedules()).isEqualTo(0); // 완료 안됨
             assertThat(response.dailyStats().totalFocusTime()).isEqualTo(600);
+
+            verify(dailyStatisticsRepository).upsertIncrement(VALID_USER_ID, TEST_DATE, 1, 0, 600, 0, false);
         }
 
         @Test
@@ -193,12 +234,9 @@ class StatsServiceTest {
                     TEST_DATE
             );
 
-            given(userRepository.findById(VALID_USER_ID))
-                    .willReturn(Optional.of(testUser));
-            given(dailyStatisticsRepository.findByUserIdAndDate(VALID_USER_ID, TEST_DATE))
-                    .willReturn(Optional.empty());
-            given(dailyStatisticsRepository.save(any(DailyStatistics.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(dailyStatisticsRepository.findViewByUserIdAndDate(VALID_USER_ID, TEST_DATE))
+                    .willReturn(Optional.of(new DailyStatisticsView(
+                            TEST_DATE, 1, 1, 3600, 0, DailyStatus.SUCCESS)));
 
             // When
             CompletionResponse response = statsService.recordCompletion(request, VALID_USER_ID);
@@ -206,11 +244,11 @@ class StatsServiceTest {
             // Then
             assertThat(response).isNotNull();
             assertThat(response.recorded()).isTrue();
-            // 올인 모드 사용이 기록됨 (DailyStatistics 내부 상태)
+            verify(dailyStatisticsRepository).upsertIncrement(VALID_USER_ID, TEST_DATE, 1, 1, 3600, 0, true);
         }
 
         @Test
-        @DisplayName("USER_NOT_FOUND - 사용자를 찾을 수 없음")
+        @DisplayName("USER_NOT_FOUND - 사용자 없음 (UPSERT 0행)")
         void should_ThrowException_When_UserNotFound() {
             // Given
             CompletionRequest request = new CompletionRequest(
@@ -221,8 +259,9 @@ class StatsServiceTest {
                     TEST_DATE
             );
 
-            given(userRepository.findById(VALID_USER_ID))
-                    .willReturn(Optional.empty());
+            given(dailyStatisticsRepository.upsertIncrement(
+                    eq(VALID_USER_ID), eq(TEST_DATE), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean()))
+                    .willReturn(0);
 
             // When & Then
             assertThatThrownBy(() -> statsService.recordCompletion(request, VALID_USER_ID))
@@ -232,7 +271,27 @@ class StatsServiceTest {
                         assertThat(businessException.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
                     });
 
-            verify(dailyStatisticsRepository, never()).save(any());
+            verify(dailyStatisticsRepository, never()).findViewByUserIdAndDate(any(), any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("INVALID_INPUT - 콜드 아카이브 대상 날짜")
+        void should_ThrowException_When_DateIsCold() {
+            // Given
+            LocalDate coldDate = LocalDate.of(2023, 5, 1);
+            CompletionRequest request = new CompletionRequest(SCHEDULE_CLIENT_ID, true, 1800, false, coldDate);
+            given(dailyStatisticsArchive.isCold(coldDate)).willReturn(true);
+
+            // When & Then
+            assertThatThrownBy(() -> statsService.recordCompletion(request, VALID_USER_ID))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_INPUT));
+
+            verify(dailyStatisticsRepository, never()).upsertIncrement(
+                    any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
     }
 
@@ -243,19 +302,18 @@ class StatsServiceTest {
     class RecordForceQuit {
 
         @Test
-        @DisplayName("강제 종료 기록 - 신규 생성")
-        void should_CreateNewRecordWithForceQuit_When_NoExistingRecord() {
+        @DisplayName("강제 종료 기록 - 사용자 시간대 날짜로 UPSERT")
+        void should_UpsertForceQuit_When_ValidRequest() {
             // Given
             // 2026-02-12 14:30:00 KST
             Instant timestamp = Instant.parse("2026-02-12T05:30:00Z");
             ForceQuitRequest request = new ForceQuitRequest(timestamp);
 
-            given(userRepository.findById(VALID_USER_ID))
-                    .willReturn(Optional.of(testUser));
-            given(dailyStatisticsRepository.findByUserIdAndDate(eq(VALID_USER_ID), any(LocalDate.class)))
-                    .willReturn(Optional.empty());
-            given(dailyStatisticsRepository.save(any(DailyStatistics.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(userZoneResolver.toLocalDate(VALID_USER_ID, timestamp)).willReturn(TEST_DATE);
+
+            given(dailyStatisticsRepository.findViewByUserIdAndDate(VALID_USER_ID, TEST_DATE))
+                    .willReturn(Optional.of(new DailyStatisticsView(
+                            TEST_DATE, 0, 0, 0, 1, DailyStatus.FAILURE)));
 
             // When
             ForceQuitResponse response = statsService.recordForceQuit(request, VALID_USER_ID);
@@ -265,45 +323,62 @@ class StatsServiceTest {
             assertThat(response.recorded()).isTrue();
             assertThat(response.forceQuitCount()).isEqualTo(1);
 
-            verify(dailyStatisticsRepository).save(any(DailyStatistics.class));
+            verify(dailyStatisticsRepository).upsertIncrement(VALID_USER_ID, TEST_DATE, 0, 0, 0, 1, false);
+            verify(streakService).onDailyStatusChanged(VALID_USER_ID, TEST_DATE, DailyStatus.FAILURE);
+            verify(scheduleStatsService, never()).apply(any(), any());
         }
 
         @Test
-        @DisplayName("강제 종료 누적 - 기존 기록에 추가")
-        void should_IncrementForceQuitCount_When_ExistingRecord() {
+        @DisplayName("스케줄 지정 - 스케줄별 강제 종료 횟수도 누적")
+        void should_ApplyScheduleStats_When_ScheduleIdGiven() {
             // Given
             Instant timestamp = Instant.parse("2026-02-12T05:30:00Z");
+            ForceQuitRequest request = new ForceQuitRequest(timestamp, null, SCHEDULE_CLIENT_ID);
+
+            given(userZoneResolver.toLocalDate(VALID_USER_ID, timestamp)).willReturn(TEST_DATE);
+            given(dailyStatisticsRepository.findViewByUserIdAndDate(VALID_USER_ID, TEST_DATE))
+                    .willReturn(Optional.of(new DailyStatisticsView(
+                            TEST_DATE, 0, 0, 0, 1, DailyStatus.FAILURE)));
+
+            // When
+            statsService.recordForceQuit(request, VALID_USER_ID);
+
+            // Then
+            verify(scheduleStatsService).apply(VALID_USER_ID, Map.of(SCHEDULE_CLIENT_ID, DailyStatsDelta.forceQuit()));
+        }
+
+        @Test
+        @DisplayName("날짜 경계 - UTC 날짜가 아닌 사용자 시간대 날짜로 기록")
+        void should_UseUserZoneDate_When_TimestampCrossesMidnight() {
+            // Given
+            // 2026-02-11T15:30:00Z = 2026-02-12 00:30:00 KST
+            Instant timestamp = Instant.parse("2026-02-11T15:30:00Z");
             ForceQuitRequest request = new ForceQuitRequest(timestamp);
 
-            DailyStatistics existingStats = DailyStatistics.builder()
-                    .user(testUser)
-                    .date(TEST_DATE)
-                    .build();
-            existingStats.incrementForceQuit(); // 기존 1회
+            given(userZoneResolver.toLocalDate(VALID_USER_ID, timestamp)).willReturn(TEST_DATE);
 
-            given(userRepository.findById(VALID_USER_ID))
-                    .willReturn(Optional.of(testUser));
-            given(dailyStatisticsRepository.findByUserIdAndDate(eq(VALID_USER_ID), any(LocalDate.class)))
-                    .willReturn(Optional.of(existingStats));
-            given(dailyStatisticsRepository.save(any(DailyStatistics.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(dailyStatisticsRepository.findViewByUserIdAndDate(VALID_USER_ID, TEST_DATE))
+                    .willReturn(Optional.of(new DailyStatisticsView(
+                            TEST_DATE, 0, 0, 0, 2, DailyStatus.FAILURE)));
 
             // When
             ForceQuitResponse response = statsService.recordForceQuit(request, VALID_USER_ID);
 
             // Then
-            assertThat(response.forceQuitCount()).isEqualTo(2); // 1 + 1
-            assertThat(existingStats.getStatus()).isEqualTo(DailyStatus.FAILURE);
+            assertThat(response.forceQuitCount()).isEqualTo(2);
+            verify(dailyStatisticsRepository).upsertIncrement(VALID_USER_ID, TEST_DATE, 0, 0, 0, 1, false);
         }
 
         @Test
-        @DisplayName("USER_NOT_FOUND - 사용자를 찾을 수 없음")
+        @DisplayName("USER_NOT_FOUND - 사용자 없음 (UPSERT 0행)")
         void should_ThrowException_When_UserNotFound() {
             // Given
             ForceQuitRequest request = new ForceQuitRequest(Instant.now());
+            given(userZoneResolver.toLocalDate(VALID_USER_ID, request.timestamp())).willReturn(TEST_DATE);
 
-            given(userRepository.findById(VALID_USER_ID))
-                    .willReturn(Optional.empty());
+            given(dailyStatisticsRepository.upsertIncrement(
+                    eq(VALID_USER_ID), any(LocalDate.class), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean()))
+                    .willReturn(0);
 
             // When & Then
             assertThatThrownBy(() -> statsService.recordForceQuit(request, VALID_USER_ID))
@@ -313,7 +388,209 @@ class StatsServiceTest {
                         assertThat(businessException.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
                     });
 
-            verify(dailyStatisticsRepository, never()).save(any());
+            verify(dailyStatisticsRepository, never()).findViewByUserIdAndDate(any(), any());
+        }
+    }
+
+    // ========== recordRevocation 테스트 ==========
+
+    @Nested
+    @DisplayName("recordRevocation 메서드")
+    class RecordRevocation {
+
+        @Test
+        @DisplayName("권한 해제 기록 - 해당 일자를 FAILURE로 만들고 커밋 후 사유 로그 이벤트 발행")
+        void should_MarkFailureAndPublishLog_When_ValidRequest() {
+            // Given
+            // 2026-02-12 14:30:00 KST
+            Instant revokedAt = Instant.parse("2026-02-12T05:30:00Z");
+            RevocationRequest request = new RevocationRequest("급한 연락 확인", revokedAt, null);
+
+            given(userZoneResolver.toLocalDate(VALID_USER_ID, revokedAt)).willReturn(TEST_DATE);
+            given(dailyStatisticsRepository.findViewByUserIdAndDate(VALID_USER_ID, TEST_DATE))
+                    .willReturn(Optional.of(new DailyStatisticsView(
+                            TEST_DATE, 2, 2, 3600, 1, DailyStatus.FAILURE)));
+
+            // When
+            RevocationResponse response = statsService.recordRevocation(request, VALID_USER_ID);
+
+            // Then
+            assertThat(response.recorded()).isTrue();
+            assertThat(response.dailyStats().status()).isEqualTo(DailyStatus.FAILURE);
+
+            verify(dailyStatisticsRepository).upsertIncrement(VALID_USER_ID, TEST_DATE, 0, 0, 0, 1, false);
+            verify(streakService).onDailyStatusChanged(VALID_USER_ID, TEST_DATE, DailyStatus.FAILURE);
+            verify(eventPublisher).publishEvent(StatsUpdatedEvent.of(VALID_USER_ID, TEST_DATE, DailyStatus.FAILURE));
+            verify(eventPublisher).publishEvent(
+                    new PermissionRevokedEvent(VALID_USER_ID, TEST_DATE, "급한 연락 확인", revokedAt));
+        }
+
+        @Test
+        @DisplayName("INVALID_INPUT - 콜드 아카이브 날짜는 사유 로그도 남기지 않음")
+        void should_ThrowException_When_DateIsCold() {
+            // Given
+            Instant revokedAt = Instant.parse("2020-02-12T05:30:00Z");
+            LocalDate coldDate = LocalDate.of(2020, 2, 12);
+            RevocationRequest request = new RevocationRequest("급한 연락 확인", revokedAt, null);
+
+            given(userZoneResolver.toLocalDate(VALID_USER_ID, revokedAt)).willReturn(coldDate);
+            given(dailyStatisticsArchive.isCold(coldDate)).willReturn(true);
+
+            // When & Then
+            assertThatThrownBy(() -> statsService.recordRevocation(request, VALID_USER_ID))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> {
+                        BusinessException businessException = (BusinessException) ex;
+                        assertThat(businessException.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT);
+                    });
+
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    // ========== recordEvents 테스트 ==========
+
+    @Nested
+    @DisplayName("recordEvents 메서드")
+    class RecordEvents {
+
+        @BeforeEach
+        void setUp() {
+            given(userZoneResolver.zoneOf(VALID_USER_ID)).willReturn(KST);
+        }
+
+        @Test
+        @DisplayName("일괄 기록 - 같은 날짜 이벤트는 합산하여 UPSERT 1회")
+        void should_AggregatePerDate_When_MixedEvents() {
+            // Given
+            LocalDate nextDate = TEST_DATE.plusDays(1);
+            StatsEventBatchRequest request = new StatsEventBatchRequest(List.of(
+                    completionEvent(true, 1800, false, TEST_DATE),
+                    completionEvent(false, 600, true, TEST_DATE),
+                    // 2026-02-12 14:30 KST
+                    forceQuitEvent(Instant.parse("2026-02-12T05:30:00Z")),
+                    completionEvent(true, 1200, false, nextDate)
+            ));
+
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateIn(eq(VALID_USER_ID), any()))
+                    .willReturn(List.of(
+                            new DailyStatisticsView(TEST_DATE, 2, 1, 2400, 1, DailyStatus.FAILURE),
+                            new DailyStatisticsView(nextDate, 1, 1, 1200, 0, DailyStatus.SUCCESS)));
+
+            // When
+            StatsEventBatchResponse response = statsService.recordEvents(request, VALID_USER_ID);
+
+            // Then
+            assertThat(response.accepted()).isEqualTo(4);
+            assertThat(response.dailyStats()).extracting(DailyStatsDto::date)
+                    .containsExactly(TEST_DATE, nextDate);
+
+            verify(dailyStatisticsRepository).upsertIncrement(VALID_USER_ID, TEST_DATE, 2, 1, 2400, 1, true);
+            verify(dailyStatisticsRepository).upsertIncrement(VALID_USER_ID, nextDate, 1, 1, 1200, 0, false);
+            verify(dailyStatisticsRepository, times(2)).upsertIncrement(
+                    any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean());
+            verify(statsRollupService).applyDaily(eq(VALID_USER_ID), any(), eq(Map.of(
+                    TEST_DATE, new DailyStatsDelta(2, 1, 2400, 1, true),
+                    nextDate, new DailyStatsDelta(1, 1, 1200, 0, false))));
+            verify(eventPublisher).publishEvent(new StatsUpdatedEvent(VALID_USER_ID,
+                    Map.of(TEST_DATE, DailyStatus.FAILURE, nextDate, DailyStatus.SUCCESS)));
+            verify(scheduleStatsService).apply(VALID_USER_ID,
+                    Map.of(SCHEDULE_CLIENT_ID, new DailyStatsDelta(3, 2, 3600, 0, true)));
+        }
+
+        @Test
+        @DisplayName("비동기 집계 - COMPLETION은 세션으로만 기록하고 강제 종료만 반영")
+        void should_ApplyOnlyForceQuit_When_AggregationDeferred() {
+            // Given
+            StatsEventBatchRequest request = new StatsEventBatchRequest(List.of(
+                    completionEvent(true, 1800, false, TEST_DATE),
+                    // 2026-02-12 14:30 KST
+                    forceQuitEvent(Instant.parse("2026-02-12T05:30:00Z"))));
+
+            given(focusSessionService.appendAll(eq(VALID_USER_ID), any())).willReturn(true);
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateIn(eq(VALID_USER_ID), any()))
+                    .willReturn(List.of(new DailyStatisticsView(TEST_DATE, 0, 0, 0, 1, DailyStatus.FAILURE)));
+
+            // When
+            StatsEventBatchResponse response = statsService.recordEvents(request, VALID_USER_ID);
+
+            // Then
+            assertThat(response.accepted()).isEqualTo(2);
+            verify(focusSessionService).appendAll(VALID_USER_ID, List.of(request.events().get(0)));
+            verify(dailyStatisticsRepository).upsertIncrement(VALID_USER_ID, TEST_DATE, 0, 0, 0, 1, false);
+            verify(dailyStatisticsRepository, times(1)).upsertIncrement(
+                    any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("중복 이벤트 - 이미 처리된 eventId는 제외하고 나머지만 반영")
+        void should_SkipDuplicates_When_EventIdAlreadyProcessed() {
+            // Given
+            StatsEventRequest duplicate = new StatsEventRequest(StatsEventType.COMPLETION,
+                    SCHEDULE_CLIENT_ID, true, 1800, false, TEST_DATE, null, "event-1", null, null);
+            StatsEventRequest fresh = new StatsEventRequest(StatsEventType.COMPLETION,
+                    SCHEDULE_CLIENT_ID, true, 600, false, TEST_DATE, null, "event-2", null, null);
+            StatsEventBatchRequest request = new StatsEventBatchRequest(List.of(duplicate, fresh));
+
+            given(statsEventDeduplicator.tryClaim(VALID_USER_ID, "event-1")).willReturn(false);
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateIn(eq(VALID_USER_ID), any()))
+                    .willReturn(List.of(new DailyStatisticsView(TEST_DATE, 2, 2, 2400, 0, DailyStatus.SUCCESS)));
+
+            // When
+            StatsEventBatchResponse response = statsService.recordEvents(request, VALID_USER_ID);
+
+            // Then
+            assertThat(response.accepted()).isEqualTo(1);
+            assertThat(response.duplicates()).isEqualTo(1);
+            verify(dailyStatisticsRepository).upsertIncrement(VALID_USER_ID, TEST_DATE, 1, 1, 600, 0, false);
+        }
+
+        @Test
+        @DisplayName("중복 이벤트 - 모두 중복이면 DB를 갱신하지 않음")
+        void should_SkipWrite_When_AllEventsDuplicated() {
+            // Given
+            StatsEventBatchRequest request = new StatsEventBatchRequest(List.of(
+                    completionEvent(true, 1800, false, TEST_DATE)));
+            given(statsEventDeduplicator.tryClaim(any(), any())).willReturn(false);
+
+            // When
+            StatsEventBatchResponse response = statsService.recordEvents(request, VALID_USER_ID);
+
+            // Then
+            assertThat(response.accepted()).isZero();
+            assertThat(response.duplicates()).isEqualTo(1);
+            assertThat(response.dailyStats()).isEmpty();
+            verifyNoInteractions(dailyStatisticsRepository, streakService, statsRollupService, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("USER_NOT_FOUND - 사용자 없음 (UPSERT 0행)")
+        void should_ThrowException_When_UserNotFound() {
+            // Given
+            StatsEventBatchRequest request = new StatsEventBatchRequest(List.of(
+                    completionEvent(true, 1800, false, TEST_DATE)));
+
+            given(dailyStatisticsRepository.upsertIncrement(
+                    eq(VALID_USER_ID), eq(TEST_DATE), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean()))
+                    .willReturn(0);
+
+            // When & Then
+            assertThatThrownBy(() -> statsService.recordEvents(request, VALID_USER_ID))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> {
+                        BusinessException businessException = (BusinessException) ex;
+                        assertThat(businessException.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
+                    });
+        }
+
+        private StatsEventRequest completionEvent(boolean completed, int focusTime, boolean allInMode, LocalDate date) {
+            return new StatsEventRequest(StatsEventType.COMPLETION,
+                    SCHEDULE_CLIENT_ID, completed, focusTime, allInMode, date, null);
+        }
+
+        private StatsEventRequest forceQuitEvent(Instant timestamp) {
+            return new StatsEventRequest(StatsEventType.FORCE_QUIT,
+                    null, null, null, null, null, timestamp);
         }
     }
 
@@ -323,13 +600,23 @@ class StatsServiceTest {
     @DisplayName("getSummary 메서드")
     class GetSummary {
 
+        private final LocalDate today = LocalDate.of(2026, 2, 12);
+
+        @BeforeEach
+        void setUp() {
+            // 캐시 적중 시에는 호출되지 않음
+            lenient().when(userZoneResolver.today(VALID_USER_ID)).thenReturn(today);
+        }
+
         @Test
         @DisplayName("빈 통계 - 기록이 없는 경우")
         void should_ReturnZeroStats_When_NoRecords() {
             // Given
-            given(dailyStatisticsRepository.findRecentByUserIdOrderByDateDesc(eq(VALID_USER_ID), any(LocalDate.class)))
-                    .willReturn(Collections.emptyList());
-            given(dailyStatisticsRepository.findByUserIdAndDateBetweenOrderByDateDesc(eq(VALID_USER_ID), any(LocalDate.class), any(LocalDate.class)))
+            given(streakService.getStreakState(VALID_USER_ID))
+                    .willReturn(UserStreakState.fromHistory(VALID_USER_ID, Collections.emptyList()));
+            given(dailyStatisticsRepository.findWindowTotals(eq(VALID_USER_ID), any(LocalDate.class), any(LocalDate.class), any(LocalDate.class)))
+                    .willReturn(new StatsWindowTotals(0, 0, 0, 0, 0, 0));
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(eq(VALID_USER_ID), any(LocalDate.class), any(LocalDate.class)))
                     .willReturn(Collections.emptyList());
 
             // When
@@ -344,21 +631,37 @@ class StatsServiceTest {
             assertThat(response.totalFocusTimeThisWeek()).isZero();
             assertThat(response.totalFocusTimeThisMonth()).isZero();
             assertThat(response.recentDays()).isEmpty();
+            assertThat(response.weeklyFocusPercentile()).isNull();
+        }
+
+        @Test
+        @DisplayName("주간 백분위 - 스냅샷 조회 결과를 요약에 포함")
+        void should_IncludePercentiles_When_SnapshotAvailable() {
+            // Given
+            DailyStatisticsView stat = createView(today, 2, 2, 3600, DailyStatus.SUCCESS);
+            given(streakService.getStreakState(VALID_USER_ID)).willReturn(streakStateOf(List.of(stat)));
+            stubSummaryQueries(List.of(stat));
+            given(percentileService.lookup(VALID_USER_ID, today))
+                    .willReturn(Optional.of(new UserPercentiles(0.78, null)));
+
+            // When
+            StatsSummaryResponse response = statsService.getSummary(VALID_USER_ID);
+
+            // Then
+            assertThat(response.weeklyFocusPercentile()).isEqualTo(0.78);
+            assertThat(response.weeklyCompletionPercentile()).isNull();
         }
 
         @Test
         @DisplayName("통계 요약 - 정상 조회")
         void should_ReturnCorrectStats_When_HasRecords() {
             // Given
-            LocalDate today = LocalDate.now();
-            
-            DailyStatistics stat1 = createDailyStatistics(today, 3, 3, 5400, DailyStatus.SUCCESS);
-            DailyStatistics stat2 = createDailyStatistics(today.minusDays(1), 4, 3, 4200, DailyStatus.WARNING);
+            DailyStatisticsView stat1 = createView(today, 3, 3, 5400, DailyStatus.SUCCESS);
+            DailyStatisticsView stat2 = createView(today.minusDays(1), 4, 3, 4200, DailyStatus.WARNING);
 
-            given(dailyStatisticsRepository.findRecentByUserIdOrderByDateDesc(eq(VALID_USER_ID), any(LocalDate.class)))
-                    .willReturn(List.of(stat1, stat2));
-            given(dailyStatisticsRepository.findByUserIdAndDateBetweenOrderByDateDesc(eq(VALID_USER_ID), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(List.of(stat1, stat2));
+            given(streakService.getStreakState(VALID_USER_ID))
+                    .willReturn(streakStateOf(List.of(stat1, stat2)));
+            stubSummaryQueries(List.of(stat1, stat2));
 
             // When
             StatsSummaryResponse response = statsService.getSummary(VALID_USER_ID);
@@ -376,18 +679,15 @@ class StatsServiceTest {
         @DisplayName("스트릭 계산 - 연속 성공")
         void should_CalculateStreak_When_ConsecutiveSuccess() {
             // Given
-            LocalDate today = LocalDate.now();
-            
-            DailyStatistics stat1 = createDailyStatistics(today, 2, 2, 3600, DailyStatus.SUCCESS);
-            DailyStatistics stat2 = createDailyStatistics(today.minusDays(1), 2, 2, 3600, DailyStatus.SUCCESS);
-            DailyStatistics stat3 = createDailyStatistics(today.minusDays(2), 2, 2, 3600, DailyStatus.SUCCESS);
+            DailyStatisticsView stat1 = createView(today, 2, 2, 3600, DailyStatus.SUCCESS);
+            DailyStatisticsView stat2 = createView(today.minusDays(1), 2, 2, 3600, DailyStatus.SUCCESS);
+            DailyStatisticsView stat3 = createView(today.minusDays(2), 2, 2, 3600, DailyStatus.SUCCESS);
 
-            List<DailyStatistics> stats = List.of(stat1, stat2, stat3);
+            List<DailyStatisticsView> stats = List.of(stat1, stat2, stat3);
 
-            given(dailyStatisticsRepository.findRecentByUserIdOrderByDateDesc(eq(VALID_USER_ID), any(LocalDate.class)))
-                    .willReturn(stats);
-            given(dailyStatisticsRepository.findByUserIdAndDateBetweenOrderByDateDesc(eq(VALID_USER_ID), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(stats);
+            given(streakService.getStreakState(VALID_USER_ID))
+                    .willReturn(streakStateOf(stats));
+            stubSummaryQueries(stats);
 
             // When
             StatsSummaryResponse response = statsService.getSummary(VALID_USER_ID);
@@ -397,28 +697,126 @@ class StatsServiceTest {
             assertThat(response.longestStreak()).isEqualTo(3);
         }
 
+        @Test
+        @DisplayName("스트릭 계산 - 오늘 기록이 SUCCESS가 아니면 현재 스트릭 0")
+        void should_ReturnZeroCurrentStreak_When_TodayNotSuccess() {
+            // Given
+            DailyStatisticsView stat1 = createView(today, 2, 1, 3600, DailyStatus.WARNING);
+            DailyStatisticsView stat2 = createView(today.minusDays(1), 2, 2, 3600, DailyStatus.SUCCESS);
+            DailyStatisticsView stat3 = createView(today.minusDays(2), 2, 2, 3600, DailyStatus.SUCCESS);
+
+            List<DailyStatisticsView> stats = List.of(stat1, stat2, stat3);
+
+            given(streakService.getStreakState(VALID_USER_ID))
+                    .willReturn(streakStateOf(stats));
+            stubSummaryQueries(stats);
+
+            // When
+            StatsSummaryResponse response = statsService.getSummary(VALID_USER_ID);
+
+            // Then
+            assertThat(response.currentStreak()).isZero();
+            assertThat(response.longestStreak()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("월간 합계 - 7일 이전 기록은 월간에만 반영")
+        void should_SeparateWeeklyAndMonthly_When_OlderRecordsExist() {
+            // Given
+            DailyStatisticsView recent = createView(today, 2, 2, 3600, DailyStatus.SUCCESS);
+            DailyStatisticsView old = createView(today.minusDays(10), 2, 0, 1200, DailyStatus.IN_PROGRESS);
+
+            given(streakService.getStreakState(VALID_USER_ID))
+                    .willReturn(streakStateOf(List.of(recent, old)));
+            given(dailyStatisticsRepository.findWindowTotals(eq(VALID_USER_ID), any(LocalDate.class), any(LocalDate.class), any(LocalDate.class)))
+                    .willReturn(new StatsWindowTotals(2, 2, 3600, 4, 2, 4800));
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(eq(VALID_USER_ID), any(LocalDate.class), any(LocalDate.class)))
+                    .willReturn(List.of(recent));
+
+            // When
+            StatsSummaryResponse response = statsService.getSummary(VALID_USER_ID);
+
+            // Then
+            assertThat(response.weeklyCompletionRate()).isEqualTo(1.0);
+            assertThat(response.monthlyCompletionRate()).isEqualTo(0.5);
+            assertThat(response.totalFocusTimeThisWeek()).isEqualTo(3600);
+            assertThat(response.totalFocusTimeThisMonth()).isEqualTo(4800);
+            assertThat(response.recentDays()).hasSize(1);
+            verify(dailyStatisticsRepository).findWindowTotals(
+                    VALID_USER_ID, today.minusDays(6), today.minusDays(29), today);
+        }
+
+        @Test
+        @DisplayName("캐시 적중 - DB 조회 없이 캐시된 요약 반환")
+        void should_ReturnCachedSummary_When_CacheHit() {
+            // Given
+            StatsSummaryResponse cached = StatsSummaryResponse.builder()
+                    .currentStreak(5)
+                    .longestStreak(10)
+                    .recentDays(Collections.emptyList())
+                    .build();
+            given(statsSummaryCache.find(VALID_USER_ID)).willReturn(Optional.of(cached));
+
+            // When
+            StatsSummaryResponse response = statsService.getSummary(VALID_USER_ID);
+
+            // Then
+            assertThat(response).isEqualTo(cached);
+            verifyNoInteractions(dailyStatisticsRepository, streakService);
+            verify(statsSummaryCache, never()).put(any(), any());
+        }
+
+        @Test
+        @DisplayName("캐시 미스 - DB에서 계산 후 캐시에 저장")
+        void should_CalculateAndCache_When_CacheMiss() {
+            // Given
+            given(statsSummaryCache.find(VALID_USER_ID)).willReturn(Optional.empty());
+            given(streakService.getStreakState(VALID_USER_ID))
+                    .willReturn(UserStreakState.fromHistory(VALID_USER_ID, Collections.emptyList()));
+            stubSummaryQueries(List.of(createView(today, 2, 1, 600, DailyStatus.WARNING)));
+
+            // When
+            StatsSummaryResponse response = statsService.getSummary(VALID_USER_ID);
+
+            // Then
+            assertThat(response.totalFocusTimeThisWeek()).isEqualTo(600);
+            verify(statsSummaryCache).put(VALID_USER_ID, response);
+        }
+
         /**
-         * 테스트용 DailyStatistics 생성 헬퍼 메서드
+         * 최근 7일 기록으로 합계/상세 조회 Stub 설정 (모두 주간 범위 안의 기록)
          */
-        private DailyStatistics createDailyStatistics(
+        private void stubSummaryQueries(List<DailyStatisticsView> stats) {
+            long total = stats.stream().mapToLong(DailyStatisticsView::totalSchedules).sum();
+            long completed = stats.stream().mapToLong(DailyStatisticsView::completedSchedules).sum();
+            long focusTime = stats.stream().mapToLong(DailyStatisticsView::totalFocusTime).sum();
+
+            given(dailyStatisticsRepository.findWindowTotals(eq(VALID_USER_ID), any(LocalDate.class), any(LocalDate.class), any(LocalDate.class)))
+                    .willReturn(new StatsWindowTotals(total, completed, focusTime, total, completed, focusTime));
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(eq(VALID_USER_ID), any(LocalDate.class), any(LocalDate.class)))
+                    .willReturn(stats);
+        }
+
+        /**
+         * 테스트용 스트릭 상태 생성 헬퍼 메서드 (이력으로 계산)
+         */
+        private UserStreakState streakStateOf(List<DailyStatisticsView> stats) {
+            List<DailyStatisticsView> history = stats.stream()
+                    .sorted(Comparator.comparing(DailyStatisticsView::date))
+                    .toList();
+            return UserStreakState.fromHistory(VALID_USER_ID, history);
+        }
+
+        /**
+         * 테스트용 DailyStatisticsView 생성 헬퍼 메서드
+         */
+        private DailyStatisticsView createView(
                 LocalDate date, 
                 int totalSchedules, 
                 int completedSchedules, 
                 int totalFocusTime,
                 DailyStatus status) {
-            
-            DailyStatistics stats = DailyStatistics.builder()
-                    .user(testUser)
-                    .date(date)
-                    .build();
-            
-            // 리플렉션으로 필드 설정 (테스트용)
-            ReflectionTestUtils.setField(stats, "totalSchedules", totalSchedules);
-            ReflectionTestUtils.setField(stats, "completedSchedules", completedSchedules);
-            ReflectionTestUtils.setField(stats, "totalFocusTime", totalFocusTime);
-            ReflectionTestUtils.setField(stats, "status", status);
-            
-            return stats;
+            return new DailyStatisticsView(date, totalSchedules, completedSchedules, totalFocusTime, 0, status);
         }
     }
 }
@@ -0,0 +1,106 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.StatsSummaryResponse;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * StatsSummaryCache 단위 테스트
+ * 
+ * <p>2단계 캐시를 Mocking하고 키 구성, TTL, hit/miss 메트릭을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatsSummaryCache 테스트")
+class StatsSummaryCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final String TODAY_KEY = "1:2026-02-12";
+
+    @Mock
+    private TwoLevelCache<StatsSummaryResponse> twoLevelCache;
+
+    @Mock
+    private UserZoneResolver userZoneResolver;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StatsSummaryCache statsSummaryCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 사용자 시간대 기준 오늘
+        given(userZoneResolver.today(USER_ID)).willReturn(LocalDate.of(2026, 2, 12));
+        statsSummaryCache = new StatsSummaryCache(twoLevelCache, meterRegistry, TTL, userZoneResolver);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - hit 카운트 증가")
+    void should_CountHit_When_Cached() {
+        // Given
+        StatsSummaryResponse summary = StatsSummaryResponse.builder()
+                .currentStreak(3)
+                .recentDays(Collections.emptyList())
+                .build();
+        given(twoLevelCache.get(TODAY_KEY)).willReturn(Optional.of(summary));
+
+        // When
+        Optional<StatsSummaryResponse> result = statsSummaryCache.find(USER_ID);
+
+        // Then
+        assertThat(result).contains(summary);
+        assertThat(counter("hit")).isEqualTo(1.0);
+        assertThat(counter("miss")).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시 없음 - miss 카운트 증가")
+    void should_CountMiss_When_NotCached() {
+        // Given
+        given(twoLevelCache.get(TODAY_KEY)).willReturn(Optional.empty());
+
+        // When
+        Optional<StatsSummaryResponse> result = statsSummaryCache.find(USER_ID);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(counter("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("저장/삭제 - 사용자 + 사용자 시간대 기준 오늘 날짜 키 사용")
+    void should_UseUserAndTodayKey_When_PutAndEvict() {
+        // Given
+        StatsSummaryResponse summary = StatsSummaryResponse.builder()
+                .recentDays(Collections.emptyList())
+                .build();
+
+        // When
+        statsSummaryCache.put(USER_ID, summary);
+        statsSummaryCache.evict(USER_ID);
+
+        // Then
+        verify(twoLevelCache).put(TODAY_KEY, summary, TTL);
+        verify(twoLevelCache).evict(TODAY_KEY);
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get(StatsSummaryCache.METRIC_NAME).tag("result", result).counter().count();
+    }
+}
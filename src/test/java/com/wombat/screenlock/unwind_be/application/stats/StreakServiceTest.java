@@ -0,0 +1,205 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.UserStreakState;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.UserStreakStateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * StreakService 단위 테스트
+ *
+ * <p>늦게 도착한 과거 날짜 기록의 재계산 예약(dirty_from)과
+ * dirty_from 이후만 읽는 백그라운드 재계산을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreakService 테스트")
+class StreakServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate DAY1 = LocalDate.of(2026, 2, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    @Mock
+    private UserStreakStateRepository userStreakStateRepository;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private StreakService streakService;
+
+    /**
+     * 1~3일 SUCCESS(최장 3), 5일 기록 없음(오프라인), 6~7일 SUCCESS
+     */
+    private UserStreakState stateWithGap() {
+        return UserStreakState.fromHistory(USER_ID, List.of(
+                view(DAY1, DailyStatus.SUCCESS),
+                view(DAY1.plusDays(1), DailyStatus.SUCCESS),
+                view(DAY1.plusDays(2), DailyStatus.SUCCESS),
+                view(DAY1.plusDays(5), DailyStatus.SUCCESS),
+                view(DAY1.plusDays(6), DailyStatus.SUCCESS)));
+    }
+
+    @Nested
+    @DisplayName("onDailyStatusChanged 메서드")
+    class OnDailyStatusChanged {
+
+        @Test
+        @DisplayName("성공: 과거 날짜 기록은 이력을 읽지 않고 재계산만 예약한다")
+        void should_MarkDirty_When_PastDateRecorded() {
+            // Given
+            UserStreakState state = stateWithGap();
+            given(userStreakStateRepository.findByUserIdForUpdate(USER_ID)).willReturn(Optional.of(state));
+
+            // When
+            streakService.onDailyStatusChanged(USER_ID, DAY1.plusDays(4), DailyStatus.SUCCESS);
+            streakService.onDailyStatusChanged(USER_ID, DAY1.plusDays(3), DailyStatus.SUCCESS);
+
+            // Then - 가장 이른 날짜만 유지
+            assertThat(state.getDirtyFrom()).isEqualTo(DAY1.plusDays(3));
+            assertThat(state.getCurrentStreak()).isEqualTo(2);
+            verifyNoInteractions(dailyStatisticsRepository);
+        }
+
+        @Test
+        @DisplayName("성공: 재계산 대기 중에는 최신 날짜도 증분 반영하지 않는다")
+        void should_SkipIncrement_When_AlreadyDirty() {
+            // Given
+            UserStreakState state = stateWithGap();
+            state.markDirty(DAY1.plusDays(4));
+            given(userStreakStateRepository.findByUserIdForUpdate(USER_ID)).willReturn(Optional.of(state));
+
+            // When
+            streakService.onDailyStatusChanged(USER_ID, DAY1.plusDays(7), DailyStatus.SUCCESS);
+
+            // Then
+            assertThat(state.getCurrentStreak()).isEqualTo(2);
+            assertThat(state.getDirtyFrom()).isEqualTo(DAY1.plusDays(4));
+        }
+    }
+
+    @Nested
+    @DisplayName("recomputeDirty 메서드")
+    class RecomputeDirty {
+
+        @Test
+        @DisplayName("성공: dirty_from 이후와 최장 구간 끝까지의 이전 구간만 읽어 재계산한다")
+        void should_ReadOnlySuffix_When_LongestRunBeforeDirtyDate() {
+            // Given - 5일(DAY1 + 4) SUCCESS가 늦게 도착 → 6~7일과 이어짐
+            UserStreakState state = stateWithGap();
+            state.markDirty(DAY1.plusDays(4));
+            given(userStreakStateRepository.findByUserIdForUpdate(USER_ID)).willReturn(Optional.of(state));
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, DAY1.plusDays(4), MAX_DATE)).willReturn(List.of(
+                    view(DAY1.plusDays(6), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(5), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(4), DailyStatus.SUCCESS)));
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, DAY1.plusDays(2), DAY1.plusDays(3))).willReturn(List.of(
+                    view(DAY1.plusDays(2), DailyStatus.SUCCESS)));
+
+            // When
+            boolean recomputed = streakService.recomputeDirty(USER_ID);
+
+            // Then - 4일(DAY1 + 3) 기록이 없으므로 이전 마지막 구간은 최장 구간(1~3일)
+            assertThat(recomputed).isTrue();
+            assertThat(state.getCurrentStreak()).isEqualTo(3);
+            assertThat(state.getLongestStreak()).isEqualTo(3);
+            assertThat(state.isDirty()).isFalse();
+            verify(dailyStatisticsRepository, never()).findViewsByUserIdOrderByDateAsc(any());
+            verify(eventPublisher).publishEvent(new StatsUpdatedEvent(USER_ID));
+        }
+
+        @Test
+        @DisplayName("성공: dirty_from 전날이 SUCCESS가 아니어도 그 이전 마지막 구간을 이어받는다")
+        void should_KeepLastRun_When_DayBeforeDirtyDateNotSuccess() {
+            // Given - 8일(DAY1 + 7) FAILURE가 늦게 도착, 6~7일 구간은 최장 구간과 떨어져 있음
+            UserStreakState state = stateWithGap();
+            state.markDirty(DAY1.plusDays(7));
+            given(userStreakStateRepository.findByUserIdForUpdate(USER_ID)).willReturn(Optional.of(state));
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, DAY1.plusDays(7), MAX_DATE)).willReturn(List.of(
+                    view(DAY1.plusDays(7), DailyStatus.FAILURE)));
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, DAY1.plusDays(2), DAY1.plusDays(6))).willReturn(List.of(
+                    view(DAY1.plusDays(6), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(5), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(2), DailyStatus.SUCCESS)));
+
+            // When
+            streakService.recomputeDirty(USER_ID);
+
+            // Then - 전체 재계산과 같이 마지막 성공일(7일)과 그 구간 길이를 유지
+            assertThat(state.getLastSuccessDate()).isEqualTo(DAY1.plusDays(6));
+            assertThat(state.getCurrentStreak()).isEqualTo(2);
+            assertThat(state.getLongestStreak()).isEqualTo(3);
+            assertThat(state.isDirty()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공: 최장 스트릭 구간이 바뀔 수 있으면 전체 이력으로 재계산한다")
+        void should_RebuildFully_When_LongestRunAffected() {
+            // Given - 최장 구간(1~3일)의 2일이 WARNING으로 바뀜
+            UserStreakState state = stateWithGap();
+            state.markDirty(DAY1.plusDays(1));
+            given(userStreakStateRepository.findByUserIdForUpdate(USER_ID)).willReturn(Optional.of(state));
+            given(dailyStatisticsRepository.findViewsByUserIdOrderByDateAsc(USER_ID)).willReturn(List.of(
+                    view(DAY1, DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(1), DailyStatus.WARNING),
+                    view(DAY1.plusDays(2), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(5), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(6), DailyStatus.SUCCESS)));
+
+            // When
+            streakService.recomputeDirty(USER_ID);
+
+            // Then
+            assertThat(state.getLongestStreak()).isEqualTo(2);
+            assertThat(state.getCurrentStreak()).isEqualTo(2);
+            verify(dailyStatisticsRepository, never())
+                    .findViewsByUserIdAndDateBetweenOrderByDateDesc(eq(USER_ID), any(), any());
+        }
+
+        @Test
+        @DisplayName("성공: 다른 노드가 이미 재계산했으면 아무것도 하지 않는다")
+        void should_Skip_When_NotDirty() {
+            // Given
+            given(userStreakStateRepository.findByUserIdForUpdate(USER_ID)).willReturn(Optional.of(stateWithGap()));
+
+            // When
+            boolean recomputed = streakService.recomputeDirty(USER_ID);
+
+            // Then
+            assertThat(recomputed).isFalse();
+            verifyNoInteractions(dailyStatisticsRepository, eventPublisher);
+        }
+    }
+
+    private DailyStatisticsView view(LocalDate date, DailyStatus status) {
+        return new DailyStatisticsView(date, 1, status == DailyStatus.SUCCESS ? 1 : 0, 0, 0, status);
+    }
+}
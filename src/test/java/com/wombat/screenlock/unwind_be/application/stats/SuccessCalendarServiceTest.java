@@ -0,0 +1,176 @@
+package com.wombat.screenlock.unwind_be.application.stats;
+
+import com.wombat.screenlock.unwind_be.api.stats.dto.SuccessCalendarResponse;
+import com.wombat.screenlock.unwind_be.application.user.UserZoneResolver;
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRepository;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import com.wombat.screenlock.unwind_be.global.exception.BusinessException;
+import com.wombat.screenlock.unwind_be.infrastructure.redis.SuccessCalendarRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SuccessCalendarService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SuccessCalendarService 단위 테스트")
+class SuccessCalendarServiceTest {
+
+    @Mock
+    private SuccessCalendarRepository successCalendarRepository;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private UserZoneResolver userZoneResolver;
+
+    @InjectMocks
+    private SuccessCalendarService successCalendarService;
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.of(2026, 2, 12);
+
+    @Nested
+    @DisplayName("onStatsUpdated 메서드")
+    class OnStatsUpdated {
+
+        @Test
+        @DisplayName("커밋된 상태 반영 - SUCCESS는 설정, 그 외는 해제")
+        void should_SetOrClearBit_When_StatusCommitted() {
+            // Given
+            LocalDate day1 = LocalDate.of(2026, 2, 11);
+            LocalDate day2 = LocalDate.of(2026, 2, 12);
+
+            // When
+            successCalendarService.onStatsUpdated(new StatsUpdatedEvent(USER_ID,
+                    Map.of(day1, DailyStatus.SUCCESS, day2, DailyStatus.FAILURE)));
+
+            // Then
+            verify(successCalendarRepository).setDay(USER_ID, day1, true);
+            verify(successCalendarRepository).setDay(USER_ID, day2, false);
+        }
+    }
+
+    @Nested
+    @DisplayName("getYear 메서드")
+    class GetYear {
+
+        @Test
+        @DisplayName("정상 조회 - 연 길이만큼 패딩된 비트맵과 성공 일수")
+        void should_ReturnPaddedBitmap_When_Cached() {
+            // Given - 1월 1일, 1월 3일 성공
+            given(userZoneResolver.today(USER_ID)).willReturn(TODAY);
+            given(successCalendarRepository.findYear(USER_ID, 2026))
+                    .willReturn(new byte[]{(byte) 0b1010_0000});
+
+            // When
+            SuccessCalendarResponse response = successCalendarService.getYear(USER_ID, 2026);
+
+            // Then
+            byte[] bitmap = Base64.getDecoder().decode(response.bitmap());
+            assertThat(bitmap).hasSize(46);
+            assertThat(bitmap[0]).isEqualTo((byte) 0b1010_0000);
+            assertThat(response.successDays()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 - daily_statistics에서 계산")
+        void should_FallbackToDatabase_When_RedisUnavailable() {
+            // Given
+            given(userZoneResolver.today(USER_ID)).willReturn(TODAY);
+            given(successCalendarRepository.findYear(USER_ID, 2026))
+                    .willThrow(new RedisConnectionFailureException("down"));
+            given(dailyStatisticsRepository.findViewsByUserIdAndDateBetweenOrderByDateDesc(
+                    USER_ID, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)))
+                    .willReturn(List.of(
+                            view(LocalDate.of(2026, 1, 9), DailyStatus.SUCCESS),
+                            view(LocalDate.of(2026, 1, 2), DailyStatus.WARNING)));
+
+            // When
+            SuccessCalendarResponse response = successCalendarService.getYear(USER_ID, 2026);
+
+            // Then - 1월 9일 = offset 8 = 두 번째 바이트 MSB
+            byte[] bitmap = Base64.getDecoder().decode(response.bitmap());
+            assertThat(bitmap[0]).isZero();
+            assertThat(bitmap[1]).isEqualTo((byte) 0x80);
+            assertThat(response.successDays()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 연도 - INVALID_INPUT")
+        void should_ThrowException_When_YearOutOfRange() {
+            given(userZoneResolver.today(USER_ID)).willReturn(TODAY);
+
+            assertThatThrownBy(() -> successCalendarService.getYear(USER_ID, 1999))
+                    .isInstanceOf(BusinessException.class);
+            assertThatThrownBy(() -> successCalendarService.getYear(USER_ID, 2028))
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("연도 미입력 - 사용자 시간대 기준 올해")
+        void should_UseUserZoneYear_When_YearOmitted() {
+            // Given - 서버 날짜와 관계없이 사용자 시간대로는 이미 새해
+            given(userZoneResolver.today(USER_ID)).willReturn(LocalDate.of(2027, 1, 1));
+            given(successCalendarRepository.findYear(USER_ID, 2027)).willReturn(new byte[0]);
+
+            // When
+            SuccessCalendarResponse response = successCalendarService.getYear(USER_ID, null);
+
+            // Then
+            assertThat(response.year()).isEqualTo(2027);
+            assertThat(response.successDays()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild 메서드")
+    class Rebuild {
+
+        @Test
+        @DisplayName("이력 재계산 - 연도별 비트맵 덮어쓰기")
+        void should_ReplaceEachYear_When_Rebuilt() {
+            // Given
+            int thisYear = TODAY.getYear();
+            given(userZoneResolver.today(USER_ID)).willReturn(TODAY);
+            LocalDate lastYearDay = LocalDate.of(thisYear - 1, 12, 31);
+            given(dailyStatisticsRepository.findViewsByUserIdOrderByDateAsc(USER_ID))
+                    .willReturn(List.of(view(lastYearDay, DailyStatus.SUCCESS)));
+            ArgumentCaptor<byte[]> bitmap = ArgumentCaptor.forClass(byte[].class);
+
+            // When
+            successCalendarService.rebuild(USER_ID);
+
+            // Then
+            verify(successCalendarRepository).replaceYear(eq(USER_ID), eq(thisYear - 1), bitmap.capture());
+            int offset = lastYearDay.getDayOfYear() - 1;
+            assertThat(bitmap.getValue()[offset / 8] & (0x80 >>> (offset % 8))).isNotZero();
+            verify(successCalendarRepository).replaceYear(eq(USER_ID), eq(thisYear), any());
+        }
+    }
+
+    private DailyStatisticsView view(LocalDate date, DailyStatus status) {
+        return new DailyStatisticsView(date, 1, status == DailyStatus.SUCCESS ? 1 : 0, 0, 0, status);
+    }
+}
@@ -0,0 +1,65 @@
+package com.wombat.screenlock.unwind_be.application.user;
+
+import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * UserIdPager 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserIdPager 테스트")
+class UserIdPagerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserIdPager userIdPager;
+
+    @Test
+    @DisplayName("가득 찬 페이지면 마지막 ID 다음부터 이어서 조회한다")
+    void should_VisitAllIdsInOrder_When_MultiplePages() {
+        // Given
+        List<Long> firstPage = LongStream.rangeClosed(1, UserIdPager.PAGE_SIZE).boxed().toList();
+        long lastId = UserIdPager.PAGE_SIZE;
+        given(userRepository.findIdsAfter(0L, PageRequest.of(0, UserIdPager.PAGE_SIZE))).willReturn(firstPage);
+        given(userRepository.findIdsAfter(lastId, PageRequest.of(0, UserIdPager.PAGE_SIZE)))
+                .willReturn(List.of(lastId + 5));
+        List<Long> visited = new ArrayList<>();
+
+        // When
+        int count = userIdPager.forEachUserId(visited::add);
+
+        // Then
+        assertThat(count).isEqualTo(UserIdPager.PAGE_SIZE + 1);
+        assertThat(visited).startsWith(1L).endsWith(lastId + 5);
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 작업을 실행하지 않는다")
+    void should_VisitNothing_When_NoUsers() {
+        // Given
+        given(userRepository.findIdsAfter(0L, PageRequest.of(0, UserIdPager.PAGE_SIZE))).willReturn(List.of());
+
+        // When
+        int count = userIdPager.forEachUserId(userId -> {
+            throw new AssertionError("호출되면 안 됨");
+        });
+
+        // Then
+        assertThat(count).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+package com.wombat.screenlock.unwind_be.application.user;
+
+import com.wombat.screenlock.unwind_be.domain.user.entity.Role;
+import com.wombat.screenlock.unwind_be.domain.user.entity.User;
+import com.wombat.screenlock.unwind_be.domain.user.repository.UserRepository;
+import com.wombat.screenlock.unwind_be.infrastructure.cache.TwoLevelCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * UserLookupService 단위 테스트
+ * 
+ * <p>캐시 적중 시 DB 미조회, 미스 시 DB 조회 후 캐시 저장을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserLookupService 단위 테스트")
+class UserLookupServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TwoLevelCache<UserSnapshot> cache;
+
+    private UserLookupService userLookupService;
+
+    @BeforeEach
+    void setUp() {
+        userLookupService = new UserLookupService(userRepository, cache, TTL);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - DB 조회 없음")
+    void should_ReturnCached_When_CacheHit() {
+        // Given
+        UserSnapshot snapshot = new UserSnapshot(USER_ID, "test@example.com", Role.USER, "Asia/Seoul");
+        given(cache.get("1")).willReturn(Optional.of(snapshot));
+
+        // When
+        Optional<UserSnapshot> result = userLookupService.findById(USER_ID);
+
+        // Then
+        assertThat(result).contains(snapshot);
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("캐시 미스 - DB 조회 후 캐시 저장")
+    void should_LoadAndCache_When_CacheMiss() {
+        // Given
+        User user = User.builder()
+                .email("test@example.com")
+                .passwordHash("hashedPassword")
+                .build();
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        given(cache.get("1")).willReturn(Optional.empty());
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+
+        // When
+        Optional<UserSnapshot> result = userLookupService.findById(USER_ID);
+
+        // Then
+        UserSnapshot expected = new UserSnapshot(USER_ID, "test@example.com", Role.USER, "Asia/Seoul");
+        assertThat(result).contains(expected);
+        verify(cache).put("1", expected, TTL);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자 - 캐시에 저장하지 않음")
+    void should_NotCache_When_UserNotFound() {
+        // Given
+        given(cache.get("1")).willReturn(Optional.empty());
+        given(userRepository.findById(USER_ID)).willReturn(Optional.empty());
+
+        // When
+        Optional<UserSnapshot> result = userLookupService.findById(USER_ID);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(cache, never()).put(any(), any(), any());
+    }
+}
@@ -0,0 +1,89 @@
+package com.wombat.screenlock.unwind_be.application.user;
+
+import com.wombat.screenlock.unwind_be.domain.user.entity.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * UserZoneResolver 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserZoneResolver 테스트")
+class UserZoneResolverTest {
+
+    private static final Long USER_ID = 1L;
+    // 2026-02-11T15:30:00Z = 2026-02-12 00:30 KST = 2026-02-11 07:30 PST
+    private static final Instant NOW = Instant.parse("2026-02-11T15:30:00Z");
+
+    @Mock
+    private UserLookupService userLookupService;
+
+    private UserZoneResolver userZoneResolver;
+
+    @BeforeEach
+    void setUp() {
+        userZoneResolver = new UserZoneResolver(userLookupService, 100, Duration.ofMinutes(30),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("토큰 시간대 등록 - 사용자 조회 없이 해당 시간대 날짜 사용")
+    void should_UseRememberedZone_When_FromToken() {
+        // Given
+        userZoneResolver.remember(USER_ID, "America/Los_Angeles");
+
+        // When & Then
+        assertThat(userZoneResolver.today(USER_ID)).isEqualTo(LocalDate.of(2026, 2, 11));
+        assertThat(userZoneResolver.toLocalDate(USER_ID, NOW)).isEqualTo(LocalDate.of(2026, 2, 11));
+        verify(userLookupService, never()).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 사용자 - 사용자 조회 1회 후 캐시")
+    void should_LookupOnceAndCache_When_NotRemembered() {
+        // Given
+        given(userLookupService.findById(USER_ID))
+                .willReturn(Optional.of(new UserSnapshot(USER_ID, "test@example.com", Role.USER, "Asia/Seoul")));
+
+        // When
+        LocalDate first = userZoneResolver.today(USER_ID);
+        LocalDate second = userZoneResolver.today(USER_ID);
+
+        // Then
+        assertThat(first).isEqualTo(LocalDate.of(2026, 2, 12));
+        assertThat(second).isEqualTo(first);
+        verify(userLookupService, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("잘못된 시간대 / 없는 사용자 - 기본 시간대(Asia/Seoul)")
+    void should_FallbackToDefault_When_UnknownZone() {
+        // Given
+        userZoneResolver.remember(USER_ID, "Mars/Olympus_Mons");
+        given(userLookupService.findById(2L)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThat(userZoneResolver.zoneOf(USER_ID)).isEqualTo(UserZoneResolver.DEFAULT_ZONE);
+        assertThat(userZoneResolver.zoneOf(2L)).isEqualTo(ZoneId.of("Asia/Seoul"));
+        assertThat(UserZoneResolver.isValid("Mars/Olympus_Mons")).isFalse();
+        assertThat(UserZoneResolver.isValid("Europe/Berlin")).isTrue();
+    }
+}
@@ -0,0 +1,290 @@
+package com.wombat.screenlock.unwind_be.domain.stats.entity;
+
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserStreakState 단위 테스트
+ * 
+ * <p>증분 반영(apply)과 전체 재계산(rebuild)이 같은 결과를 내는지 검증합니다.</p>
+ */
+@DisplayName("UserStreakState 단위 테스트")
+class UserStreakStateTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate DAY1 = LocalDate.of(2026, 2, 1);
+
+    @Nested
+    @DisplayName("apply 메서드")
+    class Apply {
+
+        @Test
+        @DisplayName("연속 SUCCESS - 스트릭 연장")
+        void should_ExtendStreak_When_ConsecutiveSuccess() {
+            // Given
+            UserStreakState state = emptyState();
+
+            // When
+            assertThat(state.apply(DAY1, DailyStatus.SUCCESS)).isTrue();
+            assertThat(state.apply(DAY1.plusDays(1), DailyStatus.SUCCESS)).isTrue();
+            assertThat(state.apply(DAY1.plusDays(2), DailyStatus.SUCCESS)).isTrue();
+
+            // Then
+            assertThat(state.getCurrentStreak()).isEqualTo(3);
+            assertThat(state.getLongestStreak()).isEqualTo(3);
+            assertThat(state.getLastSuccessDate()).isEqualTo(DAY1.plusDays(2));
+        }
+
+        @Test
+        @DisplayName("날짜 공백 후 SUCCESS - 새 스트릭 시작, 최장 유지")
+        void should_StartNewStreak_When_GapBetweenSuccess() {
+            // Given
+            UserStreakState state = emptyState();
+            state.apply(DAY1, DailyStatus.SUCCESS);
+            state.apply(DAY1.plusDays(1), DailyStatus.SUCCESS);
+
+            // When
+            assertThat(state.apply(DAY1.plusDays(3), DailyStatus.SUCCESS)).isTrue();
+
+            // Then
+            assertThat(state.getCurrentStreak()).isEqualTo(1);
+            assertThat(state.getLongestStreak()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("같은 날 SUCCESS 재반영 - 변화 없음")
+        void should_BeIdempotent_When_SameSuccessDate() {
+            // Given
+            UserStreakState state = emptyState();
+            state.apply(DAY1, DailyStatus.SUCCESS);
+
+            // When
+            assertThat(state.apply(DAY1, DailyStatus.SUCCESS)).isTrue();
+
+            // Then
+            assertThat(state.getCurrentStreak()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("마지막 성공일이 FAILURE로 변경 - 최장이 아니면 증분 감소")
+        void should_ShrinkStreak_When_LastSuccessDowngraded() {
+            // Given - 3일 스트릭 후 끊기고, 새 2일 스트릭
+            UserStreakState state = emptyState();
+            for (int i = 0; i < 3; i++) {
+                state.apply(DAY1.plusDays(i), DailyStatus.SUCCESS);
+            }
+            state.apply(DAY1.plusDays(5), DailyStatus.SUCCESS);
+            state.apply(DAY1.plusDays(6), DailyStatus.SUCCESS);
+
+            // When
+            boolean applied = state.apply(DAY1.plusDays(6), DailyStatus.FAILURE);
+
+            // Then
+            assertThat(applied).isTrue();
+            assertThat(state.getCurrentStreak()).isEqualTo(1);
+            assertThat(state.getLastSuccessDate()).isEqualTo(DAY1.plusDays(5));
+            assertThat(state.getLongestStreak()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("최장 스트릭이 줄어들 수 있는 변경 - 재계산 요청")
+        void should_RequestRebuild_When_LongestMayShrink() {
+            // Given
+            UserStreakState state = emptyState();
+            state.apply(DAY1, DailyStatus.SUCCESS);
+            state.apply(DAY1.plusDays(1), DailyStatus.SUCCESS);
+
+            // When & Then
+            assertThat(state.apply(DAY1.plusDays(1), DailyStatus.FAILURE)).isFalse();
+        }
+
+        @Test
+        @DisplayName("하루짜리 현재 스트릭이 FAILURE로 변경 - 이전 구간 끝을 모르므로 재계산 요청")
+        void should_RequestRebuild_When_SingleDayRunDowngraded() {
+            // Given - 1~3일 SUCCESS(최장), 5일 SUCCESS
+            UserStreakState state = emptyState();
+            for (int i = 0; i < 3; i++) {
+                state.apply(DAY1.plusDays(i), DailyStatus.SUCCESS);
+            }
+            state.apply(DAY1.plusDays(4), DailyStatus.SUCCESS);
+
+            // When
+            boolean applied = state.apply(DAY1.plusDays(4), DailyStatus.FAILURE);
+
+            // Then - 이전 구간(3일)의 끝을 잃지 않도록 상태를 바꾸지 않음
+            assertThat(applied).isFalse();
+            assertThat(state.getCurrentStreak()).isEqualTo(1);
+            assertThat(state.getLastSuccessDate()).isEqualTo(DAY1.plusDays(4));
+        }
+
+        @Test
+        @DisplayName("현재 스트릭 이전 날짜 변경 - 재계산 요청")
+        void should_RequestRebuild_When_DateBeforeCurrentRun() {
+            // Given
+            UserStreakState state = emptyState();
+            state.apply(DAY1.plusDays(5), DailyStatus.SUCCESS);
+
+            // When & Then
+            assertThat(state.apply(DAY1, DailyStatus.SUCCESS)).isFalse();
+            assertThat(state.apply(DAY1, DailyStatus.FAILURE)).isFalse();
+        }
+
+        @Test
+        @DisplayName("스트릭 이후 날짜의 FAILURE - 상태 유지")
+        void should_KeepState_When_FailureAfterLastSuccess() {
+            // Given
+            UserStreakState state = emptyState();
+            state.apply(DAY1, DailyStatus.SUCCESS);
+
+            // When
+            assertThat(state.apply(DAY1.plusDays(1), DailyStatus.FAILURE)).isTrue();
+            state.apply(DAY1.plusDays(2), DailyStatus.SUCCESS);
+
+            // Then - 실패일이 사이에 있으므로 새 스트릭
+            assertThat(state.getCurrentStreak()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild 메서드")
+    class Rebuild {
+
+        @Test
+        @DisplayName("이력 재계산 - 증분 반영 결과와 일치")
+        void should_MatchIncrementalResult_When_Rebuilt() {
+            // Given
+            DailyStatus[] statuses = {
+                    DailyStatus.SUCCESS, DailyStatus.SUCCESS, DailyStatus.WARNING,
+                    DailyStatus.SUCCESS, DailyStatus.SUCCESS, DailyStatus.SUCCESS,
+                    DailyStatus.FAILURE, DailyStatus.SUCCESS
+            };
+            List<DailyStatisticsView> history = new ArrayList<>();
+            UserStreakState incremental = emptyState();
+            for (int i = 0; i < statuses.length; i++) {
+                history.add(view(DAY1.plusDays(i), statuses[i]));
+                incremental.apply(DAY1.plusDays(i), statuses[i]);
+            }
+
+            // When
+            UserStreakState rebuilt = UserStreakState.fromHistory(USER_ID, history);
+
+            // Then
+            assertThat(rebuilt.getCurrentStreak()).isEqualTo(1).isEqualTo(incremental.getCurrentStreak());
+            assertThat(rebuilt.getLongestStreak()).isEqualTo(3).isEqualTo(incremental.getLongestStreak());
+            assertThat(rebuilt.getLastSuccessDate()).isEqualTo(incremental.getLastSuccessDate());
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuildFrom 메서드")
+    class RebuildFrom {
+
+        @Test
+        @DisplayName("늦은 기록으로 끊긴 스트릭이 이어짐 - 전체 재계산과 일치")
+        void should_MatchFullRebuild_When_RebuiltFromDirtyDate() {
+            // Given - 1~3일 SUCCESS(최장), 5일 FAILURE, 6~7일 SUCCESS / 이후 10~11일 SUCCESS, 12일 기록 없음
+            List<DailyStatisticsView> history = new ArrayList<>(List.of(
+                    view(DAY1, DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(1), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(2), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(4), DailyStatus.FAILURE),
+                    view(DAY1.plusDays(5), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(6), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(8), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(9), DailyStatus.SUCCESS)));
+            UserStreakState state = UserStreakState.fromHistory(USER_ID, history);
+
+            // When - 오프라인이던 8일(DAY1 + 7) SUCCESS가 늦게 도착
+            assertThat(state.apply(DAY1.plusDays(7), DailyStatus.SUCCESS)).isFalse();
+            state.markDirty(DAY1.plusDays(7));
+            history.add(6, view(DAY1.plusDays(7), DailyStatus.SUCCESS));
+            assertThat(state.canRebuildFrom()).isTrue();
+            state.rebuildFrom(DAY1.plusDays(6), 2, history.subList(6, history.size()));
+
+            // Then
+            UserStreakState rebuilt = UserStreakState.fromHistory(USER_ID, history);
+            assertThat(state.getCurrentStreak()).isEqualTo(5).isEqualTo(rebuilt.getCurrentStreak());
+            assertThat(state.getLongestStreak()).isEqualTo(5).isEqualTo(rebuilt.getLongestStreak());
+            assertThat(state.getLongestStreakEnd()).isEqualTo(DAY1.plusDays(9));
+            assertThat(state.isDirty()).isFalse();
+        }
+
+        @Test
+        @DisplayName("dirtyFrom 전날이 SUCCESS가 아님 - 이전 마지막 구간을 이어받아 전체 재계산과 일치")
+        void should_KeepPreviousRun_When_DayBeforeDirtyDateNotSuccess() {
+            // Given - 1~3일 SUCCESS(최장), 5일 SUCCESS, 6일 WARNING / 8일 FAILURE가 늦게 도착
+            List<DailyStatisticsView> history = new ArrayList<>(List.of(
+                    view(DAY1, DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(1), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(2), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(4), DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(5), DailyStatus.WARNING)));
+            UserStreakState state = UserStreakState.fromHistory(USER_ID, history);
+            state.markDirty(DAY1.plusDays(7));
+            history.add(view(DAY1.plusDays(7), DailyStatus.FAILURE));
+
+            // When
+            state.rebuildFrom(DAY1.plusDays(4), 1, history.subList(5, history.size()));
+
+            // Then
+            UserStreakState rebuilt = UserStreakState.fromHistory(USER_ID, history);
+            assertThat(state.getLastSuccessDate()).isEqualTo(DAY1.plusDays(4)).isEqualTo(rebuilt.getLastSuccessDate());
+            assertThat(state.getCurrentStreak()).isEqualTo(1).isEqualTo(rebuilt.getCurrentStreak());
+            assertThat(state.getLongestStreak()).isEqualTo(3).isEqualTo(rebuilt.getLongestStreak());
+            assertThat(state.isDirty()).isFalse();
+        }
+
+        @Test
+        @DisplayName("최장 스트릭 구간 안의 변경 - 전체 재계산 필요")
+        void should_RequireFullRebuild_When_LongestRunAffected() {
+            // Given
+            UserStreakState state = UserStreakState.fromHistory(USER_ID, List.of(
+                    view(DAY1, DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(1), DailyStatus.SUCCESS)));
+
+            // When
+            state.markDirty(DAY1.plusDays(1));
+            state.markDirty(DAY1.plusDays(5));
+
+            // Then - 가장 이른 날짜만 유지
+            assertThat(state.getDirtyFrom()).isEqualTo(DAY1.plusDays(1));
+            assertThat(state.canRebuildFrom()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("currentStreakAsOf 메서드")
+    class CurrentStreakAsOf {
+
+        @Test
+        @DisplayName("오늘 기록 없음 - 어제까지의 스트릭")
+        void should_CountUntilYesterday_When_TodayNotRecorded() {
+            // Given
+            LocalDate today = DAY1.plusDays(2);
+            UserStreakState state = UserStreakState.fromHistory(USER_ID, List.of(
+                    view(DAY1, DailyStatus.SUCCESS),
+                    view(DAY1.plusDays(1), DailyStatus.SUCCESS)));
+
+            // When & Then
+            assertThat(state.currentStreakAsOf(today, null)).isEqualTo(2);
+            assertThat(state.currentStreakAsOf(today, DailyStatus.IN_PROGRESS)).isZero();
+            assertThat(state.currentStreakAsOf(today.plusDays(1), null)).isZero();
+        }
+    }
+
+    private UserStreakState emptyState() {
+        return UserStreakState.fromHistory(USER_ID, List.of());
+    }
+
+    private DailyStatisticsView view(LocalDate date, DailyStatus status) {
+        return new DailyStatisticsView(date, 1, status == DailyStatus.SUCCESS ? 1 : 0, 0, 0, status);
+    }
+}
@@ -0,0 +1,165 @@
+package com.wombat.screenlock.unwind_be.infrastructure.archive;
+
+import com.wombat.screenlock.unwind_be.domain.stats.entity.DailyStatus;
+import com.wombat.screenlock.unwind_be.domain.stats.repository.DailyStatisticsRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DailyStatisticsArchive 단위 테스트
+ *
+ * <p>임시 디렉터리에 실제 아카이브 파일을 쓰고 memory-mapped 조회 결과를 검증합니다.</p>
+ */
+@DisplayName("DailyStatisticsArchive 테스트")
+class DailyStatisticsArchiveTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2023, 3);
+
+    @TempDir
+    Path directory;
+
+    private DailyStatisticsArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        // 2026-01-15 기준, horizon 24개월 → 2024-01-01 이전이 이관 대상
+        Clock clock = Clock.fixed(
+                ZonedDateTime.of(2026, 1, 15, 12, 0, 0, 0, DailyStatisticsArchive.ARCHIVE_ZONE).toInstant(),
+                DailyStatisticsArchive.ARCHIVE_ZONE);
+        archive = new DailyStatisticsArchive(directory, true, 24, Duration.ofSeconds(60), clock);
+    }
+
+    private DailyStatisticsRow row(Long userId, int day, DailyStatus status) {
+        return new DailyStatisticsRow(userId, MONTH.atDay(day), 3, 2, 1800 * day, day % 2, day % 3 == 0, status);
+    }
+
+    @Nested
+    @DisplayName("write / find")
+    class WriteAndFind {
+
+        @Test
+        @DisplayName("성공: 여러 사용자의 행을 기록하면 사용자별로 같은 값이 조회된다")
+        void should_ReturnSameRows_When_Written() {
+            // Given
+            List<DailyStatisticsRow> rows = List.of(
+                    row(1L, 1, DailyStatus.SUCCESS),
+                    row(1L, 2, DailyStatus.FAILURE),
+                    row(1L, 31, DailyStatus.NO_PLAN),
+                    row(7L, 15, DailyStatus.WARNING),
+                    row(300L, 3, DailyStatus.IN_PROGRESS));
+
+            // When
+            int written = archive.write(MONTH, rows.iterator());
+
+            // Then
+            assertThat(written).isEqualTo(5);
+            assertThat(archive.find(1L, MONTH.atDay(1), MONTH.atEndOfMonth()))
+                    .containsExactly(rows.get(0), rows.get(1), rows.get(2));
+            assertThat(archive.find(7L, MONTH.atDay(1), MONTH.atEndOfMonth())).containsExactly(rows.get(3));
+            assertThat(archive.find(300L, MONTH.atDay(1), MONTH.atEndOfMonth())).containsExactly(rows.get(4));
+        }
+
+        @Test
+        @DisplayName("성공: 아카이브에 없는 사용자는 빈 리스트를 반환한다")
+        void should_ReturnEmpty_When_UserNotArchived() {
+            // Given
+            archive.write(MONTH, List.of(row(1L, 1, DailyStatus.SUCCESS)).iterator());
+
+            // When & Then
+            assertThat(archive.find(2L, MONTH.atDay(1), MONTH.atEndOfMonth())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 조회 기간 밖의 날짜는 제외한다")
+        void should_FilterByRange_When_RangeIsPartial() {
+            // Given
+            archive.write(MONTH, List.of(
+                    row(1L, 1, DailyStatus.SUCCESS),
+                    row(1L, 10, DailyStatus.SUCCESS),
+                    row(1L, 20, DailyStatus.SUCCESS)).iterator());
+
+            // When
+            List<DailyStatisticsRow> found = archive.find(1L, MONTH.atDay(5), MONTH.atDay(15));
+
+            // Then
+            assertThat(found).extracting(DailyStatisticsRow::date).containsExactly(MONTH.atDay(10));
+        }
+
+        @Test
+        @DisplayName("실패: 이미 아카이브된 달은 다시 기록할 수 없다")
+        void should_ThrowException_When_MonthAlreadyArchived() {
+            // Given
+            archive.write(MONTH, List.of(row(1L, 1, DailyStatus.SUCCESS)).iterator());
+
+            // When & Then
+            assertThatThrownBy(() -> archive.write(MONTH, List.of(row(2L, 1, DailyStatus.SUCCESS)).iterator()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("실패: 사용자 ID 순서가 어긋나면 기록하지 않는다")
+        void should_ThrowException_When_RowsNotSorted() {
+            // Given
+            List<DailyStatisticsRow> rows = List.of(
+                    row(7L, 1, DailyStatus.SUCCESS),
+                    row(1L, 1, DailyStatus.SUCCESS));
+
+            // When & Then
+            assertThatThrownBy(() -> archive.write(MONTH, rows.iterator()))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(archive.contains(MONTH)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("archivedUntil / isCold")
+    class Boundary {
+
+        @Test
+        @DisplayName("성공: 아카이브가 없으면 horizon 이전 날짜만 콜드로 판단한다")
+        void should_UseHorizon_When_NothingArchived() {
+            // When & Then
+            assertThat(archive.archivedUntil()).isEmpty();
+            assertThat(archive.isCold(LocalDate.of(2023, 12, 31))).isTrue();
+            assertThat(archive.isCold(LocalDate.of(2024, 1, 1))).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공: 아카이브된 마지막 달의 다음 달 1일이 경계가 된다")
+        void should_ReturnNextMonthStart_When_Archived() {
+            // Given
+            archive.write(MONTH, List.of(row(1L, 1, DailyStatus.SUCCESS)).iterator());
+
+            // When & Then
+            assertThat(archive.archivedUntil()).contains(LocalDate.of(2023, 4, 1));
+            assertThat(archive.contains(MONTH)).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 비활성화 상태에서는 아카이브된 날짜만 콜드로 판단한다")
+        void should_OnlyRejectArchived_When_Disabled() {
+            // Given
+            DailyStatisticsArchive disabled = new DailyStatisticsArchive(
+                    directory, false, 24, Duration.ofSeconds(60), Clock.system(DailyStatisticsArchive.ARCHIVE_ZONE));
+            archive.write(MONTH, List.of(row(1L, 1, DailyStatus.SUCCESS)).iterator());
+
+            // When & Then
+            assertThat(disabled.isCold(LocalDate.of(2023, 3, 31))).isTrue();
+            assertThat(disabled.isCold(LocalDate.of(2023, 4, 1))).isFalse();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.wombat.screenlock.unwind_be.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * TwoLevelCacheManager 단위 테스트
+ * 
+ * <p>캐시 이름 등록과 pub/sub 무효화 메시지 라우팅을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("TwoLevelCacheManager 테스트")
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        cacheManager = new TwoLevelCacheManager(redisTemplate, new ObjectMapper(), listenerContainer);
+    }
+
+    @Test
+    @DisplayName("중복 이름 생성 - IllegalStateException")
+    void should_Throw_When_DuplicateName() {
+        // Given
+        cacheManager.create("user", String.class, 10, Duration.ofSeconds(30));
+
+        // When & Then
+        assertThatThrownBy(() -> cacheManager.create("user", String.class, 10, Duration.ofSeconds(30)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지 - 로컬 항목 삭제")
+    void should_EvictLocal_When_RemoteMessage() {
+        // Given
+        TwoLevelCache<String> cache = cacheManager.create("user", String.class, 10, Duration.ofSeconds(30));
+        cache.put("1", "a", Duration.ofMinutes(1));
+
+        // When
+        cacheManager.onMessage(message("other-node\tuser\t1"), null);
+        cache.get("1");
+
+        // Then - 로컬이 비어 Redis 재조회
+        verify(valueOperations).get("user:1");
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 무효화 메시지 - 무시")
+    void should_IgnoreMessage_When_SentBySelf() {
+        // Given
+        TwoLevelCache<String> cache = cacheManager.create("user", String.class, 10, Duration.ofSeconds(30));
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        cache.evict("2");
+        verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), body.capture());
+        cache.put("1", "a", Duration.ofMinutes(1));
+
+        // When - 같은 nodeId로 key=1 무효화
+        String selfMessage = body.getValue().replace("\tuser\t2", "\tuser\t1");
+        cacheManager.onMessage(message(selfMessage), null);
+        cache.get("1");
+
+        // Then - 로컬 적중, Redis 미조회
+        verify(valueOperations, never()).get("user:1");
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,224 @@
+package com.wombat.screenlock.unwind_be.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * TwoLevelCache 단위 테스트
+ * 
+ * <p>Redis를 Mocking하고 로컬 LRU → Redis 조회 순서, TTL, 무효화 전파를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("TwoLevelCache 테스트")
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "sample";
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private MutableClock clock;
+    private List<String> broadcasts;
+    private TwoLevelCache<Sample> cache;
+
+    record Sample(Long id, String name) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        clock = new MutableClock(Instant.parse("2026-02-12T00:00:00Z"));
+        broadcasts = new ArrayList<>();
+        cache = newCache(2);
+    }
+
+    @Nested
+    @DisplayName("get 메서드")
+    class Get {
+
+        @Test
+        @DisplayName("로컬 미스 + Redis 적중 - 로컬에 채운 뒤 재조회는 Redis 미호출")
+        void should_FillLocal_When_RedisHit() {
+            // Given
+            given(valueOperations.get("sample:1")).willReturn("{\"id\":1,\"name\":\"a\"}");
+
+            // When
+            Optional<Sample> first = cache.get("1");
+            Optional<Sample> second = cache.get("1");
+
+            // Then
+            assertThat(first).contains(new Sample(1L, "a"));
+            assertThat(second).contains(new Sample(1L, "a"));
+            verify(valueOperations, times(1)).get("sample:1");
+        }
+
+        @Test
+        @DisplayName("로컬 TTL 만료 - Redis 재조회")
+        void should_ReadRedisAgain_When_LocalExpired() {
+            // Given
+            given(valueOperations.get("sample:1")).willReturn("{\"id\":1,\"name\":\"a\"}");
+            cache.get("1");
+
+            // When
+            clock.advance(LOCAL_TTL.plusSeconds(1));
+            cache.get("1");
+
+            // Then
+            verify(valueOperations, times(2)).get("sample:1");
+        }
+
+        @Test
+        @DisplayName("Redis 장애 - 예외 없이 empty")
+        void should_ReturnEmpty_When_RedisUnavailable() {
+            // Given
+            given(valueOperations.get(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+            // When & Then
+            assertThat(cache.get("1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("로컬 최대 크기 초과 - 가장 오래 사용되지 않은 항목 제거")
+        void should_EvictLeastRecentlyUsed_When_LocalFull() {
+            // Given - 최대 2개
+            cache.put("1", new Sample(1L, "a"), REDIS_TTL);
+            cache.put("2", new Sample(2L, "b"), REDIS_TTL);
+            cache.get("1");
+
+            // When
+            cache.put("3", new Sample(3L, "c"), REDIS_TTL);
+
+            // Then - "2"는 로컬에서 제거되어 Redis 조회
+            cache.get("1");
+            cache.get("2");
+            verify(valueOperations, never()).get("sample:1");
+            verify(valueOperations).get("sample:2");
+        }
+    }
+
+    @Nested
+    @DisplayName("put / evict 메서드")
+    class PutAndEvict {
+
+        @Test
+        @DisplayName("저장 - Redis에 JSON과 TTL로 저장")
+        void should_SaveJsonWithTtl_When_Put() {
+            // When
+            cache.put("1", new Sample(1L, "a"), REDIS_TTL);
+
+            // Then
+            verify(valueOperations).set("sample:1", "{\"id\":1,\"name\":\"a\"}", REDIS_TTL);
+        }
+
+        @Test
+        @DisplayName("만료 없이 저장 - Redis에 TTL 없이 저장")
+        void should_SaveWithoutTtl_When_PutWithoutTtl() {
+            // When
+            cache.put("1", new Sample(1L, "a"));
+
+            // Then
+            verify(valueOperations).set("sample:1", "{\"id\":1,\"name\":\"a\"}");
+            assertThat(cache.get("1")).contains(new Sample(1L, "a"));
+            verify(valueOperations, never()).get("sample:1");
+        }
+
+        @Test
+        @DisplayName("삭제 - 로컬/Redis 삭제 및 무효화 전파")
+        void should_EvictEverywhere_When_Evict() {
+            // Given
+            cache.put("1", new Sample(1L, "a"), REDIS_TTL);
+
+            // When
+            cache.evict("1");
+
+            // Then
+            assertThat(cache.get("1")).isEmpty();
+            verify(redisTemplate).delete("sample:1");
+            assertThat(broadcasts).containsExactly("sample/1");
+        }
+
+        @Test
+        @DisplayName("원격 무효화 수신 - 로컬만 삭제")
+        void should_EvictOnlyLocal_When_RemoteInvalidation() {
+            // Given
+            cache.put("1", new Sample(1L, "a"), REDIS_TTL);
+
+            // When
+            cache.evictLocal("1");
+            cache.get("1");
+
+            // Then
+            verify(valueOperations).get("sample:1");
+            verify(redisTemplate, never()).delete(anyString());
+            assertThat(broadcasts).isEmpty();
+        }
+    }
+
+    private TwoLevelCache<Sample> newCache(int localMaxSize) {
+        return new TwoLevelCache<>(CACHE_NAME, Sample.class, localMaxSize, LOCAL_TTL, clock,
+                redisTemplate, new ObjectMapper(), (name, key) -> broadcasts.add(name + "/" + key));
+    }
+
+    /**
+     * 테스트용 수동 진행 Clock
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
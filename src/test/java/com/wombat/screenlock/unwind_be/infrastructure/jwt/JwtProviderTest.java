@@ -84,6 +84,18 @@ class JwtProviderTest {
             assertThat(extractedUserId).isEqualTo(USER_ID);
         }
 
+        @Test
+        @DisplayName("Access Token tz 클레임에서 시간대 추출, 생략 시 null")
+        void should_ExtractTimezoneFromToken() {
+            // Given
+            String withTimezone = jwtProvider.generateAccessToken(USER_ID, "America/Los_Angeles");
+            String withoutTimezone = jwtProvider.generateAccessToken(USER_ID);
+
+            // When & Then
+            assertThat(jwtProvider.getTimezoneFromToken(withTimezone)).isEqualTo("America/Los_Angeles");
+            assertThat(jwtProvider.getTimezoneFromToken(withoutTimezone)).isNull();
+        }
+
         @Test
         @DisplayName("Access Token 만료 시간 반환 성공")
         void should_ReturnAccessTokenExpirationSeconds() {
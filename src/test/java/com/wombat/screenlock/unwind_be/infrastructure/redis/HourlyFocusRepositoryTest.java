@@ -0,0 +1,76 @@
+package com.wombat.screenlock.unwind_be.infrastructure.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * HourlyFocusRepository 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HourlyFocusRepository 테스트")
+class HourlyFocusRepositoryTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @InjectMocks
+    private HourlyFocusRepository hourlyFocusRepository;
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate DAY1 = LocalDate.of(2026, 2, 11);
+    private static final LocalDate DAY2 = LocalDate.of(2026, 2, 12);
+
+    @Test
+    @DisplayName("조회 - 일별 u32 칸은 합산, 짧은 값의 모자란 칸과 없는 키는 0")
+    @SuppressWarnings("unchecked")
+    void should_SumDaysAndDecodeAllTime_When_Find() {
+        // Given - DAY1은 9시까지만 기록 (40바이트), DAY2는 키 없음
+        ByteBuffer day1 = ByteBuffer.allocate(10 * Integer.BYTES);
+        day1.putInt(9 * Integer.BYTES, 1800);
+        ByteBuffer allTime = ByteBuffer.allocate(24 * Long.BYTES);
+        allTime.putLong(9 * Long.BYTES, 5_000_000_000L);
+        allTime.putLong(23 * Long.BYTES, 60L);
+        given(redisTemplate.execute(any(RedisCallback.class)))
+                .willReturn(Arrays.asList(day1.array(), null, allTime.array()));
+
+        // When
+        HourlyFocusCounters counters = hourlyFocusRepository.find(USER_ID, List.of(DAY1, DAY2));
+
+        // Then
+        assertThat(counters.recent()).hasSize(24);
+        assertThat(counters.recent()[9]).isEqualTo(1800L);
+        assertThat(Arrays.stream(counters.recent()).sum()).isEqualTo(1800L);
+        assertThat(counters.allTime()[9]).isEqualTo(5_000_000_000L);
+        assertThat(counters.allTime()[23]).isEqualTo(60L);
+    }
+
+    @Test
+    @DisplayName("조회 - 모든 키가 없으면 0")
+    @SuppressWarnings("unchecked")
+    void should_ReturnZeros_When_NoKeys() {
+        // Given
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn(null);
+
+        // When
+        HourlyFocusCounters counters = hourlyFocusRepository.find(USER_ID, List.of(DAY1));
+
+        // Then
+        assertThat(counters.recent()).containsOnly(0L);
+        assertThat(counters.allTime()).containsOnly(0L);
+    }
+}
@@ -0,0 +1,83 @@
+package com.wombat.screenlock.unwind_be.infrastructure.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SuccessCalendarRepository 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SuccessCalendarRepository 테스트")
+class SuccessCalendarRepositoryTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private SuccessCalendarRepository successCalendarRepository;
+
+    private static final Long USER_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("성공 기록 - 연도 키의 dayOfYear-1 비트 설정")
+    void should_SetBitAtDayOfYear_When_SetDay() {
+        // When
+        successCalendarRepository.setDay(USER_ID, LocalDate.of(2026, 2, 12), true);
+        successCalendarRepository.setDay(USER_ID, LocalDate.of(2026, 1, 1), false);
+
+        // Then
+        verify(valueOperations).setBit("success_calendar:1:2026", 42L, true);
+        verify(valueOperations).setBit("success_calendar:1:2026", 0L, false);
+    }
+
+    @Test
+    @DisplayName("성공일 없는 연도 교체 - 키 삭제")
+    void should_DeleteKey_When_ReplaceWithEmptyBitmap() {
+        // When
+        successCalendarRepository.replaceYear(USER_ID, 2025, new byte[46]);
+
+        // Then
+        verify(redisTemplate).delete("success_calendar:1:2025");
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("키 없음 - 빈 비트맵 반환")
+    void should_ReturnEmpty_When_NoKey() {
+        // Given
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn(null);
+
+        // When
+        byte[] bitmap = successCalendarRepository.findYear(USER_ID, 2026);
+
+        // Then
+        assertThat(bitmap).isEmpty();
+    }
+}